@@ -1,6 +1,15 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkstrands;
+import benchmarkstreams;
+import benchmarkcache;
+import benchmarklog;
+import benchmarkobserve;
+import benchmarkhttp;
+import benchmarkarrays;
+import benchmarkwebsub;
+import benchmarktask;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +26,17 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addStrandFunctions();
+    addTableFunctions();
+    addStreamFunctions();
+    addCacheFunctions();
+    addLogFunctions();
+    addObserveFunctions();
+    addTypeCheckFunctions();
+    addHttpFunctions();
+    addArrayFunctions();
+    addWebSubFunctions();
+    addTaskFunctions();
 }
 
 function addJSONFunctions() {
@@ -113,6 +133,9 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadLargeFile"] = benchmarkio:benchmarkReadLargeFile;
+    functions["benchmarkReadLargeFileCharacters"] = benchmarkio:benchmarkReadLargeFileCharacters;
+    functions["benchmarkLargeFileResponse"] = benchmarkio:benchmarkLargeFileResponse;
 }
 
 function addStringFunctions() {
@@ -140,3 +163,107 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addStrandFunctions() {
+    functions["benchmarkStrandSpawnAndWait"] = benchmarkstrands:benchmarkStrandSpawnAndWait;
+    functions["benchmarkStrandSpawnMultipleAndWait"] = benchmarkstrands:benchmarkStrandSpawnMultipleAndWait;
+    functions["benchmarkNonYieldingStrandAllocation"] = benchmarkstrands:benchmarkNonYieldingStrandAllocation;
+    functions["benchmarkWorkerForkAndWait"] = benchmarkstrands:benchmarkWorkerForkAndWait;
+    functions["benchmarkMixedCpuAndBlockingStrands"] = benchmarkstrands:benchmarkMixedCpuAndBlockingStrands;
+    functions["benchmarkWorkerPingPong"] = benchmarkstrands:benchmarkWorkerPingPong;
+    functions["benchmarkWorkerPipeline"] = benchmarkstrands:benchmarkWorkerPipeline;
+    functions["benchmarkWorkerSyncPipeline"] = benchmarkstrands:benchmarkWorkerSyncPipeline;
+    functions["benchmarkReadHeavyLocksSingleStrand"] = benchmarkstrands:benchmarkReadHeavyLocksSingleStrand;
+    functions["benchmarkReadHeavyLocks8Strands"] = benchmarkstrands:benchmarkReadHeavyLocks8Strands;
+    functions["benchmarkReadHeavyLocks64Strands"] = benchmarkstrands:benchmarkReadHeavyLocks64Strands;
+    functions["benchmarkWriteHeavyLocksSingleStrand"] = benchmarkstrands:benchmarkWriteHeavyLocksSingleStrand;
+    functions["benchmarkWriteHeavyLocks8Strands"] = benchmarkstrands:benchmarkWriteHeavyLocks8Strands;
+    functions["benchmarkWriteHeavyLocks64Strands"] = benchmarkstrands:benchmarkWriteHeavyLocks64Strands;
+    functions["benchmarkSingleResourceCommit"] = benchmarkstrands:benchmarkSingleResourceCommit;
+    functions["benchmarkSingleResourceCommit16Strands"] = benchmarkstrands:benchmarkSingleResourceCommit16Strands;
+    functions["benchmarkTwoResourceCommit16Strands"] = benchmarkstrands:benchmarkTwoResourceCommit16Strands;
+}
+
+function addTableFunctions() {
+    functions["benchmarkTableAdd"] = benchmarktypes:benchmarkTableAdd;
+    functions["benchmarkTableAddAndIterate"] = benchmarktypes:benchmarkTableAddAndIterate;
+}
+
+function addStreamFunctions() {
+    functions["benchmarkStreamPublishOneSubscriber"] = benchmarkstreams:benchmarkStreamPublishOneSubscriber;
+    functions["benchmarkStreamPublishFiveSubscribers"] = benchmarkstreams:benchmarkStreamPublishFiveSubscribers;
+    functions["benchmarkStreamPublishTenSubscribers"] = benchmarkstreams:benchmarkStreamPublishTenSubscribers;
+    functions["benchmarkStreamPublishFrozenTenSubscribers"] = benchmarkstreams:
+    benchmarkStreamPublishFrozenTenSubscribers;
+}
+
+function addCacheFunctions() {
+    functions["benchmarkCacheGetHit"] = benchmarkcache:benchmarkCacheGetHit;
+    functions["benchmarkCachePutWithEviction"] = benchmarkcache:benchmarkCachePutWithEviction;
+    functions["benchmarkCacheConcurrentGetAndPut"] = benchmarkcache:benchmarkCacheConcurrentGetAndPut;
+}
+
+function addLogFunctions() {
+    functions["benchmarkLogPrintError"] = benchmarklog:benchmarkLogPrintError;
+    functions["benchmarkLogPrintWarn"] = benchmarklog:benchmarkLogPrintWarn;
+    functions["benchmarkLogPrintInfo"] = benchmarklog:benchmarkLogPrintInfo;
+    functions["benchmarkLogPrintDebug"] = benchmarklog:benchmarkLogPrintDebug;
+    functions["benchmarkLogPrintTrace"] = benchmarklog:benchmarkLogPrintTrace;
+}
+
+function addObserveFunctions() {
+    functions["benchmarkObservedRemoteCall"] = benchmarkobserve:benchmarkObservedRemoteCall;
+    functions["benchmarkObservedConcurrentRemoteCalls"] = benchmarkobserve:benchmarkObservedConcurrentRemoteCalls;
+    functions["benchmarkGaugeUpdates1Strand"] = benchmarkobserve:benchmarkGaugeUpdates1Strand;
+    functions["benchmarkGaugeUpdates4Strands"] = benchmarkobserve:benchmarkGaugeUpdates4Strands;
+    functions["benchmarkGaugeUpdates16Strands"] = benchmarkobserve:benchmarkGaugeUpdates16Strands;
+    functions["benchmarkGaugeUpdates64Strands"] = benchmarkobserve:benchmarkGaugeUpdates64Strands;
+}
+
+function addTypeCheckFunctions() {
+    functions["benchmarkTypeCheckJsonToRecordCast"] = benchmarktypes:benchmarkTypeCheckJsonToRecordCast;
+    functions["benchmarkTypeCheckRecordIsCheck"] = benchmarktypes:benchmarkTypeCheckRecordIsCheck;
+    functions["benchmarkTypeCheckUnionMemberMatch"] = benchmarktypes:benchmarkTypeCheckUnionMemberMatch;
+    functions["benchmarkTypeCheckArrayCast"] = benchmarktypes:benchmarkTypeCheckArrayCast;
+}
+
+function addHttpFunctions() {
+    functions["benchmarkJsonResponse1KB"] = benchmarkhttp:benchmarkJsonResponse1KB;
+    functions["benchmarkJsonResponse100KB"] = benchmarkhttp:benchmarkJsonResponse100KB;
+    functions["benchmarkJsonResponse1MB"] = benchmarkhttp:benchmarkJsonResponse1MB;
+    functions["benchmarkHttpClientGet"] = benchmarkhttp:benchmarkHttpClientGet;
+    functions["benchmarkHttpClientGetWithQuery"] = benchmarkhttp:benchmarkHttpClientGetWithQuery;
+    functions["benchmarkHttpClientPost"] = benchmarkhttp:benchmarkHttpClientPost;
+    functions["benchmarkHttpClientConcurrentGet"] = benchmarkhttp:benchmarkHttpClientConcurrentGet;
+    functions["benchmarkCircuitBreakerGet"] = benchmarkhttp:benchmarkCircuitBreakerGet;
+    functions["benchmarkCircuitBreakerConcurrentGet"] = benchmarkhttp:benchmarkCircuitBreakerConcurrentGet;
+    functions["benchmarkRoundRobinConcurrentGet"] = benchmarkhttp:benchmarkRoundRobinConcurrentGet;
+    functions["benchmarkLeastOutstandingConcurrentGet"] = benchmarkhttp:benchmarkLeastOutstandingConcurrentGet;
+}
+
+function addArrayFunctions() {
+    functions["benchmarkArrayMap"] = benchmarkarrays:benchmarkArrayMap;
+    functions["benchmarkArrayFilter"] = benchmarkarrays:benchmarkArrayFilter;
+    functions["benchmarkArrayReduce"] = benchmarkarrays:benchmarkArrayReduce;
+    functions["benchmarkArrayForEach"] = benchmarkarrays:benchmarkArrayForEach;
+    functions["benchmarkArraySortInts"] = benchmarkarrays:benchmarkArraySortInts;
+    functions["benchmarkArraySortSortedInts"] = benchmarkarrays:benchmarkArraySortSortedInts;
+    functions["benchmarkArraySortFloats"] = benchmarkarrays:benchmarkArraySortFloats;
+    functions["benchmarkArraySortStrings"] = benchmarkarrays:benchmarkArraySortStrings;
+    functions["benchmarkArraySequentialMap"] = benchmarkarrays:benchmarkArraySequentialMap;
+    functions["benchmarkArrayParallelMap"] = benchmarkarrays:benchmarkArrayParallelMap;
+    functions["benchmarkArraySequentialFilter"] = benchmarkarrays:benchmarkArraySequentialFilter;
+    functions["benchmarkArrayParallelFilter"] = benchmarkarrays:benchmarkArrayParallelFilter;
+    functions["benchmarkArraySequentialSort"] = benchmarkarrays:benchmarkArraySequentialSort;
+    functions["benchmarkArrayParallelSort"] = benchmarkarrays:benchmarkArrayParallelSort;
+}
+
+function addWebSubFunctions() {
+    functions["benchmarkHubDelivery100Subscribers"] = benchmarkwebsub:benchmarkHubDelivery100Subscribers;
+    functions["benchmarkHubDelivery1000Subscribers"] = benchmarkwebsub:benchmarkHubDelivery1000Subscribers;
+    functions["benchmarkHubDelivery5000Subscribers"] = benchmarkwebsub:benchmarkHubDelivery5000Subscribers;
+}
+
+function addTaskFunctions() {
+    functions["benchmarkScheduleAndCancel1MTimers"] = benchmarktask:benchmarkScheduleAndCancel1MTimers;
+}
@@ -0,0 +1,82 @@
+// Each benchmark applies a lang.array function to an array of 100000 members, which are generated when the module is
+// initialized. Sort benchmarks sort a copy of the array, so that every run sorts the same unsorted members.
+int[] intValues = createIntValues(100000);
+float[] floatValues = createFloatValues(intValues);
+string[] stringValues = createStringValues(intValues);
+
+public function benchmarkArrayMap() {
+    int[] doubled = intValues.'map(function (int value) returns int {
+        return value * 2;
+    });
+}
+
+public function benchmarkArrayFilter() {
+    int[] even = intValues.filter(function (int value) returns boolean {
+        return value % 2 == 0;
+    });
+}
+
+public function benchmarkArrayReduce() {
+    int sum = intValues.reduce(function (int total, int value) returns int {
+        return total + value;
+    }, 0);
+}
+
+public function benchmarkArrayForEach() {
+    int sum = 0;
+    intValues.forEach(function (int value) {
+        sum = sum + value;
+    });
+}
+
+public function benchmarkArraySortInts() {
+    int[] sorted = intValues.clone().sort(function (int x, int y) returns int {
+        return x < y ? -1 : (x == y ? 0 : 1);
+    });
+}
+
+public function benchmarkArraySortSortedInts() {
+    int[] sorted = intValues.clone().sort(function (int x, int y) returns int {
+        return x < y ? -1 : (x == y ? 0 : 1);
+    });
+    int[] sortedAgain = sorted.sort(function (int x, int y) returns int {
+        return x < y ? -1 : (x == y ? 0 : 1);
+    });
+}
+
+public function benchmarkArraySortFloats() {
+    float[] sorted = floatValues.clone().sort(function (float x, float y) returns int {
+        return x < y ? -1 : (x == y ? 0 : 1);
+    });
+}
+
+public function benchmarkArraySortStrings() {
+    string[] sorted = stringValues.clone().sort(function (string x, string y) returns int {
+        return x.codePointCompare(y);
+    });
+}
+
+function createIntValues(int count) returns int[] {
+    int[] values = [];
+    // a linear congruential generator, so that every run uses the same members
+    int seed = 42;
+    int i = 0;
+    while (i < count) {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        values[i] = seed % 1000000;
+        i = i + 1;
+    }
+    return values;
+}
+
+function createFloatValues(int[] values) returns float[] {
+    return values.'map(function (int value) returns float {
+        return <float>value / 7.0;
+    });
+}
+
+function createStringValues(int[] values) returns string[] {
+    return values.'map(function (int value) returns string {
+        return "value-" + value.toString();
+    });
+}
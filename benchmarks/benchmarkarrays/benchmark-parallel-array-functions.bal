@@ -0,0 +1,46 @@
+// The parallel benchmarks apply the parallel functions of lang.array to an array of 1000000 members, and the
+// sequential benchmarks apply the corresponding sequential functions to the same array, as a baseline.
+int[] largeIntValues = createIntValues(1000000);
+
+public function benchmarkArraySequentialMap() {
+    int[] hashes = largeIntValues.'map(hash);
+}
+
+public function benchmarkArrayParallelMap() {
+    int[] hashes = largeIntValues.parallelMap(hash);
+}
+
+public function benchmarkArraySequentialFilter() {
+    int[] selected = largeIntValues.filter(isSelected);
+}
+
+public function benchmarkArrayParallelFilter() {
+    int[] selected = largeIntValues.parallelFilter(isSelected);
+}
+
+public function benchmarkArraySequentialSort() {
+    int[] sorted = largeIntValues.clone().sort(compareInts);
+}
+
+public function benchmarkArrayParallelSort() {
+    int[] sorted = largeIntValues.clone().parallelSort(compareInts);
+}
+
+// a function which does some work for each member, like parsing or validating a row would
+function hash(int value) returns int {
+    int result = value;
+    int i = 0;
+    while (i < 20) {
+        result = (result * 31 + i) % 1000003;
+        i = i + 1;
+    }
+    return result;
+}
+
+function isSelected(int value) returns boolean {
+    return hash(value) % 2 == 0;
+}
+
+function compareInts(int x, int y) returns int {
+    return x < y ? -1 : (x == y ? 0 : 1);
+}
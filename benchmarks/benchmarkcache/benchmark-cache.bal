@@ -0,0 +1,49 @@
+import ballerina/cache;
+
+cache:Cache sharedCache = new(900000, 1000, 0.25);
+
+// Each benchmark does 1000 cache operations.
+public function benchmarkCacheGetHit() {
+    cache:Cache c = new(900000, 100, 0.25);
+    c.put("key", "value");
+    int i = 0;
+    while (i < 1000) {
+        _ = c.get("key");
+        i = i + 1;
+    }
+}
+
+public function benchmarkCachePutWithEviction() {
+    cache:Cache c = new(900000, 100, 0.25);
+    int i = 0;
+    while (i < 1000) {
+        c.put("key" + i.toString(), i);
+        i = i + 1;
+    }
+}
+
+// Ten strands read and write a cache shared by all the iterations, which is mostly reads as in a typical use.
+public function benchmarkCacheConcurrentGetAndPut() {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start accessSharedCache(i);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+function accessSharedCache(int workerId) {
+    int i = 0;
+    while (i < 100) {
+        string key = "key" + ((workerId * 100 + i) % 1200).toString();
+        if (i % 10 == 0) {
+            sharedCache.put(key, i);
+        } else {
+            _ = sharedCache.get(key);
+        }
+        i = i + 1;
+    }
+}
@@ -0,0 +1,78 @@
+import ballerina/http;
+
+// A stub upstream service on a loopback listener, which responds with a small payload, so that the benchmarks
+// measure the work done by the client for each request. Like the JSON response benchmarks, the listener is started by
+// the first benchmark.
+http:Listener upstreamListener = new(9119);
+http:Client upstreamClient = new("http://localhost:9119/upstream");
+boolean upstreamListenerStarted = false;
+
+service upstreamService =
+@http:ServiceConfig {
+    basePath: "/upstream"
+}
+service {
+    @http:ResourceConfig {
+        methods: ["GET", "POST"],
+        path: "/*"
+    }
+    resource function respond(http:Caller caller, http:Request req) {
+        checkpanic caller->respond("ok");
+    }
+};
+
+public function benchmarkHttpClientGet() {
+    startUpstreamListener();
+    int i = 0;
+    while (i < 100) {
+        http:Response|error response = upstreamClient->get("/orders/42");
+        i = i + 1;
+    }
+}
+
+public function benchmarkHttpClientGetWithQuery() {
+    startUpstreamListener();
+    int i = 0;
+    while (i < 100) {
+        http:Response|error response = upstreamClient->get("/orders?customer=" + i.toString() + "&limit=10");
+        i = i + 1;
+    }
+}
+
+public function benchmarkHttpClientPost() {
+    startUpstreamListener();
+    int i = 0;
+    while (i < 100) {
+        http:Response|error response = upstreamClient->post("/orders", "order-" + i.toString());
+        i = i + 1;
+    }
+}
+
+public function benchmarkHttpClientConcurrentGet() {
+    startUpstreamListener();
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start getOrders(10);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+function getOrders(int count) {
+    int i = 0;
+    while (i < count) {
+        http:Response|error response = upstreamClient->get("/orders/42");
+        i = i + 1;
+    }
+}
+
+function startUpstreamListener() {
+    if (!upstreamListenerStarted) {
+        checkpanic upstreamListener.__attach(upstreamService);
+        checkpanic upstreamListener.__start();
+        upstreamListenerStarted = true;
+    }
+}
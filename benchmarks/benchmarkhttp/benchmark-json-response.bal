@@ -0,0 +1,75 @@
+import ballerina/http;
+
+// The services are attached to a listener which is started by the first benchmark, instead of to a module level
+// listener, so that the benchmark program exits once the benchmarks are done. Each benchmark gets a JSON payload of
+// about 1KB, 100KB or 1MB, which is serialized by the service for every request.
+http:Listener jsonListener = new(9118);
+http:Client jsonClient = new("http://localhost:9118");
+boolean jsonListenerStarted = false;
+
+json smallPayload = createPayload(10);
+json mediumPayload = createPayload(1000);
+json largePayload = createPayload(10000);
+
+service jsonService =
+@http:ServiceConfig {
+    basePath: "/json"
+}
+service {
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/{size}"
+    }
+    resource function getPayload(http:Caller caller, http:Request req, string size) {
+        json payload = largePayload;
+        if (size == "small") {
+            payload = smallPayload;
+        } else if (size == "medium") {
+            payload = mediumPayload;
+        }
+        checkpanic caller->respond(payload);
+    }
+};
+
+public function benchmarkJsonResponse1KB() {
+    getPayloads("small", 100);
+}
+
+public function benchmarkJsonResponse100KB() {
+    getPayloads("medium", 10);
+}
+
+public function benchmarkJsonResponse1MB() {
+    getPayloads("large", 1);
+}
+
+function getPayloads(string size, int count) {
+    startJsonListener();
+    int i = 0;
+    while (i < count) {
+        http:Response|error response = jsonClient->get("/json/" + size);
+        if (response is http:Response) {
+            json|error payload = response.getJsonPayload();
+        }
+        i = i + 1;
+    }
+}
+
+function startJsonListener() {
+    if (!jsonListenerStarted) {
+        checkpanic jsonListener.__attach(jsonService);
+        checkpanic jsonListener.__start();
+        jsonListenerStarted = true;
+    }
+}
+
+function createPayload(int itemCount) returns json {
+    json[] items = [];
+    int i = 0;
+    while (i < itemCount) {
+        items[i] = { id: i, name: "item-" + i.toString(), description: "a JSON payload item", price: 10.5,
+            available: true };
+        i = i + 1;
+    }
+    return { count: itemCount, items: items };
+}
@@ -0,0 +1,93 @@
+import ballerina/http;
+
+// The resiliency clients send requests to the stub upstream service of the HTTP client benchmarks. The concurrent
+// benchmarks send requests through one client from ten strands, where the client updates its shared state.
+http:Client circuitBreakerClient = new("http://localhost:9119/upstream", {
+    circuitBreaker: {
+        rollingWindow: {
+            timeWindowInMillis: 10000,
+            bucketSizeInMillis: 1000,
+            requestVolumeThreshold: 0
+        },
+        failureThreshold: 0.5,
+        resetTimeInMillis: 1000,
+        statusCodes: [500, 502, 503]
+    }
+});
+
+http:LoadBalanceClient roundRobinClient = new({
+    targets: [
+        { url: "http://localhost:9119/upstream/a" },
+        { url: "http://localhost:9119/upstream/b" },
+        { url: "http://localhost:9119/upstream/c" }
+    ]
+});
+
+http:LoadBalanceClient leastOutstandingClient = new({
+    targets: [
+        { url: "http://localhost:9119/upstream/a" },
+        { url: "http://localhost:9119/upstream/b" },
+        { url: "http://localhost:9119/upstream/c" }
+    ],
+    lbRule: new http:LoadBalancerLeastOutstandingRequestsRule()
+});
+
+public function benchmarkCircuitBreakerGet() {
+    startUpstreamListener();
+    getThroughCircuitBreaker(100);
+}
+
+public function benchmarkCircuitBreakerConcurrentGet() {
+    startUpstreamListener();
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start getThroughCircuitBreaker(10);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+public function benchmarkRoundRobinConcurrentGet() {
+    startUpstreamListener();
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start getThroughLoadBalancer(roundRobinClient, 10);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+public function benchmarkLeastOutstandingConcurrentGet() {
+    startUpstreamListener();
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start getThroughLoadBalancer(leastOutstandingClient, 10);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+function getThroughCircuitBreaker(int count) {
+    int i = 0;
+    while (i < count) {
+        http:Response|error response = circuitBreakerClient->get("/orders/42");
+        i = i + 1;
+    }
+}
+
+function getThroughLoadBalancer(http:LoadBalanceClient lbClient, int count) {
+    int i = 0;
+    while (i < count) {
+        http:Response|error response = lbClient->get("/orders/42");
+        i = i + 1;
+    }
+}
@@ -1,5 +1,34 @@
+import ballerina/http;
 import ballerina/io;
 
+// A 32MB text file, which is generated when the module is initialized. The file is larger than the size from which
+// files are read through memory mapped regions.
+const string LARGE_FILE_PATH = "benchmarkio/resources/large-file.txt";
+const int CHUNK_SIZE = 16384;
+// a character channel reads three bytes per character, hence the bytes of a read fit in a pooled buffer
+const int CHARACTER_CHUNK_SIZE = 4096;
+boolean largeFileCreated = createLargeFile(32);
+
+http:Listener fileListener = new(9120);
+http:Client fileClient = new("http://localhost:9120");
+boolean fileListenerStarted = false;
+
+service fileService =
+@http:ServiceConfig {
+    basePath: "/files"
+}
+service {
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/large"
+    }
+    resource function getLargeFile(http:Caller caller, http:Request req) {
+        http:Response response = new;
+        response.setFileAsPayload(LARGE_FILE_PATH, contentType = "text/plain");
+        checkpanic caller->respond(response);
+    }
+};
+
 public function benchmarkInitFileChannelReadMode() {
     io:ReadableByteChannel byteChannel;
     byteChannel = io:openReadableFile("benchmarkio/resources/test.txt");
@@ -28,3 +57,65 @@ public function benchmarkWriteBytes() {
     var results = byteChannel.close();
 }
 
+public function benchmarkReadLargeFile() {
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(LARGE_FILE_PATH);
+    readAllBytes(byteChannel);
+    var result = byteChannel.close();
+}
+
+public function benchmarkReadLargeFileCharacters() {
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(LARGE_FILE_PATH);
+    io:ReadableCharacterChannel characterChannel = new(byteChannel, "UTF-8");
+    string|io:Error characters = characterChannel.read(CHARACTER_CHUNK_SIZE);
+    while (characters is string && characters.length() > 0) {
+        characters = characterChannel.read(CHARACTER_CHUNK_SIZE);
+    }
+    var result = characterChannel.close();
+}
+
+public function benchmarkLargeFileResponse() {
+    if (!fileListenerStarted) {
+        checkpanic fileListener.__attach(fileService);
+        checkpanic fileListener.__start();
+        fileListenerStarted = true;
+    }
+    http:Response response = checkpanic fileClient->get("/files/large");
+    io:ReadableByteChannel byteChannel = checkpanic response.getByteChannel();
+    readAllBytes(byteChannel);
+    var result = byteChannel.close();
+}
+
+function readAllBytes(io:ReadableByteChannel byteChannel) {
+    byte[]|io:Error content = byteChannel.read(CHUNK_SIZE);
+    while (content is byte[]) {
+        content = byteChannel.read(CHUNK_SIZE);
+    }
+}
+
+function createLargeFile(int sizeInMB) returns boolean {
+    string line = "";
+    int i = 0;
+    while (i < 63) {
+        line = line + "0123456789abcdef";
+        i = i + 1;
+    }
+    line = line + "0123456789abcde\n";
+    string block = "";
+    i = 0;
+    while (i < 1024) {
+        block = block + line;
+        i = i + 1;
+    }
+    byte[] content = block.toBytes();
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile(LARGE_FILE_PATH);
+    i = 0;
+    while (i < sizeInMB) {
+        int offset = 0;
+        while (offset < content.length()) {
+            offset = offset + checkpanic byteChannel.write(content, offset);
+        }
+        i = i + 1;
+    }
+    checkpanic byteChannel.close();
+    return true;
+}
@@ -0,0 +1,43 @@
+import ballerina/log;
+
+// Each benchmark does 100 log calls. With the default log level (INFO), the debug and trace benchmarks measure the
+// cost of a call which is not logged.
+public function benchmarkLogPrintError() {
+    int i = 0;
+    while (i < 100) {
+        log:printError("benchmark error message");
+        i = i + 1;
+    }
+}
+
+public function benchmarkLogPrintWarn() {
+    int i = 0;
+    while (i < 100) {
+        log:printWarn("benchmark warn message");
+        i = i + 1;
+    }
+}
+
+public function benchmarkLogPrintInfo() {
+    int i = 0;
+    while (i < 100) {
+        log:printInfo("benchmark info message");
+        i = i + 1;
+    }
+}
+
+public function benchmarkLogPrintDebug() {
+    int i = 0;
+    while (i < 100) {
+        log:printDebug("benchmark debug message");
+        i = i + 1;
+    }
+}
+
+public function benchmarkLogPrintTrace() {
+    int i = 0;
+    while (i < 100) {
+        log:printTrace("benchmark trace message");
+        i = i + 1;
+    }
+}
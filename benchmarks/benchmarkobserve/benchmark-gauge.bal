@@ -0,0 +1,42 @@
+import ballerina/observe;
+
+// Each benchmark updates the same gauge 1024 times, split across the given number of strands, to measure how gauge
+// updates scale when several strands record to the same gauge at the same time.
+observe:Gauge benchmarkGauge = new("benchmark_gauge", "Gauge updated by the gauge benchmarks");
+
+public function benchmarkGaugeUpdates1Strand() {
+    updateGaugeConcurrently(1);
+}
+
+public function benchmarkGaugeUpdates4Strands() {
+    updateGaugeConcurrently(4);
+}
+
+public function benchmarkGaugeUpdates16Strands() {
+    updateGaugeConcurrently(16);
+}
+
+public function benchmarkGaugeUpdates64Strands() {
+    updateGaugeConcurrently(64);
+}
+
+function updateGaugeConcurrently(int strands) {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < strands) {
+        futures[i] = start updateGauge(1024 / strands);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+function updateGauge(int updates) {
+    int i = 0;
+    while (i < updates) {
+        benchmarkGauge.increment(2.0);
+        benchmarkGauge.decrement();
+        i = i + 1;
+    }
+}
@@ -0,0 +1,38 @@
+// Remote functions of client objects are observed like connector actions, hence each call starts and stops an
+// observation when observability is enabled. Each benchmark does 1000 remote calls.
+public type ObservedClient client object {
+    public remote function getValue(int value) returns int {
+        return value + 1;
+    }
+};
+
+ObservedClient observedClient = new;
+
+public function benchmarkObservedRemoteCall() {
+    int i = 0;
+    while (i < 1000) {
+        _ = observedClient->getValue(i);
+        i = i + 1;
+    }
+}
+
+// Ten strands call the same remote function, which records to the same metrics.
+public function benchmarkObservedConcurrentRemoteCalls() {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start callObservedClient();
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+function callObservedClient() {
+    int i = 0;
+    while (i < 100) {
+        _ = observedClient->getValue(i);
+        i = i + 1;
+    }
+}
@@ -0,0 +1,46 @@
+import ballerinax/java.jdbc;
+
+jdbc:Client benchmarkDB = new ({
+    url: "jdbc:h2:mem:BenchmarkBlockingDB",
+    username: "SA",
+    password: "",
+    poolOptions: {maximumPoolSize: 20}
+});
+
+// Mixes strands that block on JDBC calls with CPU bound strands. Run with and without BALLERINA_BLOCKING_POOL_SIZE
+// set to compare how much the blocking calls hold back the CPU bound strands.
+public function benchmarkMixedCpuAndBlockingStrands() {
+    future<int>[] cpuFutures = [];
+    future<int>[] blockingFutures = [];
+    int i = 0;
+    while (i < 20) {
+        blockingFutures[i] = start selectRange();
+        cpuFutures[i] = start sumRange(100000);
+        i = i + 1;
+    }
+    foreach var f in cpuFutures {
+        int result = wait f;
+    }
+    foreach var f in blockingFutures {
+        int result = wait f;
+    }
+}
+
+function selectRange() returns int {
+    var result = benchmarkDB->select("SELECT COUNT(*) AS total FROM SYSTEM_RANGE(1, 100000)", ());
+    if (result is table<record {}>) {
+        result.close();
+        return 1;
+    }
+    return 0;
+}
+
+function sumRange(int count) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        sum = sum + i;
+        i = i + 1;
+    }
+    return sum;
+}
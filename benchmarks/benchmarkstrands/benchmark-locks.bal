@@ -0,0 +1,60 @@
+map<int> lockedCounts = {reads: 0, writes: 0};
+
+// Lock statements which only read the locked variable share the lock, while the other lock statements lock it
+// exclusively. Every strand runs a thousand lock statements, and every sixteenth or every second lock statement
+// updates the variable.
+public function benchmarkReadHeavyLocksSingleStrand() {
+    runLockStrands(1, 16);
+}
+
+public function benchmarkReadHeavyLocks8Strands() {
+    runLockStrands(8, 16);
+}
+
+public function benchmarkReadHeavyLocks64Strands() {
+    runLockStrands(64, 16);
+}
+
+public function benchmarkWriteHeavyLocksSingleStrand() {
+    runLockStrands(1, 2);
+}
+
+public function benchmarkWriteHeavyLocks8Strands() {
+    runLockStrands(8, 2);
+}
+
+public function benchmarkWriteHeavyLocks64Strands() {
+    runLockStrands(64, 2);
+}
+
+function runLockStrands(int strandCount, int writeInterval) {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < strandCount) {
+        futures[i] = start runLocks(writeInterval);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+function runLocks(int writeInterval) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < 1000) {
+        if (i % writeInterval == 0) {
+            lock {
+                lockedCounts["writes"] = <int>lockedCounts["writes"] + 1;
+            }
+        } else {
+            int writes = 0;
+            lock {
+                writes = <int>lockedCounts["writes"];
+            }
+            total = total + writes;
+        }
+        i = i + 1;
+    }
+    return total;
+}
@@ -0,0 +1,39 @@
+public function benchmarkStrandSpawnAndWait() {
+    future<int> f = start add(1, 2);
+    int result = wait f;
+}
+
+public function benchmarkStrandSpawnMultipleAndWait() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < 100) {
+        futures[i] = start add(i, i);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+// Strands which never yield, used with the GC statistics to compare the allocation per strand.
+public function benchmarkNonYieldingStrandAllocation() {
+    int i = 0;
+    while (i < 1000) {
+        future<int> f = start add(i, i);
+        i = i + 1;
+    }
+}
+
+public function benchmarkWorkerForkAndWait() {
+    worker w1 returns int {
+        return add(1, 2);
+    }
+    worker w2 returns int {
+        return add(3, 4);
+    }
+    record {int w1; int w2;} result = wait {w1, w2};
+}
+
+function add(int a, int b) returns int {
+    return a + b;
+}
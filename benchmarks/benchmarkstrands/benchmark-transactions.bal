@@ -0,0 +1,62 @@
+import ballerinax/java.jdbc;
+
+jdbc:Client transactionDB = new ({
+    url: "jdbc:h2:mem:BenchmarkTransactionDB;DB_CLOSE_DELAY=-1",
+    username: "SA",
+    password: "",
+    poolOptions: {maximumPoolSize: 20}
+});
+
+jdbc:Client secondTransactionDB = new ({
+    url: "jdbc:h2:mem:BenchmarkSecondTransactionDB;DB_CLOSE_DELAY=-1",
+    username: "SA",
+    password: "",
+    poolOptions: {maximumPoolSize: 20}
+});
+
+boolean commitTablesCreated = createCommitTable(transactionDB) && createCommitTable(secondTransactionDB);
+
+// A transaction block which updates one embedded database is committed in one phase, while a transaction block
+// which updates both databases runs the two-phase commit. Run with b7a.transactions.log.path set in ballerina.conf
+// to include logging the commit decisions of the two-phase commits, which are forced to the log together.
+public function benchmarkSingleResourceCommit() {
+    commitTransactions(1000, false);
+}
+
+public function benchmarkSingleResourceCommit16Strands() {
+    runCommitStrands(false);
+}
+
+public function benchmarkTwoResourceCommit16Strands() {
+    runCommitStrands(true);
+}
+
+function runCommitStrands(boolean twoResources) {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 16) {
+        futures[i] = start commitTransactions(100, twoResources);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        _ = wait f;
+    }
+}
+
+function commitTransactions(int count, boolean twoResources) {
+    int i = 0;
+    while (i < count) {
+        transaction {
+            _ = transactionDB->update("INSERT INTO COMMITS (VALUE) VALUES (?)", i);
+            if (twoResources) {
+                _ = secondTransactionDB->update("INSERT INTO COMMITS (VALUE) VALUES (?)", i);
+            }
+        }
+        i = i + 1;
+    }
+}
+
+function createCommitTable(jdbc:Client db) returns boolean {
+    var result = db->update("CREATE TABLE IF NOT EXISTS COMMITS (ID INT AUTO_INCREMENT PRIMARY KEY, VALUE INT)");
+    return result is jdbc:UpdateResult;
+}
@@ -0,0 +1,176 @@
+// Worker sends and receives have to be top level statements of a worker, hence each run of the workers exchanges a
+// fixed number of messages, and a benchmark runs the workers of a function a hundred times.
+public function benchmarkWorkerPingPong() {
+    int i = 0;
+    while (i < 100) {
+        int result = pingPong(i);
+        i = i + 1;
+    }
+}
+
+public function benchmarkWorkerPipeline() {
+    int i = 0;
+    while (i < 100) {
+        int result = pipeline(i);
+        i = i + 1;
+    }
+}
+
+public function benchmarkWorkerSyncPipeline() {
+    int i = 0;
+    while (i < 100) {
+        int result = syncPipeline(i);
+        i = i + 1;
+    }
+}
+
+// Each message is sent once the reply to the previous message is received.
+function pingPong(int value) returns int {
+    worker ping returns int {
+        value -> pong;
+        int reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        reply -> pong;
+        reply = <- pong;
+        return reply;
+    }
+    worker pong {
+        int request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+        request = <- ping;
+        (request + 1) -> ping;
+    }
+    return wait ping;
+}
+
+// The messages are sent by the source without waiting for the stage and the sink to receive them.
+
+function pipeline(int value) returns int {
+    worker source {
+        value -> stage;
+        (value + 1) -> stage;
+        (value + 2) -> stage;
+        (value + 3) -> stage;
+        (value + 4) -> stage;
+        (value + 5) -> stage;
+        (value + 6) -> stage;
+        (value + 7) -> stage;
+    }
+    worker stage {
+        int message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+    }
+    worker sink returns int {
+        int total = 0;
+        int message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        return total;
+    }
+    return wait sink;
+}
+
+// The source waits for the stage to receive each message, and the stage flushes its messages to the sink.
+
+function syncPipeline(int value) returns int {
+    worker source {
+        error? result0 = value ->> stage;
+        error? result1 = (value + 1) ->> stage;
+        error? result2 = (value + 2) ->> stage;
+        error? result3 = (value + 3) ->> stage;
+        error? result4 = (value + 4) ->> stage;
+        error? result5 = (value + 5) ->> stage;
+        error? result6 = (value + 6) ->> stage;
+        error? result7 = (value + 7) ->> stage;
+    }
+    worker stage {
+        int message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        message = <- source;
+        (message * 2) -> sink;
+        error? result = flush sink;
+    }
+    worker sink returns int {
+        int total = 0;
+        int message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        message = <- stage;
+        total = total + message;
+        return total;
+    }
+    return wait sink;
+}
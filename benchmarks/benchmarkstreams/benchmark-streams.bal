@@ -0,0 +1,53 @@
+type Event record {
+    int id;
+    string name;
+};
+
+int received = 0;
+
+// Each benchmark publishes 100 events, compare the three to see how the throughput scales with the subscriber count.
+public function benchmarkStreamPublishOneSubscriber() {
+    publishEvents(1);
+}
+
+public function benchmarkStreamPublishFiveSubscribers() {
+    publishEvents(5);
+}
+
+public function benchmarkStreamPublishTenSubscribers() {
+    publishEvents(10);
+}
+
+public function benchmarkStreamPublishFrozenTenSubscribers() {
+    stream<Event> events = new;
+    subscribe(events, 10);
+    int i = 0;
+    while (i < 100) {
+        Event e = { id: i, name: "event" };
+        events.publish(e.cloneReadOnly());
+        i = i + 1;
+    }
+}
+
+function publishEvents(int subscriberCount) {
+    stream<Event> events = new;
+    subscribe(events, subscriberCount);
+    int i = 0;
+    while (i < 100) {
+        Event e = { id: i, name: "event" };
+        events.publish(e);
+        i = i + 1;
+    }
+}
+
+function subscribe(stream<Event> events, int subscriberCount) {
+    int i = 0;
+    while (i < subscriberCount) {
+        events.subscribe(onEvent);
+        i = i + 1;
+    }
+}
+
+function onEvent(Event e) {
+    received = received + 1;
+}
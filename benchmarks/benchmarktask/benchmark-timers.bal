@@ -0,0 +1,25 @@
+import ballerina/task;
+
+int triggeredCount = 0;
+
+service timerService = service {
+    resource function onTrigger() {
+        lock {
+            triggeredCount = triggeredCount + 1;
+        }
+    }
+};
+
+// Schedules 1M timers and cancels them before they are triggered, as with a timeout for each request which is cancelled
+// when the request completes. Run with `b7a.task.timer.scheduler="wheel"` to schedule the timers in the timing wheel
+// instead of Quartz.
+public function benchmarkScheduleAndCancel1MTimers() {
+    int i = 0;
+    while (i < 1000000) {
+        task:Scheduler timer = new({ intervalInMillis: 60000, initialDelayInMillis: 60000 });
+        _ = timer.attach(timerService);
+        _ = timer.start();
+        _ = timer.stop();
+        i = i + 1;
+    }
+}
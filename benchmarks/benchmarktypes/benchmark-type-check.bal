@@ -0,0 +1,69 @@
+// Each benchmark checks 1000 values against the same types, so that the type checks after the first one are answered
+// from the type check cache of the runtime.
+type Item record {|
+    string name;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {
+    string id;
+    string customer;
+    Item[] items;
+};
+
+public function benchmarkTypeCheckJsonToRecordCast() {
+    json orderJson = {
+        id: "ord-1",
+        customer: "John Doe",
+        items: [{ name: "pen", quantity: 2, price: 1.5 }, { name: "book", quantity: 1, price: 12.0 }]
+    };
+    int i = 0;
+    while (i < 1000) {
+        Order|error ord = Order.constructFrom(orderJson);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTypeCheckRecordIsCheck() {
+    anydata value = getOrder();
+    int count = 0;
+    int i = 0;
+    while (i < 1000) {
+        if (value is Order) {
+            count = count + 1;
+        }
+        i = i + 1;
+    }
+}
+
+public function benchmarkTypeCheckUnionMemberMatch() {
+    (int|string|Item|Order)[] values = [1, "a", getItem(), getOrder()];
+    int count = 0;
+    int i = 0;
+    while (i < 250) {
+        foreach var value in values {
+            if (value is Item|Order) {
+                count = count + 1;
+            }
+        }
+        i = i + 1;
+    }
+}
+
+public function benchmarkTypeCheckArrayCast() {
+    anydata values = <Item[]>[getItem(), getItem()];
+    int i = 0;
+    while (i < 1000) {
+        Item[] items = <Item[]>values;
+        i = i + 1;
+    }
+}
+
+function getItem() returns Item {
+    return { name: "pen", quantity: 2, price: 1.5 };
+}
+
+function getOrder() returns Order {
+    return { id: "ord-1", customer: "John Doe", items: [getItem()] };
+}
@@ -0,0 +1,31 @@
+type Employee record {
+    int id;
+    string name;
+    float salary;
+};
+
+public function benchmarkTableAdd() {
+    table<Employee> employees = table {
+        { key id, name, salary }
+    };
+    int i = 0;
+    while (i < 100) {
+        Employee e = { id: i, name: "employee", salary: 100.0 };
+        checkpanic employees.add(e);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableAddAndIterate() {
+    table<Employee> employees = table {};
+    int i = 0;
+    while (i < 100) {
+        Employee e = { id: i, name: "employee", salary: 100.0 };
+        checkpanic employees.add(e);
+        i = i + 1;
+    }
+    float total = 0.0;
+    foreach var e in employees {
+        total = total + e.salary;
+    }
+}
@@ -0,0 +1,110 @@
+import ballerina/http;
+import ballerina/runtime;
+import ballerina/websub;
+
+// A hub on a loopback listener, with stub subscriber callbacks on another listener, which respond to the intent
+// verification requests and accept the delivered content. The hub and the subscriptions of a topic are set up by the
+// first benchmark which uses them, and every benchmark publishes to a topic and waits until the content is delivered
+// to all the subscribers of the topic.
+http:Listener hubListener = new(9121);
+http:Listener callbackListener = new(9122);
+websub:Hub? benchmarkHub = ();
+map<boolean> subscribedTopics = {};
+int deliveredCount = 0;
+
+service callbackService =
+@http:ServiceConfig {
+    basePath: "/callback"
+}
+service {
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/*"
+    }
+    resource function verifyIntent(http:Caller caller, http:Request req) {
+        string? challenge = req.getQueryParamValue("hub.challenge");
+        checkpanic caller->respond(challenge ?: "");
+    }
+
+    @http:ResourceConfig {
+        methods: ["POST"],
+        path: "/*"
+    }
+    resource function deliver(http:Caller caller, http:Request req) {
+        lock {
+            deliveredCount = deliveredCount + 1;
+        }
+        http:Response response = new;
+        response.statusCode = http:STATUS_ACCEPTED;
+        checkpanic caller->respond(response);
+    }
+};
+
+public function benchmarkHubDelivery100Subscribers() {
+    publishAndAwaitDelivery("delivery-100", 100);
+}
+
+public function benchmarkHubDelivery1000Subscribers() {
+    publishAndAwaitDelivery("delivery-1000", 1000);
+}
+
+public function benchmarkHubDelivery5000Subscribers() {
+    publishAndAwaitDelivery("delivery-5000", 5000);
+}
+
+function publishAndAwaitDelivery(string topic, int subscriberCount) {
+    websub:Hub hub = setUpHub();
+    subscribe(hub, topic, subscriberCount);
+    int target;
+    lock {
+        target = deliveredCount + subscriberCount;
+    }
+    checkpanic hub.publishUpdate(topic, {"action": "publish", "mode": "benchmark"});
+    while (getDeliveredCount() < target) {
+        runtime:sleep(1);
+    }
+}
+
+function getDeliveredCount() returns int {
+    lock {
+        return deliveredCount;
+    }
+}
+
+function setUpHub() returns websub:Hub {
+    websub:Hub? hub = benchmarkHub;
+    if (hub is websub:Hub) {
+        return hub;
+    }
+    checkpanic callbackListener.__attach(callbackService);
+    checkpanic callbackListener.__start();
+    var result = websub:startHub(hubListener, "/websub", "/hub", "/pub", hubConfiguration = {
+        topicRegistrationRequired: false
+    });
+    if (result is websub:Hub) {
+        benchmarkHub = result;
+        return result;
+    }
+    panic error("Error starting up the benchmark hub");
+}
+
+function subscribe(websub:Hub hub, string topic, int subscriberCount) {
+    if (subscribedTopics.hasKey(topic)) {
+        return;
+    }
+    websub:SubscriptionClient subscriptionClient = new(hub.subscriptionUrl);
+    int i = 0;
+    while (i < subscriberCount) {
+        _ = checkpanic subscriptionClient->subscribe({
+            topic: topic,
+            callback: "http://localhost:9122/callback/" + topic + "/" + i.toString(),
+            secret: "secret-" + (i % 10).toString()
+        });
+        i = i + 1;
+    }
+    // the hub adds a subscription once the intent of the subscriber is verified
+    while (hub.getSubscribers(topic).length() < subscriberCount) {
+        runtime:sleep(10);
+    }
+    subscribedTopics[topic] = true;
+}
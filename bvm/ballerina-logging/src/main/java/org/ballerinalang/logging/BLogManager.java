@@ -21,6 +21,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.logging.formatters.HttpAccessLogFormatter;
 import org.ballerinalang.logging.formatters.HttpTraceLogFormatter;
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.AsyncLogHandler;
 import org.ballerinalang.logging.util.BLogLevel;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -42,8 +44,11 @@ import java.util.logging.SocketHandler;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_BUFFER_SIZE;
 import static org.ballerinalang.logging.util.Constants.BALLERINA_USER_LOG_LEVEL;
 import static org.ballerinalang.logging.util.Constants.CONSOLE_LOGGER;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_ASYNC_LOG_BUFFER_SIZE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_CONSOLE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_FILE;
@@ -70,6 +75,7 @@ public class BLogManager extends LogManager {
     private BLogLevel ballerinaUserLogLevel = BLogLevel.INFO; // default to INFO
     private Logger httpTraceLogger;
     private Logger httpAccessLogger;
+    private Logger ballerinaRootLogger;
 
     @Override
     public void readConfiguration(InputStream ins) throws IOException, SecurityException {
@@ -104,6 +110,7 @@ public class BLogManager extends LogManager {
 
         setHttpTraceLogHandler();
         setHttpAccessLogHandler();
+        setAsyncLogHandler();
 
         // have to set default console logger level here since ballerina config is not initialized at the time of the
         // logger initialization
@@ -215,6 +222,42 @@ public class BLogManager extends LogManager {
         }
     }
 
+    /**
+     * Publishes the Ballerina user logs from a background thread if asynchronous logging is enabled.
+     */
+    public void setAsyncLogHandler() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!Boolean.parseBoolean(configRegistry.getAsString(ASYNC_LOG))) {
+            return;
+        }
+        if (ballerinaRootLogger == null) {
+            // keep a reference to prevent this logger from being garbage collected
+            ballerinaRootLogger = Logger.getLogger(BALLERINA_ROOT_LOGGER_NAME);
+        }
+        Handler[] handlers = ballerinaRootLogger.getHandlers();
+        if (handlers.length == 0 || (handlers.length == 1 && handlers[0] instanceof AsyncLogHandler)) {
+            return;
+        }
+
+        int bufferSize = DEFAULT_ASYNC_LOG_BUFFER_SIZE;
+        String configuredBufferSize = configRegistry.getAsString(ASYNC_LOG_BUFFER_SIZE);
+        if (configuredBufferSize != null && !configuredBufferSize.trim().isEmpty()) {
+            try {
+                bufferSize = Integer.parseInt(configuredBufferSize.trim());
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("invalid async log buffer size: " + configuredBufferSize, e);
+            }
+            if (bufferSize <= 0) {
+                throw new RuntimeException("invalid async log buffer size: " + configuredBufferSize);
+            }
+        }
+
+        for (Handler handler : handlers) {
+            ballerinaRootLogger.removeHandler(handler);
+        }
+        ballerinaRootLogger.addHandler(new AsyncLogHandler(handlers, bufferSize));
+    }
+
     private String substituteVariables(String value) {
         Matcher matcher = varPattern.matcher(value);
         boolean found = matcher.find();
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler which queues log records in a bounded ring buffer and publishes them to the given handlers from a
+ * background thread, so that the logging thread does not wait for the records to be formatted and written.
+ * <p>
+ * Records are published in the order they were logged. When the buffer is full, the logging thread waits for a free
+ * slot instead of dropping the record. Since the records are formatted on the background thread, the handlers should
+ * not depend on the source class or method of the record, which is inferred from the current stack.
+ *
+ * @since 1.2.0
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final LogRecord CLOSE_MARKER = new LogRecord(Level.OFF, "");
+
+    private final Handler[] handlers;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread appenderThread;
+    private volatile boolean closed = false;
+
+    public AsyncLogHandler(Handler[] handlers, int bufferSize) {
+        this.handlers = handlers.clone();
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        setLevel(Level.ALL);
+        appenderThread = new Thread(this::appendRecords, "ballerina-log-appender");
+        appenderThread.setDaemon(true);
+        appenderThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        if (closed) {
+            publishToHandlers(record);
+            return;
+        }
+        try {
+            buffer.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            publishToHandlers(record);
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (Handler handler : handlers) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Publishes the queued records and closes the handlers. This is called by the log manager when the JVM shuts down.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            buffer.put(CLOSE_MARKER);
+            appenderThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Handler handler : handlers) {
+            handler.close();
+        }
+    }
+
+    /**
+     * Returns the handlers to which the records are published.
+     *
+     * @return handlers
+     */
+    public Handler[] getHandlers() {
+        return handlers.clone();
+    }
+
+    private void appendRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+            for (LogRecord record : batch) {
+                if (record == CLOSE_MARKER) {
+                    // records logged after closing are published by the logging thread
+                    return;
+                }
+                publishToHandlers(record);
+            }
+            batch.clear();
+            flush();
+        }
+    }
+
+    private void publishToHandlers(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -31,6 +31,9 @@ public class Constants {
     public static final String LOG_LEVEL = ".loglevel";
 
     public static final String CONSOLE_LOGGER = "b7a.log.console";
+    public static final String ASYNC_LOG = "b7a.log.async";
+    public static final String ASYNC_LOG_BUFFER_SIZE = "b7a.log.async.buffersize";
+    public static final int DEFAULT_ASYNC_LOG_BUFFER_SIZE = 8192;
 
     public static final String HTTP_TRACE_LOG = "http.tracelog";
     public static final String HTTP_TRACE_LOG_ENABLED = "http.tracelog.enabled";
@@ -21,30 +21,129 @@ import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is taken exclusively by a strand, or shared by the strands of lock statements which only read the locked
+ * variables. An uncontended lock is taken and released with a single CAS, and the monitor of the lock is only entered
+ * to block a strand, or to unblock the strands which are waiting for the lock.
+ * <p>
+ * Strands which wait to take the lock exclusively are preferred. The lock is not shared while such a strand is waiting,
+ * or is unblocked to take the lock again, so that a stream of strands which share the lock does not starve it.
+ * <p>
+ * A strand which holds the lock exclusively may take it again, in either mode. A strand which shares the lock does
+ * not take it again, as the compiler does not share the lock for lock statements with nested locks or calls.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final int FREE = 0;
+    private static final int EXCLUSIVE = -1;
 
-    private ArrayDeque<Strand> waitingForLock;
+    // the number of strands which share the lock, or EXCLUSIVE
+    private final AtomicInteger state = new AtomicInteger(FREE);
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+    // only updated by the strand which holds the lock exclusively
+    private volatile Strand owner;
+    private int holdCount;
+
+    private final ArrayDeque<WaitingStrand> waitingForLock = new ArrayDeque<>();
+    // the size of waitingForLock, which is read without the monitor
+    private volatile int waitingCount;
+    // the number of strands in waitingForLock which take the lock exclusively
+    private volatile int exclusiveWaitingCount;
+    // whether a strand which takes the lock exclusively is unblocked, and has not taken the lock yet
+    private volatile boolean exclusiveUnblocked;
+
+    public boolean lock(Strand strand) {
+        if (state.compareAndSet(FREE, EXCLUSIVE)) {
+            owner = strand;
+            holdCount = 1;
+            if (exclusiveUnblocked) {
+                exclusiveUnblocked = false;
+            }
+            return true;
+        }
+        if (owner == strand) {
+            holdCount++;
+            return true;
+        }
+        return lockOrBlock(strand, false);
+    }
+
+    public boolean lockShared(Strand strand) {
+        if (!isExclusiveWaiting() && tryLockShared()) {
+            return true;
+        }
+        if (owner == strand) {
+            holdCount++;
+            return true;
+        }
+        return lockOrBlock(strand, true);
+    }
+
+    public void unlock() {
+        //current cannot be empty as unlock cannot be called without lock being called first.
+        if (--holdCount > 0) {
+            return;
+        }
+        owner = null;
+        state.set(FREE);
+        unblockWaitingStrands();
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            current.offerLast(strand);
+    public void unlockShared() {
+        int current = state.get();
+        if (current == EXCLUSIVE) {
+            // taken by the strand which holds the lock exclusively
+            unlock();
+            return;
+        }
+        while (!state.compareAndSet(current, current - 1)) {
+            current = state.get();
+        }
+        if (current == 1) {
+            unblockWaitingStrands();
+        }
+    }
+
+    private boolean isExclusiveWaiting() {
+        return exclusiveWaitingCount > 0 || exclusiveUnblocked;
+    }
+
+    private boolean tryLockShared() {
+        int current = state.get();
+        while (current != EXCLUSIVE) {
+            if (state.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    private synchronized boolean lockOrBlock(Strand strand, boolean shared) {
+        // counted before the lock is checked again, so that a strand which releases the lock meanwhile unblocks
+        // this strand
+        waitingCount++;
+        if (shared ? !isExclusiveWaiting() && tryLockShared() : state.compareAndSet(FREE, EXCLUSIVE)) {
+            waitingCount--;
+            if (!shared) {
+                owner = strand;
+                holdCount = 1;
+                exclusiveUnblocked = false;
+            }
             return true;
         }
 
-        waitingForLock.offerLast(strand);
+        waitingForLock.offerLast(new WaitingStrand(strand, shared));
+        if (!shared) {
+            exclusiveWaitingCount++;
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -52,20 +151,45 @@ public class BLock {
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    private void unblockWaitingStrands() {
+        if (waitingCount == 0) {
+            return;
+        }
+        synchronized (this) {
+            // unblocked strands take the lock again, hence a strand which takes the lock exclusively is unblocked
+            // alone, ahead of the strands which share the lock, and those are unblocked together once no strand
+            // waits to take the lock exclusively
+            if (exclusiveWaitingCount > 0) {
+                Iterator<WaitingStrand> iterator = waitingForLock.iterator();
+                while (iterator.hasNext()) {
+                    WaitingStrand waiting = iterator.next();
+                    if (!waiting.shared) {
+                        iterator.remove();
+                        waitingCount--;
+                        // set before the waiting count is decremented, so that the lock is not shared meanwhile
+                        exclusiveUnblocked = true;
+                        exclusiveWaitingCount--;
+                        waiting.strand.scheduler.unblockStrand(waiting.strand);
+                        return;
+                    }
+                }
+            }
+            WaitingStrand waiting = waitingForLock.pollFirst();
+            while (waiting != null) {
+                waitingCount--;
+                waiting.strand.scheduler.unblockStrand(waiting.strand);
+                waiting = waitingForLock.pollFirst();
+            }
         }
     }
 
-    private boolean isLockFree() {
-        return current.isEmpty();
-    }
+    private static class WaitingStrand {
+        private final Strand strand;
+        private final boolean shared;
 
-    private boolean lockedBySameContext(Strand ctx) {
-        return current.getLast() == ctx;
+        private WaitingStrand(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
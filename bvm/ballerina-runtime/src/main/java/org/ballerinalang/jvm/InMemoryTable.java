@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableIterator;
+import org.ballerinalang.jvm.values.XMLItem;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * {@code InMemoryTable} holds the rows of an in-memory table.
+ * <p>
+ * Each row is kept as an array of column values, in the field order of the constraint type. Values are stored in
+ * the same form they used to be stored in the table database, so that reading a row back gives a new copy of the
+ * record. Rows are kept in insertion order in a set which compares them by identity, so that a row is deleted without
+ * searching the rows. Tables with primary keys keep a hash index on the key columns to reject duplicates. A table
+ * with a single int primary key keeps its rows sorted by the key instead, which is the order the rows were returned
+ * from the table database.
+ *
+ * @since 1.2.0
+ */
+public class InMemoryTable {
+
+    private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
+            "Corresponding Union type in the record is not an assignable nillable type";
+    private static final String PRIMARY_KEY_VIOLATION =
+            "execute update failed: Unique index or primary key violation: \"PRIMARY KEY ON PUBLIC.";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final String name;
+    private final BStructureType type;
+    private final ArrayValue primaryKeys;
+    private final String[] columnNames;
+    private final BType[] columnTypes;
+    private final int[] keyColumns;
+
+    private final Set<Object[]> rows;
+    private final Map<List<Object>, Object[]> keyIndex;
+    private final TreeMap<Long, Object[]> sortedIndex;
+
+    public InMemoryTable(String name, BStructureType type, ArrayValue primaryKeys) {
+        this.name = name;
+        this.type = type;
+        this.primaryKeys = primaryKeys;
+
+        Collection<BField> structFields = type.getFields().values();
+        this.columnNames = new String[structFields.size()];
+        this.columnTypes = new BType[structFields.size()];
+        int index = 0;
+        for (BField sf : structFields) {
+            columnNames[index] = sf.getFieldName();
+            columnTypes[index] = getColumnType(sf);
+            index++;
+        }
+
+        this.keyColumns = getKeyColumns(primaryKeys);
+        if (keyColumns.length == 1 && columnTypes[keyColumns[0]].getTag() == TypeTags.INT_TAG) {
+            this.rows = null;
+            this.keyIndex = null;
+            this.sortedIndex = new TreeMap<>();
+        } else {
+            this.rows = new LinkedHashSet<>();
+            this.keyIndex = keyColumns.length > 0 ? new HashMap<>() : null;
+            this.sortedIndex = null;
+        }
+    }
+
+    private InMemoryTable(InMemoryTable table) {
+        this.name = table.name;
+        this.type = table.type;
+        this.primaryKeys = table.primaryKeys;
+        this.columnNames = table.columnNames;
+        this.columnTypes = table.columnTypes;
+        this.keyColumns = table.keyColumns;
+        // rows are never modified once added, hence they can be shared between the copies
+        this.rows = table.rows != null ? new LinkedHashSet<>(table.rows) : null;
+        this.keyIndex = table.keyIndex != null ? new HashMap<>(table.keyIndex) : null;
+        this.sortedIndex = table.sortedIndex != null ? new TreeMap<>(table.sortedIndex) : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BStructureType getType() {
+        return type;
+    }
+
+    public ArrayValue getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    /**
+     * Adds the given record to the table.
+     *
+     * @param data record to be added
+     */
+    public synchronized void insert(MapValueImpl<String, Object> data) {
+        Object[] row = new Object[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            row[i] = toColumnValue(data.get(columnNames[i]), columnTypes[i]);
+        }
+
+        if (sortedIndex != null) {
+            Long key = (Long) getKeyValue(row, keyColumns[0]);
+            if (sortedIndex.containsKey(key)) {
+                throw createPrimaryKeyViolationError(row);
+            }
+            sortedIndex.put(key, row);
+            return;
+        }
+
+        if (keyIndex != null) {
+            List<Object> key = new ArrayList<>(keyColumns.length);
+            for (int keyColumn : keyColumns) {
+                key.add(getKeyValue(row, keyColumn));
+            }
+            if (keyIndex.putIfAbsent(key, row) != null) {
+                throw createPrimaryKeyViolationError(row);
+            }
+        }
+        rows.add(row);
+    }
+
+    /**
+     * Removes the given row from the table.
+     *
+     * @param row row returned by {@link #getRows()}
+     */
+    public synchronized void delete(Object[] row) {
+        if (sortedIndex != null) {
+            sortedIndex.remove(getKeyValue(row, keyColumns[0]), row);
+            return;
+        }
+
+        if (keyIndex != null) {
+            List<Object> key = new ArrayList<>(keyColumns.length);
+            for (int keyColumn : keyColumns) {
+                key.add(getKeyValue(row, keyColumn));
+            }
+            keyIndex.remove(key, row);
+        }
+        rows.remove(row);
+    }
+
+    /**
+     * Returns a snapshot of the rows in the table, in the iteration order.
+     *
+     * @return table rows
+     */
+    public synchronized Object[][] getRows() {
+        if (sortedIndex != null) {
+            return sortedIndex.values().toArray(new Object[0][]);
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    public synchronized int size() {
+        return sortedIndex != null ? sortedIndex.size() : rows.size();
+    }
+
+    public synchronized InMemoryTable copy() {
+        return new InMemoryTable(this);
+    }
+
+    /**
+     * Creates a new record from the given row.
+     *
+     * @param row table row
+     * @return record value
+     */
+    public MapValueImpl<String, Object> createRecord(Object[] row) {
+        MapValueImpl<String, Object> record = new MapValueImpl<>(type);
+        for (int i = 0; i < columnNames.length; i++) {
+            record.put(columnNames[i], getValue(row, i + 1));
+        }
+        return record;
+    }
+
+    /**
+     * Retrieves the value of the given column as a Ballerina value.
+     *
+     * @param row         table row
+     * @param columnIndex column index, starting from 1
+     * @return column value
+     */
+    public Object getValue(Object[] row, int columnIndex) {
+        Object value = row[columnIndex - 1];
+        if (value == null) {
+            return null;
+        }
+        BType columnType = columnTypes[columnIndex - 1];
+        switch (columnType.getTag()) {
+            case TypeTags.JSON_TAG:
+                return JSONParser.parse((String) value);
+            case TypeTags.XML_TAG:
+                return new XMLItem((String) value);
+            case TypeTags.ARRAY_TAG:
+                if (value instanceof byte[]) {
+                    byte[] bytes = (byte[]) value;
+                    return new ArrayValueImpl(Arrays.copyOf(bytes, bytes.length));
+                }
+                return TableIterator.createDataArray((Object[]) value);
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Retrieves the raw value of the given column, as it would have been returned from the table database.
+     *
+     * @param row         table row
+     * @param columnIndex column index, starting from 1
+     * @return column value
+     */
+    public Object getColumnValue(Object[] row, int columnIndex) {
+        Object value = row[columnIndex - 1];
+        if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            return Arrays.copyOf(array, array.length);
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the value of the given column as a string.
+     *
+     * @param row         table row
+     * @param columnIndex column index, starting from 1
+     * @return string representation of the column value
+     */
+    public String getStringValue(Object[] row, int columnIndex) {
+        Object value = row[columnIndex - 1];
+        if (value == null) {
+            return null;
+        } else if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? "TRUE" : "FALSE";
+        } else if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).value().toString();
+        } else if (value instanceof byte[]) {
+            return toHexString((byte[]) value);
+        } else if (value instanceof Object[]) {
+            StringJoiner sj = new StringJoiner(", ", "(", ")");
+            for (Object element : (Object[]) value) {
+                sj.add(String.valueOf(element));
+            }
+            return sj.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private Object toColumnValue(Object value, BType columnType) {
+        switch (columnType.getTag()) {
+            case TypeTags.JSON_TAG:
+                return value == null ? null : StringUtils.getJsonString(value);
+            case TypeTags.XML_TAG:
+                return value == null ? null : value.toString();
+            case TypeTags.ARRAY_TAG:
+                if (((BArrayType) columnType).getElementType().getTag() == TypeTags.BYTE_TAG) {
+                    return value == null ? null : ((ArrayValue) value).getBytes();
+                }
+                return TableUtils.getArrayData((ArrayValue) value);
+            default:
+                return value;
+        }
+    }
+
+    private Object getKeyValue(Object[] row, int keyColumn) {
+        Object value = row[keyColumn];
+        if (value == null) {
+            throw TableUtils.createTableOperationError("execute update failed: NULL not allowed for column \"" +
+                    columnNames[keyColumn].toUpperCase() + "\"");
+        }
+        if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).value().stripTrailingZeros();
+        } else if (value instanceof byte[]) {
+            return toHexString((byte[]) value);
+        } else if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value);
+        }
+        return value;
+    }
+
+    private int[] getKeyColumns(ArrayValue primaryKeys) {
+        if (primaryKeys == null) {
+            return new int[0];
+        }
+        int[] keys = new int[primaryKeys.size()];
+        for (int i = 0; i < keys.length; i++) {
+            String keyName = primaryKeys.getString(i);
+            keys[i] = -1;
+            for (int j = 0; j < columnNames.length; j++) {
+                if (columnNames[j].equalsIgnoreCase(keyName)) {
+                    keys[i] = j;
+                    break;
+                }
+            }
+            if (keys[i] == -1) {
+                throw TableUtils.createTableOperationError("Column \"" + keyName.toUpperCase() + "\" not found");
+            }
+        }
+        return keys;
+    }
+
+    private static BType getColumnType(BField sf) {
+        BType fieldType = sf.getFieldType();
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.ARRAY_TAG:
+                return fieldType;
+            case TypeTags.UNION_TAG:
+                List<BType> members = ((BUnionType) fieldType).getMemberTypes();
+                if (members.size() != 2) {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                BType memberType;
+                if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    memberType = members.get(1);
+                } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    memberType = members.get(0);
+                } else {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                switch (memberType.getTag()) {
+                    case TypeTags.INT_TAG:
+                    case TypeTags.STRING_TAG:
+                    case TypeTags.FLOAT_TAG:
+                    case TypeTags.DECIMAL_TAG:
+                    case TypeTags.BOOLEAN_TAG:
+                    case TypeTags.JSON_TAG:
+                    case TypeTags.XML_TAG:
+                    case TypeTags.ARRAY_TAG:
+                        return memberType;
+                    default:
+                        throw TableUtils.createTableOperationError("Unsupported nillable field for table : " +
+                                fieldType);
+                }
+            default:
+                throw TableUtils.createTableOperationError("Unsupported column type for table : " + fieldType);
+        }
+    }
+
+    private RuntimeException createPrimaryKeyViolationError(Object[] row) {
+        StringJoiner columns = new StringJoiner(", ", "(", ")");
+        StringJoiner values = new StringJoiner(", ", "[", "]");
+        for (int keyColumn : keyColumns) {
+            columns.add(columnNames[keyColumn].toUpperCase());
+            values.add(getStringValue(row, keyColumn + 1));
+        }
+        return TableUtils.createTableOperationError(PRIMARY_KEY_VIOLATION + name + columns + " " + values + "\"");
+    }
+
+    private static String toHexString(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -149,24 +149,24 @@ public class JSONGenerator {
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.writer.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value.toCharArray());
         } else {
-            this.writer.write(chs);
+            // strings without escaped characters are written as they are, without copying them
+            this.writer.write(value);
         }
-        this.writer.write("\"");
+        this.writer.write('"');
     }
 
     public void writeString(String value) throws IOException {
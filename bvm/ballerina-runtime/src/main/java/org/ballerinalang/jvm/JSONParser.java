@@ -18,13 +18,20 @@
 package org.ballerinalang.jvm;
 
 import org.apache.commons.lang3.StringEscapeUtils;
+import org.ballerinalang.jvm.commons.ArrayState;
 import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 
 import java.io.BufferedInputStream;
@@ -36,6 +43,7 @@ import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Map;
 
 /**
  * This class represents a JSON parser.
@@ -98,9 +106,39 @@ public class JSONParser {
      * @throws BallerinaException for any parsing error
      */
     public static Object parse(Reader reader) throws BallerinaException {
+        return parse(reader, null);
+    }
+
+    /**
+     * Parses the contents in the given string into a value of the given type.
+     *
+     * @param jsonStr the string which contains the JSON content
+     * @param targetType the type of the value
+     * @return value of the given type
+     * @throws BallerinaException for any parsing error, or if the content is not compatible with the type
+     */
+    public static Object parse(String jsonStr, BType targetType) throws BallerinaException {
+        return parse(new StringReader(jsonStr), targetType);
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} into a value of the given type. Records, maps and arrays of the
+     * given type are created while parsing, instead of parsing a json value and converting it to the type afterwards.
+     * The content is validated against the type while parsing: closed records do not accept unknown fields, required
+     * record fields should be present and numbers are converted to the numeric type of the field.
+     * <p>
+     * The type should be a record, map, array, json, anydata or a simple basic type, or a union of such types in which
+     * the kind of the JSON value selects one member. Members of other types are parsed as json.
+     *
+     * @param reader reader which contains the JSON content
+     * @param targetType the type of the value, or null to parse a json value
+     * @return value of the given type
+     * @throws BallerinaException for any parsing error, or if the content is not compatible with the type
+     */
+    public static Object parse(Reader reader, BType targetType) throws BallerinaException {
         StateMachine sm = tlStateMachine.get();
         try {
-            return sm.execute(reader);
+            return sm.execute(reader, targetType);
         } finally {
             // Need to reset the state machine before leaving. Otherwise references to the created
             // JSON values will be maintained and the java GC will not happen properly.
@@ -141,6 +179,10 @@ public class JSONParser {
         private static final String TRUE = "true";
         private static final String FALSE = "false";
 
+        // json values do not change the types they are created with, hence the types are shared by all the values
+        private static final BMapType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+        private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(BTypes.typeJSON);
+
         private static final State DOC_START_STATE = new DocumentStartState();
         private static final State DOC_END_STATE = new DocumentEndState();
         private static final State FIRST_FIELD_READY_STATE = new FirstFieldReadyState();
@@ -175,6 +217,8 @@ public class JSONParser {
         private Object currentJsonNode;
         private Deque<Object> nodesStack;
         private Deque<String> fieldNames;
+        // type of the parsed value, or null when parsing a json value
+        private BType targetType;
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
@@ -196,6 +240,7 @@ public class JSONParser {
             this.column = 0;
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
+            this.targetType = null;
         }
 
         private static boolean isWhitespace(char ch) {
@@ -215,7 +260,8 @@ public class JSONParser {
             }
         }
 
-        public Object execute(Reader reader) throws BallerinaException {
+        public Object execute(Reader reader, BType targetType) throws BallerinaException {
+            this.targetType = targetType;
             State currentState = DOC_START_STATE;
             try {
                 char[] buff = new char[1024];
@@ -255,13 +301,17 @@ public class JSONParser {
             this.charBuff = newBuff;
         }
 
-        private State finalizeObject() {
+        private State finalizeObject() throws JsonParserException {
+            if (this.targetType != null) {
+                validateRequiredFields();
+            }
             if (this.nodesStack.isEmpty()) {
                 return DOC_END_STATE;
             }
 
             Object parentNode = this.nodesStack.pop();
-            if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
+            // records are maps as well
+            if (parentNode instanceof MapValueImpl) {
                 ((MapValueImpl<String, Object>) parentNode).put(fieldNames.pop(), currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
@@ -271,22 +321,283 @@ public class JSONParser {
             return ARRAY_ELEMENT_END_STATE;
         }
 
-        private State initNewObject() {
+        private State initNewObject() throws JsonParserException {
+            BType type = this.targetType == null ? JSON_MAP_TYPE : getMemberType(expectedType(), TypeTags.MAP_TAG);
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
-            currentJsonNode = new MapValueImpl<String, Object>(new BMapType(BTypes.typeJSON));
+            switch (type.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    // record values are created with the default values of their fields
+                    currentJsonNode = BallerinaValues.createRecordValue(type.getPackage(), type.getName());
+                    break;
+                case TypeTags.MAP_TAG:
+                    currentJsonNode = new MapValueImpl<String, Object>(type);
+                    break;
+                default:
+                    currentJsonNode = new MapValueImpl<String, Object>(JSON_MAP_TYPE);
+                    break;
+            }
             return FIRST_FIELD_READY_STATE;
         }
 
-        private State initNewArray() {
+        private State initNewArray() throws JsonParserException {
+            BType type = this.targetType == null ? JSON_ARRAY_TYPE :
+                    getMemberType(expectedType(), TypeTags.ARRAY_TAG);
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
-            currentJsonNode = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+            if (type.getTag() == TypeTags.ARRAY_TAG) {
+                currentJsonNode = new ArrayValueImpl((BArrayType) type);
+            } else {
+                currentJsonNode = new ArrayValueImpl(JSON_ARRAY_TYPE);
+            }
             return FIRST_ARRAY_ELEMENT_READY_STATE;
         }
 
+        /**
+         * Returns the type of the value which is being parsed, from the type of the enclosing map or array.
+         */
+        private BType expectedType() throws JsonParserException {
+            if (this.currentJsonNode == null) {
+                return this.targetType;
+            }
+            if (this.currentJsonNode instanceof ArrayValue) {
+                return ((BArrayType) ((ArrayValue) this.currentJsonNode).getType()).getElementType();
+            }
+
+            BType mapType = ((MapValueImpl) this.currentJsonNode).getType();
+            if (mapType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+                return ((BMapType) mapType).getConstrainedType();
+            }
+            BRecordType recordType = (BRecordType) mapType;
+            String fieldName = this.fieldNames.peek();
+            BField field = recordType.getFields().get(fieldName);
+            if (field != null) {
+                return field.type;
+            }
+            if (recordType.sealed) {
+                throw new JsonParserException("field '" + fieldName + "' cannot be added to the closed record '" +
+                        recordType + "'");
+            }
+            return recordType.restFieldType;
+        }
+
+        /**
+         * Returns the type of the given type which a JSON value of the given kind is parsed into. Types which do not
+         * describe the structure of their values, such as json and anydata, are returned as they are.
+         *
+         * @param type expected type
+         * @param valueTag type tag of the JSON value, which is the tag of a map, array, string, int, float, boolean or
+         *                 nil
+         * @return type of the parsed value
+         * @throws JsonParserException if the JSON value is not compatible with the expected type
+         */
+        private static BType getMemberType(BType type, int valueTag) throws JsonParserException {
+            BType memberType = findMemberType(type, valueTag);
+            if (memberType == null) {
+                throw new JsonParserException("incompatible JSON " + getValueKind(valueTag) + " for type '" + type +
+                        "'");
+            }
+            return memberType;
+        }
+
+        private static BType findMemberType(BType type, int valueTag) throws JsonParserException {
+            switch (type.getTag()) {
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                case TypeTags.ANY_TAG:
+                    return type;
+                case TypeTags.RECORD_TYPE_TAG:
+                case TypeTags.MAP_TAG:
+                    return valueTag == TypeTags.MAP_TAG ? type : null;
+                case TypeTags.ARRAY_TAG:
+                    // sealed arrays are filled with the zero values of their elements, and are not appended to
+                    return valueTag == TypeTags.ARRAY_TAG &&
+                            ((BArrayType) type).getState() != ArrayState.CLOSED_SEALED ? type : null;
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                    return valueTag == TypeTags.INT_TAG || valueTag == TypeTags.FLOAT_TAG ? type : null;
+                case TypeTags.INT_TAG:
+                case TypeTags.BYTE_TAG:
+                    return valueTag == TypeTags.INT_TAG ? type : null;
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                case TypeTags.NULL_TAG:
+                    return valueTag == type.getTag() ? type : null;
+                case TypeTags.FINITE_TYPE_TAG:
+                    // the value is checked against the value space once it is parsed
+                    return valueTag != TypeTags.MAP_TAG && valueTag != TypeTags.ARRAY_TAG ? type : null;
+                case TypeTags.UNION_TAG:
+                    return findUnionMemberType((BUnionType) type, valueTag);
+                default:
+                    return null;
+            }
+        }
+
+        private static BType findUnionMemberType(BUnionType type, int valueTag) throws JsonParserException {
+            BType genericType = null;
+            BType matchingType = null;
+            int matchingTypes = 0;
+            int finiteTypes = 0;
+            for (BType memberType : type.getMemberTypes()) {
+                BType match = findMemberType(memberType, valueTag);
+                if (match == null) {
+                    continue;
+                }
+                if (match.getTag() == valueTag) {
+                    // an exact match is preferred over a numeric conversion, or over json and anydata
+                    return match;
+                }
+                if (isGenericType(match)) {
+                    genericType = match;
+                } else if (match.getTag() == TypeTags.FINITE_TYPE_TAG) {
+                    finiteTypes++;
+                    if (matchingTypes == 0) {
+                        matchingType = match;
+                    }
+                } else {
+                    matchingTypes++;
+                    matchingType = match;
+                }
+            }
+            if (matchingTypes > 1) {
+                throw new JsonParserException("ambiguous target type '" + type + "' for JSON " +
+                        getValueKind(valueTag));
+            }
+            if (matchingTypes == 0 && finiteTypes > 1) {
+                // the value is checked against all the finite types of the union once it is parsed
+                return type;
+            }
+            return matchingType != null ? matchingType : genericType;
+        }
+
+        private static boolean isGenericType(BType type) {
+            int tag = type.getTag();
+            return tag == TypeTags.JSON_TAG || tag == TypeTags.ANYDATA_TAG || tag == TypeTags.ANY_TAG;
+        }
+
+        private static String getValueKind(int valueTag) {
+            switch (valueTag) {
+                case TypeTags.MAP_TAG:
+                    return "object";
+                case TypeTags.ARRAY_TAG:
+                    return "array";
+                case TypeTags.STRING_TAG:
+                    return "string";
+                case TypeTags.BOOLEAN_TAG:
+                    return "boolean";
+                case TypeTags.NULL_TAG:
+                    return "null";
+                default:
+                    return "number";
+            }
+        }
+
+        /**
+         * Checks whether the required fields of the record which is being finalized are present. Fields with default
+         * values are present since the record was created.
+         */
+        private void validateRequiredFields() throws JsonParserException {
+            if (!(this.currentJsonNode instanceof MapValueImpl)) {
+                return;
+            }
+            MapValueImpl<String, Object> map = (MapValueImpl<String, Object>) this.currentJsonNode;
+            if (map.getType().getTag() != TypeTags.RECORD_TYPE_TAG) {
+                return;
+            }
+            for (Map.Entry<String, BField> field : ((BRecordType) map.getType()).getFields().entrySet()) {
+                if (Flags.isFlagOn(field.getValue().flags, Flags.REQUIRED) && !map.containsKey(field.getKey())) {
+                    throw new JsonParserException("missing required field '" + field.getKey() + "' of type '" +
+                            field.getValue().type + "' in record '" + map.getType() + "'");
+                }
+            }
+        }
+
+        /**
+         * Adds a parsed value to the current map or array, or sets it as the parsed document.
+         */
+        private void addValue(ValueType type, Object value) {
+            switch (type) {
+                case ARRAY_ELEMENT:
+                    ((ArrayValue) this.currentJsonNode).append(value);
+                    break;
+                case FIELD:
+                    ((MapValueImpl<String, Object>) this.currentJsonNode).put(this.fieldNames.pop(), value);
+                    break;
+                case VALUE:
+                    this.currentJsonNode = value;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void processStringValue(ValueType type) throws JsonParserException {
+            String str = value();
+            if (this.targetType != null) {
+                BType valueType = getMemberType(expectedType(), TypeTags.STRING_TAG);
+                checkFiniteTypeValue(valueType, str);
+            }
+            addValue(type, str);
+        }
+
+        /**
+         * Parses a number, boolean or null into the type it is expected to be.
+         */
+        private void processTypedNonStringValue(ValueType type) throws JsonParserException {
+            String str = value();
+            BType expectedType = expectedType();
+            BType valueType;
+            Object value;
+            if (TRUE.equals(str) || FALSE.equals(str)) {
+                valueType = getMemberType(expectedType, TypeTags.BOOLEAN_TAG);
+                value = Boolean.valueOf(str);
+            } else if (NULL.equals(str)) {
+                valueType = getMemberType(expectedType, TypeTags.NULL_TAG);
+                value = null;
+            } else {
+                boolean isFloatingPoint = str.indexOf('.') >= 0 || str.indexOf('e') >= 0 || str.indexOf('E') >= 0;
+                valueType = getMemberType(expectedType, isFloatingPoint ? TypeTags.FLOAT_TAG : TypeTags.INT_TAG);
+                try {
+                    switch (valueType.getTag()) {
+                        case TypeTags.FLOAT_TAG:
+                            value = Double.parseDouble(str);
+                            break;
+                        case TypeTags.DECIMAL_TAG:
+                            value = new DecimalValue(str);
+                            break;
+                        case TypeTags.BYTE_TAG:
+                            long byteValue = Long.parseLong(str);
+                            if (byteValue < 0 || byteValue > 255) {
+                                throw new JsonParserException("value '" + str + "' is out of range for type 'byte'");
+                            }
+                            value = (int) byteValue;
+                            break;
+                        default:
+                            value = isFloatingPoint ? (Object) Double.parseDouble(str) : (Object) Long.parseLong(str);
+                            break;
+                    }
+                } catch (NumberFormatException e) {
+                    throw new JsonParserException("unrecognized token '" + str + "'");
+                }
+            }
+            checkFiniteTypeValue(valueType, value);
+            addValue(type, value);
+        }
+
+        /**
+         * Checks whether a parsed value is a member of the value space of a finite type, or of a union of finite
+         * types.
+         */
+        private static void checkFiniteTypeValue(BType type, Object value) throws JsonParserException {
+            int tag = type.getTag();
+            if ((tag == TypeTags.FINITE_TYPE_TAG || tag == TypeTags.UNION_TAG) &&
+                    !TypeChecker.checkIsType(value, type)) {
+                throw new JsonParserException("value '" + value + "' is not a member of type '" + type + "'");
+            }
+        }
+
         /**
          * A specific state in the JSON parsing state machine.
          */
@@ -624,7 +935,7 @@ public class JSONParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((MapValueImpl<String, Object>) sm.currentJsonNode).put(sm.fieldNames.pop(), sm.value());
+                        sm.processStringValue(ValueType.FIELD);
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -656,7 +967,7 @@ public class JSONParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(sm.value());
+                        sm.processStringValue(ValueType.ARRAY_ELEMENT);
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -768,7 +1079,7 @@ public class JSONParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = sm.value();
+                        sm.processStringValue(ValueType.VALUE);
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -792,6 +1103,10 @@ public class JSONParser {
         }
 
         private void processNonStringValue(ValueType type) throws JsonParserException {
+            if (this.targetType != null) {
+                processTypedNonStringValue(type);
+                return;
+            }
             String str = value();
             if (str.indexOf('.') >= 0) {
                 try {
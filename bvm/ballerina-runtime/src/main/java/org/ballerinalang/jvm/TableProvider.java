@@ -36,11 +36,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * {@code TableProvider} creates In Memory database for tables.
+ * {@code TableProvider} creates in-memory tables. Queries over in-memory tables are executed in an in-memory
+ * database.
  *
  * @since 0.995.0
  */
@@ -49,12 +53,10 @@ public class TableProvider {
     private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
             "Corresponding Union type in the record is not an assignable nillable type";
     private static TableProvider tableProvider = null;
-    private int tableID;
-    private int indexID;
+    private final AtomicInteger tableID;
 
     private TableProvider() {
-        tableID = 0;
-        indexID = 0;
+        tableID = new AtomicInteger();
     }
 
     public static TableProvider getInstance() {
@@ -69,70 +71,92 @@ public class TableProvider {
         return tableProvider;
     }
 
-    private synchronized int getTableID() {
-        return this.tableID++;
+    private int getTableID() {
+        return this.tableID.getAndIncrement();
     }
 
-    private synchronized int getIndexID() {
-        return this.indexID++;
-    }
-
-    public String createTable(BType constrainedType, ArrayValue primaryKeys) {
+    /**
+     * Creates an in-memory table with the given constraint type and primary keys.
+     *
+     * @param constrainedType constraint type of the table
+     * @param primaryKeys     primary key columns of the table, can be null
+     * @return empty table
+     */
+    public InMemoryTable createTable(BType constrainedType, ArrayValue primaryKeys) {
         String tableName = TableConstants.TABLE_PREFIX + constrainedType.getName()
                 .toUpperCase() + "_" + getTableID();
-        String sqlStmt = generateCreateTableStatement(tableName, constrainedType, primaryKeys);
-        executeStatement(sqlStmt);
-        return tableName;
+        return new InMemoryTable(tableName, (BStructureType) constrainedType, primaryKeys);
     }
 
-    public String createTable(String fromTableName, String joinTableName,  String query, BStructureType tableType,
-                              ArrayValue params) {
-        String newTableName = TableConstants.TABLE_PREFIX + tableType.getName().toUpperCase()
-                              + "_" + getTableID();
-        String sqlStmt = query.replaceFirst(TableConstants.TABLE_NAME_REGEX, fromTableName);
-        if (joinTableName != null && !joinTableName.isEmpty()) {
-            sqlStmt = sqlStmt.replaceFirst(TableConstants.TABLE_NAME_REGEX, joinTableName);
+    /**
+     * Creates an in-memory table from the result of a query over the given tables. The tables are copied to the
+     * table database only for the duration of the query.
+     *
+     * @param fromTable table referred by the first table name placeholder of the query
+     * @param joinTable table referred by the second table name placeholder of the query, can be null
+     * @param query     query with table name placeholders
+     * @param tableType constraint type of the resulting table
+     * @param params    query parameters
+     * @return table with the rows returned by the query
+     */
+    public InMemoryTable createTable(InMemoryTable fromTable, InMemoryTable joinTable, String query,
+                                     BStructureType tableType, ArrayValue params) {
+        InMemoryTable newTable = createTable(tableType, null);
+        List<String> tempTables = new ArrayList<>(2);
+        Connection conn = this.getConnection();
+        try {
+            String sqlStmt = query.replaceFirst(TableConstants.TABLE_NAME_REGEX,
+                                                copyTable(conn, fromTable, tempTables));
+            if (joinTable != null) {
+                sqlStmt = sqlStmt.replaceFirst(TableConstants.TABLE_NAME_REGEX,
+                                               copyTable(conn, joinTable, tempTables));
+            }
+            executeQuery(conn, sqlStmt, params, newTable);
+        } finally {
+            dropTables(conn, tempTables);
+            releaseResources(conn, null);
         }
-        sqlStmt = generateCreateTableStatement(sqlStmt, newTableName);
-        prepareAndExecuteStatement(sqlStmt, params);
-        return newTableName;
-    }
-
-    public String createTable(String fromTableName, String query, BStructureType tableType,
-                              ArrayValue params) {
-        return createTable(fromTableName, null, query, tableType, params);
+        return newTable;
     }
 
-    public void insertData(String tableName, MapValueImpl<String, Object> constrainedType) {
-        String sqlStmt = TableUtils.generateInsertDataStatement(tableName, constrainedType);
-        prepareAndExecuteStatement(sqlStmt, constrainedType);
-    }
-
-    public void deleteData(String tableName, MapValueImpl<String, Object> constrainedType) {
-        String sqlStmt = TableUtils.generateDeleteDataStatment(tableName, constrainedType);
-        prepareAndExecuteStatement(sqlStmt, constrainedType);
-    }
+    private String copyTable(Connection conn, InMemoryTable table, List<String> tempTables) {
+        String tableName = TableConstants.TABLE_PREFIX + table.getType().getName().toUpperCase() + "_"
+                + getTableID();
+        executeStatement(conn, generateCreateTableStatement(tableName, table.getType(), null));
+        tempTables.add(tableName);
 
-    public void dropTable(String tableName) {
-        String sqlStmt = TableConstants.SQL_DROP + tableName;
-        executeStatement(sqlStmt);
-    }
-
-    public TableIterator createIterator(String tableName, BStructureType type) {
-        TableIterator itr;
-        Statement stmt = null;
-        Connection conn = this.getConnection();
+        String sqlStmt = generateInsertDataStatement(tableName, table.getColumnCount());
+        PreparedStatement stmt = null;
         try {
-            stmt = conn.createStatement();
-            ResultSet rs = stmt.executeQuery(TableConstants.SQL_SELECT + tableName);
-            TableResourceManager rm = new TableResourceManager(conn, stmt, true);
-            rm.addResultSet(rs);
-            itr = new TableIterator(rm, rs, type);
+            stmt = conn.prepareStatement(sqlStmt);
+            for (Object[] row : table.getRows()) {
+                for (int index = 1; index <= table.getColumnCount(); index++) {
+                    Object value = table.getColumnValue(row, index);
+                    if (value instanceof DecimalValue) {
+                        stmt.setBigDecimal(index, ((DecimalValue) value).value());
+                    } else if (value instanceof byte[]) {
+                        byte[] blobData = (byte[]) value;
+                        stmt.setBlob(index, new ByteArrayInputStream(blobData), blobData.length);
+                    } else {
+                        stmt.setObject(index, value);
+                    }
+                }
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
         } catch (SQLException e) {
-            releaseResources(conn, stmt);
-            throw TableUtils.createTableOperationError("error in creating iterator for table : " + e.getMessage());
+            throw TableUtils.createTableOperationError(
+                    "error in executing statement : " + sqlStmt + " error:" + e.getMessage());
+        } finally {
+            releaseResources(null, stmt);
+        }
+        return tableName;
+    }
+
+    private void dropTables(Connection conn, List<String> tableNames) {
+        for (String tableName : tableNames) {
+            executeStatement(conn, TableConstants.SQL_DROP + tableName);
         }
-        return itr;
     }
 
     private Connection getConnection() {
@@ -237,16 +261,16 @@ public class TableProvider {
         }
     }
 
-    private String generateCreateTableStatement(String query, String newTableName) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(TableConstants.SQL_CREATE).append(newTableName).append(" ").append(TableConstants.SQL_AS);
-        sb.append(query);
-        return sb.toString();
+    private String generateInsertDataStatement(String tableName, int columnCount) {
+        StringJoiner sj = new StringJoiner(",", TableConstants.SQL_INSERT_INTO + tableName + " values (", ")");
+        for (int i = 0; i < columnCount; i++) {
+            sj.add("?");
+        }
+        return sj.toString();
     }
 
-    private void executeStatement(String queryStatement) {
+    private void executeStatement(Connection conn, String queryStatement) {
         Statement stmt = null;
-        Connection conn = this.getConnection();
         try {
             stmt = conn.createStatement();
             stmt.executeUpdate(queryStatement);
@@ -254,13 +278,12 @@ public class TableProvider {
             throw TableUtils.createTableOperationError(
                     "error in executing statement : " + queryStatement + " error:" + e.getMessage());
         } finally {
-            releaseResources(conn, stmt);
+            releaseResources(null, stmt);
         }
     }
 
-    private void prepareAndExecuteStatement(String queryStatement, ArrayValue params) {
+    private void executeQuery(Connection conn, String queryStatement, ArrayValue params, InMemoryTable table) {
         PreparedStatement stmt = null;
-        Connection conn = this.getConnection();
         try {
             stmt = conn.prepareStatement(queryStatement);
             for (int index = 1; index <= params.size(); index++) {
@@ -298,26 +321,17 @@ public class TableProvider {
                         break;
                 }
             }
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw TableUtils.createTableOperationError(
-                    "error in executing statement : " + queryStatement + " error:" + e.getMessage());
-        } finally {
-            releaseResources(conn, stmt);
-        }
-    }
-
-    private void prepareAndExecuteStatement(String queryStatement, MapValueImpl<String, Object> constrainedType) {
-        PreparedStatement stmt = null;
-        Connection conn = this.getConnection();
-        try {
-            stmt = conn.prepareStatement(queryStatement);
-            TableUtils.prepareAndExecuteStatement(stmt, constrainedType);
+            ResultSet rs = stmt.executeQuery();
+            TableIterator itr = new TableIterator(null, rs, table.getType());
+            while (itr.next()) {
+                table.insert((MapValueImpl<String, Object>) itr.generateNext());
+            }
+            rs.close();
         } catch (SQLException e) {
             throw TableUtils.createTableOperationError(
                     "error in executing statement : " + queryStatement + " error:" + e.getMessage());
         } finally {
-            releaseResources(conn, stmt);
+            releaseResources(null, stmt);
         }
     }
 
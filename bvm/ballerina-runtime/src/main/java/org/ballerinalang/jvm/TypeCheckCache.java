@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BFutureType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BStreamType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the results of the structural type checks done by the {@link TypeChecker}. Types do not change once they
+ * are created, hence whether a source type is a subtype of a target type is computed once for each pair of types.
+ * <p>
+ * Array, map, union and other type descriptors are created at runtime each time they are used, hence such types are
+ * compared by their structure. Types defined by a type definition, such as records and objects, are compared by
+ * reference. Types nested deeper than a few levels are not cached. The cache is cleared when it grows beyond a fixed
+ * number of pairs, instead of keeping the types alive.
+ *
+ * @since 1.2.0
+ */
+public class TypeCheckCache {
+
+    private static final int MAX_ENTRIES = 16384;
+    private static final int MAX_DEPTH = 8;
+    // hash of a type which is nested too deep to be cached
+    private static final int UNCACHEABLE = 0;
+
+    private static final Map<TypePairKey, Boolean> results = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the key of the given pair of types in the cache.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return key of the types, or null if the types cannot be cached
+     */
+    static Object getKey(BType sourceType, BType targetType) {
+        int sourceHash = hash(sourceType, 0);
+        int targetHash = hash(targetType, 0);
+        if (sourceHash == UNCACHEABLE || targetHash == UNCACHEABLE) {
+            return null;
+        }
+        return new TypePairKey(sourceType, targetType, 31 * sourceHash + targetHash);
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param key key of the types
+     * @return cached result, or null if the types have not been checked yet
+     */
+    static Boolean get(Object key) {
+        Boolean result = results.get(key);
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    static void put(Object key, boolean result) {
+        if (results.size() >= MAX_ENTRIES) {
+            results.clear();
+        }
+        results.put((TypePairKey) key, result);
+    }
+
+    /**
+     * Checks whether type checks against the given type are worth caching. Checks against basic types only compare
+     * the type tags, and are cheaper than a cache lookup.
+     *
+     * @param targetType target type
+     * @return true if type checks against the given type should be cached
+     */
+    static boolean isCacheable(BType targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.ERROR_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the number of type checks which were answered from the cache.
+     *
+     * @return number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of type checks which had to be computed.
+     *
+     * @return number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of pairs of types in the cache.
+     *
+     * @return cache size
+     */
+    public static int getSize() {
+        return results.size();
+    }
+
+    /**
+     * Clears the cache and its hit and miss counts.
+     */
+    public static void reset() {
+        results.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private static int hash(BType type, int depth) {
+        if (type == null) {
+            return 1;
+        }
+        if (depth > MAX_DEPTH) {
+            return UNCACHEABLE;
+        }
+        if (!isStructural(type)) {
+            int hash = System.identityHashCode(type);
+            return hash == UNCACHEABLE ? 1 : hash;
+        }
+        int hash;
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                BArrayType arrayType = (BArrayType) type;
+                int elementHash = hash(arrayType.getElementType(), depth + 1);
+                if (elementHash == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                hash = combine(elementHash, arrayType.getSize());
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.FUTURE_TAG:
+                hash = hash(getConstraint(type), depth + 1);
+                break;
+            case TypeTags.UNION_TAG:
+                hash = hash(((BUnionType) type).getMemberTypes(), depth);
+                break;
+            case TypeTags.TUPLE_TAG:
+                BTupleType tupleType = (BTupleType) type;
+                int tupleTypesHash = hash(tupleType.getTupleTypes(), depth);
+                int restTypeHash = hash(tupleType.getRestType(), depth + 1);
+                if (tupleTypesHash == UNCACHEABLE || restTypeHash == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                hash = combine(tupleTypesHash, restTypeHash);
+                break;
+            default:
+                hash = 1;
+                break;
+        }
+        return hash == UNCACHEABLE ? UNCACHEABLE : combine(hash, type.getTag());
+    }
+
+    private static int hash(List<BType> types, int depth) {
+        int hash = 1;
+        for (BType type : types) {
+            int typeHash = hash(type, depth + 1);
+            if (typeHash == UNCACHEABLE) {
+                return UNCACHEABLE;
+            }
+            hash = combine(hash, typeHash);
+        }
+        return hash;
+    }
+
+    private static int combine(int hash, int value) {
+        int combined = 31 * hash + value;
+        // the hash of a cacheable type is never the uncacheable hash
+        return combined == UNCACHEABLE ? 1 : combined;
+    }
+
+    private static boolean isSameType(BType type, BType other, int depth) {
+        if (type == other) {
+            return true;
+        }
+        if (type == null || other == null || depth > MAX_DEPTH || type.getClass() != other.getClass() ||
+                !isStructural(type)) {
+            return false;
+        }
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                BArrayType arrayType = (BArrayType) type;
+                BArrayType otherArrayType = (BArrayType) other;
+                return arrayType.getState() == otherArrayType.getState() &&
+                        arrayType.getSize() == otherArrayType.getSize() &&
+                        isSameType(arrayType.getElementType(), otherArrayType.getElementType(), depth + 1);
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.FUTURE_TAG:
+                return isSameType(getConstraint(type), getConstraint(other), depth + 1);
+            case TypeTags.UNION_TAG:
+                return isSameTypes(((BUnionType) type).getMemberTypes(), ((BUnionType) other).getMemberTypes(),
+                        depth);
+            case TypeTags.TUPLE_TAG:
+                BTupleType tupleType = (BTupleType) type;
+                BTupleType otherTupleType = (BTupleType) other;
+                return isSameTypes(tupleType.getTupleTypes(), otherTupleType.getTupleTypes(), depth) &&
+                        isSameType(tupleType.getRestType(), otherTupleType.getRestType(), depth + 1);
+            default:
+                // basic types have no members
+                return Objects.equals(type.getName(), other.getName());
+        }
+    }
+
+    private static boolean isSameTypes(List<BType> types, List<BType> otherTypes, int depth) {
+        if (types.size() != otherTypes.size()) {
+            return false;
+        }
+        for (int i = 0; i < types.size(); i++) {
+            if (!isSameType(types.get(i), otherTypes.get(i), depth + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given type is compared by its structure. Types with named members, such as records and
+     * objects, are defined once by a type definition, and are compared by reference.
+     */
+    private static boolean isStructural(BType type) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.NULL_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+            case TypeTags.HANDLE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.TUPLE_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static BType getConstraint(BType type) {
+        switch (type.getTag()) {
+            case TypeTags.MAP_TAG:
+                return ((BMapType) type).getConstrainedType();
+            case TypeTags.TABLE_TAG:
+                return ((BTableType) type).getConstrainedType();
+            case TypeTags.STREAM_TAG:
+                return ((BStreamType) type).getConstrainedType();
+            default:
+                return ((BFutureType) type).getConstrainedType();
+        }
+    }
+
+    /**
+     * A pair of types, compared by their structure.
+     */
+    private static class TypePairKey {
+        private final BType sourceType;
+        private final BType targetType;
+        private final int hash;
+
+        private TypePairKey(BType sourceType, BType targetType, int hash) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypePairKey)) {
+                return false;
+            }
+            TypePairKey other = (TypePairKey) obj;
+            return hash == other.hash && isSameType(sourceType, other.sourceType, 0) &&
+                    isSameType(targetType, other.targetType, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -175,7 +175,7 @@ public class TypeChecker {
      */
     public static boolean checkIsType(Object sourceVal, BType targetType) {
         BType sourceType = getType(sourceVal);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsTypeCached(sourceType, targetType)) {
             return true;
         }
 
@@ -451,6 +451,32 @@ public class TypeChecker {
         return ((AnnotatableType) describingType).getAnnotation(annotTag);
     }
 
+    /**
+     * Check whether a given type is a subtype of another type. The result depends only on the two types, hence it is
+     * cached and reused for the subsequent checks of the same types.
+     *
+     * @param sourceType type to check
+     * @param targetType type to check against
+     * @return true if the source type is a subtype of the target type, false otherwise
+     */
+    private static boolean checkIsTypeCached(BType sourceType, BType targetType) {
+        if (sourceType == targetType || !TypeCheckCache.isCacheable(targetType)) {
+            return checkIsType(sourceType, targetType, new ArrayList<>());
+        }
+
+        Object key = TypeCheckCache.getKey(sourceType, targetType);
+        if (key == null) {
+            return checkIsType(sourceType, targetType, new ArrayList<>());
+        }
+
+        Boolean result = TypeCheckCache.get(key);
+        if (result == null) {
+            result = checkIsType(sourceType, targetType, new ArrayList<>());
+            TypeCheckCache.put(key, result);
+        }
+        return result;
+    }
+
     public static boolean checkIsType(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         // First check whether both types are the same.
         if (sourceType == targetType || sourceType.equals(targetType)) {
@@ -835,7 +861,7 @@ public class TypeChecker {
                 !isInSameVisibilityRegion(Optional.ofNullable(lhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), Optional.ofNullable(rhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), lhsField.flags, rhsField.flags) ||
-                    !checkIsType(rhsField.type, lhsField.type, new ArrayList<>())) {
+                    !checkIsTypeCached(rhsField.type, lhsField.type)) {
                 return false;
             }
         }
@@ -910,12 +936,12 @@ public class TypeChecker {
         }
 
         for (int i = 0; i < source.paramTypes.length; i++) {
-            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i], new ArrayList<>())) {
+            if (!checkIsTypeCached(targetType.paramTypes[i], source.paramTypes[i])) {
                 return false;
             }
         }
 
-        return checkIsType(source.retType, targetType.retType, new ArrayList<>());
+        return checkIsTypeCached(source.retType, targetType.retType);
     }
 
     private static boolean checkIsServiceType(BType sourceType) {
@@ -980,7 +1006,7 @@ public class TypeChecker {
     private static boolean checkIsLikeType(Object sourceValue, BType targetType, List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion) {
         BType sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsTypeCached(sourceType, targetType)) {
             return true;
         }
 
@@ -1137,7 +1163,7 @@ public class TypeChecker {
         for (int i = 0; i < bound; i++) {
             BType elementType = getArrayElementType(source, i);
             if (BTypes.isValueType(elementType)) {
-                if (!checkIsType(elementType, targetType.getTupleTypes().get(i), new ArrayList<>())) {
+                if (!checkIsTypeCached(elementType, targetType.getTupleTypes().get(i))) {
                     return false;
                 }
             } else {
@@ -1181,7 +1207,7 @@ public class TypeChecker {
         if (source.getType().getTag() == TypeTags.ARRAY_TAG) {
             BType sourceElementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(sourceElementType)) {
-                boolean isType = checkIsType(sourceElementType, targetTypeElementType, new ArrayList<>());
+                boolean isType = checkIsTypeCached(sourceElementType, targetTypeElementType);
 
                 if (isType || !allowNumericConversion || !isNumericType(sourceElementType)) {
                     return isType;
@@ -1255,7 +1281,7 @@ public class TypeChecker {
             ArrayValue source = (ArrayValue) sourceValue;
             BType elementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(elementType)) {
-                return checkIsType(elementType, targetType, new ArrayList<>());
+                return checkIsTypeCached(elementType, targetType);
             }
 
             Object[] arrayValues = source.getValues();
@@ -22,9 +22,11 @@ import org.ballerinalang.jvm.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.PROPERTY_ERROR;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE;
@@ -58,17 +60,26 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    // metric handles of the resources, by connector, service and resource names
+    private static final Map<String, Map<String, Map<String, ObservationMetrics>>> resourceMetrics =
+            new ConcurrentHashMap<>();
+    // metric handles of the remote actions, by connector and action names
+    private static final Map<String, Map<String, ObservationMetrics>> actionMetrics = new ConcurrentHashMap<>();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        startObservation(observerContext, mainTags);
+        ObservationMetrics metrics = getResourceMetrics(observerContext);
+        if (metrics != null) {
+            startObservation(observerContext, metrics);
+        }
     }
 
     @Override
     public void startClientObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        startObservation(observerContext, mainTags);
+        ObservationMetrics metrics = getActionMetrics(observerContext);
+        if (metrics != null) {
+            startObservation(observerContext, metrics);
+        }
     }
 
     @Override
@@ -77,9 +88,10 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        stopObservation(observerContext, mainTags);
+        ObservationMetrics metrics = getResourceMetrics(observerContext);
+        if (metrics != null) {
+            stopObservation(observerContext, metrics);
+        }
     }
 
     @Override
@@ -88,100 +100,222 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        stopObservation(observerContext, mainTags);
+        ObservationMetrics metrics = getActionMetrics(observerContext);
+        if (metrics != null) {
+            stopObservation(observerContext, metrics);
+        }
     }
 
-    private void startObservation(ObserverContext observerContext, String[] mainTags) {
+    private void startObservation(ObserverContext observerContext, ObservationMetrics metrics) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        String connectorName = observerContext.getConnectorName();
-        Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
-        try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(mainTagSet, mainTags);
-            getInprogressGauge(connectorName, mainTagSet).increment();
-        } catch (RuntimeException e) {
-            handleError(connectorName, mainTagSet, e);
-        }
+        metrics.inprogressRequests.increment();
     }
 
-    private void stopObservation(ObserverContext observerContext, String[] mainTags) {
-        // Connector name must be a part of the metric name to make sure that every metric is unique with
-        // the combination of name and tags.
-        String connectorName = observerContext.getConnectorName();
+    private void stopObservation(ObserverContext observerContext, ObservationMetrics metrics) {
         Map<String, String> tags = observerContext.getTags();
-        Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.length);
         try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(allTags, observerContext.getTags());
-            Tags.tags(allTags, mainTags);
-            Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
-            Tags.tags(mainTagSet, mainTags);
+            TaggedMetrics taggedMetrics = metrics.getTaggedMetrics(tags);
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
-            getInprogressGauge(connectorName, mainTagSet).decrement();
-            metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds", "Response Time",
-                    allTags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId(connectorName + "_requests_total",
-                    "Total number of requests", allTags)).increment();
+            metrics.inprogressRequests.decrement();
+            taggedMetrics.responseTime.setValue(duration / 1E9);
+            taggedMetrics.requests.increment();
             // Check HTTP status code
             String statusCode = tags.get(TAG_KEY_HTTP_STATUS_CODE);
             if (statusCode != null) {
                 int httpStatusCode = Integer.parseInt(statusCode);
                 if (httpStatusCode > 0) {
-                    incrementHttpStatusCodeCounters(httpStatusCode, connectorName, mainTagSet);
+                    incrementHttpStatusCodeCounters(httpStatusCode, metrics);
                 }
             }
             Boolean error = (Boolean) observerContext.getProperty(PROPERTY_ERROR);
             if (error != null && error) {
-                metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
-                        "Total number of failed requests", allTags)).increment();
+                taggedMetrics.getFailedRequests().increment();
             }
         } catch (RuntimeException e) {
-            handleError(connectorName, allTags, e);
+            handleError(metrics.connectorName, tags, e);
+        }
+    }
+
+    private ObservationMetrics getResourceMetrics(ObserverContext observerContext) {
+        String connectorName = observerContext.getConnectorName();
+        String serviceName = observerContext.getServiceName();
+        String resourceName = observerContext.getResourceName();
+        if (serviceName == null || resourceName == null) {
+            // fails the tag validation
+            return createMetrics(connectorName, TAG_KEY_SERVICE, serviceName, TAG_KEY_RESOURCE, resourceName);
+        }
+        Map<String, ObservationMetrics> serviceMetrics = getOrCreate(getOrCreate(resourceMetrics,
+                String.valueOf(connectorName)), serviceName);
+        ObservationMetrics metrics = serviceMetrics.get(resourceName);
+        if (metrics == null || metrics.isRemoved()) {
+            metrics = createMetrics(connectorName, TAG_KEY_SERVICE, serviceName, TAG_KEY_RESOURCE, resourceName);
+            if (metrics != null) {
+                serviceMetrics.put(resourceName, metrics);
+            }
         }
+        return metrics;
     }
 
-    private Gauge getInprogressGauge(String connectorName, Set<Tag> tags) {
-        return metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
-                "Inprogress Requests", tags));
+    private ObservationMetrics getActionMetrics(ObserverContext observerContext) {
+        String connectorName = observerContext.getConnectorName();
+        String actionName = observerContext.getActionName();
+        if (actionName == null) {
+            // fails the tag validation
+            return createMetrics(connectorName, TAG_KEY_ACTION, actionName);
+        }
+        Map<String, ObservationMetrics> connectorMetrics = getOrCreate(actionMetrics, String.valueOf(connectorName));
+        ObservationMetrics metrics = connectorMetrics.get(actionName);
+        if (metrics == null || metrics.isRemoved()) {
+            metrics = createMetrics(connectorName, TAG_KEY_ACTION, actionName);
+            if (metrics != null) {
+                connectorMetrics.put(actionName, metrics);
+            }
+        }
+        return metrics;
     }
 
-    private void incrementHttpStatusCodeCounters(int statusCode, String connectorName, Set<Tag> tags) {
-        metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                "Total number of requests that resulted in HTTP 1xx informational responses", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                "Total number of requests that resulted in HTTP 2xx successful responses", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                "Total number of requests that resulted in HTTP 3xx redirections", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                "Total number of requests that resulted in HTTP 4xx client errors", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                "Total number of requests that resulted in HTTP 5xx server errors", tags)).register();
+    private static <V> Map<String, V> getOrCreate(Map<String, Map<String, V>> maps, String key) {
+        // look up first, since computeIfAbsent locks even if the key is present
+        Map<String, V> map = maps.get(key);
+        return map != null ? map : maps.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+
+    private ObservationMetrics createMetrics(String connectorName, String... mainTags) {
+        Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
+        try {
+            // Tags are validated (both key and value should not be null)
+            Tags.tags(mainTagSet, mainTags);
+            return new ObservationMetrics(connectorName, mainTagSet);
+        } catch (RuntimeException e) {
+            handleError(connectorName, mainTagSet, e);
+            return null;
+        }
+    }
 
+    private void incrementHttpStatusCodeCounters(int statusCode, ObservationMetrics metrics) {
+        Counter[] counters = metrics.getHttpStatusCodeCounters();
         if (statusCode >= 100 && statusCode < 200) {
-            metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                    "Total number of requests that resulted in HTTP 1xx informational responses", tags))
-                    .increment();
+            counters[0].increment();
         } else if (statusCode < 300) {
-            metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                    "Total number of requests that resulted in HTTP 2xx successful responses", tags))
-                    .increment();
+            counters[1].increment();
         } else if (statusCode < 400) {
-            metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                    "Total number of requests that resulted in HTTP 3xx redirections", tags)).increment();
+            counters[2].increment();
         } else if (statusCode < 500) {
-            metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                    "Total number of requests that resulted in HTTP 4xx client errors", tags)).increment();
+            counters[3].increment();
         } else if (statusCode < 600) {
-            metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                    "Total number of requests that resulted in HTTP 5xx server errors", tags)).increment();
+            counters[4].increment();
         }
     }
 
-    private void handleError(String connectorName, Set<Tag> tags, RuntimeException e) {
+    private void handleError(String connectorName, Object tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + connectorName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Metric handles of a resource or a remote action, which are looked up in the registry once and reused for all
+     * the observations, until metrics are removed from the registry.
+     */
+    private static class ObservationMetrics {
+
+        // Connector name must be a part of the metric name to make sure that every metric is unique with
+        // the combination of name and tags.
+        private final String connectorName;
+        private final Set<Tag> mainTags;
+        // the removal count of the registry before the handles were looked up
+        private final long registryRemovalCount;
+        private final Gauge inprogressRequests;
+        // metrics which are tagged with the tags of the observation as well, by the tags of the observation
+        private final Map<Map<String, String>, TaggedMetrics> taggedMetrics = new ConcurrentHashMap<>();
+        private volatile Counter[] httpStatusCodeCounters;
+
+        private ObservationMetrics(String connectorName, Set<Tag> mainTags) {
+            this.connectorName = connectorName;
+            this.mainTags = mainTags;
+            this.registryRemovalCount = metricRegistry.getRemovalCount();
+            this.inprogressRequests = metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
+                    "Inprogress Requests", mainTags));
+        }
+
+        private boolean isRemoved() {
+            // any of the handles may have been removed from the registry, hence all of them are looked up again
+            return registryRemovalCount != metricRegistry.getRemovalCount();
+        }
+
+        private TaggedMetrics getTaggedMetrics(Map<String, String> tags) {
+            TaggedMetrics metrics = taggedMetrics.get(tags);
+            if (metrics == null) {
+                // the tags of the context may change later, hence a copy is used as the key
+                Map<String, String> tagsCopy = new HashMap<>(tags);
+                metrics = taggedMetrics.computeIfAbsent(tagsCopy, key -> new TaggedMetrics(connectorName, mainTags,
+                        key));
+            }
+            return metrics;
+        }
+
+        private Counter[] getHttpStatusCodeCounters() {
+            Counter[] counters = httpStatusCodeCounters;
+            if (counters == null) {
+                // all the status code counters are registered when the first status code is seen
+                counters = new Counter[]{
+                        counter(connectorName + "_1XX_requests_total",
+                                "Total number of requests that resulted in HTTP 1xx informational responses"),
+                        counter(connectorName + "_2XX_requests_total",
+                                "Total number of requests that resulted in HTTP 2xx successful responses"),
+                        counter(connectorName + "_3XX_requests_total",
+                                "Total number of requests that resulted in HTTP 3xx redirections"),
+                        counter(connectorName + "_4XX_requests_total",
+                                "Total number of requests that resulted in HTTP 4xx client errors"),
+                        counter(connectorName + "_5XX_requests_total",
+                                "Total number of requests that resulted in HTTP 5xx server errors")
+                };
+                httpStatusCodeCounters = counters;
+            }
+            return counters;
+        }
+
+        private Counter counter(String name, String description) {
+            Counter counter = metricRegistry.counter(new MetricId(name, description, mainTags));
+            counter.register();
+            return counter;
+        }
+    }
+
+    /**
+     * Metric handles of a resource or a remote action for a given set of observation tags.
+     */
+    private static class TaggedMetrics {
+
+        private final String connectorName;
+        private final Set<Tag> allTags;
+        private final Gauge responseTime;
+        private final Counter requests;
+        // registered only when a request fails
+        private volatile Counter failedRequests;
+
+        private TaggedMetrics(String connectorName, Set<Tag> mainTags, Map<String, String> tags) {
+            this.connectorName = connectorName;
+            Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.size());
+            // Tags are validated (both key and value should not be null)
+            Tags.tags(allTags, tags);
+            Tags.tags(allTags, mainTags);
+            this.allTags = allTags;
+            this.responseTime = metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds",
+                    "Response Time", allTags), responseTimeStatisticConfigs);
+            this.requests = metricRegistry.counter(new MetricId(connectorName + "_requests_total",
+                    "Total number of requests", allTags));
+        }
+
+        private Counter getFailedRequests() {
+            Counter counter = failedRequests;
+            if (counter == null) {
+                counter = metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
+                        "Total number of failed requests", allTags));
+                failedRequests = counter;
+            }
+            return counter;
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.ballerinalang.jvm.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed, for the users which keep the metrics they looked up
+    private final AtomicLong removalCount = new AtomicLong();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -179,8 +182,8 @@ public class MetricRegistry {
 
     private void unregister(Metric registerMetric, Class metricClass) {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
-        if (metric != null) {
-            metrics.remove(registerMetric.getId());
+        if (metric != null && metrics.remove(registerMetric.getId()) != null) {
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +196,19 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        if (!ids.isEmpty()) {
+            removalCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of times metrics were removed from this registry. A metric which was looked up before this
+     * count changed may no longer be registered, hence should be looked up again.
+     *
+     * @return the number of times metrics were removed
+     */
+    public long getRemovalCount() {
+        return removalCount.get();
     }
 
     public MetricProvider getMetricProvider() {
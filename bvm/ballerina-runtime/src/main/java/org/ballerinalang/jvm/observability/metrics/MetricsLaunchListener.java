@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm.observability.metrics;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.TypeCheckCache;
 import org.ballerinalang.jvm.launch.LaunchListener;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
@@ -126,6 +127,13 @@ public class MetricsLaunchListener implements LaunchListener {
 //                BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
 //        PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
 //                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        final String typeCheckCachePrefix = "ballerina_type_check_cache_";
+        PolledGauge.builder(typeCheckCachePrefix + "hits", TypeCheckCache.class,
+                cache -> TypeCheckCache.getHitCount()).description("Type checks answered from the cache").register();
+        PolledGauge.builder(typeCheckCachePrefix + "misses", TypeCheckCache.class,
+                cache -> TypeCheckCache.getMissCount()).description("Type checks which were not cached").register();
+        PolledGauge.builder(typeCheckCachePrefix + "size", TypeCheckCache.class,
+                cache -> TypeCheckCache.getSize()).description("Pairs of types in the cache").register();
     }
 
     @Override
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.util.BLangConstants;
+
+import java.io.PrintStream;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Elastic thread pool which runs blocking extern calls, so that they do not hold a scheduler thread while waiting.
+ * <p>
+ * Offloading is disabled by default and can be enabled by setting the BALLERINA_BLOCKING_POOL_SIZE system variable
+ * to the maximum number of threads that can run blocking calls at the same time. Threads are created on demand and
+ * released after being idle for a minute. When all the threads are busy, the call runs on the strand's own thread
+ * as it does when offloading is disabled.
+ *
+ * @since 1.2.0
+ */
+public class BlockingExternExecutor {
+
+    private static final PrintStream err = System.err;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final int maxPoolSize = readMaxPoolSize();
+    private static final ThreadPoolExecutor executor = maxPoolSize > 0 ? createExecutor(maxPoolSize) : null;
+
+    private BlockingExternExecutor() {
+    }
+
+    /**
+     * Runs the given blocking call for the strand. If the call is offloaded, the strand is marked as blocked on
+     * extern and is unblocked once the call returns, with its result set as the strand's return value. If the call
+     * panics, the panic is raised on the strand when it resumes.
+     *
+     * @param strand strand which makes the blocking call
+     * @param call   blocking call to be made
+     * @return result of the call if it ran on the current thread, null if the call was offloaded
+     */
+    public static Object execute(Strand strand, Supplier<Object> call) {
+        if (executor == null) {
+            return call.get();
+        }
+
+        // the strand has to be marked as blocked before the call is submitted, since it may complete right away
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        try {
+            executor.execute(() -> complete(strand, call));
+        } catch (RejectedExecutionException e) {
+            strand.blockedOnExtern = false;
+            strand.setState(State.RUNNABLE);
+            return call.get();
+        }
+        return null;
+    }
+
+    private static void complete(Strand strand, Supplier<Object> call) {
+        try {
+            strand.setReturnValues(call.get());
+        } catch (Throwable t) {
+            // raised when the strand resumes, the same way as a panic of a call which runs on the strand's thread
+            strand.setExternPanic(t);
+        }
+        strand.scheduler.unblockStrand(strand);
+    }
+
+    private static int readMaxPoolSize() {
+        String poolSizeConf = System.getenv(BLangConstants.BALLERINA_BLOCKING_POOL_SIZE_ENV_VAR);
+        if (poolSizeConf == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(poolSizeConf);
+        } catch (Throwable t) {
+            // Log and continue without offloading
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                    BLangConstants.BALLERINA_BLOCKING_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
+            return 0;
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor(int maxPoolSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "jbal-blocking-exec-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(0, maxPoolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                threadFactory);
+    }
+}
@@ -29,6 +29,7 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 import java.io.PrintStream;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
@@ -59,18 +60,31 @@ public class Scheduler {
      */
     private BlockingQueue<SchedulerItem>[] blockingQueues;
 
+    /**
+     * Per worker run queues, used instead of {@code blockingQueues} when the scheduler runs in work stealing mode.
+     */
+    private WorkStealingQueues workStealingQueues;
+
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
      */
     private final int numThreads;
 
+    /**
+     * This can be enabled by setting the BALLERINA_SCHEDULER_MODE system variable to "work-stealing".
+     * Default is to add each new strand to the queues of all the threads.
+     */
+    private final boolean workStealing;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
     private Semaphore mainBlockSem;
@@ -87,15 +101,29 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.workStealing = isWorkStealingEnabled();
         initRunnableLists();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, isWorkStealingEnabled());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.workStealing = workStealing;
         initRunnableLists();
     }
 
+    private static boolean isWorkStealingEnabled() {
+        return BLangConstants.SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(schedulerModeConf);
+    }
+
+    public int getNumThreads() {
+        return numThreads;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -165,7 +193,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
-        blockingQueues[id].add(item);
+        if (workStealing) {
+            workStealingQueues.addPinned(id, item);
+        } else {
+            blockingQueues[id].add(item);
+        }
         return future;
     }
 
@@ -173,14 +205,28 @@ public class Scheduler {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
+        addToAllQueues(item);
+        return future;
+    }
+
+    private void addToAllQueues(SchedulerItem item) {
+        if (workStealing) {
+            // the item is added only once, an idle worker will steal it if needed
+            totalStrands.incrementAndGet();
+            workStealingQueues.add(item);
+            return;
+        }
         for (int i = 0; i < numThreads; i++) {
             totalStrands.incrementAndGet();
             blockingQueues[i].add(item);
         }
-        return future;
     }
 
     private void initRunnableLists() {
+        if (workStealing) {
+            this.workStealingQueues = new WorkStealingQueues(numThreads);
+            return;
+        }
         this.blockingQueues = new BlockingQueue[numThreads];
         int i = 0;
         while (i < numThreads) {
@@ -204,10 +250,7 @@ public class Scheduler {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
-        for (int i = 0; i < numThreads; i++) {
-            totalStrands.incrementAndGet();
-            blockingQueues[i].add(item);
-        }
+        addToAllQueues(item);
         return future;
     }
 
@@ -253,10 +296,13 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run(int id) {
+        if (workStealing) {
+            workStealingQueues.registerWorker(id);
+        }
         while (true) {
             SchedulerItem item;
             try {
-                item = blockingQueues[id].take();
+                item = workStealing ? workStealingQueues.take(id) : blockingQueues[id].take();
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -346,8 +392,9 @@ public class Scheduler {
 
                     justCompleted.setState(State.DONE);
 
-
-                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                    List<WaitContext> waitingContexts = justCompleted.waitingContexts;
+                    for (int i = 0; waitingContexts != null && i < waitingContexts.size(); i++) {
+                        WaitContext ctx = waitingContexts.get(i);
                         ctx.lock();
                         if (!ctx.completed) {
                             if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
@@ -368,10 +415,7 @@ public class Scheduler {
                     if (strandsLeft == 0) {
                         // (number of started stands - finished stands) = 0, all the work is done
                         if (!immortal) {
-                            for (int i = 0; i < numThreads; i++) {
-                                assert blockingQueues[i].size() == 0;
-                                blockingQueues[i].add(POISON_PILL);
-                            }
+                            poisonAllQueues();
                         }
                     }
                     break;
@@ -386,10 +430,19 @@ public class Scheduler {
         if (strandsLeft == 0) {
             // (number of started stands - finished stands) = 0, all the work is done
             if (!immortal) {
-                for (int i = 0; i < numThreads; i++) {
-                    assert blockingQueues[i].size() == 0;
-                    blockingQueues[i].add(POISON_PILL);
-                }
+                poisonAllQueues();
+            }
+        }
+    }
+
+    private void poisonAllQueues() {
+        for (int i = 0; i < numThreads; i++) {
+            if (workStealing) {
+                assert workStealingQueues.size(i) == 0;
+                workStealingQueues.addPinned(i, POISON_PILL);
+            } else {
+                assert blockingQueues[i].size() == 0;
+                blockingQueues[i].add(POISON_PILL);
             }
         }
     }
@@ -425,6 +478,9 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
@@ -448,7 +504,11 @@ public class Scheduler {
                 // release if the same strand is waiting for others as well (wait multiple)
                 item.setState(State.RUNNABLE);
                 item.picked.set(false);
-                blockingQueues[item.future.strand.threadId].add(item);
+                if (workStealing) {
+                    workStealingQueues.addPinned(item.future.strand.threadId, item);
+                } else {
+                    blockingQueues[item.future.strand.threadId].add(item);
+                }
             }
     }
 
@@ -459,9 +519,8 @@ public class Scheduler {
         if (parent != null) {
             newStrand.observerContext = parent.observerContext;
         }
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        // frames are allocated by the strand when it yields for the first time
+        return new FutureValue(newStrand, callback, constraint);
     }
 }
 
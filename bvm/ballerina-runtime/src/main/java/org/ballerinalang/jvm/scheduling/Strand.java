@@ -27,6 +27,7 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.MapValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,6 +49,11 @@ import static org.ballerinalang.jvm.scheduling.State.YIELD;
 
 public class Strand {
 
+    private static final int INITIAL_FRAME_STACK_SIZE = 8;
+
+    /**
+     * Frames of the yielded functions. Allocated on the first yield and grown as needed.
+     */
     public Object[] frames;
     public int resumeIndex;
     public Object returnValue;
@@ -68,6 +74,10 @@ public class Strand {
 
     private Map<String, Object> globalProps;
     public TransactionLocalContext transactionLocalContext;
+    /**
+     * Panic of an extern call which completed on another thread while the strand was blocked on it.
+     */
+    private Throwable externPanic;
     private State state;
     private final ReentrantLock strandLock;
 
@@ -75,18 +85,29 @@ public class Strand {
     public Strand(Scheduler scheduler) {
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
-        this.globalProps = new HashMap<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
     }
 
     public Strand(Scheduler scheduler, Strand parent, Map<String, Object> properties) {
         this(scheduler);
         this.parent = parent;
-        this.globalProps = properties != null ? properties : new HashMap<>();
+        this.globalProps = properties;
+    }
+
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = new Object[INITIAL_FRAME_STACK_SIZE];
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frames.length * 2);
+        }
+        this.frames[this.resumeIndex++] = frame;
+    }
+
+    public Object popFrame() {
+        Object frame = this.frames[--this.resumeIndex];
+        this.frames[this.resumeIndex] = null;
+        return frame;
     }
 
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
@@ -106,11 +127,41 @@ public class Strand {
         this.returnValue = returnValue;
     }
 
+    public void setExternPanic(Throwable panic) {
+        this.externPanic = panic;
+    }
+
+    /**
+     * Returns the result of the extern call the strand was blocked on, once the strand is resumed. If the call
+     * panicked, the panic is raised on the strand instead, as if the call had panicked on the strand's own thread.
+     *
+     * @return result of the extern call
+     * @throws Throwable panic of the extern call
+     */
+    public Object getExternReturnValue() throws Throwable {
+        if (this.externPanic != null) {
+            Throwable panic = this.externPanic;
+            this.externPanic = null;
+            throw panic;
+        }
+        return this.returnValue;
+    }
+
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
+    public Map<String, Object> getProperties() {
+        return this.globalProps;
+    }
+
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
         this.globalProps.put(key, value);
     }
 
@@ -192,7 +243,7 @@ public class Strand {
                 target.put(entry.getKey(), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -232,7 +283,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -254,7 +305,23 @@ public class Strand {
         return waitResult;
     }
 
+    /**
+     * Registers a wait context to be notified when this strand completes. Should be called while holding the lock
+     * of this strand.
+     *
+     * @param ctx wait context of the waiting strand
+     */
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>(1);
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per worker run queues used by the {@link Scheduler} in work stealing mode.
+ * <p>
+ * Every worker owns two queues. The pinned queue holds items that must run on that worker (strands which already
+ * have a thread ID), and the shared deque holds items that have not been picked yet. A worker drains its own queues
+ * first and steals from the tail of the other workers' shared deques when it runs out of work. Each item is inserted
+ * exactly once and at most one idle worker is woken up per insert.
+ *
+ * @since 1.2.0
+ */
+class WorkStealingQueues {
+
+    private static final int BUSY = 0;
+    private static final int IDLE = 1;
+
+    private final int numThreads;
+    private final Queue<SchedulerItem>[] pinnedQueues;
+    private final ConcurrentLinkedDeque<SchedulerItem>[] sharedQueues;
+    private final AtomicReferenceArray<Thread> workers;
+    private final AtomicIntegerArray workerStates;
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final AtomicInteger nextQueue = new AtomicInteger();
+    private final ThreadLocal<Integer> workerId = new ThreadLocal<>();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingQueues(int numThreads) {
+        this.numThreads = numThreads;
+        this.pinnedQueues = new Queue[numThreads];
+        this.sharedQueues = new ConcurrentLinkedDeque[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            pinnedQueues[i] = new ConcurrentLinkedQueue<>();
+            sharedQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.workers = new AtomicReferenceArray<>(numThreads);
+        this.workerStates = new AtomicIntegerArray(numThreads);
+    }
+
+    /**
+     * Registers the calling thread as the worker with the given ID. Must be called by the worker thread before it
+     * starts taking items.
+     *
+     * @param id worker ID
+     */
+    void registerWorker(int id) {
+        workerId.set(id);
+        workers.set(id, Thread.currentThread());
+    }
+
+    /**
+     * Adds an item which can be executed by any worker. If the caller is a worker, the item is added to the caller's
+     * own deque, so that it stays local unless another worker is idle.
+     *
+     * @param item item to be executed
+     */
+    void add(SchedulerItem item) {
+        Integer current = workerId.get();
+        int id = current != null ? current : Math.floorMod(nextQueue.getAndIncrement(), numThreads);
+        sharedQueues[id].addLast(item);
+        if (!wakeUp(id) && idleWorkers.get() > 0) {
+            for (int i = 1; i < numThreads; i++) {
+                if (wakeUp((id + i) % numThreads)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds an item which must be executed by the given worker.
+     *
+     * @param id   worker ID
+     * @param item item to be executed
+     */
+    void addPinned(int id, SchedulerItem item) {
+        pinnedQueues[id].add(item);
+        wakeUp(id);
+    }
+
+    /**
+     * Retrieves the next item for the given worker, waiting if no item is available in any of the queues.
+     *
+     * @param id worker ID
+     * @return next item to be executed
+     */
+    SchedulerItem take(int id) {
+        while (true) {
+            SchedulerItem item = poll(id);
+            if (item != null) {
+                return item;
+            }
+
+            workerStates.set(id, IDLE);
+            idleWorkers.incrementAndGet();
+            // re-check after publishing the idle state, an item added in between would not have woken us up
+            item = poll(id);
+            if (item != null) {
+                markBusy(id);
+                return item;
+            }
+            LockSupport.park(this);
+            markBusy(id);
+        }
+    }
+
+    int size(int id) {
+        return pinnedQueues[id].size() + sharedQueues[id].size();
+    }
+
+    private SchedulerItem poll(int id) {
+        SchedulerItem item = pinnedQueues[id].poll();
+        if (item != null) {
+            return item;
+        }
+        item = sharedQueues[id].pollFirst();
+        if (item != null) {
+            return item;
+        }
+        for (int i = 1; i < numThreads; i++) {
+            item = sharedQueues[(id + i) % numThreads].pollLast();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private void markBusy(int id) {
+        if (workerStates.compareAndSet(id, IDLE, BUSY)) {
+            idleWorkers.decrementAndGet();
+        }
+    }
+
+    private boolean wakeUp(int id) {
+        if (workerStates.get(id) == IDLE && workerStates.compareAndSet(id, IDLE, BUSY)) {
+            idleWorkers.decrementAndGet();
+            LockSupport.unpark(workers.get(id));
+            return true;
+        }
+        return false;
+    }
+}
@@ -19,8 +19,7 @@ package org.ballerinalang.jvm.scheduling;
 
 import org.ballerinalang.jvm.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -29,26 +28,34 @@ import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has one sending worker and one receiving worker. Asynchronous sends and receives of messages go through
+ * a lock free {@link WorkerDataQueue}, and the channel lock is only taken to block the receiver, for synchronous
+ * sends, flushes, and errors and panics of the workers.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    // a nil message, as an empty slot of the queue is null
+    private static final Object NIL = new Object();
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    private volatile WaitingSender flushSender;
+    private WorkerResult pendingSyncResult;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    // each counter is only updated by one side of the channel
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerDataQueue channel = new WorkerDataQueue();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,18 +77,20 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
+        this.channel.offer(data == null ? NIL : data);
+        // the receiver sees the message once it reads the counter, if it registers itself before this check
+        this.senderCounter++;
+        unblockReceiver();
+    }
+
+    private void unblockReceiver() {
+        if (this.receiver.get() == null) {
+            return;
+        }
+        Strand waitingReceiver = this.receiver.getAndSet(null);
+        if (waitingReceiver != null) {
+            waitingReceiver.scheduler.unblockStrand(waitingReceiver);
         }
     }
 
@@ -97,14 +106,15 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                this.pendingSyncResult = new WorkerResult(data, true);
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.channel.offer(this.pendingSyncResult);
+                this.senderCounter++;
 
-                if (this.receiver != null) {
+                Strand waitingReceiver = this.receiver.getAndSet(null);
+                if (waitingReceiver != null) {
                     // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
+                    waitingReceiver.scheduler.unblockStrand(waitingReceiver);
                 } else if (this.panic != null) {
                     Throwable panic = this.panic;
                     this.panic = null;
@@ -120,10 +130,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && this.pendingSyncResult != null) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && this.pendingSyncResult != null) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -134,45 +144,77 @@ public class WorkerDataChannel {
             releaseChannelLock();
         }
     }
-    
-    @SuppressWarnings("rawtypes")
+
     public Object tryTakeData(Strand strand) throws Throwable {
+        Object data = this.channel.poll();
+        if (data != null) {
+            return takeData(data);
+        }
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
-                }
-                return result.value;
+            data = this.channel.poll();
+            if (data != null) {
+                return takeData(data);
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
+            }
+
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver.set(strand);
+            // an asynchronous send which did not see the receiver is received without blocking, unless the sender
+            // has already taken the receiver to unblock it
+            if (this.senderCounter != this.receiverCounter && this.channel.peek() != null &&
+                    this.receiver.compareAndSet(strand, null)) {
+                strand.setState(State.RUNNABLE);
+                return takeData(this.channel.poll());
+            }
+            return null;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private Object takeData(Object data) {
+        this.receiverCounter++;
+        if (data instanceof WorkerResult) {
+            try {
+                acquireChannelLock();
+                // sync sender will pick the this.error as result, which is null
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+                this.pendingSyncResult = null;
+            } finally {
+                releaseChannelLock();
+            }
+            return ((WorkerResult) data).value;
+        }
+        // the flush sender sees the counter, if it registers itself before this check
+        if (this.flushSender != null) {
+            notifyFlushSender();
+        }
+        return data == NIL ? null : data;
+    }
+
+    private void notifyFlushSender() {
+        try {
+            acquireChannelLock();
+            if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
+                this.flushSender.waitingStrand.flushDetail.flushLock.lock();
+                this.flushSender.waitingStrand.flushDetail.flushedCount++;
+                if (this.flushSender.waitingStrand.flushDetail.flushedCount
+                        == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
+                        this.flushSender.waitingStrand.isBlocked()) {
+                    //will continue if this is a sync wait, will try to flush again if blocked on flush
+                    this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
+
+                }
+                this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
+                this.flushSender = null;
             }
         } finally {
             releaseChannelLock();
@@ -187,10 +229,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -241,6 +280,13 @@ public class WorkerDataChannel {
                 return null;
             }
             this.flushSender = new WaitingSender(strand, this.senderCounter);
+            // the receiver may have received the last message without seeing the flush sender
+            if (this.receiverCounter == this.senderCounter) {
+                this.flushSender = null;
+                strand.flushDetail.flushLock.lock();
+                strand.flushDetail.flushedCount++;
+                strand.flushDetail.flushLock.unlock();
+            }
             return null;
         } finally {
             releaseChannelLock();
@@ -263,10 +309,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             this.panic  = panic;
             this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
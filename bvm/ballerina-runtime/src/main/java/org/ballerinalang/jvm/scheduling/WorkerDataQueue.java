@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A single producer, single consumer queue of the messages of a {@link WorkerDataChannel}, which is backed by
+ * preallocated rings. A message is published with an ordered store into its slot, and the slot is freed by the consumer
+ * with an ordered store, hence neither side takes a lock or allocates a node per message.
+ * <p>
+ * An asynchronous send does not wait for the receiver, therefore the producer links a larger ring once the current ring
+ * is full, instead of blocking. The consumer moves to the linked ring once it has drained the full ring.
+ * <p>
+ * {@link #offer(Object)} must only be called by the sending worker, and {@link #poll()} and {@link #peek()} must only
+ * be called by the receiving worker.
+ *
+ * @since 1.2.0
+ */
+class WorkerDataQueue {
+
+    static final int INITIAL_CAPACITY = 32;
+    static final int MAX_CAPACITY = 1024;
+
+    private Ring producerRing;
+    private int producerIndex;
+    private Ring consumerRing;
+    private int consumerIndex;
+
+    WorkerDataQueue() {
+        this.producerRing = new Ring(INITIAL_CAPACITY);
+        this.consumerRing = this.producerRing;
+    }
+
+    /**
+     * Adds a message to the queue.
+     *
+     * @param message message, which is not null
+     */
+    void offer(Object message) {
+        Ring ring = this.producerRing;
+        int offset = this.producerIndex & ring.mask;
+        if (ring.slots.get(offset) != null) {
+            // every slot of the ring holds a message which is not received yet
+            Ring next = new Ring(Math.min(ring.slots.length() << 1, MAX_CAPACITY));
+            next.slots.lazySet(0, message);
+            ring.next = next;
+            this.producerRing = next;
+            this.producerIndex = 1;
+            return;
+        }
+        ring.slots.lazySet(offset, message);
+        this.producerIndex++;
+    }
+
+    /**
+     * Removes the oldest message of the queue.
+     *
+     * @return the oldest message, or null if the queue is empty
+     */
+    Object poll() {
+        Object message = peek();
+        if (message != null) {
+            this.consumerRing.slots.lazySet(this.consumerIndex & this.consumerRing.mask, null);
+            this.consumerIndex++;
+        }
+        return message;
+    }
+
+    /**
+     * Returns the oldest message of the queue, without removing it.
+     *
+     * @return the oldest message, or null if the queue is empty
+     */
+    Object peek() {
+        Ring ring = this.consumerRing;
+        int offset = this.consumerIndex & ring.mask;
+        Object message = ring.slots.get(offset);
+        if (message != null) {
+            return message;
+        }
+        Ring next = ring.next;
+        // the ring is re-read once the next ring is seen, as the producer fills a ring before linking the next ring
+        if (next == null || (message = ring.slots.get(offset)) != null) {
+            return message;
+        }
+        this.consumerRing = next;
+        this.consumerIndex = 0;
+        return next.slots.get(0);
+    }
+
+    /**
+     * A preallocated ring of slots, whose capacity is a power of two.
+     */
+    private static class Ring {
+        private final AtomicReferenceArray<Object> slots;
+        private final int mask;
+        private volatile Ring next;
+
+        private Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+}
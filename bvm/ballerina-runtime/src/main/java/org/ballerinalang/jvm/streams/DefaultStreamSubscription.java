@@ -18,9 +18,14 @@
 
 package org.ballerinalang.jvm.streams;
 
+import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.StreamValue;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * The {@link DefaultStreamSubscription} represents a stream subscription in Ballerina.
  *
@@ -30,12 +35,38 @@ public class DefaultStreamSubscription extends StreamSubscription {
 
     private StreamValue stream;
     private FPValue<Object[], Object> functionPointer;
+    private final Queue<Object> pendingEvents;
+    private final AtomicBoolean delivering;
 
     DefaultStreamSubscription(StreamValue stream, FPValue<Object[], Object> functionPointer,
-                              StreamSubscriptionManager streamSubscriptionManager) {
+                              StreamSubscriptionManager streamSubscriptionManager, boolean batchDelivery) {
         super(streamSubscriptionManager);
         this.stream = stream;
         this.functionPointer = functionPointer;
+        this.pendingEvents = batchDelivery ? new ConcurrentLinkedQueue<>() : null;
+        this.delivering = batchDelivery ? new AtomicBoolean() : null;
+    }
+
+    @Override
+    public void send(Strand strand, Object data) {
+        // the subscription is its only observer, hence the function is called directly without notifying observers
+        if (pendingEvents == null) {
+            execute(new Object[]{strand, data, false});
+            return;
+        }
+
+        pendingEvents.add(data);
+        // whoever is delivering delivers the queued events as well, in the order they were queued
+        while (!pendingEvents.isEmpty() && delivering.compareAndSet(false, true)) {
+            try {
+                Object event;
+                while ((event = pendingEvents.poll()) != null) {
+                    execute(new Object[]{strand, event, false});
+                }
+            } finally {
+                delivering.set(false);
+            }
+        }
     }
 
     public void execute(Object[] fpParams) {
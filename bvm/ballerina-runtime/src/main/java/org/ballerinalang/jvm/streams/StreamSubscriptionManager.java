@@ -19,32 +19,48 @@
 package org.ballerinalang.jvm.streams;
 
 import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.util.BLangConstants;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.CloneUtils;
 import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.RefValue;
 import org.ballerinalang.jvm.values.StreamValue;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The {@link StreamSubscriptionManager} manages the streams subscriptions. It is responsible for registering
  * subscriptions for streams and sending events to correct stream through the subscription.
+ * <p>
+ * Subscriptions are kept in copy-on-write lists, so that sending an event does not need any locking. Events are
+ * delivered to the subscriptions in the order they were registered.
  *
  * @since 0.995.0
  */
 public class StreamSubscriptionManager implements Observer {
 
-    private Map<String, List<StreamSubscription>> processors = new HashMap<>();
+    private final Map<String, List<StreamSubscription>> processors = new ConcurrentHashMap<>();
 
     private static StreamSubscriptionManager streamSubscriptionManager = new StreamSubscriptionManager();
 
+    /**
+     * When enabled by setting the BALLERINA_STREAM_BATCH_DELIVERY system variable to "true", events published
+     * concurrently to a subscription are queued and delivered in batches by the strand which is already delivering
+     * to it. Default is to deliver each event on the publishing strand.
+     */
+    private final boolean batchDelivery;
+
     private StreamSubscriptionManager() {
+        this(Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_STREAM_BATCH_DELIVERY_ENV_VAR)));
+    }
 
+    StreamSubscriptionManager(boolean batchDelivery) {
+        this.batchDelivery = batchDelivery;
     }
 
     public static StreamSubscriptionManager getInstance() {
@@ -52,17 +68,29 @@ public class StreamSubscriptionManager implements Observer {
     }
 
     public void registerMessageProcessor(StreamValue stream, FPValue<Object[], Object> functionPointer) {
-        synchronized (this) {
-            processors.computeIfAbsent(stream.streamId, key -> new ArrayList<>())
-                    .add(new DefaultStreamSubscription(stream, functionPointer, this));
-        }
+        processors.computeIfAbsent(stream.streamId, key -> new CopyOnWriteArrayList<>())
+                .add(new DefaultStreamSubscription(stream, functionPointer, this, batchDelivery));
     }
 
     public void sendMessage(StreamValue stream, Strand strand, Object value) {
         List<StreamSubscription> msgProcessors = processors.get(stream.streamId);
-        if (msgProcessors != null) {
-            msgProcessors.forEach(processor -> processor.send(strand, CloneUtils.cloneValue(value)));
+        if (msgProcessors == null) {
+            return;
+        }
+        if (isShareable(value)) {
+            // immutable values cannot be changed by a subscriber, hence the same value is sent to all of them
+            for (StreamSubscription processor : msgProcessors) {
+                processor.send(strand, value);
+            }
+            return;
         }
+        for (StreamSubscription processor : msgProcessors) {
+            processor.send(strand, CloneUtils.cloneValue(value));
+        }
+    }
+
+    private static boolean isShareable(Object value) {
+        return !(value instanceof RefValue) || ((RefValue) value).isFrozen();
     }
 
     @Override
@@ -51,4 +51,7 @@ public class TransactionConstants {
     public static final String REGISTER_AT_URL = "registerAtURL";
 
     public static final String ANN_NAME_TRX_PARTICIPANT_CONFIG = "Participant";
+
+    // path of the log of the commit decisions, which are not logged if the path is not configured
+    public static final String CONFIG_TRANSACTION_LOG_PATH = "b7a.transactions.log.path";
 }
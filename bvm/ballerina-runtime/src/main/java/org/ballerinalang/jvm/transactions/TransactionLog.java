@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.transactions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * An append only log of the commit decisions of the transactions which are coordinated by this instance.
+ * <p>
+ * A commit decision is durable once it is logged, hence the participants of a transaction are notified to commit
+ * only after it is logged. The records of concurrent transactions are forced to the disk together, so that a
+ * transaction waits for the force of the batch which contains its record instead of forcing the log by itself. A
+ * transaction which is not found in the log is presumed to be aborted, hence aborts are not logged.
+ * <p>
+ * The log is compacted when it is opened, and only keeps the transactions which were decided to commit but were not
+ * completed before the instance stopped.
+ *
+ * @since 1.2.0
+ */
+public class TransactionLog {
+
+    private static final String COMMIT_RECORD = "commit";
+    private static final String END_RECORD = "end";
+    private static final char SEPARATOR = ' ';
+
+    private final FileChannel channel;
+    private final Set<String> inDoubtTransactions;
+
+    private StringBuilder pendingRecords = new StringBuilder();
+    private long appendedCount;
+    private long durableCount;
+    private boolean forcing;
+    private IOException failure;
+
+    public TransactionLog(Path path) throws IOException {
+        this.inDoubtTransactions = recover(path);
+        Path compactedPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel compacted = FileChannel.open(compactedPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringBuilder records = new StringBuilder();
+            for (String transactionId : inDoubtTransactions) {
+                appendRecord(records, COMMIT_RECORD, transactionId);
+            }
+            writeFully(compacted, records);
+            compacted.force(true);
+        }
+        Files.move(compactedPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the transactions which were decided to commit, but were not completed before the log was opened.
+     *
+     * @return global ids of the transactions
+     */
+    public Set<String> getInDoubtTransactions() {
+        return Collections.unmodifiableSet(inDoubtTransactions);
+    }
+
+    /**
+     * Logs the commit decision of a transaction, and waits until the decision is forced to the disk.
+     *
+     * @param transactionId global id of the transaction
+     * @throws IOException if the decision cannot be logged
+     */
+    public void logCommit(String transactionId) throws IOException {
+        long sequence = append(COMMIT_RECORD, transactionId);
+        awaitDurable(sequence);
+    }
+
+    /**
+     * Logs that all the participants of a transaction are notified. The record is forced together with the next
+     * commit decision, as a lost end record only leaves a completed transaction in doubt.
+     *
+     * @param transactionId global id of the transaction
+     */
+    public void logEnd(String transactionId) {
+        append(END_RECORD, transactionId);
+    }
+
+    private synchronized long append(String recordType, String transactionId) {
+        appendRecord(pendingRecords, recordType, transactionId);
+        return ++appendedCount;
+    }
+
+    private void awaitDurable(long sequence) throws IOException {
+        StringBuilder batch;
+        long batchEnd;
+        synchronized (this) {
+            while (forcing && durableCount < sequence && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted while logging the transaction", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (durableCount >= sequence) {
+                return;
+            }
+            // the records appended while the previous batch was forced are forced together by this thread
+            forcing = true;
+            batch = pendingRecords;
+            batchEnd = appendedCount;
+            pendingRecords = new StringBuilder();
+        }
+
+        IOException batchFailure = null;
+        try {
+            writeFully(channel, batch);
+            channel.force(false);
+        } catch (IOException e) {
+            batchFailure = e;
+        }
+
+        synchronized (this) {
+            forcing = false;
+            if (batchFailure == null) {
+                durableCount = batchEnd;
+            } else {
+                // the records of the failed batch are lost, hence the log is not used anymore
+                failure = batchFailure;
+            }
+            notifyAll();
+        }
+        if (batchFailure != null) {
+            throw batchFailure;
+        }
+    }
+
+    private static Set<String> recover(Path path) throws IOException {
+        Set<String> transactions = new LinkedHashSet<>();
+        if (!Files.exists(path)) {
+            return transactions;
+        }
+        String records = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        // a record which was partially written when the instance stopped is not terminated, and is ignored
+        int end = records.lastIndexOf('\n');
+        for (String line : records.substring(0, end + 1).split("\n")) {
+            int separatorIndex = line.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                continue;
+            }
+            String recordType = line.substring(0, separatorIndex);
+            String transactionId = line.substring(separatorIndex + 1);
+            if (COMMIT_RECORD.equals(recordType)) {
+                transactions.add(transactionId);
+            } else if (END_RECORD.equals(recordType)) {
+                transactions.remove(transactionId);
+            }
+        }
+        return transactions;
+    }
+
+    private static void appendRecord(StringBuilder records, String recordType, String transactionId) {
+        records.append(recordType).append(SEPARATOR).append(transactionId).append('\n');
+    }
+
+    private static void writeFully(FileChannel channel, StringBuilder records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -17,12 +17,15 @@
  */
 package org.ballerinalang.jvm.transactions;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.FPValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -36,6 +39,7 @@ import javax.transaction.xa.Xid;
 
 import static javax.transaction.xa.XAResource.TMNOFLAGS;
 import static javax.transaction.xa.XAResource.TMSUCCESS;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.CONFIG_TRANSACTION_LOG_PATH;
 
 /**
  * {@code TransactionResourceManager} registry for transaction contexts.
@@ -56,11 +60,32 @@ public class TransactionResourceManager {
     private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
 
+    private TransactionLog transactionLog;
+
     private TransactionResourceManager() {
         resourceRegistry = new HashMap<>();
         xidRegistry = new HashMap<>();
         committedFuncRegistry = new HashMap<>();
         abortedFuncRegistry = new HashMap<>();
+        transactionLog = openTransactionLog();
+    }
+
+    private static TransactionLog openTransactionLog() {
+        String logPath = ConfigRegistry.getInstance().getAsString(CONFIG_TRANSACTION_LOG_PATH);
+        if (logPath == null || logPath.isEmpty()) {
+            return null;
+        }
+        try {
+            TransactionLog transactionLog = new TransactionLog(Paths.get(logPath));
+            if (!transactionLog.getInDoubtTransactions().isEmpty()) {
+                log.warn("transactions which were decided to commit but were not completed: " +
+                        transactionLog.getInDoubtTransactions());
+            }
+            return transactionLog;
+        } catch (IOException e) {
+            throw new BallerinaException("error in opening the transaction log: " + logPath + " error:" +
+                    e.getMessage());
+        }
     }
 
     public static TransactionResourceManager getInstance() {
@@ -202,6 +227,79 @@ public class TransactionResourceManager {
         return commitSuccess;
     }
 
+    /**
+     * This method commits the resource of a transaction which has no participants other than its resources, without
+     * preparing the resource. A transaction with more than one resource has to be prepared, hence is not committed.
+     *
+     * @param strand             the strand
+     * @param transactionId      the global transaction id
+     * @param transactionBlockId the block id of the transaction
+     * @return the status of the commit operation, or null if the transaction has to be committed in two phases
+     */
+    public Boolean commitOnePhase(Strand strand, String transactionId, String transactionBlockId) {
+        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        if ((txContextList != null && txContextList.size() > 1) || failedResourceParticipantSet.contains(
+                transactionId) || failedLocalParticipantSet.contains(transactionId)) {
+            return null;
+        }
+        boolean commitSuccess = true;
+        if (txContextList != null) {
+            BallerinaTransactionContext ctx = txContextList.get(0);
+            try {
+                XAResource xaResource = ctx.getXAResource();
+                if (xaResource != null) {
+                    Xid xid = xidRegistry.get(combinedId);
+                    xaResource.commit(xid, true);
+                } else {
+                    ctx.commit();
+                }
+            } catch (Throwable e) {
+                log.error("error in commit the transaction, " + combinedId + ":" + e.getMessage(), e);
+                commitSuccess = false;
+            } finally {
+                ctx.close();
+            }
+        }
+        invokeCommittedFunction(strand, transactionId, transactionBlockId);
+        removeContextsFromRegistry(combinedId, transactionId);
+        failedResourceParticipantSet.remove(transactionId);
+        failedLocalParticipantSet.remove(transactionId);
+        localParticipants.remove(transactionId);
+        return commitSuccess;
+    }
+
+    /**
+     * This method logs the decision to commit the given transaction, before its participants are notified to commit.
+     *
+     * @param transactionId the global transaction id
+     * @return whether the decision is logged, or the transaction log is not configured
+     */
+    public boolean logCommitDecision(String transactionId) {
+        if (transactionLog == null) {
+            return true;
+        }
+        try {
+            transactionLog.logCommit(transactionId);
+            return true;
+        } catch (IOException e) {
+            log.error("error in logging the commit decision of the transaction, " + transactionId + ":" +
+                    e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * This method logs that all the participants of the given transaction are notified of its commit decision.
+     *
+     * @param transactionId the global transaction id
+     */
+    public void logCompletion(String transactionId) {
+        if (transactionLog != null) {
+            transactionLog.logEnd(transactionId);
+        }
+    }
+
     /**
      * This method acts as the callback which aborts all the resources participated in the given transaction.
      *
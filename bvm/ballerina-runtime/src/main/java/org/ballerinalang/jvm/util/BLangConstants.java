@@ -90,6 +90,10 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_BLOCKING_POOL_SIZE_ENV_VAR = "BALLERINA_BLOCKING_POOL_SIZE";
+    public static final String BALLERINA_STREAM_BATCH_DELIVERY_ENV_VAR = "BALLERINA_STREAM_BATCH_DELIVERY";
 
 
     public static final BPackage BALLERINA_BUILTIN_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
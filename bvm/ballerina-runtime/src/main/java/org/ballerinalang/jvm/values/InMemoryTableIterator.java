@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.ColumnDefinition;
+import org.ballerinalang.jvm.DataIterator;
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.types.BStructureType;
+
+import java.util.List;
+
+/**
+ * Iterator over a snapshot of the rows of an {@link InMemoryTable}.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class InMemoryTableIterator implements DataIterator {
+
+    private final InMemoryTable table;
+    private final BStructureType type;
+    private final List<ColumnDefinition> columnDefs;
+    private Object[][] rows;
+    private int cursor = -1;
+
+    public InMemoryTableIterator(InMemoryTable table, BStructureType type) {
+        this.table = table;
+        this.type = type;
+        this.columnDefs = TableIterator.generateColumnDefinitions(type);
+        this.rows = table.getRows();
+    }
+
+    @Override
+    public boolean next() {
+        if (rows == null || cursor + 1 >= rows.length) {
+            return false;
+        }
+        cursor++;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        rows = null;
+    }
+
+    @Override
+    public void reset() {
+        close();
+    }
+
+    /**
+     * Returns the row the iterator is currently positioned on.
+     *
+     * @return current row
+     */
+    public Object[] getCurrentRow() {
+        return rows[cursor];
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        return table.getStringValue(getCurrentRow(), columnIndex);
+    }
+
+    @Override
+    public Long getInt(int columnIndex) {
+        Object value = table.getColumnValue(getCurrentRow(), columnIndex);
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    @Override
+    public Double getFloat(int columnIndex) {
+        Object value = table.getColumnValue(getCurrentRow(), columnIndex);
+        return value == null ? null : ((Number) value).doubleValue();
+    }
+
+    @Override
+    public Boolean getBoolean(int columnIndex) {
+        return (Boolean) table.getColumnValue(getCurrentRow(), columnIndex);
+    }
+
+    @Override
+    public String getBlob(int columnIndex) {
+        Object value = table.getColumnValue(getCurrentRow(), columnIndex);
+        return value == null ? null : new String((byte[]) value);
+    }
+
+    @Override
+    public DecimalValue getDecimal(int columnIndex) {
+        return (DecimalValue) table.getColumnValue(getCurrentRow(), columnIndex);
+    }
+
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        // record typed columns are not supported in in-memory tables
+        return null;
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        return (Object[]) table.getColumnValue(getCurrentRow(), columnIndex);
+    }
+
+    @Override
+    public MapValue<String, Object> generateNext() {
+        return table.createRecord(getCurrentRow());
+    }
+
+    @Override
+    public List<ColumnDefinition> getColumnDefinitions() {
+        return this.columnDefs;
+    }
+
+    @Override
+    public BStructureType getStructType() {
+        return this.type;
+    }
+}
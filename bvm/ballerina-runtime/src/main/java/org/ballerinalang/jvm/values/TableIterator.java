@@ -70,7 +70,7 @@ public class TableIterator implements DataIterator {
         this.resourceManager = rm;
         this.rs = rs;
         this.type = type;
-        generateColumnDefinitions();
+        this.columnDefs = generateColumnDefinitions(type);
     }
 
     @Override
@@ -294,7 +294,16 @@ public class TableIterator implements DataIterator {
     }
 
     protected ArrayValue getDataArray(Array array) throws SQLException {
-        Object[] dataArray = generateArrayDataResult(array);
+        return createDataArray(generateArrayDataResult(array));
+    }
+
+    /**
+     * Creates a Ballerina array from the elements of an array column.
+     *
+     * @param dataArray elements of the array column
+     * @return Ballerina array, or null if there are no elements
+     */
+    public static ArrayValue createDataArray(Object[] dataArray) {
         if (dataArray == null || dataArray.length == 0) {
             return null;
         }
@@ -315,7 +324,7 @@ public class TableIterator implements DataIterator {
         }
     }
 
-    private ArrayValue createAndPopulatePrimitiveValueArray(Object firstNonNullElement, Object[] dataArray) {
+    private static ArrayValue createAndPopulatePrimitiveValueArray(Object firstNonNullElement, Object[] dataArray) {
         int length = dataArray.length;
         if (firstNonNullElement instanceof String) {
             ArrayValue stringDataArray = new ArrayValueImpl(new BArrayType(BTypes.typeString));
@@ -364,7 +373,7 @@ public class TableIterator implements DataIterator {
         }
     }
 
-    private ArrayValue createAndPopulateRefValueArray(Object firstNonNullElement, Object[] dataArray) {
+    private static ArrayValue createAndPopulateRefValueArray(Object firstNonNullElement, Object[] dataArray) {
         ArrayValue refValueArray = null;
         int length = dataArray.length;
         if (firstNonNullElement instanceof String) {
@@ -406,7 +415,7 @@ public class TableIterator implements DataIterator {
         return refValueArray;
     }
 
-    private ArrayValue createEmptyRefValueArray(BType type, int length) {
+    private static ArrayValue createEmptyRefValueArray(BType type, int length) {
         List<BType> memberTypes = new ArrayList<>(2);
         memberTypes.add(type);
         memberTypes.add(BTypes.typeNull);
@@ -414,7 +423,7 @@ public class TableIterator implements DataIterator {
         return new ArrayValueImpl(new BArrayType(unionType));
     }
 
-    private ArrayElementAttributes getArrayElementNullabilityInfo(Object[] objects) {
+    private static ArrayElementAttributes getArrayElementNullabilityInfo(Object[] objects) {
         ArrayElementAttributes arrayElementAttributes = new ArrayElementAttributes();
         int i = 0;
         while (i < objects.length) {
@@ -443,9 +452,15 @@ public class TableIterator implements DataIterator {
         return arrayElementAttributes;
     }
 
-    private void generateColumnDefinitions() {
-        Collection<BField> structFields = this.type.getFields().values();
-        columnDefs = new ArrayList<>(structFields.size());
+    /**
+     * Generates the column definitions of a table with the given constraint type.
+     *
+     * @param structType constraint type of the table
+     * @return list of {@code ColumnDefinition}
+     */
+    public static List<ColumnDefinition> generateColumnDefinitions(BStructureType structType) {
+        Collection<BField> structFields = structType.getFields().values();
+        List<ColumnDefinition> columnDefs = new ArrayList<>(structFields.size());
         for (BField sf : structFields) {
             BType type = sf.getFieldType();
             int typeTag = TypeTags.ANY_TAG;
@@ -470,6 +485,7 @@ public class TableIterator implements DataIterator {
             ColumnDefinition def = new ColumnDefinition(sf.getFieldName(), typeTag);
             columnDefs.add(def);
         }
+        return columnDefs;
     }
 
     private static class ArrayElementAttributes {
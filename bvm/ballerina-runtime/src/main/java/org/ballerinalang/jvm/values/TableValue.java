@@ -20,10 +20,10 @@ package org.ballerinalang.jvm.values;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.ColumnDefinition;
 import org.ballerinalang.jvm.DataIterator;
+import org.ballerinalang.jvm.InMemoryTable;
 import org.ballerinalang.jvm.TableProvider;
 import org.ballerinalang.jvm.TableUtils;
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BFunctionType;
 import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BTableType;
@@ -59,7 +59,7 @@ public class TableValue implements RefValue, BTable {
     private boolean hasNextVal;
     private boolean nextPrefetched;
     private TableProvider tableProvider;
-    private String tableName;
+    private InMemoryTable store;
     private BStructureType constraintType;
     private ArrayValue primaryKeys;
     private boolean tableClosed;
@@ -72,14 +72,14 @@ public class TableValue implements RefValue, BTable {
         this.tableProvider = null;
         this.nextPrefetched = false;
         this.hasNextVal = false;
-        this.tableName = null;
+        this.store = null;
         this.type = BTypes.typeTable;
     }
 
     @Deprecated
     public TableValue(String tableName, BStructureType constraintType) {
         this(constraintType);
-        this.tableName = tableName;
+        this.store = new InMemoryTable(tableName, constraintType, null);
     }
 
     @Deprecated
@@ -103,10 +103,9 @@ public class TableValue implements RefValue, BTable {
                 throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
                         "Table query over a cursor table not supported");
             }
-            this.tableName = tableProvider.createTable(fromTable.tableName, joinTable.tableName, query,
-                                                       constraintType, params);
+            this.store = tableProvider.createTable(fromTable.store, joinTable.store, query, constraintType, params);
         } else {
-            this.tableName = tableProvider.createTable(fromTable.tableName, query, constraintType, params);
+            this.store = tableProvider.createTable(fromTable.store, null, query, constraintType, params);
         }
         this.constraintType = constraintType;
         this.type = new BTableType(constraintType);
@@ -117,7 +116,7 @@ public class TableValue implements RefValue, BTable {
         //Create table with given constraints.
         BType constrainedType = ((BTableType) type).getConstrainedType();
         this.tableProvider = TableProvider.getInstance();
-        this.tableName = tableProvider.createTable(constrainedType, keyColumns);
+        this.store = tableProvider.createTable(constrainedType, keyColumns);
         this.constraintType = (BStructureType) constrainedType;
         this.type = new BTableType(constraintType);
         this.primaryKeys = keyColumns;
@@ -267,7 +266,7 @@ public class TableValue implements RefValue, BTable {
                     "incompatible types: record of type:" + data.getType().getName()
                             + " cannot be added to a table with type:" + this.constraintType.getName());
         }
-        tableProvider.insertData(tableName, data);
+        store.insert(data);
         reset();
     }
 
@@ -297,8 +296,9 @@ public class TableValue implements RefValue, BTable {
         int deletedCount = 0;
         while (this.hasNext()) {
             MapValueImpl<String, Object> row = this.getNext();
+            Object[] currentRow = ((InMemoryTableIterator) iterator).getCurrentRow();
             if (func.call(new Object[] { strand, row, true })) {
-                tableProvider.deleteData(this.tableName, row);
+                store.delete(currentRow);
                 ++deletedCount;
             }
         }
@@ -412,19 +412,12 @@ public class TableValue implements RefValue, BTable {
             return refs.get(this);
         }
 
-        TableIterator cloneIterator = tableProvider.createIterator(this.tableName, this.constraintType);
-        ArrayValue data = new ArrayValueImpl(new BArrayType(this.constraintType));
-        int cursor = 0;
-        try {
-            while (cloneIterator.next()) {
-                data.add(cursor++, cloneIterator.generateNext());
-            }
-            TableValue table = new TableValue(new BTableType(constraintType), this.primaryKeys, data);
-            refs.put(this, table);
-            return table;
-        } finally {
-            cloneIterator.close();
-        }
+        TableValue table = new TableValue(this.constraintType);
+        table.tableProvider = this.tableProvider;
+        table.store = this.store.copy();
+        table.primaryKeys = this.primaryKeys;
+        refs.put(this, table);
+        return table;
     }
 
     /**
@@ -445,7 +438,7 @@ public class TableValue implements RefValue, BTable {
     }
 
     private void generateIterator() {
-        this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        this.iterator = new InMemoryTableIterator(store, this.constraintType);
         resetIterationHelperAttributes();
     }
 
@@ -458,14 +451,6 @@ public class TableValue implements RefValue, BTable {
         this.hasNextVal = false;
     }
 
-    @Override
-    public void finalize() {
-        if (this.iterator != null) {
-            this.iterator.close();
-        }
-        tableProvider.dropTable(this.tableName);
-    }
-
     private void insertInitialData(ArrayValue data) {
         int count = data.size();
         for (int i = 0; i < count; i++) {
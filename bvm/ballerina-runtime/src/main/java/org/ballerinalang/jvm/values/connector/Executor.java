@@ -114,6 +114,44 @@ public class Executor {
     public static Object executeFunction(Scheduler scheduler, ClassLoader classLoader, final String orgName,
                                          String packageName, String className, String methodName,
                                          Object... paramValues) {
+        try {
+            CountDownLatch completeFunction = new CountDownLatch(1);
+            FutureValue futureValue = submitFunction(scheduler, classLoader, orgName, packageName, className,
+                                                     methodName, new CallableUnitCallback() {
+                @Override
+                public void notifySuccess() {
+                    completeFunction.countDown();
+                }
+
+                @Override
+                public void notifyFailure(ErrorValue error) {
+                    completeFunction.countDown();
+                }
+            }, paramValues);
+            completeFunction.await();
+            return futureValue.result;
+        } catch (InterruptedException e) {
+            throw new BallerinaException("invocation failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * This method will invoke Ballerina function in non-blocking manner. The callback is notified when the function
+     * completes, and the result of the function is then available in the returned future.
+     *
+     * @param scheduler   current scheduler
+     * @param classLoader normal classLoader
+     * @param orgName     org which the package belongs to
+     * @param packageName package which the class belongs to
+     * @param className   which the function resides/ or file name
+     * @param methodName  to be invokable unit
+     * @param callback    to be notified when the function completes
+     * @param paramValues to be passed to invokable unit
+     * @return the future of the function
+     */
+    public static FutureValue submitFunction(Scheduler scheduler, ClassLoader classLoader, final String orgName,
+                                             String packageName, String className, String methodName,
+                                             CallableUnitCallback callback, Object... paramValues) {
         try {
             Class<?> clazz = classLoader.loadClass(orgName + "." + packageName + "." + className);
             int paramCount = paramValues.length * 2 + 1;
@@ -135,21 +173,8 @@ public class Executor {
                     throw new BallerinaException(methodName + " function invocation failed: " + e.getMessage());
                 }
             };
-            CountDownLatch completeFunction = new CountDownLatch(1);
-            FutureValue futureValue = scheduler.schedule(jvmArgs, func, null, new CallableUnitCallback() {
-                @Override
-                public void notifySuccess() {
-                    completeFunction.countDown();
-                }
-
-                @Override
-                public void notifyFailure(ErrorValue error) {
-                    completeFunction.countDown();
-                }
-            }, new HashMap<>(), BTypes.typeNull);
-            completeFunction.await();
-            return futureValue.result;
-        } catch (NoSuchMethodException | ClassNotFoundException | InterruptedException e) {
+            return scheduler.schedule(jvmArgs, func, null, callback, new HashMap<>(), BTypes.typeNull);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
             throw new BallerinaException("invocation failed: " + e.getMessage());
         }
     }
@@ -19,6 +19,7 @@
 package org.ballerinalang.jvm.values.utils;
 
 import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
@@ -61,7 +62,18 @@ public class ArrayUtils {
     public static GetFunction getElementAccessFunction(BType arrType, String funcName) {
         switch (arrType.getTag()) {
             case TypeTags.ARRAY_TAG:
-                return ArrayValue::get;
+                // the members of int, float and string arrays are read directly from the values of their type,
+                // instead of dispatching on the element type for each member
+                switch (((BArrayType) arrType).getElementType().getTag()) {
+                    case TypeTags.INT_TAG:
+                        return ArrayValue::getInt;
+                    case TypeTags.FLOAT_TAG:
+                        return ArrayValue::getFloat;
+                    case TypeTags.STRING_TAG:
+                        return ArrayValue::getString;
+                    default:
+                        return ArrayValue::get;
+                }
             case TypeTags.TUPLE_TAG:
                 return ArrayValue::getRefValue;
             default:
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability;
+
+import org.ballerinalang.jvm.observability.metrics.BallerinaMetricsObserver;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Gauge;
+import org.ballerinalang.jvm.observability.metrics.Metric;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the metric handles kept by the {@link BallerinaMetricsObserver}.
+ */
+public class BallerinaMetricsObserverTests {
+
+    private MetricRegistry metricRegistry;
+    private BallerinaMetricsObserver observer;
+
+    @BeforeClass
+    public void setup() {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new NoOpMetricProvider()));
+        }
+        metricRegistry = DefaultMetricRegistry.getInstance();
+        observer = new BallerinaMetricsObserver();
+    }
+
+    @Test
+    public void testMetricsReusedForObservations() {
+        observeAction("reuse_test", "get");
+        Metric requests = lookup("reuse_test_requests_total");
+        Metric inprogressRequests = lookup("reuse_test_inprogress_requests");
+
+        observeAction("reuse_test", "get");
+        Assert.assertSame(lookup("reuse_test_requests_total"), requests);
+        Assert.assertSame(lookup("reuse_test_inprogress_requests"), inprogressRequests);
+    }
+
+    @Test
+    public void testRemovedMetricsRegisteredAgain() {
+        observeAction("remove_test", "get");
+        Assert.assertNotNull(lookup("remove_test_requests_total"));
+
+        metricRegistry.remove("remove_test_requests_total");
+        Assert.assertNull(lookup("remove_test_requests_total"));
+
+        // the observer does not keep the handle of the removed metric, hence it is registered again
+        observeAction("remove_test", "get");
+        Assert.assertNotNull(lookup("remove_test_requests_total"));
+    }
+
+    @Test
+    public void testUnregisteredMetricsRegisteredAgain() {
+        observeResource("unregister_test", "hello", "sayHello");
+        Gauge inprogressRequests = (Gauge) lookup("unregister_test_inprogress_requests");
+        Assert.assertNotNull(inprogressRequests);
+
+        metricRegistry.unregister(inprogressRequests);
+        Assert.assertNull(lookup("unregister_test_inprogress_requests"));
+
+        observeResource("unregister_test", "hello", "sayHello");
+        Assert.assertNotNull(lookup("unregister_test_inprogress_requests"));
+        Assert.assertNotNull(lookup("unregister_test_response_time_seconds"));
+    }
+
+    private void observeAction(String connectorName, String actionName) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.setConnectorName(connectorName);
+        observerContext.setActionName(actionName);
+        observerContext.setStarted();
+        observer.startClientObservation(observerContext);
+        observer.stopClientObservation(observerContext);
+    }
+
+    private void observeResource(String connectorName, String serviceName, String resourceName) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.setConnectorName(connectorName);
+        observerContext.setServiceName(serviceName);
+        observerContext.setResourceName(resourceName);
+        observerContext.setServer();
+        observerContext.setStarted();
+        observer.startServerObservation(observerContext);
+        observer.stopServerObservation(observerContext);
+    }
+
+    private Metric lookup(String name) {
+        for (Metric metric : metricRegistry.getAllMetrics()) {
+            if (metric.getId().getName().equals(name)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link WorkStealingQueues}, and the {@link Scheduler} in work stealing mode.
+ */
+public class WorkStealingQueuesTests {
+
+    private static final long TIMEOUT_IN_SECONDS = 30;
+
+    @Test
+    void testWorkerTakesOwnItemsInOrder() throws Exception {
+        WorkStealingQueues queues = new WorkStealingQueues(2);
+        SchedulerItem[] items = createItems(3);
+        runAsWorker(queues, 0, () -> {
+            for (SchedulerItem item : items) {
+                queues.add(item);
+            }
+            Assert.assertEquals(queues.size(0), 3);
+            Assert.assertEquals(queues.size(1), 0);
+            for (SchedulerItem item : items) {
+                Assert.assertSame(queues.take(0), item);
+            }
+        });
+    }
+
+    @Test
+    void testPinnedItemsFirst() throws Exception {
+        WorkStealingQueues queues = new WorkStealingQueues(2);
+        SchedulerItem[] items = createItems(3);
+        runAsWorker(queues, 0, () -> {
+            queues.add(items[0]);
+            queues.addPinned(0, items[1]);
+            queues.addPinned(0, items[2]);
+            Assert.assertSame(queues.take(0), items[1]);
+            Assert.assertSame(queues.take(0), items[2]);
+            Assert.assertSame(queues.take(0), items[0]);
+        });
+    }
+
+    @Test
+    void testStealFromTail() throws Exception {
+        WorkStealingQueues queues = new WorkStealingQueues(2);
+        SchedulerItem[] items = createItems(3);
+        runAsWorker(queues, 0, () -> {
+            for (SchedulerItem item : items) {
+                queues.add(item);
+            }
+        });
+        // the other worker steals the items which its owner would take last
+        runAsWorker(queues, 1, () -> {
+            Assert.assertSame(queues.take(1), items[2]);
+            Assert.assertSame(queues.take(1), items[1]);
+            Assert.assertSame(queues.take(1), items[0]);
+            Assert.assertEquals(queues.size(0), 0);
+        });
+    }
+
+    @Test
+    void testPinnedItemsAreNotStolen() throws Exception {
+        WorkStealingQueues queues = new WorkStealingQueues(2);
+        SchedulerItem[] items = createItems(2);
+        queues.addPinned(0, items[0]);
+        runAsWorker(queues, 0, () -> queues.add(items[1]));
+        runAsWorker(queues, 1, () -> {
+            Assert.assertSame(queues.take(1), items[1]);
+            Assert.assertEquals(queues.size(0), 1);
+        });
+        runAsWorker(queues, 0, () -> Assert.assertSame(queues.take(0), items[0]));
+    }
+
+    @Test
+    void testStealFromEmptyQueuesWaitsForItem() throws Exception {
+        WorkStealingQueues queues = new WorkStealingQueues(2);
+        SchedulerItem item = createItems(1)[0];
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch registered = new CountDownLatch(1);
+            Future<SchedulerItem> taken = executor.submit(() -> {
+                queues.registerWorker(1);
+                registered.countDown();
+                return queues.take(1);
+            });
+            Assert.assertTrue(registered.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+            // the worker finds no item to take or steal, and waits
+            Thread.sleep(100);
+            Assert.assertFalse(taken.isDone());
+
+            // an item added by a thread which is not a worker wakes up the idle worker, which steals it
+            queues.add(item);
+            Assert.assertSame(taken.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS), item);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentAddAndTake() throws Exception {
+        int numWorkers = 4;
+        int numProducers = 4;
+        int itemsPerProducer = 20000;
+        // every item taken by a worker adds a child item, which is taken by the same worker or stolen
+        int totalItems = 2 * numProducers * itemsPerProducer;
+        WorkStealingQueues queues = new WorkStealingQueues(numWorkers);
+        Map<SchedulerItem, Boolean> children = new ConcurrentHashMap<>();
+        Map<SchedulerItem, AtomicInteger> takeCounts = new ConcurrentHashMap<>();
+        AtomicInteger takenCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(numWorkers + numProducers);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < numWorkers; i++) {
+                int id = i;
+                workers.add(executor.submit(() -> {
+                    queues.registerWorker(id);
+                    while (true) {
+                        SchedulerItem item = queues.take(id);
+                        if (item == SchedulerItem.POISON_PILL) {
+                            return;
+                        }
+                        takeCounts.computeIfAbsent(item, key -> new AtomicInteger()).incrementAndGet();
+                        if (!children.containsKey(item)) {
+                            SchedulerItem child = createItems(1)[0];
+                            children.put(child, true);
+                            queues.add(child);
+                        }
+                        takenCount.incrementAndGet();
+                    }
+                }));
+            }
+            List<Future<?>> producers = new ArrayList<>();
+            for (int i = 0; i < numProducers; i++) {
+                producers.add(executor.submit(() -> {
+                    for (SchedulerItem item : createItems(itemsPerProducer)) {
+                        queues.add(item);
+                    }
+                }));
+            }
+            for (Future<?> producer : producers) {
+                producer.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            }
+
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS);
+            while (takenCount.get() < totalItems && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            for (int i = 0; i < numWorkers; i++) {
+                queues.addPinned(i, SchedulerItem.POISON_PILL);
+            }
+            for (Future<?> worker : workers) {
+                worker.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // no item is lost, and no item is taken twice
+        Assert.assertEquals(takenCount.get(), totalItems);
+        Assert.assertEquals(takeCounts.size(), totalItems);
+        for (AtomicInteger count : takeCounts.values()) {
+            Assert.assertEquals(count.get(), 1);
+        }
+        for (int i = 0; i < numWorkers; i++) {
+            Assert.assertEquals(queues.size(i), 0);
+        }
+    }
+
+    @Test
+    void testWorkStealingSchedulerRunsEveryStrandOnce() {
+        int numStrands = 2000;
+        int childrenPerStrand = 4;
+        Scheduler scheduler = new Scheduler(4, false, true);
+        AtomicIntegerArray runCounts = new AtomicIntegerArray(numStrands * (childrenPerStrand + 1));
+        Function<Object[], Object> child = params -> {
+            runCounts.incrementAndGet((Integer) params[1]);
+            return null;
+        };
+        Function<Object[], Object> parent = params -> {
+            int id = (Integer) params[1];
+            runCounts.incrementAndGet(id);
+            // the children are added to the deque of the worker which runs the parent, and are stolen by the others
+            for (int i = 1; i <= childrenPerStrand; i++) {
+                scheduler.schedule(new Object[]{null, numStrands + id * childrenPerStrand + i - 1}, child,
+                        (Strand) params[0], null);
+            }
+            return null;
+        };
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < numStrands; i++) {
+            futures.add(scheduler.schedule(new Object[]{null, i}, parent, null, null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertNull(future.panic);
+            Assert.assertTrue(future.isDone);
+        }
+        for (int i = 0; i < runCounts.length(); i++) {
+            Assert.assertEquals(runCounts.get(i), 1, "run count of strand " + i);
+        }
+    }
+
+    private static SchedulerItem[] createItems(int count) {
+        SchedulerItem[] items = new SchedulerItem[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = new SchedulerItem((Function<Object[], Object>) params -> null, new Object[1], null);
+        }
+        return items;
+    }
+
+    /**
+     * Runs the given code on a new thread which is registered as the given worker, as worker IDs are thread local.
+     */
+    private static void runAsWorker(WorkStealingQueues queues, int id, ThrowingRunnable code)
+            throws InterruptedException, TimeoutException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                queues.registerWorker(id);
+                code.run();
+                return null;
+            }).get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AssertionError) {
+                throw (AssertionError) e.getCause();
+            }
+            throw new AssertionError(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.streams;
+
+import org.ballerinalang.jvm.types.BStreamType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.StreamValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Test cases for the delivery of stream events by the {@link StreamSubscriptionManager}, with and without batching.
+ */
+public class StreamSubscriptionManagerTests {
+
+    private static final long TIMEOUT_IN_SECONDS = 30;
+    private static final long MAX_EVENTS_PER_PUBLISHER = 1000000;
+
+    @Test
+    void testUnbatchedDeliveryOnPublishingThread() {
+        StreamSubscriptionManager manager = new StreamSubscriptionManager(false);
+        StreamValue stream = createStream();
+        List<Thread> deliveringThreads = Collections.synchronizedList(new ArrayList<>());
+        Consumer<Object> subscriber = event -> deliveringThreads.add(Thread.currentThread());
+        manager.registerMessageProcessor(stream, createFunction(subscriber));
+        manager.registerMessageProcessor(stream, createFunction(subscriber));
+
+        manager.sendMessage(stream, null, 1L);
+        Assert.assertEquals(deliveringThreads, Collections.nCopies(2, Thread.currentThread()));
+    }
+
+    @Test
+    void testBatchedDeliveryKeepsPublisherOrderForEachSubscriber() throws Exception {
+        int numSubscribers = 3;
+        int numPublishers = 4;
+        int eventsPerPublisher = 5000;
+        StreamSubscriptionManager manager = new StreamSubscriptionManager(true);
+        StreamValue stream = createStream();
+        List<OrderCheckingSubscriber> subscribers = new ArrayList<>();
+        for (int i = 0; i < numSubscribers; i++) {
+            OrderCheckingSubscriber subscriber = new OrderCheckingSubscriber(numPublishers);
+            subscribers.add(subscriber);
+            manager.registerMessageProcessor(stream, createFunction(subscriber));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(numPublishers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> publishers = new ArrayList<>();
+            for (int i = 0; i < numPublishers; i++) {
+                long publisher = i;
+                publishers.add(executor.submit(() -> {
+                    start.await();
+                    for (long seq = 0; seq < eventsPerPublisher; seq++) {
+                        // numbers are immutable, hence all the subscribers get the same event
+                        manager.sendMessage(stream, null, publisher * MAX_EVENTS_PER_PUBLISHER + seq);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> publisher : publishers) {
+                publisher.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // a publisher returns only once its event is delivered, or queued for the strand which is delivering
+        for (OrderCheckingSubscriber subscriber : subscribers) {
+            Assert.assertEquals(subscriber.deliveredCount.get(), numPublishers * eventsPerPublisher);
+            Assert.assertEquals(subscriber.outOfOrderCount.get(), 0);
+            Assert.assertEquals(subscriber.concurrentDeliveryCount.get(), 0);
+        }
+    }
+
+    @Test
+    void testBatchedEventsDeliveredByDeliveringPublisher() throws Exception {
+        StreamSubscriptionManager manager = new StreamSubscriptionManager(true);
+        StreamValue stream = createStream();
+        CountDownLatch firstEventDelivering = new CountDownLatch(1);
+        CountDownLatch releaseFirstEvent = new CountDownLatch(1);
+        List<Object> events = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> deliveringThreads = Collections.synchronizedList(new ArrayList<>());
+        manager.registerMessageProcessor(stream, createFunction(event -> {
+            events.add(event);
+            deliveringThreads.add(Thread.currentThread());
+            if (events.size() == 1) {
+                firstEventDelivering.countDown();
+                await(releaseFirstEvent);
+            }
+        }));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Thread> firstPublisher = executor.submit(() -> {
+                manager.sendMessage(stream, null, 1L);
+                return Thread.currentThread();
+            });
+            Assert.assertTrue(firstEventDelivering.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+
+            // the subscriber is busy, hence the events are queued and the publisher does not wait for the delivery
+            executor.submit(() -> {
+                manager.sendMessage(stream, null, 2L);
+                manager.sendMessage(stream, null, 3L);
+            }).get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            Assert.assertEquals(events, Collections.singletonList(1L));
+
+            releaseFirstEvent.countDown();
+            Thread firstPublisherThread = firstPublisher.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            Assert.assertEquals(events, Arrays.asList(1L, 2L, 3L));
+            Assert.assertEquals(deliveringThreads, Collections.nCopies(3, firstPublisherThread));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StreamValue createStream() {
+        return new StreamValue(new BStreamType(BTypes.typeAny));
+    }
+
+    private static FPValue<Object[], Object> createFunction(Consumer<Object> subscriber) {
+        // the function is called with the strand, the event and whether the event has defaultable fields
+        return new FPValue<>(params -> {
+            subscriber.accept(params[1]);
+            return null;
+        }, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A subscriber which counts the events of a publisher which are delivered out of the order they were published,
+     * and the events which are delivered while another event is being delivered to it.
+     */
+    private static class OrderCheckingSubscriber implements Consumer<Object> {
+
+        private final long[] lastSeqs;
+        private final AtomicInteger delivering = new AtomicInteger();
+        private final AtomicInteger deliveredCount = new AtomicInteger();
+        private final AtomicInteger outOfOrderCount = new AtomicInteger();
+        private final AtomicInteger concurrentDeliveryCount = new AtomicInteger();
+
+        OrderCheckingSubscriber(int numPublishers) {
+            this.lastSeqs = new long[numPublishers];
+            Arrays.fill(lastSeqs, -1);
+        }
+
+        @Override
+        public void accept(Object event) {
+            if (delivering.incrementAndGet() != 1) {
+                concurrentDeliveryCount.incrementAndGet();
+            }
+            long value = (Long) event;
+            int publisher = (int) (value / MAX_EVENTS_PER_PUBLISHER);
+            long seq = value % MAX_EVENTS_PER_PUBLISHER;
+            if (seq != lastSeqs[publisher] + 1) {
+                outOfOrderCount.incrementAndGet();
+            }
+            lastSeqs[publisher] = seq;
+            deliveredCount.incrementAndGet();
+            delivering.decrementAndGet();
+        }
+    }
+}
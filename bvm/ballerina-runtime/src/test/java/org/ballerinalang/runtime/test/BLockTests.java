@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for {@link BLock}. A strand which is blocked on the lock is unblocked by the scheduler, and then takes
+ * the lock again, as a strand which runs a lock statement does.
+ */
+public class BLockTests {
+
+    @Test
+    void testSharedLock() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock();
+        Strand reader1 = new Strand(scheduler);
+        Strand reader2 = new Strand(scheduler);
+        Strand writer = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lock(writer));
+        lock.unlockShared();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.emptyList());
+        lock.unlockShared();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer));
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+    }
+
+    @Test
+    void testReadersDoNotStarveWriter() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock();
+        Strand reader1 = new Strand(scheduler);
+        Strand reader2 = new Strand(scheduler);
+        Strand reader3 = new Strand(scheduler);
+        Strand writer = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lock(writer));
+        // the lock is not shared with later readers while the writer waits
+        Assert.assertFalse(lock.lockShared(reader2));
+        lock.unlockShared();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer));
+
+        // nor before the unblocked writer has taken the lock
+        Assert.assertFalse(lock.lockShared(reader3));
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Arrays.asList(reader2, reader3));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertTrue(lock.lockShared(reader3));
+        lock.unlockShared();
+        lock.unlockShared();
+    }
+
+    @Test
+    void testWritersArePreferred() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock();
+        Strand writer1 = new Strand(scheduler);
+        Strand reader1 = new Strand(scheduler);
+        Strand writer2 = new Strand(scheduler);
+        Strand reader2 = new Strand(scheduler);
+        Strand writer3 = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(writer1));
+        Assert.assertFalse(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lock(writer2));
+        Assert.assertFalse(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lock(writer3));
+
+        // the waiting writers take the lock one at a time, ahead of the readers which waited before them
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer2));
+        Assert.assertTrue(lock.lock(writer2));
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer3));
+        Assert.assertTrue(lock.lock(writer3));
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Arrays.asList(reader1, reader2));
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+    }
+
+    @Test
+    void testUnblockedWriterOvertaken() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock();
+        Strand writer1 = new Strand(scheduler);
+        Strand writer2 = new Strand(scheduler);
+        Strand writer3 = new Strand(scheduler);
+        Strand reader = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(writer1));
+        Assert.assertFalse(lock.lock(writer2));
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer2));
+
+        // another writer takes the lock before the unblocked writer, which waits again
+        Assert.assertTrue(lock.lock(writer3));
+        Assert.assertFalse(lock.lock(writer2));
+        Assert.assertFalse(lock.lockShared(reader));
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer2));
+        Assert.assertTrue(lock.lock(writer2));
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(reader));
+        Assert.assertTrue(lock.lockShared(reader));
+    }
+
+    @Test
+    void testReentrantLock() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        BLock lock = new BLock();
+        Strand owner = new Strand(scheduler);
+        Strand writer = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(writer));
+        // the owner takes the lock again in either mode, although a writer waits
+        Assert.assertTrue(lock.lockShared(owner));
+        Assert.assertTrue(lock.lock(owner));
+        lock.unlock();
+        lock.unlockShared();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.emptyList());
+        lock.unlock();
+        Assert.assertEquals(scheduler.takeUnblocked(), Collections.singletonList(writer));
+    }
+
+    /**
+     * A scheduler which records the strands it is asked to unblock, instead of running them.
+     */
+    private static class RecordingScheduler extends Scheduler {
+
+        private final List<Strand> unblocked = new ArrayList<>();
+
+        RecordingScheduler() {
+            super(1, false);
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            unblocked.add(strand);
+        }
+
+        List<Strand> takeUnblocked() {
+            List<Strand> strands = new ArrayList<>(unblocked);
+            unblocked.clear();
+            return strands;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.BlockingExternExecutor;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Test cases for {@link BlockingExternExecutor}. The tests are run with the BALLERINA_BLOCKING_POOL_SIZE system
+ * variable set, hence the blocking calls are offloaded.
+ */
+public class BlockingExternExecutorTests {
+
+    @Test
+    void testBlockingCallIsOffloaded() {
+        Scheduler scheduler = new Scheduler(2, false);
+        FutureValue future = scheduler.schedule(new Object[1], externCall(() -> Thread.currentThread().getName()),
+                null, null);
+        scheduler.start();
+
+        Assert.assertNull(future.panic);
+        Assert.assertTrue(((String) future.result).startsWith("jbal-blocking-exec-"), (String) future.result);
+    }
+
+    @Test
+    void testBlockingCallDoesNotHoldSchedulerThread() {
+        // the only scheduler thread runs the strand which releases the blocking call
+        Scheduler scheduler = new Scheduler(1, false);
+        CountDownLatch latch = new CountDownLatch(1);
+        FutureValue future = scheduler.schedule(new Object[1], externCall(() -> {
+            try {
+                return latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }), null, null);
+        scheduler.schedule(new Object[1], (Function<Object[], Object>) params -> {
+            latch.countDown();
+            return null;
+        }, null, null);
+        scheduler.start();
+
+        Assert.assertNull(future.panic);
+        Assert.assertEquals(future.result, true);
+    }
+
+    @Test
+    void testBlockingCallPanics() {
+        Scheduler scheduler = new Scheduler(2, false);
+        ErrorValue error = BallerinaErrors.createError("blocking call failed");
+        FutureValue future = scheduler.schedule(new Object[1], externCall(() -> {
+            throw error;
+        }), null, null);
+        scheduler.start();
+
+        Assert.assertSame(future.panic, error);
+        Assert.assertNull(future.result);
+    }
+
+    /**
+     * Returns a function which makes the given blocking call, and reads its result once the strand is resumed, the
+     * same way as the code generated for an extern call.
+     */
+    private static Function<Object[], Object> externCall(Supplier<Object> call) {
+        return params -> {
+            Strand strand = (Strand) params[0];
+            if (!strand.isBlockedOnExtern()) {
+                return BlockingExternExecutor.execute(strand, call);
+            }
+            strand.blockedOnExtern = false;
+            try {
+                return strand.getExternReturnValue();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link InMemoryTable}.
+ */
+public class InMemoryTableTests {
+
+    private static final BRecordType PERSON_TYPE = createPersonType();
+
+    @Test
+    void testUnkeyedTable() {
+        InMemoryTable table = new InMemoryTable("Person", PERSON_TYPE, null);
+        for (int i = 0; i < 5; i++) {
+            table.insert(createPerson(i % 2, "person" + (i % 2)));
+        }
+        Assert.assertEquals(table.size(), 5);
+
+        // equal rows are different rows of an unkeyed table
+        Object[][] rows = table.getRows();
+        table.delete(rows[0]);
+        table.delete(rows[3]);
+        assertIds(table, 1, 0, 0);
+    }
+
+    @Test
+    void testKeyedTable() {
+        InMemoryTable table = new InMemoryTable("Person", PERSON_TYPE, new ArrayValueImpl(new String[]{"name"}));
+        table.insert(createPerson(3, "c"));
+        table.insert(createPerson(1, "a"));
+        table.insert(createPerson(2, "b"));
+        assertDuplicateKey(table, createPerson(4, "a"));
+        assertIds(table, 3, 1, 2);
+
+        table.delete(table.getRows()[1]);
+        assertIds(table, 3, 2);
+        // the key of a deleted row can be inserted again
+        table.insert(createPerson(4, "a"));
+        assertIds(table, 3, 2, 4);
+    }
+
+    @Test
+    void testSortedTable() {
+        InMemoryTable table = new InMemoryTable("Person", PERSON_TYPE, new ArrayValueImpl(new String[]{"id"}));
+        table.insert(createPerson(3, "c"));
+        table.insert(createPerson(1, "a"));
+        table.insert(createPerson(2, "b"));
+        assertDuplicateKey(table, createPerson(1, "d"));
+        assertIds(table, 1, 2, 3);
+
+        table.delete(table.getRows()[0]);
+        assertIds(table, 2, 3);
+        table.insert(createPerson(1, "d"));
+        assertIds(table, 1, 2, 3);
+    }
+
+    @Test
+    void testDeleteWhileIterating() {
+        for (String key : new String[]{null, "name", "id"}) {
+            InMemoryTable table = new InMemoryTable("Person", PERSON_TYPE,
+                    key == null ? null : new ArrayValueImpl(new String[]{key}));
+            int size = 100000;
+            for (int i = 0; i < size; i++) {
+                table.insert(createPerson(i, "person" + i));
+            }
+            for (Object[] row : table.getRows()) {
+                if ((Long) table.getValue(row, 1) % 2 == 0) {
+                    table.delete(row);
+                }
+            }
+
+            Object[][] rows = table.getRows();
+            Assert.assertEquals(rows.length, size / 2);
+            for (int i = 0; i < rows.length; i++) {
+                Assert.assertEquals(table.getValue(rows[i], 1), (long) (2 * i + 1));
+            }
+        }
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        InMemoryTable table = new InMemoryTable("Person", PERSON_TYPE, new ArrayValueImpl(new String[]{"name"}));
+        table.insert(createPerson(1, "a"));
+        table.insert(createPerson(2, "b"));
+
+        InMemoryTable copy = table.copy();
+        copy.delete(copy.getRows()[0]);
+        copy.insert(createPerson(3, "c"));
+        assertIds(table, 1, 2);
+        assertIds(copy, 2, 3);
+        assertDuplicateKey(table, createPerson(4, "a"));
+    }
+
+    private static void assertIds(InMemoryTable table, long... ids) {
+        Object[][] rows = table.getRows();
+        Assert.assertEquals(table.size(), ids.length);
+        Assert.assertEquals(rows.length, ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertEquals(table.getValue(rows[i], 1), ids[i]);
+        }
+    }
+
+    private static void assertDuplicateKey(InMemoryTable table, MapValueImpl<String, Object> person) {
+        int size = table.size();
+        try {
+            table.insert(person);
+            Assert.fail("duplicate key inserted");
+        } catch (ErrorValue e) {
+            Assert.assertTrue(e.getDetails().toString().contains("Unique index or primary key violation"),
+                    e.getDetails().toString());
+        }
+        Assert.assertEquals(table.size(), size);
+    }
+
+    private static MapValueImpl<String, Object> createPerson(long id, String name) {
+        MapValueImpl<String, Object> person = new MapValueImpl<>(PERSON_TYPE);
+        person.put("id", id);
+        person.put("name", name);
+        return person;
+    }
+
+    private static BRecordType createPersonType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", 0));
+        fields.put("name", new BField(BTypes.typeString, "name", 0));
+        return new BRecordType("Person", null, 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BFiniteType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Test cases for parsing JSON content into a given type with {@link JSONParser}.
+ */
+public class JSONParserTests {
+
+    @Test
+    public void testParseJson() {
+        MapValueImpl<?, ?> map = (MapValueImpl<?, ?>) JSONParser.parse("{\"a\":[1, 2.5, \"b\"]}");
+        Assert.assertEquals(((BMapType) map.getType()).getConstrainedType().getTag(), TypeTags.JSON_TAG);
+        ArrayValue array = (ArrayValue) map.get("a");
+        Assert.assertEquals(((BArrayType) array.getType()).getElementType().getTag(), TypeTags.JSON_TAG);
+        Assert.assertEquals(array.get(0), 1L);
+        Assert.assertEquals(array.get(1), 2.5);
+    }
+
+    @Test
+    public void testParseMapOfArrays() {
+        BArrayType intArrayType = new BArrayType(BTypes.typeInt);
+        BMapType mapType = new BMapType(intArrayType);
+        MapValueImpl<?, ?> map = (MapValueImpl<?, ?>) JSONParser.parse("{\"a\":[1, 2], \"b\":[]}", mapType);
+        Assert.assertSame(map.getType(), mapType);
+        ArrayValue a = (ArrayValue) map.get("a");
+        Assert.assertSame(a.getType(), intArrayType);
+        Assert.assertEquals(a.size(), 2);
+        Assert.assertEquals(a.getInt(1), 2);
+        Assert.assertEquals(((ArrayValue) map.get("b")).size(), 0);
+    }
+
+    @Test
+    public void testNumbersAreConvertedToExpectedType() {
+        ArrayValue floats = (ArrayValue) JSONParser.parse("[1, 2.5]", new BArrayType(BTypes.typeFloat));
+        Assert.assertEquals(floats.getFloat(0), 1.0);
+        Assert.assertEquals(floats.getFloat(1), 2.5);
+
+        ArrayValue decimals = (ArrayValue) JSONParser.parse("[2.5]", new BArrayType(BTypes.typeDecimal));
+        Assert.assertEquals(((DecimalValue) decimals.get(0)).value(), new BigDecimal("2.5"));
+
+        ArrayValue bytes = (ArrayValue) JSONParser.parse("[0, 255]", new BArrayType(BTypes.typeByte));
+        Assert.assertEquals(bytes.size(), 2);
+    }
+
+    @Test
+    public void testUnionMemberSelectedByValue() {
+        BType intOrStringArrayType = new BArrayType(new BUnionType(Arrays.asList(BTypes.typeInt,
+                BTypes.typeString)));
+        ArrayValue array = (ArrayValue) JSONParser.parse("[1, \"a\"]", intOrStringArrayType);
+        Assert.assertEquals(array.get(0), 1L);
+        Assert.assertEquals(array.get(1), "a");
+    }
+
+    @Test
+    public void testFiniteType() {
+        BFiniteType stateType = new BFiniteType("State", new HashSet<>(Arrays.asList("on", "off")), 0);
+        ArrayValue states = (ArrayValue) JSONParser.parse("[\"on\", \"off\"]", new BArrayType(stateType));
+        Assert.assertEquals(states.get(1), "off");
+        assertParseError("[\"on\", \"dimmed\"]", new BArrayType(stateType), "is not a member of type");
+    }
+
+    @Test
+    public void testIncompatibleContent() {
+        assertParseError("{\"a\":\"one\"}", new BMapType(BTypes.typeInt), "incompatible JSON string");
+        assertParseError("[1.5]", new BArrayType(BTypes.typeInt), "incompatible JSON number");
+        assertParseError("[256]", new BArrayType(BTypes.typeByte), "out of range for type 'byte'");
+        assertParseError("{\"a\":1}", new BArrayType(BTypes.typeInt), "incompatible JSON object");
+    }
+
+    private static void assertParseError(String jsonStr, BType targetType, String expectedMessage) {
+        try {
+            JSONParser.parse(jsonStr, targetType);
+            Assert.fail("expected '" + jsonStr + "' not to be parsed into type '" + targetType + "'");
+        } catch (BallerinaException e) {
+            Assert.assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link Strand class}.
+ */
+public class StrandTests {
+
+    @Test
+    void testFramesAllocatedOnFirstPush() {
+        Strand strand = new Strand(null);
+        Assert.assertNull(strand.frames);
+
+        strand.pushFrame("frame");
+        Assert.assertNotNull(strand.frames);
+        Assert.assertEquals(strand.resumeIndex, 1);
+        Assert.assertEquals(strand.popFrame(), "frame");
+        Assert.assertEquals(strand.resumeIndex, 0);
+    }
+
+    @Test
+    void testFramesGrowOnDemand() {
+        Strand strand = new Strand(null);
+        int depth = 1000;
+        for (int i = 0; i < depth; i++) {
+            strand.pushFrame(i);
+        }
+        Assert.assertEquals(strand.resumeIndex, depth);
+        for (int i = depth - 1; i >= 0; i--) {
+            Assert.assertEquals(strand.popFrame(), i);
+        }
+        Assert.assertEquals(strand.resumeIndex, 0);
+    }
+
+    @Test
+    void testPropertiesCreatedOnDemand() {
+        Strand strand = new Strand(null, null, null);
+        Assert.assertNull(strand.getProperty("key"));
+
+        strand.setProperty("key", "value");
+        Assert.assertEquals(strand.getProperty("key"), "value");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.transactions.TransactionLog;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for {@link TransactionLog}.
+ */
+public class TransactionLogTests {
+
+    private Path logDirectory;
+    private Path logPath;
+
+    @BeforeMethod
+    public void createLogDirectory() throws IOException {
+        logDirectory = Files.createTempDirectory("transaction-log");
+        logPath = logDirectory.resolve("transactions.log");
+    }
+
+    @AfterMethod
+    public void deleteLogDirectory() throws IOException {
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(logDirectory);
+    }
+
+    @Test
+    public void testCommitsWithoutEndAreInDoubt() throws IOException {
+        TransactionLog log = new TransactionLog(logPath);
+        Assert.assertTrue(log.getInDoubtTransactions().isEmpty());
+        log.logCommit("tx-1");
+        log.logCommit("tx-2");
+        log.logEnd("tx-1");
+        log.logCommit("tx-3");
+
+        TransactionLog recovered = new TransactionLog(logPath);
+        Assert.assertEquals(new ArrayList<>(recovered.getInDoubtTransactions()), listOf("tx-2", "tx-3"));
+    }
+
+    @Test
+    public void testLogIsCompactedWhenOpened() throws IOException {
+        TransactionLog log = new TransactionLog(logPath);
+        log.logCommit("tx-1");
+        log.logCommit("tx-2");
+        log.logEnd("tx-1");
+        log.logCommit("tx-3");
+        log.logEnd("tx-3");
+        // end records are forced with the next commit decision
+        log.logCommit("tx-4");
+
+        new TransactionLog(logPath);
+        Assert.assertEquals(Files.readAllLines(logPath, StandardCharsets.UTF_8), listOf("commit tx-2", "commit tx-4"));
+    }
+
+    @Test
+    public void testPartiallyWrittenRecordIsIgnored() throws IOException {
+        TransactionLog log = new TransactionLog(logPath);
+        log.logCommit("tx-1");
+        Files.write(logPath, "commit tx-".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        TransactionLog recovered = new TransactionLog(logPath);
+        Assert.assertEquals(new ArrayList<>(recovered.getInDoubtTransactions()), listOf("tx-1"));
+    }
+
+    @Test
+    public void testConcurrentCommitsAreLogged() throws Exception {
+        TransactionLog log = new TransactionLog(logPath);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String transactionId = "tx-" + i;
+            futures.add(executor.submit(() -> {
+                log.logCommit(transactionId);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        TransactionLog recovered = new TransactionLog(logPath);
+        Assert.assertEquals(recovered.getInDoubtTransactions().size(), 200);
+    }
+
+    private static List<String> listOf(String... values) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, values);
+        return list;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.transactions.BallerinaTransactionContext;
+import org.ballerinalang.jvm.transactions.TransactionResourceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for committing the resources of a transaction in one phase with {@link TransactionResourceManager}.
+ */
+public class TransactionResourceManagerTests {
+
+    private static final String TRANSACTION_BLOCK_ID = "0";
+
+    private final TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+
+    @Test
+    public void testSingleResourceCommittedInOnePhase() {
+        String transactionId = UUID.randomUUID().toString();
+        StubTransactionContext ctx = new StubTransactionContext(false);
+        resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, ctx);
+
+        Assert.assertEquals(resourceManager.commitOnePhase(null, transactionId, TRANSACTION_BLOCK_ID), Boolean.TRUE);
+        Assert.assertEquals(ctx.operations, Arrays.asList("commit", "close"));
+
+        // the resource is removed once the transaction is completed, hence it is not committed again
+        Assert.assertEquals(resourceManager.commitOnePhase(null, transactionId, TRANSACTION_BLOCK_ID), Boolean.TRUE);
+        Assert.assertEquals(ctx.operations, Arrays.asList("commit", "close"));
+    }
+
+    @Test
+    public void testSingleXAResourceCommittedInOnePhase() {
+        String transactionId = UUID.randomUUID().toString();
+        StubXAResource xaResource = new StubXAResource();
+        StubTransactionContext ctx = new StubTransactionContext(false, xaResource);
+        resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, ctx);
+        resourceManager.beginXATransaction(transactionId, TRANSACTION_BLOCK_ID, xaResource);
+
+        Assert.assertEquals(resourceManager.commitOnePhase(null, transactionId, TRANSACTION_BLOCK_ID), Boolean.TRUE);
+        // the resource is not prepared, and is asked to commit in one phase
+        Assert.assertEquals(xaResource.operations, Arrays.asList("start", "commit onePhase=true"));
+        Assert.assertEquals(ctx.operations, Collections.singletonList("close"));
+    }
+
+    @Test
+    public void testFailedOnePhaseCommit() {
+        String transactionId = UUID.randomUUID().toString();
+        StubTransactionContext ctx = new StubTransactionContext(true);
+        resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, ctx);
+
+        // the outcome of the transaction is not known, which the coordinator reports as a hazard
+        Assert.assertEquals(resourceManager.commitOnePhase(null, transactionId, TRANSACTION_BLOCK_ID), Boolean.FALSE);
+        Assert.assertEquals(ctx.operations, Arrays.asList("commit", "close"));
+    }
+
+    @Test
+    public void testMultipleResourcesNotCommittedInOnePhase() {
+        String transactionId = UUID.randomUUID().toString();
+        StubTransactionContext ctx1 = new StubTransactionContext(false);
+        StubTransactionContext ctx2 = new StubTransactionContext(false);
+        resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, ctx1);
+        resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, ctx2);
+
+        Assert.assertNull(resourceManager.commitOnePhase(null, transactionId, TRANSACTION_BLOCK_ID));
+        Assert.assertTrue(ctx1.operations.isEmpty());
+        Assert.assertTrue(ctx2.operations.isEmpty());
+
+        // the resources are kept for the two phase commit
+        Assert.assertTrue(resourceManager.prepare(transactionId, TRANSACTION_BLOCK_ID));
+        Assert.assertTrue(resourceManager.notifyCommit(null, transactionId, TRANSACTION_BLOCK_ID));
+        Assert.assertEquals(ctx1.operations, Arrays.asList("commit", "close"));
+        Assert.assertEquals(ctx2.operations, Arrays.asList("commit", "close"));
+    }
+
+    @Test
+    public void testFailedParticipantNotCommittedInOnePhase() {
+        String transactionId = UUID.randomUUID().toString();
+        StubTransactionContext ctx = new StubTransactionContext(false);
+        resourceManager.register(transactionId, TRANSACTION_BLOCK_ID, ctx);
+        resourceManager.notifyResourceFailure(transactionId);
+
+        Assert.assertNull(resourceManager.commitOnePhase(null, transactionId, TRANSACTION_BLOCK_ID));
+        Assert.assertTrue(ctx.operations.isEmpty());
+
+        Assert.assertFalse(resourceManager.prepare(transactionId, TRANSACTION_BLOCK_ID));
+        Assert.assertTrue(resourceManager.notifyAbort(transactionId, TRANSACTION_BLOCK_ID));
+        Assert.assertEquals(ctx.operations, Arrays.asList("rollback", "close"));
+    }
+
+    /**
+     * A transaction context which records the operations done on it, and fails to commit if asked to.
+     */
+    private static class StubTransactionContext implements BallerinaTransactionContext {
+
+        private final List<String> operations = new ArrayList<>();
+        private final boolean failCommit;
+        private final XAResource xaResource;
+
+        StubTransactionContext(boolean failCommit) {
+            this(failCommit, null);
+        }
+
+        StubTransactionContext(boolean failCommit, XAResource xaResource) {
+            this.failCommit = failCommit;
+            this.xaResource = xaResource;
+        }
+
+        @Override
+        public void commit() {
+            operations.add("commit");
+            if (failCommit) {
+                throw new IllegalStateException("connection is closed");
+            }
+        }
+
+        @Override
+        public void rollback() {
+            operations.add("rollback");
+        }
+
+        @Override
+        public void close() {
+            operations.add("close");
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return xaResource;
+        }
+    }
+
+    /**
+     * An XA resource which records the operations done on it.
+     */
+    private static class StubXAResource implements XAResource {
+
+        private final List<String> operations = new ArrayList<>();
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) {
+            operations.add("commit onePhase=" + onePhase);
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+            operations.add("end");
+        }
+
+        @Override
+        public void forget(Xid xid) {
+            operations.add("forget");
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            operations.add("prepare");
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) throws XAException {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+            operations.add("rollback");
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+            operations.add("start");
+        }
+    }
+}
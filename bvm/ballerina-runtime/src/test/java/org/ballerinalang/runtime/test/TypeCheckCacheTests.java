@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeCheckCache;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @BeforeMethod
+    public void resetCache() {
+        // the cache is shared by every type check, hence it is cleared so that the tests start from an empty cache
+        TypeCheckCache.reset();
+    }
+
+    @Test
+    public void testRepeatedTypeCheckIsCached() {
+        BType intOrStringArrayType = new BArrayType(new BUnionType(Arrays.asList(BTypes.typeInt,
+                BTypes.typeString)));
+        ArrayValueImpl intArray = new ArrayValueImpl(new long[]{1, 2, 3});
+
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, intOrStringArrayType));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 0);
+        Assert.assertEquals(TypeCheckCache.getSize(), 1);
+
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, intOrStringArrayType));
+        Assert.assertTrue(TypeChecker.checkIsType(new ArrayValueImpl(new long[]{4}), intOrStringArrayType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 2);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testNegativeTypeCheckIsCached() {
+        BType booleanArrayType = new BArrayType(BTypes.typeBoolean);
+        ArrayValueImpl intArray = new ArrayValueImpl(new long[]{1, 2, 3});
+
+        Assert.assertFalse(TypeChecker.checkIsType(intArray, booleanArrayType));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertFalse(TypeChecker.checkIsType(intArray, booleanArrayType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testStructurallyEqualTypesShareEntry() {
+        // array type descriptors are created each time they are used, and are cached by their structure
+        ArrayValueImpl intArray = new ArrayValueImpl(new long[]{1, 2, 3});
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, new BArrayType(BTypes.typeInt)));
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, new BArrayType(BTypes.typeInt)));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getSize(), 1);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link WorkerDataChannel}.
+ */
+public class WorkerDataChannelTests {
+
+    @Test
+    void testMessagesAreReceivedInOrder() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        // more messages than the capacity of the first rings of the channel
+        int count = 5000;
+        for (long i = 0; i < count; i++) {
+            channel.sendData(i % 7 == 0 ? null : i, null);
+        }
+        for (long i = 0; i < count; i++) {
+            Assert.assertEquals(channel.tryTakeData(null), i % 7 == 0 ? null : i);
+        }
+    }
+
+    @Test
+    void testMessagesAreReceivedWhileSending() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        long received = 0;
+        for (long i = 0; i < 3000; i++) {
+            channel.sendData(i, null);
+            channel.sendData(i, null);
+            Assert.assertEquals(channel.tryTakeData(null), received++ / 2);
+        }
+        for (long i = 0; i < 3000; i++) {
+            Assert.assertEquals(channel.tryTakeData(null), received++ / 2);
+        }
+    }
+}
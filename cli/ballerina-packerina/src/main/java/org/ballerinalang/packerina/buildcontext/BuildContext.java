@@ -282,6 +282,15 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
                                                              RepoUtils.getBallerinaVersion());
     }
 
+    /**
+     * Get the content addressed jar cache in the home repository, which is shared by all the projects.
+     *
+     * @return Path of the cache.
+     */
+    public Path getHashedJarCacheFromHome() {
+        return getJarCacheFromHome().resolve(ProjectDirConstants.HASHED_JAR_CACHE_DIR_NAME);
+    }
+
     public Path getBaloCacheFromHome() {
         return RepoUtils.createAndGetHomeReposPath().resolve(ProjectDirConstants.BALO_CACHE_DIR_NAME);
     }
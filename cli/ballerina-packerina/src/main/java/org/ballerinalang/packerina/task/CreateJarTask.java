@@ -18,10 +18,12 @@
 
 package org.ballerinalang.packerina.task;
 
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.packerina.utils.JarCache;
 import org.ballerinalang.util.BootstrapRunner;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -31,13 +33,23 @@ import org.wso2.ballerinalang.util.RepoUtils;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
 
 /**
- * Task for creating jar file.
+ * Task for creating jar file. The jars of the modules are generated in parallel, and are reused from the jar cache of
+ * the home repository if the module and its imports have not changed.
  */
 public class CreateJarTask implements Task {
 
@@ -48,6 +60,9 @@ public class CreateJarTask implements Task {
 
     private boolean skipCopyLibsFromDist = false;
 
+    private String[] birCachePaths;
+    private JarCache jarCache;
+
     public CreateJarTask(boolean dumpBir, boolean buildNative, boolean dumpLlvmIr, boolean noOptimizeLlvm) {
         this.dumpBir = dumpBir;
         this.buildNative = buildNative;
@@ -74,31 +89,41 @@ public class CreateJarTask implements Task {
         Path homeBIRCache = buildContext.getBirCacheFromHome();
         Path systemBIRCache = buildContext.getSystemRepoBirCache();
         Path runtimeJar = getRuntimeAllJar(buildContext);
+        this.birCachePaths = new String[]{projectBIRCache.toString(), homeBIRCache.toString(),
+                systemBIRCache.toString()};
+        this.jarCache = new JarCache(buildContext.getHashedJarCacheFromHome());
 
+        // module jars are generated over the import graph, so that a module is generated after its imports
+        Map<PackageID, ModuleJar> moduleJars = new LinkedHashMap<>();
+        List<ModuleJar> targetJars = new ArrayList<>();
         List<BLangPackage> moduleBirMap = buildContext.getModules();
         for (BLangPackage module : moduleBirMap) {
             HashSet<Path> moduleDependencySet = buildContext.moduleDependencyPathMap.get(module.packageID).platformLibs;
             if (!skipCopyLibsFromDist) {
                 moduleDependencySet.add(runtimeJar);
             }
-            writeImportJar(module.symbol.imports, sourceRoot, buildContext, runtimeJar,
-                           projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString());
+            List<ModuleJar> importJars = getImportJars(module.symbol.imports, sourceRoot, buildContext, runtimeJar,
+                    moduleJars);
 
             // get the bir path of the module
             Path entryBir = buildContext.getBirPathFromTargetCache(module.packageID);
 
             // get the jar path of the module.
             Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
-            if (!Files.exists(jarOutput)) {
-                if (buildNative) {
-                    BootstrapRunner.genNativeCode(entryBir.toString(), this.dumpLlvmIr, this.noOptimizeLlvm);
-                } else {
-                    BootstrapRunner
-                            .loadTargetAndGenerateJarBinary(entryBir.toString(), jarOutput.toString(), this.dumpBir,
-                                    moduleDependencySet, projectBIRCache.toString(),
-                                    homeBIRCache.toString(), systemBIRCache.toString());
+            ModuleJar moduleJar;
+            if (buildNative) {
+                moduleJar = new ModuleJar(entryBir, jarOutput, moduleDependencySet, importJars, true);
+            } else {
+                // the module may have already been added as an import of another module
+                moduleJar = moduleJars.get(module.packageID);
+                if (moduleJar == null) {
+                    moduleJar = new ModuleJar(entryBir, jarOutput, moduleDependencySet, importJars, false);
+                    moduleJars.put(module.packageID, moduleJar);
                 }
+                // the bir of the modules being built is dumped whenever it is asked for
+                moduleJar.cacheable = !this.dumpBir;
             }
+            targetJars.add(moduleJar);
 
             // If there is a testable package we will create testable jar.
             if (module.hasTestablePackage()) {
@@ -107,48 +132,127 @@ public class CreateJarTask implements Task {
 
                 // get the jar path of the module.
                 Path testJarOutput = buildContext.getTestJarPathFromTargetCache(module.packageID);
-                BootstrapRunner
-                        .loadTargetAndGenerateJarBinary(testBir.toString(), testJarOutput.toString(), this.dumpBir,
-                                                        moduleDependencySet, projectBIRCache.toString(),
-                                                        homeBIRCache.toString(), systemBIRCache.toString());
+                List<ModuleJar> testDependencies = new ArrayList<>(importJars);
+                testDependencies.add(moduleJar);
+                ModuleJar testJar = new ModuleJar(testBir, testJarOutput, moduleDependencySet, testDependencies,
+                        false);
+                testJar.cacheable = !this.dumpBir;
+                targetJars.add(testJar);
             }
 
         }
+        generateJars(targetJars, this::generateJar);
         ConfigRegistry.getInstance().setInitialized(false);
     }
 
-    private void writeImportJar(List<BPackageSymbol> imports, Path sourceRoot, BuildContext buildContext,
-                                Path runtimeJar, String... reps) {
+    private List<ModuleJar> getImportJars(List<BPackageSymbol> imports, Path sourceRoot, BuildContext buildContext,
+                                          Path runtimeJar, Map<PackageID, ModuleJar> moduleJars) {
+        List<ModuleJar> importJars = new ArrayList<>(imports.size());
         for (BPackageSymbol bimport : imports) {
             PackageID id = bimport.pkgID;
             if (id.orgName.value.equals("ballerina") || id.orgName.value.equals("ballerinax")) {
                 continue;
             }
-            Path jarFilePath;
-            Path birFilePath;
-            // If the module is part of the project write it to project jar cache check if file exist
-            // If not write it to home jar cache
-            // skip ballerina and ballerinax
-            if (ProjectDirs.isModuleExist(sourceRoot, id.name.value)  ||
-                                                                buildContext.getImportPathDependency(id).isPresent()) {
-                jarFilePath = buildContext.getJarPathFromTargetCache(id);
-                birFilePath = buildContext.getBirPathFromTargetCache(id);
-            } else {
-                jarFilePath = buildContext.getJarPathFromHomeCache(id);
-                birFilePath = buildContext.getBirPathFromHomeCache(id);
-            }
-            if (!Files.exists(jarFilePath)) {
+            ModuleJar importJar = moduleJars.get(id);
+            if (importJar == null) {
+                List<ModuleJar> dependencies = getImportJars(bimport.imports, sourceRoot, buildContext, runtimeJar,
+                        moduleJars);
+                Path jarFilePath;
+                Path birFilePath;
+                // If the module is part of the project write it to project jar cache check if file exist
+                // If not write it to home jar cache
+                // skip ballerina and ballerinax
+                if (ProjectDirs.isModuleExist(sourceRoot, id.name.value) ||
+                        buildContext.getImportPathDependency(id).isPresent()) {
+                    jarFilePath = buildContext.getJarPathFromTargetCache(id);
+                    birFilePath = buildContext.getBirPathFromTargetCache(id);
+                } else {
+                    jarFilePath = buildContext.getJarPathFromHomeCache(id);
+                    birFilePath = buildContext.getBirPathFromHomeCache(id);
+                }
                 HashSet<Path> moduleDependencySet = buildContext.moduleDependencyPathMap.get(id).platformLibs;
                 if (!skipCopyLibsFromDist) {
                     moduleDependencySet.add(runtimeJar);
                 }
-                BootstrapRunner.loadTargetAndGenerateJarBinary(birFilePath.toString(), jarFilePath.toString(),
-                                                  this.dumpBir, moduleDependencySet, reps);
+                importJar = new ModuleJar(birFilePath, jarFilePath, moduleDependencySet, dependencies, false);
+                moduleJars.put(id, importJar);
+            }
+            importJars.add(importJar);
+        }
+        return importJars;
+    }
+
+    /**
+     * Generates the given jars and the jars they depend on in parallel. Each jar is generated once, after all the jars
+     * it depends on are generated.
+     *
+     * @param targetJars jars to be generated
+     * @param generator  function which generates a jar
+     */
+    static void generateJars(List<ModuleJar> targetJars, Consumer<ModuleJar> generator) {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ballerina-jar-generator");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Map<ModuleJar, CompletableFuture<Void>> futures = new HashMap<>();
+        try {
+            List<CompletableFuture<Void>> targetFutures = new ArrayList<>(targetJars.size());
+            for (ModuleJar targetJar : targetJars) {
+                targetFutures.add(scheduleJar(targetJar, futures, generator, executor));
+            }
+            for (CompletableFuture<Void> targetFuture : targetFutures) {
+                targetFuture.join();
             }
-            writeImportJar(bimport.imports, sourceRoot, buildContext, runtimeJar, reps);
+            executor.shutdown();
+        } catch (CompletionException e) {
+            executor.shutdownNow();
+            if (e.getCause() instanceof BLangCompilerException) {
+                throw (BLangCompilerException) e.getCause();
+            }
+            throw new BLangCompilerException("failed to generate jar file: " + e.getCause().getMessage(),
+                    e.getCause());
         }
     }
 
+    private static CompletableFuture<Void> scheduleJar(ModuleJar moduleJar,
+                                                       Map<ModuleJar, CompletableFuture<Void>> futures,
+                                                       Consumer<ModuleJar> generator, ExecutorService executor) {
+        CompletableFuture<Void> future = futures.get(moduleJar);
+        if (future != null) {
+            return future;
+        }
+        CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[moduleJar.dependencies.size()];
+        for (int i = 0; i < dependencyFutures.length; i++) {
+            dependencyFutures[i] = scheduleJar(moduleJar.dependencies.get(i), futures, generator, executor);
+        }
+        future = CompletableFuture.allOf(dependencyFutures).thenRunAsync(() -> generator.accept(moduleJar), executor);
+        futures.put(moduleJar, future);
+        return future;
+    }
+
+    private void generateJar(ModuleJar moduleJar) {
+        if (moduleJar.nativeCode) {
+            BootstrapRunner.genNativeCode(moduleJar.bir.toString(), this.dumpLlvmIr, this.noOptimizeLlvm);
+            return;
+        }
+        if (moduleJar.hash == null) {
+            // without a hash, an existing jar is assumed to be up to date
+            if (!Files.exists(moduleJar.jar)) {
+                BootstrapRunner.loadTargetAndGenerateJarBinary(moduleJar.bir.toString(), moduleJar.jar.toString(),
+                        this.dumpBir, moduleJar.platformLibs, birCachePaths);
+            }
+            return;
+        }
+        if (moduleJar.cacheable && jarCache.copyTo(moduleJar.hash, moduleJar.jar)) {
+            return;
+        }
+        BootstrapRunner.loadTargetAndGenerateJarBinary(moduleJar.bir.toString(), moduleJar.jar.toString(),
+                this.dumpBir, moduleJar.platformLibs, birCachePaths);
+        jarCache.put(moduleJar.hash, moduleJar.jar);
+    }
+
     private Path getRuntimeAllJar(BuildContext buildContext) {
 
         if (skipCopyLibsFromDist) {
@@ -159,4 +263,49 @@ public class CreateJarTask implements Task {
         String runtimeJarName = "ballerina-rt-" + ballerinaVersion + BLANG_COMPILED_JAR_EXT;
         return Paths.get(balHomePath, "bre", "lib", runtimeJarName);
     }
+
+    /**
+     * Jar of a module, with the jars of the modules it imports.
+     */
+    static class ModuleJar {
+
+        private final Path bir;
+        private final Path jar;
+        private final HashSet<Path> platformLibs;
+        private final List<ModuleJar> dependencies;
+        private final boolean nativeCode;
+        // hash of the inputs of the code generation, which is the key of the jar in the jar cache
+        private final String hash;
+        private boolean cacheable = true;
+
+        ModuleJar(Path bir, Path jar, HashSet<Path> platformLibs, List<ModuleJar> dependencies, boolean nativeCode) {
+            this.bir = bir;
+            this.jar = jar;
+            this.platformLibs = platformLibs;
+            this.dependencies = dependencies;
+            this.nativeCode = nativeCode;
+            this.hash = nativeCode ? null : calculateHash();
+        }
+
+        String getHash() {
+            return hash;
+        }
+
+        /**
+         * Returns the hash of the module, or null if the bir of the module or the hash of an import is not available.
+         */
+        private String calculateHash() {
+            if (!Files.exists(bir)) {
+                return null;
+            }
+            List<String> dependencyHashes = new ArrayList<>(dependencies.size());
+            for (ModuleJar dependency : dependencies) {
+                if (dependency.hash == null) {
+                    return null;
+                }
+                dependencyHashes.add(dependency.hash);
+            }
+            return JarCache.hash(bir, dependencyHashes, platformLibs);
+        }
+    }
 }
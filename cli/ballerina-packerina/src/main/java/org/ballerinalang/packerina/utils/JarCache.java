@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.utils;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Content addressed cache of generated module jars. A jar is stored against the hash of everything the code generation
+ * reads: the BIR of the module, the hashes of the modules it imports, the platform libraries it uses, and the version
+ * and the system properties of the code generator. Hence a cached jar can be reused whenever the hash is the same,
+ * even after the target directory has been cleaned.
+ *
+ * @since 1.2.0
+ */
+public class JarCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final String BALLERINA_VERSION = RepoUtils.getBallerinaVersion();
+    // system properties read by the code generator, which change the generated code
+    private static final String[] CODEGEN_PROPERTIES = {"ballerina.bstring"};
+
+    private final Path cacheDir;
+
+    public JarCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Copies the jar cached against the given hash to the given path.
+     *
+     * @param hash    hash of the module
+     * @param jarPath path to copy the jar to
+     * @return true if a cached jar was found and copied
+     */
+    public boolean copyTo(String hash, Path jarPath) {
+        Path cachedJar = getCachedJarPath(hash);
+        if (!Files.exists(cachedJar)) {
+            return false;
+        }
+        try {
+            // jars are copied with their attributes, hence a jar copied in a previous build need not be copied again
+            if (Files.exists(jarPath) && Files.size(jarPath) == Files.size(cachedJar) &&
+                    Files.getLastModifiedTime(jarPath).equals(Files.getLastModifiedTime(cachedJar))) {
+                return true;
+            }
+            Files.createDirectories(jarPath.getParent());
+            Files.copy(cachedJar, jarPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+            return true;
+        } catch (IOException e) {
+            // the jar is generated again
+            return false;
+        }
+    }
+
+    /**
+     * Caches the given jar against the given hash. The jar is moved to the cache in one step, so that concurrent
+     * builds never see a partially written jar. Failing to cache a jar does not fail the build.
+     *
+     * @param hash    hash of the module
+     * @param jarPath path of the generated jar
+     */
+    public void put(String hash, Path jarPath) {
+        if (!Files.exists(jarPath)) {
+            return;
+        }
+        Path tempJar = null;
+        try {
+            Files.createDirectories(cacheDir);
+            tempJar = Files.createTempFile(cacheDir, hash, ".tmp");
+            Files.copy(jarPath, tempJar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+            Path cachedJar = getCachedJarPath(hash);
+            try {
+                Files.move(tempJar, cachedJar, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempJar, cachedJar, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            if (tempJar != null) {
+                try {
+                    Files.deleteIfExists(tempJar);
+                } catch (IOException ignore) {
+                    // nothing to do
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the hash of a module from the inputs of its code generation, and from the version and the system
+     * properties of the code generator.
+     *
+     * @param birPath      path of the BIR of the module
+     * @param importHashes hashes of the imported modules
+     * @param platformLibs platform libraries used by the module
+     * @return hash of the module
+     */
+    public static String hash(Path birPath, Collection<String> importHashes, Collection<Path> platformLibs) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            digest.update(Files.readAllBytes(birPath));
+            digest.update(BALLERINA_VERSION.getBytes(StandardCharsets.UTF_8));
+            for (String property : CODEGEN_PROPERTIES) {
+                String value = System.getProperty(property, "");
+                digest.update((property + "=" + value).getBytes(StandardCharsets.UTF_8));
+            }
+
+            List<String> sortedImportHashes = new ArrayList<>(importHashes);
+            Collections.sort(sortedImportHashes);
+            for (String importHash : sortedImportHashes) {
+                digest.update(importHash.getBytes(StandardCharsets.UTF_8));
+            }
+
+            // platform libraries are identified by their path, size and modified time instead of reading them
+            List<String> libs = new ArrayList<>(platformLibs.size());
+            for (Path lib : platformLibs) {
+                if (lib == null) {
+                    continue;
+                }
+                if (Files.exists(lib)) {
+                    libs.add(lib.toAbsolutePath() + ":" + Files.size(lib) + ":" + Files.getLastModifiedTime(lib));
+                } else {
+                    libs.add(lib.toAbsolutePath().toString());
+                }
+            }
+            Collections.sort(libs);
+            for (String lib : libs) {
+                digest.update(lib.getBytes(StandardCharsets.UTF_8));
+            }
+            return toHex(digest.digest());
+        } catch (IOException e) {
+            throw new BLangCompilerException("error reading bir file: " + birPath, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("unsupported hash algorithm: " + HASH_ALGORITHM, e);
+        }
+    }
+
+    private Path getCachedJarPath(String hash) {
+        return cacheDir.resolve(hash + BLANG_COMPILED_JAR_EXT);
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.packerina.task.CreateJarTask.ModuleJar;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+
+/**
+ * Test cases for the parallel generation of the module jars over the import graph.
+ *
+ * @since 1.2.0
+ */
+public class CreateJarTaskTest {
+
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tmpDir = Files.createTempDirectory("b7a-create-jar-test-" + System.nanoTime());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        deleteDirectory(tmpDir);
+    }
+
+    @Test(description = "Test that each jar is generated once, after the jars it depends on")
+    public void testGenerationOrder() throws IOException {
+        // a diamond of imports, and a module which imports the top of the diamond and one of its imports
+        ModuleJar base = createModuleJar("base");
+        ModuleJar left = createModuleJar("left", base);
+        ModuleJar right = createModuleJar("right", base);
+        ModuleJar top = createModuleJar("top", left, right);
+        ModuleJar main = createModuleJar("main", top, left);
+        ModuleJar other = createModuleJar("other");
+
+        Map<ModuleJar, AtomicInteger> generationCounts = new ConcurrentHashMap<>();
+        Set<ModuleJar> generatedJars = ConcurrentHashMap.newKeySet();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        CreateJarTask.generateJars(Arrays.asList(main, top, other), moduleJar -> {
+            for (ModuleJar dependency : getDependencies(moduleJar, base, left, right, top, main)) {
+                if (!generatedJars.contains(dependency)) {
+                    errors.add("generated before its dependencies: " + moduleJar);
+                }
+            }
+            generationCounts.computeIfAbsent(moduleJar, key -> new AtomicInteger()).incrementAndGet();
+            generatedJars.add(moduleJar);
+        });
+
+        Assert.assertEquals(errors, Collections.emptyList());
+        Assert.assertEquals(generatedJars, new HashSet<>(Arrays.asList(base, left, right, top, main, other)));
+        for (AtomicInteger count : generationCounts.values()) {
+            Assert.assertEquals(count.get(), 1);
+        }
+    }
+
+    @Test(description = "Test that a failure to generate a jar fails the jars which depend on it")
+    public void testGenerationFailure() throws IOException {
+        ModuleJar base = createModuleJar("failing-base");
+        ModuleJar module = createModuleJar("failing-module", base);
+        Set<ModuleJar> generatedJars = ConcurrentHashMap.newKeySet();
+        try {
+            CreateJarTask.generateJars(Collections.singletonList(module), moduleJar -> {
+                if (moduleJar == base) {
+                    throw new BLangCompilerException("failed to generate base");
+                }
+                generatedJars.add(moduleJar);
+            });
+            Assert.fail("jar generation did not fail");
+        } catch (BLangCompilerException e) {
+            Assert.assertEquals(e.getMessage(), "failed to generate base");
+        }
+        Assert.assertTrue(generatedJars.isEmpty());
+    }
+
+    @Test(description = "Test that the hash of a module depends on the hashes of its imports")
+    public void testHashOfImports() throws IOException {
+        ModuleJar base = createModuleJar("hash-base");
+        ModuleJar module = createModuleJar("hash-module", base);
+        Assert.assertNotNull(module.getHash());
+        Assert.assertEquals(createModuleJar("hash-module", base).getHash(), module.getHash());
+
+        Files.write(tmpDir.resolve("hash-base.bir"), "changed".getBytes(StandardCharsets.UTF_8));
+        ModuleJar changedBase = createModuleJar("hash-base");
+        Assert.assertNotEquals(createModuleJar("hash-module", changedBase).getHash(), module.getHash());
+
+        // a module whose import has no bir has no hash, hence it is not cached
+        ModuleJar missingBase = new ModuleJar(tmpDir.resolve("missing.bir"), tmpDir.resolve("missing.jar"),
+                new HashSet<>(), Collections.emptyList(), false);
+        Assert.assertNull(missingBase.getHash());
+        Assert.assertNull(createModuleJar("hash-module", missingBase).getHash());
+    }
+
+    private ModuleJar createModuleJar(String name, ModuleJar... dependencies) throws IOException {
+        Path bir = tmpDir.resolve(name + ".bir");
+        if (!Files.exists(bir)) {
+            Files.write(bir, name.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ModuleJar(bir, tmpDir.resolve(name + ".jar"), new HashSet<>(), Arrays.asList(dependencies),
+                false);
+    }
+
+    private static List<ModuleJar> getDependencies(ModuleJar moduleJar, ModuleJar base, ModuleJar left,
+                                                   ModuleJar right, ModuleJar top, ModuleJar main) {
+        if (moduleJar == left || moduleJar == right) {
+            return Collections.singletonList(base);
+        } else if (moduleJar == top) {
+            return Arrays.asList(left, right);
+        } else if (moduleJar == main) {
+            return Arrays.asList(top, left);
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+
+/**
+ * Test cases for the jar cache.
+ *
+ * @since 1.2.0
+ */
+public class JarCacheTest {
+
+    private static final String BSTRING_PROPERTY = "ballerina.bstring";
+
+    private Path tmpDir;
+    private JarCache jarCache;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        tmpDir = Files.createTempDirectory("b7a-jar-cache-test-" + System.nanoTime());
+        jarCache = new JarCache(tmpDir.resolve("cache"));
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        deleteDirectory(tmpDir);
+    }
+
+    @Test(description = "Test copying a jar which is not in the cache")
+    public void testCacheMiss() throws IOException {
+        Path jar = tmpDir.resolve("target").resolve("module.jar");
+        Assert.assertFalse(jarCache.copyTo("hash", jar));
+        Assert.assertFalse(Files.exists(jar));
+
+        // a jar which does not exist is not cached
+        jarCache.put("hash", tmpDir.resolve("missing.jar"));
+        Assert.assertFalse(jarCache.copyTo("hash", jar));
+    }
+
+    @Test(description = "Test copying a cached jar")
+    public void testCacheHit() throws IOException {
+        Path generatedJar = writeFile("generated.jar", "jar content");
+        jarCache.put("hash", generatedJar);
+
+        Path jar = tmpDir.resolve("target").resolve("module.jar");
+        Assert.assertTrue(jarCache.copyTo("hash", jar));
+        Assert.assertEquals(readFile(jar), "jar content");
+        Assert.assertEquals(Files.getLastModifiedTime(jar), Files.getLastModifiedTime(generatedJar));
+        Assert.assertFalse(jarCache.copyTo("other-hash", tmpDir.resolve("other.jar")));
+    }
+
+    @Test(description = "Test that a jar copied in a previous build is not copied again, unless it has changed")
+    public void testCopyToUpToDateJar() throws IOException {
+        jarCache.put("hash", writeFile("generated.jar", "jar content"));
+        Path jar = tmpDir.resolve("module.jar");
+        Assert.assertTrue(jarCache.copyTo("hash", jar));
+
+        // a jar with the size and the modified time of the cached jar is taken as up to date
+        FileTime modifiedTime = Files.getLastModifiedTime(jar);
+        Files.write(jar, "jar CONTENT".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(jar, modifiedTime);
+        Assert.assertTrue(jarCache.copyTo("hash", jar));
+        Assert.assertEquals(readFile(jar), "jar CONTENT");
+
+        // a jar of another size is replaced
+        Files.write(jar, "changed jar content".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(jar, modifiedTime);
+        Assert.assertTrue(jarCache.copyTo("hash", jar));
+        Assert.assertEquals(readFile(jar), "jar content");
+
+        // a jar modified at another time is replaced
+        Files.write(jar, "jar CONTENT".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(modifiedTime.toMillis() - 10000));
+        Assert.assertTrue(jarCache.copyTo("hash", jar));
+        Assert.assertEquals(readFile(jar), "jar content");
+    }
+
+    @Test(description = "Test the hash of the inputs of the code generation")
+    public void testHash() throws IOException {
+        Path bir = writeFile("module.bir", "bir");
+        Path lib = writeFile("lib.jar", "lib");
+        String hash = JarCache.hash(bir, Arrays.asList("a", "b"), Collections.singletonList(lib));
+
+        Assert.assertEquals(JarCache.hash(bir, Arrays.asList("b", "a"), Collections.singletonList(lib)), hash);
+        Assert.assertNotEquals(JarCache.hash(bir, Arrays.asList("a", "c"), Collections.singletonList(lib)), hash);
+        Assert.assertNotEquals(JarCache.hash(bir, Collections.singletonList("a"), Collections.singletonList(lib)),
+                hash);
+
+        Files.write(lib, "changed lib".getBytes(StandardCharsets.UTF_8));
+        String libChangedHash = JarCache.hash(bir, Arrays.asList("a", "b"), Collections.singletonList(lib));
+        Assert.assertNotEquals(libChangedHash, hash);
+
+        Files.write(bir, "changed bir".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNotEquals(JarCache.hash(bir, Arrays.asList("a", "b"), Collections.singletonList(lib)),
+                libChangedHash);
+    }
+
+    @Test(description = "Test that the hash changes with the system properties which change the generated code")
+    public void testHashOfCodeGenProperties() throws IOException {
+        Path bir = writeFile("module.bir", "bir");
+        String property = System.getProperty(BSTRING_PROPERTY);
+        try {
+            System.clearProperty(BSTRING_PROPERTY);
+            String hash = JarCache.hash(bir, Collections.emptyList(), Collections.emptyList());
+            System.setProperty(BSTRING_PROPERTY, "true");
+            String bStringHash = JarCache.hash(bir, Collections.emptyList(), Collections.emptyList());
+            Assert.assertNotEquals(bStringHash, hash);
+            Assert.assertEquals(JarCache.hash(bir, Collections.emptyList(), Collections.emptyList()), bStringHash);
+        } finally {
+            if (property == null) {
+                System.clearProperty(BSTRING_PROPERTY);
+            } else {
+                System.setProperty(BSTRING_PROPERTY, property);
+            }
+        }
+    }
+
+    private Path writeFile(String name, String content) throws IOException {
+        return Files.write(tmpDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}
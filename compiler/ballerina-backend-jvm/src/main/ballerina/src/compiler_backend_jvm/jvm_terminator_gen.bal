@@ -92,9 +92,11 @@ type TerminatorGenerator object {
         string lockClass = "L" + LOCK_VALUE + ";";
         var varClassName = lookupGlobalVarClassName(self.currentPackageName + lockIns.globleVar.name.value);
         var lockName = computeLockNameFromString(lockIns.globleVar.name.value);
+        // the variable of a read only lock statement is shared with the other strands which read it
+        string lockMethod = lockIns.readOnly ? "lockShared" : "lock";
         self.mv.visitFieldInsn(GETSTATIC, varClassName, lockName, lockClass);
         self.mv.visitVarInsn(ALOAD, localVarOffset);
-        self.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "lock", io:sprintf("(L%s;)Z", STRAND), false);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, lockMethod, io:sprintf("(L%s;)Z", STRAND), false);
         self.mv.visitInsn(POP);
         genYieldCheckForLock(self.mv, self.labelGen, funcName, localVarOffset);
 
@@ -129,13 +131,14 @@ type TerminatorGenerator object {
         string currentPackageName = getPackageName(self.module.org.value, self.module.name.value);
 
         string lockClass = "L" + LOCK_VALUE + ";";
+        string unlockMethod = unlockIns.readOnly ? "unlockShared" : "unlock";
         // unlocked in the same order https://yarchive.net/comp/linux/lock_ordering.html
         foreach var globalVariable in unlockIns.globleVars {
             bir:VariableDcl globleVar = self.cleanupVariableDecl(globalVariable);
             var varClassName = lookupGlobalVarClassName(self.currentPackageName + globleVar.name.value);
             var lockName = computeLockNameFromString(globleVar.name.value);
             self.mv.visitFieldInsn(GETSTATIC, varClassName, lockName, lockClass);
-            self.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+            self.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, unlockMethod, "()V", false);
         }
 
         foreach var lockDetail in unlockIns.localLocks {
@@ -290,15 +293,18 @@ type TerminatorGenerator object {
         self.mv.visitInsn(ICONST_0);
         self.mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "blockedOnExtern", "Z");
 
+        // the result is read even when it is not used, since reading it raises the panic of the call, if any
+        self.mv.visitVarInsn(ALOAD, localVarOffset);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND, "getExternReturnValue", "()Ljava/lang/Object;", false);
         if (callIns.lhsOp?.variableDcl is bir:VariableDcl) {
-            self.mv.visitVarInsn(ALOAD, localVarOffset);
-            self.mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "returnValue", "Ljava/lang/Object;");
             addUnboxInsn(self.mv, callIns.lhsOp?.typeValue); // store return
             bir:VariableDcl? lhsOpVarDcl = callIns.lhsOp?.variableDcl;
 
             if (lhsOpVarDcl is bir:VariableDcl) {
                 self.storeToVar(lhsOpVarDcl);
             }
+        } else {
+            self.mv.visitInsn(POP);
         }
 
         self.mv.visitJumpInsn(GOTO, notBlockedOnExternLabel);
@@ -352,9 +358,10 @@ type TerminatorGenerator object {
         self.mv.visitInsn(ICONST_0);
         self.mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "blockedOnExtern", "Z");
 
+        // the result is read even when it is not used, since reading it raises the panic of the call, if any
+        self.mv.visitVarInsn(ALOAD, localVarOffset);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND, "getExternReturnValue", "()Ljava/lang/Object;", false);
         if (callIns.lhsOp?.variableDcl is bir:VariableDcl) {
-            self.mv.visitVarInsn(ALOAD, localVarOffset);
-            self.mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "returnValue", "Ljava/lang/Object;");
             addJUnboxInsn(self.mv, callIns.lhsOp?.typeValue);
             // store return
             bir:VariableDcl? lhsOpVarDcl = callIns.lhsOp?.variableDcl;
@@ -362,6 +369,8 @@ type TerminatorGenerator object {
             if (lhsOpVarDcl is bir:VariableDcl) {
                 self.storeToVar(lhsOpVarDcl);
             }
+        } else {
+            self.mv.visitInsn(POP);
         }
 
         self.mv.visitJumpInsn(GOTO, notBlockedOnExternLabel);
@@ -435,9 +444,10 @@ type TerminatorGenerator object {
         self.mv.visitInsn(ICONST_0);
         self.mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "blockedOnExtern", "Z");
 
+        // the result is read even when it is not used, since reading it raises the panic of the call, if any
+        self.mv.visitVarInsn(ALOAD, localVarOffset);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND, "getExternReturnValue", "()Ljava/lang/Object;", false);
         if (callIns.lhsOp?.variableDcl is bir:VariableDcl) {
-            self.mv.visitVarInsn(ALOAD, localVarOffset);
-            self.mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "returnValue", "Ljava/lang/Object;");
             addUnboxInsn(self.mv, callIns.lhsOp?.typeValue);
             // store return
             bir:VariableDcl? lhsOpVarDcl = callIns.lhsOp?.variableDcl;
@@ -445,6 +455,8 @@ type TerminatorGenerator object {
             if (lhsOpVarDcl is bir:VariableDcl) {
                 self.storeToVar(lhsOpVarDcl);
             }
+        } else {
+            self.mv.visitInsn(POP);
         }
 
         self.mv.visitJumpInsn(GOTO, notBlockedOnExternLabel);
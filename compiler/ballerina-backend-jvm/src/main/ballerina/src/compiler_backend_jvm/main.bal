@@ -34,7 +34,21 @@ public type JavaClass record {|
 string[] birCacheDirs = [];
 string[] jarLibraries = [];
 
+const SERVE_FLAG = "--serve";
+const REQUEST_DONE_MARKER = "@@compiler-backend-request-done";
+
 public function main(string... args) {
+    if (args.length() == 1 && args[0] == SERVE_FLAG) {
+        serveRequests();
+        return;
+    }
+
+    if (!generateJar(args)) {
+        jvm:systemExit(1);
+    }
+}
+
+function generateJar(string[] args) returns boolean {
     string pathToEntryBir = <@untainted> args[0];
     string mapPath = <@untainted> args[1];
     string targetPath = args[2];
@@ -60,11 +74,54 @@ public function main(string... args) {
     var jarFile = generateJarBinary(pathToEntryBir, mapPath, dumpBir, jarLibraries, useSystemClassLoader);
     if (dlogger.getErrorCount() > 0) {
         dlogger.printErrors();
-        jvm:systemExit(1);
-        return;
+        return false;
     }
 
     writeJarFile(jarFile, targetPath);
+    return true;
+}
+
+# Generates jars for the requests read from the standard input, until it is closed. Each request has the arguments
+# of `main`. Once a request is done, a marker line is written to the standard error and then to the standard output,
+# followed by the status of the request in the latter. This keeps the backend loaded and warmed up across the modules
+# of a build.
+function serveRequests() {
+    while (true) {
+        string[]? args = readRequest();
+        if (args is ()) {
+            return;
+        }
+
+        boolean|error result = trap generateJar(<@untainted> args);
+        if (result is error) {
+            print(io:sprintf("error: %s", result.toString()));
+        }
+        resetState();
+
+        print(REQUEST_DONE_MARKER);
+        io:println(REQUEST_DONE_MARKER + ":" + (result is boolean && result ? "0" : "1"));
+    }
+}
+
+# Resets the module level state, so that a request does not see the modules loaded by the previous requests.
+function resetState() {
+    birCacheDirs = [];
+    jarLibraries = [];
+    dlogger = new ();
+    birFunctionMap = {};
+    typeDefMap = {};
+    globalVarClassNames = {};
+    lambdas = {};
+    compiledPkgCache = {};
+    externalMapCache = {};
+    dependentModules = {};
+    dependentModuleArray = [];
+    currentClass = "";
+    lambdaIndex = 0;
+    typeOwnerClass = "";
+    generatedInitFuncs = [];
+    nextId = -1;
+    nextVarId = -1;
 }
 
 function generateJarBinary(string pathToEntryBir, string mapPath, boolean dumpBir,
@@ -125,3 +182,5 @@ function writeJarFile(JarFile jarFile, string targetPath) {
 }
 
 function writeExecutableJarToFile(JarFile jarFile, string targetPath) = external;
+
+function readRequest() returns string[]? = external;
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.compiler.backend.jvm;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads a code generation request from the standard input. A request is the number of arguments followed by the
+ * arguments, each in its own line. Returns null once the standard input is closed.
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "compiler_backend_jvm",
+        functionName = "readRequest",
+        returnType = {@ReturnType(type = TypeKind.ARRAY, elementType = TypeKind.STRING),
+                @ReturnType(type = TypeKind.NIL)}
+)
+public class ReadRequest {
+
+    private static final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in,
+            StandardCharsets.UTF_8));
+
+    public static ArrayValue readRequest(Strand strand) {
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            String[] args = new String[Integer.parseInt(line.trim())];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = reader.readLine();
+                if (args[i] == null) {
+                    return null;
+                }
+            }
+            return new ArrayValueImpl(args);
+        } catch (IOException | NumberFormatException e) {
+            throw new BallerinaException(e);
+        }
+    }
+}
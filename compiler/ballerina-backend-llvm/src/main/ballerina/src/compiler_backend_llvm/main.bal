@@ -54,7 +54,7 @@ function checkMagic(bir:ChannelReader reader) {
 
 function checkVersion(bir:ChannelReader reader) {
     var birVersion = reader.readInt32();
-    var supportedBirVersion = 51;
+    var supportedBirVersion = 52;
     if (birVersion != supportedBirVersion){
         error err = error( "Unsupported BIR version " + birVersion.toString() + ", supports version " +
                             supportedBirVersion.toString());
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.util;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of JVM compiler backend processes which stay alive across code generation requests. Starting a process and
+ * warming up the backend takes much longer than generating the jar of a typical module, hence a process is reused for
+ * all the modules of a build instead of starting one per module. A process serves one request at a time, so the pool
+ * grows up to the number of concurrent requests. Idle processes exit when the compiler exits.
+ *
+ * @since 1.2.0
+ */
+class BackendWorkerPool {
+
+    private static final String SERVE_FLAG = "--serve";
+    private static final String REQUEST_DONE_MARKER = "@@compiler-backend-request-done";
+    private static final long REQUEST_TIMEOUT_SECONDS = 120;
+    // read when an output stream of a process is closed, and compared by reference
+    private static final String END_OF_STREAM = new String("");
+
+    private final List<String> command;
+    private final Map<String, String> environment;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final long requestTimeoutSeconds;
+    private final ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+
+    BackendWorkerPool(List<String> command, Map<String, String> environment, PrintStream out, PrintStream err) {
+        this(command, environment, out, err, REQUEST_TIMEOUT_SECONDS);
+    }
+
+    BackendWorkerPool(List<String> command, Map<String, String> environment, PrintStream out, PrintStream err,
+                      long requestTimeoutSeconds) {
+        this.command = command;
+        this.environment = environment;
+        this.out = out;
+        this.err = err;
+        this.requestTimeoutSeconds = requestTimeoutSeconds;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    /**
+     * Generates a jar with the given backend arguments. The output of the backend is forwarded to the standard
+     * streams.
+     *
+     * @param args arguments of the backend
+     */
+    void generate(List<String> args) {
+        Worker worker = idleWorkers.poll();
+        if (worker == null || !worker.isAlive()) {
+            worker = new Worker();
+        }
+        String consoleError;
+        try {
+            consoleError = worker.generate(args);
+        } catch (RuntimeException e) {
+            worker.destroy();
+            throw e;
+        }
+        // the backend resets its state after each request, hence it can be reused even if the request failed
+        idleWorkers.offer(worker);
+        if (consoleError != null) {
+            throw new BLangCompilerException(consoleError);
+        }
+    }
+
+    /**
+     * Closes the idle processes, which exit once they have served their requests.
+     */
+    void close() {
+        Worker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.close();
+        }
+    }
+
+    /**
+     * A backend process, with the lines of its standard output and standard error.
+     */
+    private class Worker {
+
+        private final Process process;
+        private final BufferedWriter requests;
+        private final BlockingQueue<String> outLines = new LinkedBlockingQueue<>();
+        private final BlockingQueue<String> errLines = new LinkedBlockingQueue<>();
+
+        private Worker() {
+            List<String> workerCommand = new ArrayList<>(command);
+            workerCommand.add(SERVE_FLAG);
+            ProcessBuilder pb = new ProcessBuilder(workerCommand);
+            pb.environment().putAll(environment);
+            try {
+                process = pb.start();
+            } catch (IOException e) {
+                throw new BLangCompilerException("failed running jvm code gen phase.", e);
+            }
+            requests = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            startReader(process.getInputStream(), outLines, "ballerina-backend-out");
+            startReader(process.getErrorStream(), errLines, "ballerina-backend-err");
+        }
+
+        /**
+         * Sends a request to the process and waits for it to complete.
+         *
+         * @param args arguments of the backend
+         * @return the errors of the backend if the request failed, or null if it succeeded
+         */
+        private String generate(List<String> args) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(requestTimeoutSeconds);
+            try {
+                requests.write(String.valueOf(args.size()));
+                requests.newLine();
+                for (String arg : args) {
+                    requests.write(arg);
+                    requests.newLine();
+                }
+                requests.flush();
+            } catch (IOException e) {
+                throw new BLangCompilerException("failed running jvm code gen phase.", e);
+            }
+
+            String status = null;
+            String line;
+            while ((line = nextLine(outLines, deadline)) != END_OF_STREAM) {
+                if (line.startsWith(REQUEST_DONE_MARKER)) {
+                    status = line.substring(REQUEST_DONE_MARKER.length() + 1);
+                    break;
+                }
+                out.println(line);
+            }
+
+            // the errors of the request are followed by a marker, unless the process has exited
+            StringJoiner consoleError = new StringJoiner(System.getProperty("line.separator"));
+            while ((line = nextLine(errLines, deadline)) != END_OF_STREAM && !REQUEST_DONE_MARKER.equals(line)) {
+                err.println(line);
+                consoleError.add(line);
+            }
+
+            if (status == null) {
+                // the process has exited
+                throw new BLangCompilerException(consoleError.toString());
+            }
+            return "0".equals(status) ? null : consoleError.toString();
+        }
+
+        private String nextLine(BlockingQueue<String> lines, long deadline) {
+            try {
+                String line = lines.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (line == null) {
+                    throw new BLangCompilerException("failed to generate jar file within " + requestTimeoutSeconds +
+                            "s.");
+                }
+                return line;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BLangCompilerException("failed running jvm code gen phase.", e);
+            }
+        }
+
+        private boolean isAlive() {
+            return process.isAlive();
+        }
+
+        private void close() {
+            try {
+                // the process exits once there are no more requests
+                requests.close();
+            } catch (IOException e) {
+                process.destroy();
+            }
+        }
+
+        private void destroy() {
+            process.destroy();
+        }
+    }
+
+    private static void startReader(InputStream inputStream, BlockingQueue<String> lines, String name) {
+        Thread reader = new Thread(() -> {
+            try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream))) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (IOException e) {
+                // the process has exited
+            } finally {
+                lines.add(END_OF_STREAM);
+            }
+        }, name);
+        reader.setDaemon(true);
+        reader.start();
+    }
+}
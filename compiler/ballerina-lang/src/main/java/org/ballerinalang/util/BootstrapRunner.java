@@ -27,7 +27,6 @@ import org.wso2.ballerinalang.programfile.PackageFileWriter;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
@@ -46,8 +45,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.StringJoiner;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +57,7 @@ public class BootstrapRunner {
     private static final PrintStream err = System.err;
     private static final String CLASSPATH = "CLASSPATH";
     private static final String TMP_OBJECT_FILE_NAME = "ballerina_native_objf.o";
+    private static final Map<List<String>, BackendWorkerPool> backendWorkerPools = new ConcurrentHashMap<>();
 
     public static void loadTargetAndGenerateJarBinary(String entryBir, String jarOutputPath, boolean dumpBir,
                                                       HashSet<Path> moduleDependencySet, String... birCachePaths) {
@@ -151,32 +150,17 @@ public class BootstrapRunner {
 
     private static void generateJarBinaryInProc(String entryBir, String jarOutputPath, boolean dumpBir,
                                                 List<String> jarFilePaths, String... birCachePaths) {
-        try {
-            List<String> commands = new ArrayList<>();
-            commands.add("java");
-            setSystemProperty(commands, "ballerina.bstring");
-            commands.add("ballerina.compiler_backend_jvm.___init");
-            commands.addAll(createArgsForCompilerBackend(entryBir, jarOutputPath, dumpBir, true, birCachePaths,
-                    jarFilePaths));
-
-            // pass the classpath for the sub-process
-            ProcessBuilder pb = new ProcessBuilder(commands);
-            Map<String, String> env = pb.environment();
-            env.put(CLASSPATH, System.getProperty("java.class.path"));
+        List<String> commands = new ArrayList<>();
+        commands.add("java");
+        setSystemProperty(commands, "ballerina.bstring");
+        commands.add("ballerina.compiler_backend_jvm.___init");
 
-            Process process = pb.start();
-            getConsoleOutput(process.getInputStream(), out);
-            String consoleError = getConsoleOutput(process.getErrorStream(), err);
-            boolean processEnded = process.waitFor(120, TimeUnit.SECONDS);
-            if (!processEnded) {
-                throw new BLangCompilerException("failed to generate jar file within 120s.");
-            }
-            if (process.exitValue() != 0) {
-                throw new BLangCompilerException(consoleError);
-            }
-        } catch (InterruptedException | IOException e) {
-            throw new BLangCompilerException("failed running jvm code gen phase.", e);
-        }
+        // backend processes are reused across modules, as long as they are started with the same command
+        BackendWorkerPool workerPool = backendWorkerPools.computeIfAbsent(commands, command ->
+                new BackendWorkerPool(command, Collections.singletonMap(CLASSPATH,
+                        System.getProperty("java.class.path")), out, err));
+        workerPool.generate(createArgsForCompilerBackend(entryBir, jarOutputPath, dumpBir, true, birCachePaths,
+                jarFilePaths));
     }
 
     private static void setSystemProperty(List<String> commands, String propertName) {
@@ -187,16 +171,6 @@ public class BootstrapRunner {
         commands.add("-D" + propertName + "=" + System.getProperty(propertName));
     }
 
-    private static String getConsoleOutput(InputStream inputStream, PrintStream printStream) {
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        StringJoiner sj = new StringJoiner(System.getProperty("line.separator"));
-        reader.lines().iterator().forEachRemaining(line -> {
-            printStream.println(line);
-            sj.add(line);
-        });
-        return sj.toString();
-    }
-
     private static List<String> createArgsForCompilerBackend(String entryBir, String jarOutputPath, boolean dumpBir,
                                                              boolean useSystemClassLoader, String[] birCachePaths,
                                                              List<String> jarFilePaths) {
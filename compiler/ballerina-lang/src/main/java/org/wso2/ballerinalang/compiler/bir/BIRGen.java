@@ -1092,7 +1092,7 @@ public class BIRGen extends BLangNodeVisitor {
                 for (BIRLockDetailsHolder vars : s) {
                     BIRBasicBlock unlockBB = new BIRBasicBlock(this.env.nextBBId(names));
                     this.env.enclBasicBlocks.add(unlockBB);
-                    this.env.enclBB.terminator = new BIRTerminator.Unlock(null, vars.globalLocks,
+                    this.env.enclBB.terminator = new BIRTerminator.Unlock(null, vars.globalLocks, vars.readOnly,
                             vars.fieldLocks, unlockBB);
                     this.env.enclBB = unlockBB;
                 }
@@ -1883,7 +1883,7 @@ public class BIRGen extends BLangNodeVisitor {
         for (BIRLockDetailsHolder vars : toUnlock) {
             BIRBasicBlock unlockBB = new BIRBasicBlock(this.env.nextBBId(names));
             this.env.enclBasicBlocks.add(unlockBB);
-            this.env.enclBB.terminator = new BIRTerminator.Unlock(null, vars.globalLocks,
+            this.env.enclBB.terminator = new BIRTerminator.Unlock(null, vars.globalLocks, vars.readOnly,
                     vars.fieldLocks, unlockBB);
             this.env.enclBB = unlockBB;
         }
@@ -1902,7 +1902,7 @@ public class BIRGen extends BLangNodeVisitor {
         for (BIRLockDetailsHolder vars : toUnlock) {
             BIRBasicBlock unlockBB = new BIRBasicBlock(this.env.nextBBId(names));
             this.env.enclBasicBlocks.add(unlockBB);
-            this.env.enclBB.terminator = new BIRTerminator.Unlock(null, vars.globalLocks,
+            this.env.enclBB.terminator = new BIRTerminator.Unlock(null, vars.globalLocks, vars.readOnly,
                     vars.fieldLocks, unlockBB);
             this.env.enclBB = unlockBB;
         }
@@ -1930,7 +1930,7 @@ public class BIRGen extends BLangNodeVisitor {
             BIRBasicBlock lockedBB = new BIRBasicBlock(this.env.nextBBId(names));
             addToTrapStack(lockedBB);
             this.env.enclBasicBlocks.add(lockedBB);
-            this.env.enclBB.terminator = new BIRTerminator.Lock(null, globalVar, lockedBB);
+            this.env.enclBB.terminator = new BIRTerminator.Lock(null, globalVar, lockStmt.readOnly, lockedBB);
             this.env.enclBB = lockedBB;
         }
 
@@ -1948,7 +1948,7 @@ public class BIRGen extends BLangNodeVisitor {
                 .compareTo(o1.name.value));
         fieldLocks.putAll(lockStmt.fieldVariables.entrySet().stream()
                 .collect(Collectors.toMap(x -> this.env.symbolVarMap.get(x.getKey()), Map.Entry::getValue)));
-        this.env.unlockVars.peek().push(new BIRLockDetailsHolder(lockedOn, fieldLocks));
+        this.env.unlockVars.peek().push(new BIRLockDetailsHolder(lockedOn, lockStmt.readOnly, fieldLocks));
     }
 
     @Override
@@ -1959,7 +1959,7 @@ public class BIRGen extends BLangNodeVisitor {
 
         BIRLockDetailsHolder lockDetailsHolder = this.env.unlockVars.peek().pop();
         this.env.enclBB.terminator = new BIRTerminator.Unlock(null, lockDetailsHolder.globalLocks,
-                lockDetailsHolder.fieldLocks, unLockedBB);
+                lockDetailsHolder.readOnly, lockDetailsHolder.fieldLocks, unLockedBB);
         this.env.enclBB = unLockedBB;
     }
 
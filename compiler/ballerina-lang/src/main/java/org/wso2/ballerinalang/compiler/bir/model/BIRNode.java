@@ -686,11 +686,13 @@ public abstract class BIRNode {
      */
     public static class BIRLockDetailsHolder {
         public Set<BIRGlobalVariableDcl> globalLocks;
+        public boolean readOnly;
         public Map<BIRVariableDcl, Set<String>> fieldLocks;
 
-        public BIRLockDetailsHolder(Set<BIRGlobalVariableDcl> globalLocks,
+        public BIRLockDetailsHolder(Set<BIRGlobalVariableDcl> globalLocks, boolean readOnly,
                                     Map<BIRVariableDcl, Set<String>> fieldLocks) {
             this.globalLocks = globalLocks;
+            this.readOnly = readOnly;
             this.fieldLocks = fieldLocks;
         }
     }
@@ -226,16 +226,20 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
      * A lock instruction.
      * <p>
      * e.g., lock [#3, #0] bb6
+     * <p>
+     * The variable of a read only lock is shared with the other strands which only read it.
      *
      * @since 0.990.4
      */
     public static class Lock extends BIRTerminator {
         public final BIRGlobalVariableDcl globalVar;
+        public final boolean readOnly;
         public final BIRBasicBlock lockedBB;
 
-        public Lock(DiagnosticPos pos, BIRGlobalVariableDcl globalVar, BIRBasicBlock lockedBB) {
+        public Lock(DiagnosticPos pos, BIRGlobalVariableDcl globalVar, boolean readOnly, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.globalVar = globalVar;
+            this.readOnly = readOnly;
             this.lockedBB = lockedBB;
         }
 
@@ -279,13 +283,15 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
      */
     public static class Unlock extends BIRTerminator {
         public final Set<BIRGlobalVariableDcl> globalVars;
+        public final boolean readOnly;
         public final Map<BIRVariableDcl, Set<String>> fieldLocks;
         public final BIRBasicBlock unlockBB;
 
-        public Unlock(DiagnosticPos pos, Set<BIRGlobalVariableDcl> globalVars,
+        public Unlock(DiagnosticPos pos, Set<BIRGlobalVariableDcl> globalVars, boolean readOnly,
                       Map<BIRVariableDcl, Set<String>> fieldLocks, BIRBasicBlock unlockBB) {
             super(pos, InstructionKind.UNLOCK);
             this.globalVars = globalVars;
+            this.readOnly = readOnly;
             this.fieldLocks = fieldLocks;
             this.unlockBB = unlockBB;
         }
@@ -117,6 +117,7 @@ public class BIRInstructionWriter extends BIRVisitor {
 
         writeType(lock.globalVar.type);
 
+        buf.writeBoolean(lock.readOnly);
         addCpAndWriteString(lock.lockedBB.id.value);
     }
 
@@ -140,6 +141,7 @@ public class BIRInstructionWriter extends BIRVisitor {
 
             writeType(globalVar.type);
         }
+        buf.writeBoolean(unlock.readOnly);
         buf.writeInt(unlock.fieldLocks.size());
         for (Map.Entry<BIRNode.BIRVariableDcl, Set<String>> entry : unlock.fieldLocks.entrySet()) {
             addCpAndWriteString(entry.getKey().name.value);
@@ -232,6 +232,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -264,6 +265,9 @@ public class Desugar extends BLangNodeVisitor {
     private static final String LENGTH_FUNCTION_NAME = "length";
     private static final String ERROR_REASON_NULL_REFERENCE_ERROR = "NullReferenceException";
     private static final String CONSTRUCT_FROM = "constructFrom";
+    // lang lib functions which do not mutate their arguments, hence can be called in a read only lock statement
+    private static final Set<String> READ_ONLY_LANG_LIB_FUNCTIONS = new HashSet<>(Arrays.asList(LENGTH_FUNCTION_NAME,
+            TO_STRING_FUNCTION_NAME, "hasKey", "get", "keys", "indexOf"));
 
     private SymbolTable symTable;
     private SymbolResolver symResolver;
@@ -275,6 +279,7 @@ public class Desugar extends BLangNodeVisitor {
     private Types types;
     private Names names;
     private ServiceDesugar serviceDesugar;
+    private LogDesugar logDesugar;
     private BLangNode result;
 
     private BLangStatementLink currentLink;
@@ -322,6 +327,7 @@ public class Desugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.names = Names.getInstance(context);
         this.serviceDesugar = ServiceDesugar.getInstance(context);
+        this.logDesugar = LogDesugar.getInstance(context);
     }
 
     public BLangPackage perform(BLangPackage pkgNode) {
@@ -1810,6 +1816,10 @@ public class Desugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangAssignment assignNode) {
+        if (!isLocalVarRef(assignNode.varRef)) {
+            markEnclosingLocksAsWriting();
+        }
+
         if (safeNavigateLHS(assignNode.varRef)) {
             BLangAccessExpression accessExpr = (BLangAccessExpression) assignNode.varRef;
             accessExpr.leafNode = true;
@@ -2350,6 +2360,9 @@ public class Desugar extends BLangNodeVisitor {
     }
 
     public void visit(BLangCompoundAssignment compoundAssignment) {
+        if (!isLocalVarRef(compoundAssignment.varRef)) {
+            markEnclosingLocksAsWriting();
+        }
 
         BLangVariableReference varRef = compoundAssignment.varRef;
         if (compoundAssignment.varRef.getKind() != NodeKind.INDEX_BASED_ACCESS_EXPR) {
@@ -2712,7 +2725,10 @@ public class Desugar extends BLangNodeVisitor {
         // }
         BLangBlockStmt blockStmt = ASTBuilderUtil.createBlockStmt(lockNode.pos);
 
+        // a nested lock statement may lock the same variable again, which is only allowed for an exclusive lock
+        markEnclosingLocksAsWriting();
         BLangLockStmt lockStmt = new BLangLockStmt(lockNode.pos);
+        lockStmt.readOnly = enclLocks.isEmpty();
         blockStmt.addStatement(lockStmt);
 
         enclLocks.push(lockStmt);
@@ -3249,6 +3265,38 @@ public class Desugar extends BLangNodeVisitor {
         result = targetVarRef;
     }
 
+    private boolean isLocalVarRef(BLangExpression varRef) {
+        if (varRef.getKind() != NodeKind.SIMPLE_VARIABLE_REF) {
+            return false;
+        }
+        BSymbol symbol = ((BLangSimpleVarRef) varRef).symbol;
+        if (symbol == null || symbol.owner == null) {
+            // the ignored variable '_'
+            return true;
+        }
+        BSymbol ownerSymbol = symbol.owner;
+        return (ownerSymbol.tag & SymTag.PACKAGE) != SymTag.PACKAGE && (ownerSymbol.tag & SymTag.SERVICE) !=
+                SymTag.SERVICE;
+    }
+
+    private boolean isReadOnlyInvocation(BLangInvocation iExpr) {
+        if (iExpr.symbol != null && iExpr.symbol.kind == SymbolKind.ERROR_CONSTRUCTOR) {
+            return true;
+        }
+        return iExpr.langLibInvocation && READ_ONLY_LANG_LIB_FUNCTIONS.contains(iExpr.name.value);
+    }
+
+    /**
+     * Marks the enclosing lock statements as lock statements which update the locked variables, hence the variables
+     * are locked exclusively. The variables of a lock statement which only reads them are shared with the other
+     * strands which read them.
+     */
+    private void markEnclosingLocksAsWriting() {
+        for (BLangLockStmt lockStmt : enclLocks) {
+            lockStmt.readOnly = false;
+        }
+    }
+
     private void addToLocks(BLangStructFieldAccessExpr targetVarRef) {
         if (enclLocks.isEmpty()) {
             return;
@@ -3311,6 +3359,11 @@ public class Desugar extends BLangNodeVisitor {
     public void visit(BLangInvocation iExpr) {
         BLangInvocation genIExpr = iExpr;
 
+        // the called function may update the locked variables, or lock them again
+        if (!isReadOnlyInvocation(iExpr)) {
+            markEnclosingLocksAsWriting();
+        }
+
         if (iExpr.symbol != null && iExpr.symbol.kind == SymbolKind.ERROR_CONSTRUCTOR) {
             result = rewriteErrorConstructor(iExpr);
         }
@@ -3319,6 +3372,7 @@ public class Desugar extends BLangNodeVisitor {
         reorderArguments(iExpr);
         iExpr.requiredArgs = rewriteExprs(iExpr.requiredArgs);
         iExpr.restArgs = rewriteExprs(iExpr.restArgs);
+        logDesugar.addCallerModule(iExpr, env);
 
         annotationDesugar.defineStatementAnnotations(iExpr.annAttachments, iExpr.pos, iExpr.symbol.pkgID,
                 iExpr.symbol.owner);
@@ -3435,6 +3489,7 @@ public class Desugar extends BLangNodeVisitor {
     }
 
     public void visit(BLangTypeInit typeInitExpr) {
+        markEnclosingLocksAsWriting();
         switch (typeInitExpr.type.tag) {
             case TypeTags.STREAM:
                 result = new BLangStreamLiteral(typeInitExpr.pos, typeInitExpr.type);
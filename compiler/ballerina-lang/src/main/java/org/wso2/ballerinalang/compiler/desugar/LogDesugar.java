@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.desugar;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites the calls to the ballerina/log print functions, so that the name of the calling module is passed to the
+ * log natives instead of being resolved by walking the stack on every call. The following call
+ * <blockquote><pre>
+ *          log:printInfo("message");
+ * </pre></blockquote>
+ * in the module foo/bar is rewritten as
+ * <blockquote><pre>
+ *          log:printInfoInModule("foo/bar", "message");
+ * </pre></blockquote>
+ * The module name is the one the log natives would have resolved from the class of the caller. Calls through
+ * function pointers are not rewritten, and are still resolved at runtime.
+ *
+ * @since 1.2.0
+ */
+public class LogDesugar {
+
+    private static final String PACKAGE_NAME = "log";
+    private static final String IN_MODULE_SUFFIX = "InModule";
+    private static final String MODULE_SEPARATOR = "/";
+    private static final Set<String> PRINT_FUNCTIONS = new HashSet<>(Arrays.asList("printDebug", "printError",
+            "printInfo", "printTrace", "printWarn"));
+
+    private static final CompilerContext.Key<LogDesugar> LOG_DESUGAR_KEY = new CompilerContext.Key<>();
+
+    private final SymbolTable symTable;
+
+    public static LogDesugar getInstance(CompilerContext context) {
+        LogDesugar desugar = context.get(LOG_DESUGAR_KEY);
+        if (desugar == null) {
+            desugar = new LogDesugar(context);
+        }
+
+        return desugar;
+    }
+
+    private LogDesugar(CompilerContext context) {
+        context.put(LOG_DESUGAR_KEY, this);
+        this.symTable = SymbolTable.getInstance(context);
+    }
+
+    /**
+     * Passes the name of the calling module to the given invocation if it is a call to a log print function.
+     *
+     * @param iExpr invocation, with its arguments already reordered to match the function signature
+     * @param env   environment of the invocation
+     */
+    void addCallerModule(BLangInvocation iExpr, SymbolEnv env) {
+        BSymbol symbol = iExpr.symbol;
+        if (iExpr.functionPointerInvocation || iExpr.expr != null || symbol == null ||
+                !(symbol.owner instanceof BPackageSymbol) || !isLogModule(symbol.pkgID) ||
+                !PRINT_FUNCTIONS.contains(symbol.name.value)) {
+            return;
+        }
+
+        // the log module may have been compiled without the module aware functions
+        BSymbol inModuleSymbol = symbol.owner.scope.lookup(new Name(symbol.name.value + IN_MODULE_SUFFIX)).symbol;
+        if (inModuleSymbol == null || (inModuleSymbol.tag & SymTag.FUNCTION) != SymTag.FUNCTION) {
+            return;
+        }
+
+        List<BLangExpression> args = new ArrayList<>(iExpr.requiredArgs.size() + 1);
+        args.add(ASTBuilderUtil.createLiteral(iExpr.pos, symTable.stringType, getModuleName(env.enclPkg.packageID)));
+        args.addAll(iExpr.requiredArgs);
+        iExpr.requiredArgs = args;
+        iExpr.symbol = inModuleSymbol;
+    }
+
+    private static boolean isLogModule(PackageID pkgID) {
+        return Names.BALLERINA_ORG.equals(pkgID.orgName) && PACKAGE_NAME.equals(pkgID.name.value);
+    }
+
+    /**
+     * Returns the name of the module as the log natives resolve it from the generated class name, which has the
+     * cleaned up organization and module names as its Java package.
+     */
+    private static String getModuleName(PackageID pkgID) {
+        String moduleName = "";
+        if (!Names.DEFAULT_PACKAGE.equals(pkgID.name)) {
+            moduleName = cleanupName(pkgID.name.value);
+        }
+        if (!Names.ANON_ORG.value.equalsIgnoreCase(pkgID.orgName.value)) {
+            moduleName = moduleName.isEmpty() ? cleanupName(pkgID.orgName.value) :
+                    cleanupName(pkgID.orgName.value) + MODULE_SEPARATOR + moduleName;
+        }
+        return moduleName.isEmpty() ? Names.DOT.value : moduleName;
+    }
+
+    private static String cleanupName(String name) {
+        return name.replace(".", "_");
+    }
+}
@@ -105,6 +105,9 @@ public class BLangLock extends BLangStatement implements LockNode {
 
         public Map<BVarSymbol, Set<String>> fieldVariables = new HashMap<>();
 
+        // whether the lock statement only reads the locked variables
+        public boolean readOnly;
+
         public BLangLockStmt(DiagnosticPos pos) {
             this.pos = pos;
         }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.util;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for the {@link BackendWorkerPool}, which serves the requests with {@link StubCompilerBackend} processes.
+ *
+ * @since 1.2.0
+ */
+public class BackendWorkerPoolTest {
+
+    private final ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+    private BackendWorkerPool pool;
+
+    @AfterMethod
+    public void closePool() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+        outBytes.reset();
+        errBytes.reset();
+    }
+
+    @Test
+    public void testRequestsServedByWarmProcess() {
+        pool = createPool(120);
+        pool.generate(Arrays.asList("generate", "a"));
+        pool.generate(Arrays.asList("generate", "b"));
+        pool.generate(Arrays.asList("generate", "c"));
+
+        List<String> lines = getOutLines();
+        Assert.assertEquals(lines.size(), 3);
+        String processId = getProcessId(lines.get(0));
+        Assert.assertEquals(lines, Arrays.asList("process " + processId + " generated a",
+                "process " + processId + " generated b", "process " + processId + " generated c"));
+    }
+
+    @Test
+    public void testFailedRequestKeepsProcess() {
+        pool = createPool(120);
+        pool.generate(Arrays.asList("generate", "a"));
+        try {
+            pool.generate(Arrays.asList("fail", "invalid module"));
+            Assert.fail("expected the request to fail");
+        } catch (BLangCompilerException e) {
+            Assert.assertEquals(e.getMessage(), "error: invalid module");
+        }
+        Assert.assertEquals(new String(errBytes.toByteArray(), StandardCharsets.UTF_8).trim(),
+                "error: invalid module");
+
+        // the backend resets its state after a failed request, hence the process serves the next request
+        pool.generate(Arrays.asList("generate", "b"));
+        List<String> lines = getOutLines();
+        Assert.assertEquals(getProcessId(lines.get(1)), getProcessId(lines.get(0)));
+    }
+
+    @Test
+    public void testCrashedProcessIsReplaced() {
+        pool = createPool(120);
+        pool.generate(Arrays.asList("generate", "a"));
+        try {
+            pool.generate(Collections.singletonList("crash"));
+            Assert.fail("expected the request to fail");
+        } catch (BLangCompilerException e) {
+            Assert.assertEquals(e.getMessage(), "error: crashed");
+        }
+
+        pool.generate(Arrays.asList("generate", "b"));
+        List<String> lines = getOutLines();
+        Assert.assertNotEquals(getProcessId(lines.get(1)), getProcessId(lines.get(0)));
+    }
+
+    @Test
+    public void testTimedOutProcessIsReplaced() {
+        pool = createPool(2);
+        pool.generate(Arrays.asList("generate", "a"));
+        try {
+            pool.generate(Collections.singletonList("hang"));
+            Assert.fail("expected the request to time out");
+        } catch (BLangCompilerException e) {
+            Assert.assertEquals(e.getMessage(), "failed to generate jar file within 2s.");
+        }
+
+        // the process which timed out is destroyed, hence the next request is served by a new process
+        pool.generate(Arrays.asList("generate", "b"));
+        List<String> lines = getOutLines();
+        Assert.assertEquals(lines.size(), 2);
+        Assert.assertNotEquals(getProcessId(lines.get(1)), getProcessId(lines.get(0)));
+    }
+
+    private BackendWorkerPool createPool(long requestTimeoutSeconds) {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        return new BackendWorkerPool(Arrays.asList(java, StubCompilerBackend.class.getName()),
+                Collections.singletonMap("CLASSPATH", System.getProperty("java.class.path")),
+                new PrintStream(outBytes, true), new PrintStream(errBytes, true), requestTimeoutSeconds);
+    }
+
+    private List<String> getOutLines() {
+        List<String> lines = new ArrayList<>();
+        for (String line : new String(outBytes.toByteArray(), StandardCharsets.UTF_8).split("\\R")) {
+            if (!line.isEmpty()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static String getProcessId(String line) {
+        return line.split(" ")[1];
+    }
+}
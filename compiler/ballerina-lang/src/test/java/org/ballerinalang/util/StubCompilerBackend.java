@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A compiler backend which serves requests with the protocol of the JVM backend in the --serve mode, for the tests of
+ * {@link BackendWorkerPool}. The first argument of a request selects how the request is served:
+ * <ul>
+ * <li>generate: prints the id of the process and the module, which is the second argument, and succeeds</li>
+ * <li>fail: prints the error, which is the second argument, and fails</li>
+ * <li>crash: exits the process</li>
+ * <li>hang: never completes</li>
+ * </ul>
+ */
+public class StubCompilerBackend {
+
+    private static final String REQUEST_DONE_MARKER = "@@compiler-backend-request-done";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1 || !"--serve".equals(args[0])) {
+            System.exit(2);
+        }
+        String processId = UUID.randomUUID().toString();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] request = new String[Integer.parseInt(line.trim())];
+            for (int i = 0; i < request.length; i++) {
+                request[i] = reader.readLine();
+            }
+
+            boolean succeeded = true;
+            switch (request[0]) {
+                case "generate":
+                    System.out.println("process " + processId + " generated " + request[1]);
+                    break;
+                case "fail":
+                    System.err.println("error: " + request[1]);
+                    succeeded = false;
+                    break;
+                case "crash":
+                    System.err.println("error: crashed");
+                    System.exit(1);
+                    break;
+                case "hang":
+                    Thread.sleep(Long.MAX_VALUE);
+                    break;
+                default:
+                    succeeded = false;
+                    break;
+            }
+
+            System.err.println(REQUEST_DONE_MARKER);
+            System.out.println(REQUEST_DONE_MARKER + ":" + (succeeded ? "0" : "1"));
+        }
+    }
+}
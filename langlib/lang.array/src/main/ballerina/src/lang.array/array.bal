@@ -150,6 +150,35 @@ public function reverse(Type[] arr) returns Type[] = external;
 # + return - `arr` with its members sorted
 public function sort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] = external;
 
+// Parallel functional iteration
+
+# Applies a function to each member of an array in parallel and returns an array of the results.
+# Large arrays are split into parts to which `func` is applied concurrently, hence `func` must not
+# depend on the order in which it is applied or modify state shared with other calls.
+#
+# + arr - the array
+# + func - a function to apply to each member
+# + return - new array containing result of applying `func` to each member of `arr` in order
+public function parallelMap(Type[] arr, function(Type val) returns Type1 func) returns Type1[] = external;
+
+# Selects the members from an array for which a function returns true, testing the members in parallel.
+# Large arrays are split into parts to which `func` is applied concurrently, hence `func` must not
+# depend on the order in which it is applied or modify state shared with other calls.
+#
+# + arr - the array
+# + func - a predicate to apply to each member to test whether it should be selected
+# + return - new array only containing members of `arr` for which `func` evaluates to true, in order
+public function parallelFilter(Type[] arr, function(Type val) returns boolean func) returns Type[] = external;
+
+# Sorts an array using a comparator function, sorting parts of the array in parallel.
+# The result is the same as that of `sort`. The comparator function is called concurrently,
+# hence it must not modify state shared with other calls.
+#
+# + arr - the array to be sorted
+# + func - comparator function
+# + return - `arr` with its members sorted
+public function parallelSort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] = external;
+
 // Stack-like methods (JavaScript, Perl)
 // panic on fixed-length array
 // compile-time error if known to be fixed-length
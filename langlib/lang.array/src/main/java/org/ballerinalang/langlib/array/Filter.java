@@ -18,8 +18,10 @@
 
 package org.ballerinalang.langlib.array;
 
+import org.ballerinalang.jvm.commons.ArrayState;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
@@ -28,6 +30,8 @@ import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
+import java.util.Arrays;
+
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
 
 /**
@@ -44,14 +48,55 @@ import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
 public class Filter {
 
     public static ArrayValue filter(Strand strand, ArrayValue arr, FPValue<Object, Boolean> func) {
-        ArrayValue newArr = new ArrayValueImpl((BArrayType) arr.getType());
-        int elemTypeTag = newArr.getElementType().getTag();
+        BArrayType arrType = (BArrayType) arr.getType();
         int size = arr.size();
-        Object val;
+        Object[] args = new Object[]{strand, null, true};
+
+        // the members of open int, float and string arrays are filtered within an array of their type, which becomes
+        // the new array
+        if (arrType.getState() == ArrayState.UNSEALED) {
+            int j = 0;
+            switch (arrType.getElementType().getTag()) {
+                case TypeTags.INT_TAG:
+                    long[] intValues = arr.getIntArray();
+                    for (int i = 0; i < size; i++) {
+                        args[1] = intValues[i];
+                        if (func.apply(args)) {
+                            intValues[j++] = intValues[i];
+                        }
+                    }
+                    return new ArrayValueImpl(Arrays.copyOf(intValues, j));
+                case TypeTags.FLOAT_TAG:
+                    double[] floatValues = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        double val = arr.getFloat(i);
+                        args[1] = val;
+                        if (func.apply(args)) {
+                            floatValues[j++] = val;
+                        }
+                    }
+                    return new ArrayValueImpl(Arrays.copyOf(floatValues, j));
+                case TypeTags.STRING_TAG:
+                    String[] stringValues = arr.getStringArray();
+                    for (int i = 0; i < size; i++) {
+                        args[1] = stringValues[i];
+                        if (func.apply(args)) {
+                            stringValues[j++] = stringValues[i];
+                        }
+                    }
+                    return new ArrayValueImpl(Arrays.copyOf(stringValues, j));
+                default:
+                    break;
+            }
+        }
 
+        ArrayValue newArr = new ArrayValueImpl(arrType);
+        int elemTypeTag = newArr.getElementType().getTag();
+        Object val;
         for (int i = 0, j = 0; i < size; i++) {
             val = arr.get(i);
-            if (func.apply(new Object[]{strand, arr.get(i), true})) {
+            args[1] = val;
+            if (func.apply(args)) {
                 add(newArr, elemTypeTag, j++, val);
             }
         }
@@ -33,7 +33,7 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
-import static org.ballerinalang.jvm.values.utils.ArrayUtils.createOpNotSupportedError;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.getElementAccessFunction;
 
 /**
  * Native implementation of lang.array:map(Type[]).
@@ -50,31 +50,44 @@ public class Map {
 
     public static ArrayValue map(Strand strand, ArrayValue arr, FPValue<Object, Object> func) {
         BType elemType = ((BFunctionType) func.getType()).retType;
-        BType retArrType = new BArrayType(elemType);
-        ArrayValue retArr = new ArrayValueImpl((BArrayType) retArrType);
         int size = arr.size();
-        GetFunction getFn;
-        int elemTypeTag;
+        GetFunction getFn = getElementAccessFunction(arr.getType(), "map()");
 
-        BType arrType = arr.getType();
-        switch (arrType.getTag()) {
-            case TypeTags.ARRAY_TAG:
-                getFn = ArrayValue::get;
-                elemTypeTag = elemType.getTag();
-                break;
-            case TypeTags.TUPLE_TAG:
-                getFn = ArrayValue::getRefValue;
-                elemTypeTag = elemType.getTag();
-                break;
+        // arguments of the function, which are reused for each member
+        Object[] args = new Object[]{strand, null, true};
+        // int, float and string results are collected in an array of their type, which becomes the new array
+        switch (elemType.getTag()) {
+            case TypeTags.INT_TAG:
+                long[] intValues = new long[size];
+                for (int i = 0; i < size; i++) {
+                    intValues[i] = (Long) apply(arr, i, getFn, func, args);
+                }
+                return new ArrayValueImpl(intValues);
+            case TypeTags.FLOAT_TAG:
+                double[] floatValues = new double[size];
+                for (int i = 0; i < size; i++) {
+                    floatValues[i] = (Double) apply(arr, i, getFn, func, args);
+                }
+                return new ArrayValueImpl(floatValues);
+            case TypeTags.STRING_TAG:
+                String[] stringValues = new String[size];
+                for (int i = 0; i < size; i++) {
+                    stringValues[i] = (String) apply(arr, i, getFn, func, args);
+                }
+                return new ArrayValueImpl(stringValues);
             default:
-                throw createOpNotSupportedError(arrType, "map()");
-        }
-
-        for (int i = 0; i < size; i++) {
-            Object newVal = func.getFunction().apply(new Object[]{strand, getFn.get(arr, i), true});
-            add(retArr, elemTypeTag, i, newVal);
+                ArrayValue retArr = new ArrayValueImpl(new BArrayType(elemType));
+                int elemTypeTag = elemType.getTag();
+                for (int i = 0; i < size; i++) {
+                    add(retArr, elemTypeTag, i, apply(arr, i, getFn, func, args));
+                }
+                return retArr;
         }
+    }
 
-        return retArr;
+    private static Object apply(ArrayValue arr, int index, GetFunction getFn, FPValue<Object, Object> func,
+                                Object[] args) {
+        args[1] = getFn.get(arr, index);
+        return func.getFunction().apply(args);
     }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utilities of the parallel functions of lang.array. The work of a parallel function is split into tasks, which are
+ * run by strands of their own, hence the parallelism is that of the scheduler. The calling strand is blocked until
+ * all the tasks complete, the same way as it is blocked on a non-blocking extern call.
+ * <p>
+ * A task strand may yield while calling the function, for example on a contended lock. A task therefore keeps its
+ * progress, and calls the function again for the same member when its strand resumes, which resumes the function.
+ *
+ * @since 1.2.0
+ */
+final class ParallelArrayUtils {
+
+    // smaller arrays are processed by the calling strand, since splitting them costs more than it saves
+    static final int PARALLEL_THRESHOLD = 8192;
+    private static final int MIN_RANGE_SIZE = 1024;
+    // ranges per thread, so that threads which finish early take over the ranges of busy threads
+    private static final int RANGES_PER_THREAD = 4;
+
+    private ParallelArrayUtils() {
+    }
+
+    static boolean isParallel(Strand strand, int size) {
+        return size >= PARALLEL_THRESHOLD && strand.scheduler.getNumThreads() > 1;
+    }
+
+    /**
+     * Returns the size of the ranges an array of the given size is split into.
+     *
+     * @param strand calling strand
+     * @param size   size of the array
+     * @return size of a range
+     */
+    static int getRangeSize(Strand strand, int size) {
+        return Math.max(MIN_RANGE_SIZE, size / (strand.scheduler.getNumThreads() * RANGES_PER_THREAD));
+    }
+
+    /**
+     * Applies the given action to each index of an array of the given size, in parallel. The calling strand is
+     * resumed with the value of the given result once the action has been applied to all the indexes.
+     *
+     * @param strand calling strand
+     * @param size   size of the array
+     * @param action action to apply to each index
+     * @param result result of the function, which is computed once the action is applied to all the indexes
+     */
+    static void forEachIndex(Strand strand, int size, IndexAction action, Supplier<Object> result) {
+        int rangeSize = getRangeSize(strand, size);
+        Task[] tasks = new Task[(size + rangeSize - 1) / rangeSize];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new RangeTask(i * rangeSize, Math.min((i + 1) * rangeSize, size), action);
+        }
+        invokeAll(strand, Collections.singletonList(tasks), result);
+    }
+
+    /**
+     * Runs the given stages of tasks one after the other, running the tasks of a stage in parallel. The calling
+     * strand is blocked until all the stages complete, and is then resumed with the value of the given result. If a
+     * task panics, the remaining stages are not run and the panic is raised on the calling strand.
+     *
+     * @param strand calling strand
+     * @param stages stages of the tasks to run
+     * @param result result of the function, which is computed once all the stages complete
+     */
+    static void invokeAll(Strand strand, List<Task[]> stages, Supplier<Object> result) {
+        // the strand has to be blocked before the tasks are scheduled, since they may complete right away
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        new StagesCallback(strand, stages, result).scheduleStage();
+    }
+
+    /**
+     * An action which processes the member at an index.
+     */
+    interface IndexAction {
+
+        /**
+         * Processes the member at the given index. The strand may yield while the member is processed, in which case
+         * the action is applied again to the same index once the strand resumes.
+         *
+         * @param strand strand which processes the member
+         * @param index  index of the member
+         */
+        void apply(Strand strand, int index);
+    }
+
+    /**
+     * A part of the work of a parallel function, which is run by a strand of its own.
+     */
+    interface Task {
+
+        /**
+         * Runs the task, or the rest of it if the strand yielded the last time the task was run.
+         *
+         * @param strand strand which runs the task
+         */
+        void run(Strand strand);
+    }
+
+    private static class RangeTask implements Task {
+
+        private final int to;
+        private final IndexAction action;
+        private int next;
+
+        private RangeTask(int from, int to, IndexAction action) {
+            this.next = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        public void run(Strand strand) {
+            for (; next < to; next++) {
+                action.apply(strand, next);
+                if (strand.isYielded()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the stages one after the other, and resumes the calling strand once they complete.
+     */
+    private static class StagesCallback implements CallableUnitCallback {
+
+        private final Strand strand;
+        private final List<Task[]> stages;
+        private final Supplier<Object> result;
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+        private int stage;
+        private volatile ErrorValue panic;
+
+        private StagesCallback(Strand strand, List<Task[]> stages, Supplier<Object> result) {
+            this.strand = strand;
+            this.stages = stages;
+            this.result = result;
+        }
+
+        private void scheduleStage() {
+            Task[] tasks = stages.get(stage);
+            pendingTasks.set(tasks.length);
+            for (Task task : tasks) {
+                strand.scheduler.schedule(new Object[1], new TaskFunction(strand, task), strand, this,
+                        copyProperties(), BTypes.typeNull);
+            }
+        }
+
+        // each task strand gets its own copy, since the properties of a strand are not thread safe
+        private Map<String, Object> copyProperties() {
+            Map<String, Object> properties = strand.getProperties();
+            return properties == null ? null : new HashMap<>(properties);
+        }
+
+        @Override
+        public void notifySuccess() {
+            completeTask();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            panic = error;
+            completeTask();
+        }
+
+        private void completeTask() {
+            if (pendingTasks.decrementAndGet() > 0) {
+                return;
+            }
+            if (panic == null && ++stage < stages.size()) {
+                scheduleStage();
+                return;
+            }
+
+            if (panic != null) {
+                strand.setExternPanic(panic);
+            } else {
+                try {
+                    strand.setReturnValues(result.get());
+                } catch (Throwable t) {
+                    strand.setExternPanic(t);
+                }
+            }
+            strand.scheduler.unblockStrand(strand);
+        }
+    }
+
+    /**
+     * Runs a task in a strand which takes part in the transaction of the calling strand, if any.
+     */
+    private static class TaskFunction implements Function<Object[], Object> {
+
+        private final Strand parent;
+        private final Task task;
+
+        private TaskFunction(Strand parent, Task task) {
+            this.parent = parent;
+            this.task = task;
+        }
+
+        @Override
+        public Object apply(Object[] params) {
+            Strand strand = (Strand) params[0];
+            strand.transactionLocalContext = parent.transactionLocalContext;
+            task.run(strand);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.forEachIndex;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.isParallel;
+
+/**
+ * Native implementation of lang.array:parallelFilter(Type[], function).
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", functionName = "parallelFilter",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)},
+        isPublic = true
+)
+public class ParallelFilter {
+
+    public static ArrayValue parallelFilter(Strand strand, ArrayValue arr, FPValue<Object, Boolean> func) {
+        checkIsArrayOnlyOperation(arr.getType(), "parallelFilter()");
+        int size = arr.size();
+        if (!isParallel(strand, size)) {
+            return Filter.filter(strand, arr, func);
+        }
+
+        boolean[] selected = new boolean[size];
+        forEachIndex(strand, size, (taskStrand, i) -> {
+            Boolean isSelected = func.apply(new Object[]{taskStrand, arr.get(i), true});
+            // nothing is returned if the strand yields, in which case the function is called again
+            selected[i] = isSelected != null && isSelected;
+        }, () -> {
+            // the selected members are added in order once all of them are known
+            ArrayValue newArr = new ArrayValueImpl((BArrayType) arr.getType());
+            int elemTypeTag = newArr.getElementType().getTag();
+            for (int i = 0, j = 0; i < size; i++) {
+                if (selected[i]) {
+                    add(newArr, elemTypeTag, j++, arr.get(i));
+                }
+            }
+            return newArr;
+        });
+        // the strand is resumed with the new array once all the members are tested
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.utils.GetFunction;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.getElementAccessFunction;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.forEachIndex;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.isParallel;
+
+/**
+ * Native implementation of lang.array:parallelMap(Type[], function).
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", functionName = "parallelMap",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)},
+        isPublic = true
+)
+public class ParallelMap {
+
+    public static ArrayValue parallelMap(Strand strand, ArrayValue arr, FPValue<Object, Object> func) {
+        int size = arr.size();
+        if (!isParallel(strand, size)) {
+            return Map.map(strand, arr, func);
+        }
+
+        BType elemType = ((BFunctionType) func.getType()).retType;
+        GetFunction getFn = getElementAccessFunction(arr.getType(), "parallelMap()");
+        Object[] results = new Object[size];
+        forEachIndex(strand, size, (taskStrand, i) -> {
+            results[i] = func.getFunction().apply(new Object[]{taskStrand, getFn.get(arr, i), true});
+        }, () -> {
+            ArrayValue retArr = new ArrayValueImpl(new BArrayType(elemType));
+            int elemTypeTag = elemType.getTag();
+            for (int i = 0; i < size; i++) {
+                add(retArr, elemTypeTag, i, results[i]);
+            }
+            return retArr;
+        });
+        // the strand is resumed with the new array once all the members are mapped
+        return null;
+    }
+}
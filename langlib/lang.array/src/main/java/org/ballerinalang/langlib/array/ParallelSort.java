@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.langlib.array.ParallelArrayUtils.Task;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.getRangeSize;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.invokeAll;
+import static org.ballerinalang.langlib.array.ParallelArrayUtils.isParallel;
+
+/**
+ * Native implementation of lang.array:parallelSort(Type[], function).
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", functionName = "parallelSort",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)},
+        isPublic = true
+)
+public class ParallelSort {
+
+    public static ArrayValue parallelSort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
+        checkIsArrayOnlyOperation(arr.getType(), "parallelSort()");
+        int size = arr.size();
+        if (!isParallel(strand, size)) {
+            return Sort.sort(strand, arr, func);
+        }
+
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        Object[] aux = new Object[size];
+
+        // the ranges are sorted in parallel, then the sorted runs are merged in pairs, in parallel, until one is left
+        List<Task[]> stages = new ArrayList<>();
+        int rangeSize = getRangeSize(strand, size);
+        List<Integer> bounds = new ArrayList<>();
+        Task[] sortTasks = new Task[(size + rangeSize - 1) / rangeSize];
+        for (int i = 0; i < sortTasks.length; i++) {
+            int lo = i * rangeSize;
+            sortTasks[i] = new SortTask(values, aux, lo, Math.min(lo + rangeSize, size), func);
+            bounds.add(lo);
+        }
+        bounds.add(size);
+        stages.add(sortTasks);
+
+        while (bounds.size() > 2) {
+            List<Integer> mergedBounds = new ArrayList<>();
+            Task[] mergeTasks = new Task[(bounds.size() - 1) / 2];
+            for (int i = 0; i < mergeTasks.length; i++) {
+                mergeTasks[i] = new MergeTask(values, aux, bounds.get(2 * i), bounds.get(2 * i + 1),
+                        bounds.get(2 * i + 2), func);
+                mergedBounds.add(bounds.get(2 * i));
+            }
+            // an odd run is merged in the next stage
+            if ((bounds.size() - 1) % 2 != 0) {
+                mergedBounds.add(bounds.get(bounds.size() - 2));
+            }
+            mergedBounds.add(size);
+            bounds = mergedBounds;
+            stages.add(mergeTasks);
+        }
+
+        invokeAll(strand, stages, () -> {
+            int elemTypeTag = arr.getElementType().getTag();
+            for (int i = 0; i < size; i++) {
+                add(arr, elemTypeTag, i, values[i]);
+            }
+            return arr;
+        });
+        // the strand is resumed with the sorted array once all the stages complete
+        return null;
+    }
+
+    /**
+     * Merges two adjacent sorted runs of the members, the same way as {@link Sort} merges them, hence the result is
+     * the same as that of a sequential sort. The merge keeps its progress, so that it can be resumed after the strand
+     * yields while comparing two members.
+     */
+    private static class Merger {
+
+        private final Object[] values;
+        private final Object[] aux;
+        private final FPValue<Object, Long> comparator;
+        private int lo;
+        private int mid;
+        private int hi;
+        private int i;
+        private int j;
+        private int k;
+
+        private Merger(Object[] values, Object[] aux, FPValue<Object, Long> comparator) {
+            this.values = values;
+            this.aux = aux;
+            this.comparator = comparator;
+        }
+
+        private void start(int lo, int mid, int hi) {
+            this.lo = lo;
+            this.mid = mid;
+            this.hi = hi;
+            this.k = -1;
+        }
+
+        /**
+         * Merges the runs from where the merge stopped.
+         *
+         * @param strand strand which compares the members
+         * @return true if the runs are merged, false if the strand yielded
+         */
+        private boolean merge(Strand strand) {
+            if (k < 0) {
+                // the runs are already in order, which is common when sorting a sorted or partially sorted array
+                Long result = compare(strand, values[mid], values[mid - 1]);
+                if (strand.isYielded()) {
+                    return false;
+                }
+                if (result >= 0) {
+                    return true;
+                }
+                System.arraycopy(values, lo, aux, lo, hi - lo);
+                i = lo;
+                j = mid;
+                k = lo;
+            }
+
+            for (; k < hi; k++) {
+                if (i >= mid) {
+                    values[k] = aux[j++];
+                } else if (j >= hi) {
+                    values[k] = aux[i++];
+                } else {
+                    Long result = compare(strand, aux[j], aux[i]);
+                    if (strand.isYielded()) {
+                        return false;
+                    }
+                    values[k] = result < 0 ? aux[j++] : aux[i++];
+                }
+            }
+            return true;
+        }
+
+        private Long compare(Strand strand, Object value1, Object value2) {
+            return comparator.apply(new Object[]{strand, value1, true, value2, true});
+        }
+    }
+
+    /**
+     * Sorts a range of the members, by merging runs of increasing width.
+     */
+    private static class SortTask implements Task {
+
+        private final Merger merger;
+        private final int lo;
+        private final int hi;
+        private int width = 1;
+        private int left;
+        private boolean merging;
+
+        private SortTask(Object[] values, Object[] aux, int lo, int hi, FPValue<Object, Long> comparator) {
+            this.merger = new Merger(values, aux, comparator);
+            this.lo = lo;
+            this.hi = hi;
+            this.left = lo;
+        }
+
+        @Override
+        public void run(Strand strand) {
+            for (; width < hi - lo; width *= 2, left = lo) {
+                for (; left + width < hi; left += 2 * width) {
+                    if (!merging) {
+                        merger.start(left, left + width, Math.min(left + 2 * width, hi));
+                        merging = true;
+                    }
+                    if (!merger.merge(strand)) {
+                        return;
+                    }
+                    merging = false;
+                }
+            }
+        }
+    }
+
+    private static class MergeTask implements Task {
+
+        private final Merger merger;
+
+        private MergeTask(Object[] values, Object[] aux, int lo, int mid, int hi, FPValue<Object, Long> comparator) {
+            this.merger = new Merger(values, aux, comparator);
+            merger.start(lo, mid, hi);
+        }
+
+        @Override
+        public void run(Strand strand) {
+            merger.merge(strand);
+        }
+    }
+}
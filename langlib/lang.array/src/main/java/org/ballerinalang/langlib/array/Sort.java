@@ -19,10 +19,9 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.ArrayValue;
-import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.utils.GetFunction;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -30,6 +29,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
 
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.getElementAccessFunction;
 
 /**
  * Native implementation of lang.array:sort((any|error)[], function).
@@ -46,13 +46,27 @@ public class Sort {
 
     public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
+        int size = arr.size();
+        GetFunction getFn = getElementAccessFunction(arr.getType(), "sort()");
+        // the members are read once, instead of being read from the array and boxed for each comparison
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = getFn.get(arr, i);
+        }
+        Object[] aux = new Object[size];
+        // the comparator does not keep the arguments, hence the same arguments are used for all the comparisons
+        Object[] args = new Object[]{strand, null, true, null, true};
+        mergesort(values, aux, 0, size - 1, args, func);
+
+        int elemTypeTag = arr.getElementType().getTag();
+        for (int i = 0; i < size; i++) {
+            add(arr, elemTypeTag, i, values[i]);
+        }
         return arr;
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
+    private static void mergesort(Object[] input, Object[] aux, int lo, int hi, Object[] args,
                                   FPValue<Object, Long> comparator) {
         if (hi <= lo) {
             return;
@@ -60,30 +74,36 @@ public class Sort {
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, strand, comparator);
-        mergesort(input, aux, mid + 1, hi, strand, comparator);
+        mergesort(input, aux, lo, mid, args, comparator);
+        mergesort(input, aux, mid + 1, hi, args, comparator);
 
-        merge(input, aux, lo, mid, hi, strand, comparator);
+        // the halves are already in order, which is common when sorting a sorted or partially sorted array
+        if (compare(input[mid + 1], input[mid], args, comparator) >= 0) {
+            return;
+        }
+        merge(input, aux, lo, mid, hi, args, comparator);
     }
 
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
+    private static void merge(Object[] input, Object[] aux, int lo, int mid, int hi, Object[] args,
                               FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
-
-        for (int i = lo; i <= hi; i++) {
-            add(aux, elemTypeTag, i, input.get(i));
-        }
+        System.arraycopy(input, lo, aux, lo, hi - lo + 1);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             if (i > mid) {
-                add(input, elemTypeTag, k, aux.get(j++));
+                input[k] = aux[j++];
             } else if (j > hi) {
-                add(input, elemTypeTag, k, aux.get(i++));
-            } else if (comparator.apply(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                add(input, elemTypeTag, k, aux.get(j++));
+                input[k] = aux[i++];
+            } else if (compare(aux[j], aux[i], args, comparator) < 0) {
+                input[k] = aux[j++];
             } else {
-                add(input, elemTypeTag, k, aux.get(i++));
+                input[k] = aux[i++];
             }
         }
     }
+
+    private static long compare(Object value1, Object value2, Object[] args, FPValue<Object, Long> comparator) {
+        args[1] = value1;
+        args[3] = value2;
+        return comparator.apply(args);
+    }
 }
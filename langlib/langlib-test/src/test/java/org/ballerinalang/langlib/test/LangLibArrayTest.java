@@ -186,6 +186,35 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testParallelFunctions() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testParallelFunctions");
+        assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testParallelFunctionsWithContendedLock() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testParallelFunctionsWithContendedLock");
+        assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testSortStability() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortStability");
+        BValueArray arr = (BValueArray) returns[0];
+        String[] expected = {"Bob", "Dan", "Fay", "Amy", "Cal", "Gus", "Eve"};
+        assertEquals(arr.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(arr.getString(i), expected[i]);
+        }
+    }
+
+    @Test
+    public void testTypedArrayFunctions() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testTypedArrayFunctions");
+        assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
@@ -312,3 +312,108 @@ function testSort2() returns int[] {
 
     return sorted;
 }
+
+type Student record {|
+    string name;
+    int grade;
+|};
+
+function testSortStability() returns string[] {
+    Student[] students = [{name: "Amy", grade: 2}, {name: "Bob", grade: 1}, {name: "Cal", grade: 2},
+        {name: "Dan", grade: 1}, {name: "Eve", grade: 3}, {name: "Fay", grade: 1}, {name: "Gus", grade: 2}];
+    Student[] sorted = students.sort(function (Student s1, Student s2) returns int {
+        return s1.grade - s2.grade;
+    });
+    return sorted.'map(function (Student s) returns string {
+        return s.name;
+    });
+}
+
+function testParallelFunctions() returns boolean {
+    int[] arr = [];
+    int seed = 7;
+    int i = 0;
+    while (i < 20000) {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        arr[i] = seed % 1000;
+        i = i + 1;
+    }
+
+    function (int) returns int square = function (int x) returns int {
+        return x * x;
+    };
+    function (int) returns boolean isEven = function (int x) returns boolean {
+        return x % 2 == 0;
+    };
+    function (int, int) returns int compare = function (int x, int y) returns int {
+        return x - y;
+    };
+    return arr.parallelMap(square) == arr.'map(square) && arr.parallelFilter(isEven) == arr.filter(isEven) &&
+        arr.clone().parallelSort(compare) == arr.clone().sort(compare);
+}
+
+int lockedCount = 0;
+
+function testParallelFunctionsWithContendedLock() returns boolean {
+    int[] arr = [];
+    int i = 0;
+    while (i < 20000) {
+        arr[i] = (i * 7919) % 1000;
+        i = i + 1;
+    }
+
+    // the strands which call the functions in parallel yield while they wait for the lock
+    function (int) returns int square = function (int x) returns int {
+        lock {
+            lockedCount += 1;
+        }
+        return x * x;
+    };
+    function (int, int) returns int compare = function (int x, int y) returns int {
+        lock {
+            lockedCount += 1;
+        }
+        return x - y;
+    };
+
+    int[] squares = arr.parallelMap(square);
+    if (lockedCount != arr.length()) {
+        return false;
+    }
+    int[] sorted = arr.clone().parallelSort(compare);
+    return squares == arr.'map(function (int x) returns int {
+        return x * x;
+    }) && sorted == arr.clone().sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+function testTypedArrayFunctions() returns boolean {
+    int[] ints = [5, 8, 13, 21, 34];
+    float[] floats = ints.'map(function (int x) returns float {
+        return <float>x / 2;
+    });
+    string[] strings = floats.'map(function (float x) returns string {
+        return x.toString();
+    });
+    int[] evens = ints.filter(function (int x) returns boolean {
+        return x % 2 == 0;
+    });
+    float[] halves = floats.filter(function (float x) returns boolean {
+        return x > 5.0;
+    });
+    string[] shortStrings = strings.filter(function (string x) returns boolean {
+        return x.length() == 3;
+    });
+    string joined = strings.reduce(function (string accum, string x) returns string {
+        return accum + x;
+    }, "");
+
+    // the filtered arrays are open arrays, which can grow
+    evens.push(55);
+    return floats == [2.5, 4.0, 6.5, 10.5, 17.0] && strings == ["2.5", "4.0", "6.5", "10.5", "17.0"] &&
+        evens == [8, 34, 55] && halves == [6.5, 10.5, 17.0] && shortStrings == ["2.5", "4.0", "6.5"] &&
+        joined == "2.54.06.510.517.0" && ints.filter(function (int x) returns boolean {
+            return x > 100;
+        }).length() == 0;
+}
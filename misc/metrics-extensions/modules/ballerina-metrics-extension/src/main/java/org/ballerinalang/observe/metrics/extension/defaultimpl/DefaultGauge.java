@@ -23,11 +23,13 @@ import org.ballerinalang.jvm.observability.metrics.MetricId;
 import org.ballerinalang.jvm.observability.metrics.Snapshot;
 import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
- * An implementation of {@link Gauge}.
+ * An implementation of {@link Gauge}. The value is updated with compare-and-set, and each update records the value
+ * it produced in the {@link RollingHistogram}s, hence concurrent updates do not wait for each other.
  *
  * @since 0.980.0
  */
@@ -38,7 +40,8 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    // raw long bits of the double value
+    private final AtomicLong value = new AtomicLong(Double.doubleToRawLongBits(0.0));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -66,36 +69,35 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         }
     }
 
+    private double add(double amount) {
+        while (true) {
+            long currentBits = value.get();
+            double newValue = Double.longBitsToDouble(currentBits) + amount;
+            if (value.compareAndSet(currentBits, Double.doubleToRawLongBits(newValue))) {
+                return newValue;
+            }
+        }
+    }
+
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        this.value.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(value.get());
     }
 
     @Override
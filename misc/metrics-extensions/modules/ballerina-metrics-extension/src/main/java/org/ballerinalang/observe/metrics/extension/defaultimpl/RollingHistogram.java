@@ -24,13 +24,29 @@ import org.ballerinalang.jvm.observability.metrics.Snapshot;
 import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Samples are recorded to {@link DoubleRecorder}s, which are wait-free for the recording threads. Each thread records
+ * to one of a set of striped recorders, so that threads recording at the same time do not contend on the same
+ * counts. The samples of the recorders are moved to the ring buffer only when the histogram is rotated or a snapshot
+ * is taken, hence the cost of maintaining the time window is not paid by the recording threads.
  */
 public class RollingHistogram {
 
+    /**
+     * Maximum number of recorders of a {@link RollingHistogram}.
+     */
+    private static final int MAX_RECORDERS = 64;
+
+    /**
+     * Number of recorders of a {@link RollingHistogram}, which is a power of two.
+     */
+    private static final int RECORDERS = recorderCount(Runtime.getRuntime().availableProcessors());
+
     /**
      * Clock for measuring time.
      */
@@ -42,9 +58,15 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Striped recorders, which are created when a thread records to a stripe for the first time.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final AtomicReferenceArray<DoubleRecorder> recorders = new AtomicReferenceArray<>(RECORDERS);
+
+    /**
+     * Histograms of the time window in a ring buffer. The histogram at the current bucket keeps the samples of the
+     * current rotation, and the others keep the samples of the previous rotations.
+     */
+    private final DoubleHistogram[] ringBuffer;
 
     /**
      * Current bucket index.
@@ -66,11 +88,6 @@ public class RollingHistogram {
      */
     private final DoubleHistogram intervalHistogram;
 
-    /**
-     * A histogram to keep accumulated stats.
-     */
-    private DoubleHistogram accumulatedHistogram;
-
     /**
      * Global atomic field updater to update volatile {@code rotating} integer.
      */
@@ -82,35 +99,33 @@ public class RollingHistogram {
      */
     private volatile int rotating; // 0 - not rotating, 1 - rotating
 
-    /**
-     * A flag to check whether accumulatedHistogram is stale or not.
-     */
-    private volatile boolean accumulatedHistogramStale;
-
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        ringBuffer = new DoubleHistogram[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = newHistogram();
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
         this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / ageBuckets;
-        intervalHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-        accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        intervalHistogram = newHistogram();
     }
 
     public void record(double value) {
         rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
-            }
-        } finally {
-            accumulatedHistogramStale = true;
+        recorder().recordValue(value);
+    }
+
+    private DoubleRecorder recorder() {
+        int index = (int) Thread.currentThread().getId() & (RECORDERS - 1);
+        DoubleRecorder recorder = recorders.get(index);
+        if (recorder == null) {
+            recorders.compareAndSet(index, null, new DoubleRecorder(statisticConfig.getPercentilePrecision()));
+            recorder = recorders.get(index);
         }
+        return recorder;
     }
 
     private void rotate() {
@@ -127,11 +142,15 @@ public class RollingHistogram {
         try {
             int iterations = 0;
             synchronized (this) {
+                // The samples recorded so far belong to the rotation which is being completed.
+                collectRecordedSamples();
                 do {
-                    currentHistogram().reset();
                     if (++currentBucket >= ringBuffer.length) {
                         currentBucket = 0;
                     }
+                    // The oldest histogram is replaced instead of being reset.
+                    // Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
+                    ringBuffer[currentBucket] = newHistogram();
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
                 } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
@@ -142,11 +161,6 @@ public class RollingHistogram {
                     lastRotateTimestampMillis += durationBetweenRotatesMillis *
                             (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
                 }
-
-                accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-                //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
-                //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
-                accumulatedHistogramStale = true;
             }
         } finally {
             rotating = 0;
@@ -160,7 +174,11 @@ public class RollingHistogram {
     public Snapshot getSnapshot() {
         rotate();
         synchronized (this) {
-            accumulateIfStale();
+            collectRecordedSamples();
+            DoubleHistogram accumulatedHistogram = newHistogram();
+            for (DoubleHistogram histogram : ringBuffer) {
+                accumulatedHistogram.add(histogram);
+            }
             PercentileValue[] percentileValues = null;
             final double[] monitoredPercentiles = statisticConfig.getPercentiles();
             if (monitoredPercentiles != null) {
@@ -179,19 +197,30 @@ public class RollingHistogram {
         }
     }
 
-    private void accumulateIfStale() {
-        if (accumulatedHistogramStale) {
-            accumulate();
-            accumulatedHistogramStale = false;
+    /**
+     * Moves the samples recorded since the last call to the histogram of the current bucket. This swaps the interval
+     * histograms of the recorders, and does not block the recording threads.
+     */
+    private void collectRecordedSamples() {
+        DoubleHistogram currentHistogram = ringBuffer[currentBucket];
+        for (int i = 0; i < RECORDERS; i++) {
+            DoubleRecorder recorder = recorders.get(i);
+            if (recorder != null) {
+                recorder.getIntervalHistogramInto(intervalHistogram);
+                currentHistogram.add(intervalHistogram);
+            }
         }
     }
 
-    private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+    private DoubleHistogram newHistogram() {
+        return new DoubleHistogram(statisticConfig.getPercentilePrecision());
     }
 
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+    private static int recorderCount(int processors) {
+        int count = 1;
+        while (count < processors && count < MAX_RECORDERS) {
+            count <<= 1;
+        }
+        return count;
     }
 }
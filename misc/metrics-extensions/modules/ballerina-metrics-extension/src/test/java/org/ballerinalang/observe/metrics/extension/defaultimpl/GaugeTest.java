@@ -20,12 +20,14 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 import org.ballerinalang.jvm.observability.metrics.Gauge;
 import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
 import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +74,37 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_concurrent_gauge").description("Test Gauge")
+                .summarize(StatisticConfig.DEFAULT).register(metricRegistry);
+        int threadCount = 16;
+        int updates = 1000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < updates; j++) {
+                    gauge.increment(2D);
+                    gauge.decrement(1D);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(gauge.getValue(), (double) threadCount * updates);
+        Assert.assertEquals(gauge.getCount(), 2L * threadCount * updates);
+        double max = gauge.getSnapshots()[0].getMax();
+        Assert.assertEquals(max, threadCount * updates, threadCount * updates * 0.01);
+    }
+
 }
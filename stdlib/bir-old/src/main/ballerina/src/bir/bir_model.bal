@@ -714,6 +714,7 @@ public type Lock record {|
     DiagnosticPos pos;
     TerminatorKind kind;
     VariableDcl globleVar;
+    boolean readOnly;
     BasicBlock lockBB;
 |};
 
@@ -729,6 +730,7 @@ public type Unlock record {|
     DiagnosticPos pos;
     TerminatorKind kind;
     VariableDcl?[] globleVars;
+    boolean readOnly;
     LocalLocks?[] localLocks;
     BasicBlock unlockBB;
 |};
@@ -562,7 +562,8 @@ public type FuncBodyParser object {
 
             string globleVarName = self.reader.readStringCpRef();
             VariableDcl varDecl = self.getDecl(VAR_SCOPE_GLOBAL, globleVarName, VAR_KIND_GLOBAL);
-            Lock lockIns = {pos:pos, kind:kind, globleVar:varDecl, lockBB:self.parseBBRef()};
+            boolean readOnly = self.reader.readBoolean();
+            Lock lockIns = {pos:pos, kind:kind, globleVar:varDecl, readOnly:readOnly, lockBB:self.parseBBRef()};
             return lockIns;
         } else if (kindTag == INS_FIELD_LOCK) {
             TerminatorKind kind = TERMINATOR_FIELD_LOCK;
@@ -583,6 +584,7 @@ public type FuncBodyParser object {
                 globleVars[i] = self.getDecl(VAR_SCOPE_GLOBAL, varName, VAR_KIND_GLOBAL);
                 i += 1;
             }
+            boolean readOnly = self.reader.readBoolean();
 
             var localLockCount = self.reader.readInt32();
             LocalLocks?[] localLocks = [];
@@ -602,7 +604,7 @@ public type FuncBodyParser object {
                 j += 1;
             }
 
-            Unlock unlockIns = {pos:pos, kind:kind, globleVars:globleVars, 
+            Unlock unlockIns = {pos:pos, kind:kind, globleVars:globleVars, readOnly:readOnly,
                 localLocks:localLocks, unlockBB:self.parseBBRef()};
             return unlockIns;
         }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+
+import java.util.Collections;
+
+/**
+ * Hit, miss, eviction and expiry counts of all the caches, which are reported only if metrics are enabled.
+ *
+ * @since 1.2.0
+ */
+class CacheMetrics {
+
+    private static final String METRIC_HITS = "cache_hits_total";
+    private static final String METRIC_MISSES = "cache_misses_total";
+    private static final String METRIC_EVICTIONS = "cache_evictions_total";
+    private static final String METRIC_EXPIRATIONS = "cache_expirations_total";
+
+    private static volatile CacheMetrics instance;
+
+    // counters are null when metrics are disabled
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter expirations;
+
+    private CacheMetrics(boolean metricsEnabled) {
+        if (metricsEnabled) {
+            MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+            hits = counter(metricRegistry, METRIC_HITS, "Number of cache lookups which found a value");
+            misses = counter(metricRegistry, METRIC_MISSES, "Number of cache lookups which did not find a value");
+            evictions = counter(metricRegistry, METRIC_EVICTIONS, "Number of cache entries evicted to free space");
+            expirations = counter(metricRegistry, METRIC_EXPIRATIONS, "Number of expired cache entries removed");
+        } else {
+            hits = null;
+            misses = null;
+            evictions = null;
+            expirations = null;
+        }
+    }
+
+    /**
+     * Returns the metrics of the caches. The counters are registered when the first cache is created, since metrics
+     * are enabled by the launcher before any program code runs.
+     *
+     * @return cache metrics
+     */
+    static CacheMetrics getInstance() {
+        CacheMetrics cacheMetrics = instance;
+        if (cacheMetrics == null) {
+            synchronized (CacheMetrics.class) {
+                cacheMetrics = instance;
+                if (cacheMetrics == null) {
+                    cacheMetrics = new CacheMetrics(ObserveUtils.isMetricsEnabled());
+                    instance = cacheMetrics;
+                }
+            }
+        }
+        return cacheMetrics;
+    }
+
+    void hit() {
+        if (hits != null) {
+            hits.increment();
+        }
+    }
+
+    void miss() {
+        if (misses != null) {
+            misses.increment();
+        }
+    }
+
+    void evict(int count) {
+        if (evictions != null && count > 0) {
+            evictions.increment(count);
+        }
+    }
+
+    void expire(int count) {
+        if (expirations != null && count > 0) {
+            expirations.increment(count);
+        }
+    }
+
+    private static Counter counter(MetricRegistry metricRegistry, String name, String description) {
+        return metricRegistry.counter(new MetricId(name, description, Collections.emptySet()));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class holds the Java inter-op bridging functions of cache:Cache.
+ *
+ * @since 1.2.0
+ */
+public class CacheUtils {
+
+    private static final String CACHE = "cache";
+    private static final long CACHE_CLEANUP_INTERVAL_IN_MILLIS = 5000;
+
+    // caches are weakly referenced, so that the cleanup task does not keep unused caches alive
+    private static final Set<ConcurrentLruCache> caches = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private static volatile ScheduledExecutorService cleanupExecutor;
+
+    private CacheUtils() {
+    }
+
+    public static void init(ObjectValue cacheObj, long expiryTimeInMillis, long capacity, double evictionFactor) {
+        ConcurrentLruCache cache = new ConcurrentLruCache(expiryTimeInMillis, (int) Math.min(capacity,
+                Integer.MAX_VALUE), evictionFactor);
+        cacheObj.addNativeData(CACHE, cache);
+        caches.add(cache);
+        startCleanupTask();
+    }
+
+    public static boolean hasKey(ObjectValue cacheObj, Object key) {
+        return getCache(cacheObj).hasKey((String) key);
+    }
+
+    public static long size(ObjectValue cacheObj) {
+        return getCache(cacheObj).size();
+    }
+
+    public static void put(ObjectValue cacheObj, Object key, Object value) {
+        getCache(cacheObj).put((String) key, value);
+    }
+
+    public static Object get(ObjectValue cacheObj, Object key) {
+        return getCache(cacheObj).get((String) key);
+    }
+
+    public static void remove(ObjectValue cacheObj, Object key) {
+        getCache(cacheObj).remove((String) key);
+    }
+
+    public static ArrayValue keys(ObjectValue cacheObj) {
+        return new ArrayValueImpl(getCache(cacheObj).keys());
+    }
+
+    private static ConcurrentLruCache getCache(ObjectValue cacheObj) {
+        return (ConcurrentLruCache) cacheObj.getNativeData(CACHE);
+    }
+
+    private static void startCleanupTask() {
+        if (cleanupExecutor != null) {
+            return;
+        }
+        synchronized (CacheUtils.class) {
+            if (cleanupExecutor == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "ballerina-cache-cleanup");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(CacheUtils::removeExpiredEntries, CACHE_CLEANUP_INTERVAL_IN_MILLIS,
+                        CACHE_CLEANUP_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+                cleanupExecutor = executor;
+            }
+        }
+    }
+
+    private static void removeExpiredEntries() {
+        List<ConcurrentLruCache> currentCaches;
+        synchronized (caches) {
+            currentCaches = new ArrayList<>(caches);
+        }
+        for (ConcurrentLruCache cache : currentCaches) {
+            cache.removeExpiredEntries();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent cache which evicts least recently used entries when it is full and expires entries which have not been
+ * accessed within the expiry time.
+ * <p>
+ * Entries are kept in a concurrent hash map, so that reads do not take a lock. Writes are serialized with a lock,
+ * which also guards two doubly linked lists of the entries: one in access order, used to find the least recently used
+ * and expired entries in constant time per entry, and one in insertion order, used to list the keys. A read moves
+ * its entry to the end of the access order only if the lock is free, otherwise the entry is marked and moved by the
+ * next writer which reaches it. Since all the entries of a cache have the same expiry time, the access order is also
+ * the expiry order.
+ *
+ * @since 1.2.0
+ */
+public class ConcurrentLruCache {
+
+    private final ConcurrentHashMap<String, Node> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // sentinels of the access order and insertion order lists
+    private final Node accessOrder = new Node(null, null, 0);
+    private final Node insertionOrder = new Node(null, null, 0);
+    private final long expiryTimeInMillis;
+    private final int capacity;
+    private final int numberOfKeysToEvict;
+    private final CacheMetrics metrics;
+
+    public ConcurrentLruCache(long expiryTimeInMillis, int capacity, double evictionFactor) {
+        this.expiryTimeInMillis = expiryTimeInMillis;
+        this.capacity = capacity;
+        this.numberOfKeysToEvict = (int) (capacity * evictionFactor);
+        this.metrics = CacheMetrics.getInstance();
+        accessOrder.prev = accessOrder;
+        accessOrder.next = accessOrder;
+        insertionOrder.before = insertionOrder;
+        insertionOrder.after = insertionOrder;
+    }
+
+    public boolean hasKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds the given value to the cache. If the cache is full, the least recently used entries are evicted first.
+     *
+     * @param key   key of the entry
+     * @param value value to be cached
+     */
+    public void put(String key, Object value) {
+        lock.lock();
+        try {
+            if (entries.size() >= capacity) {
+                evict(numberOfKeysToEvict);
+            }
+            long currentTime = System.currentTimeMillis();
+            Node node = entries.get(key);
+            if (node != null) {
+                // an existing key keeps its position in the insertion order
+                node.value = value;
+                node.lastAccessedTime = currentTime;
+                node.reorderPending = false;
+                unlinkAccessOrder(node);
+                linkAccessOrder(node);
+            } else {
+                node = new Node(key, value, currentTime);
+                entries.put(key, node);
+                linkAccessOrder(node);
+                linkInsertionOrder(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value associated with the given key, or null if there is no such entry or if it has expired.
+     *
+     * @param key key of the entry
+     * @return cached value
+     */
+    public Object get(String key) {
+        Node node = entries.get(key);
+        if (node == null) {
+            metrics.miss();
+            return null;
+        }
+        long currentTime = System.currentTimeMillis();
+        if (isExpired(node, currentTime)) {
+            removeNode(node);
+            metrics.expire(1);
+            metrics.miss();
+            return null;
+        }
+        node.lastAccessedTime = currentTime;
+        if (lock.tryLock()) {
+            try {
+                if (node.isLinked()) {
+                    unlinkAccessOrder(node);
+                    linkAccessOrder(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            node.reorderPending = true;
+        }
+        metrics.hit();
+        return node.value;
+    }
+
+    public void remove(String key) {
+        lock.lock();
+        try {
+            Node node = entries.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the keys of the cache in the order they were added.
+     *
+     * @return keys of the cache
+     */
+    public String[] keys() {
+        lock.lock();
+        try {
+            String[] keys = new String[entries.size()];
+            int index = 0;
+            for (Node node = insertionOrder.after; node != insertionOrder; node = node.after) {
+                keys[index++] = node.key;
+            }
+            return keys;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the expired entries of the cache. Only the expired entries and the entries marked by reads have to be
+     * visited, since the rest of the access order is sorted by the last accessed time.
+     */
+    void removeExpiredEntries() {
+        lock.lock();
+        try {
+            long currentTime = System.currentTimeMillis();
+            int expiredCount = 0;
+            int remaining = entries.size();
+            Node node = accessOrder.next;
+            while (node != accessOrder && remaining-- > 0) {
+                Node next = node.next;
+                if (isExpired(node, currentTime)) {
+                    entries.remove(node.key, node);
+                    unlink(node);
+                    expiredCount++;
+                } else if (node.reorderPending) {
+                    node.reorderPending = false;
+                    unlinkAccessOrder(node);
+                    linkAccessOrder(node);
+                } else {
+                    break;
+                }
+                node = next;
+            }
+            metrics.expire(expiredCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(Node node, long currentTime) {
+        return currentTime >= node.lastAccessedTime + expiryTimeInMillis;
+    }
+
+    private void removeNode(Node node) {
+        lock.lock();
+        try {
+            if (entries.remove(node.key, node)) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(int count) {
+        int evictedCount = 0;
+        int remaining = entries.size();
+        Node node = accessOrder.next;
+        while (node != accessOrder && evictedCount < count && remaining-- > 0) {
+            Node next = node.next;
+            if (node.reorderPending) {
+                // the entry was read while the lock was held, hence it is not the least recently used one
+                node.reorderPending = false;
+                unlinkAccessOrder(node);
+                linkAccessOrder(node);
+            } else {
+                entries.remove(node.key, node);
+                unlink(node);
+                evictedCount++;
+            }
+            node = next;
+        }
+        // all the remaining entries were read recently, hence they are evicted in their new order
+        node = accessOrder.next;
+        while (node != accessOrder && evictedCount < count) {
+            Node next = node.next;
+            node.reorderPending = false;
+            entries.remove(node.key, node);
+            unlink(node);
+            evictedCount++;
+            node = next;
+        }
+        metrics.evict(evictedCount);
+    }
+
+    private void linkAccessOrder(Node node) {
+        Node last = accessOrder.prev;
+        node.prev = last;
+        node.next = accessOrder;
+        last.next = node;
+        accessOrder.prev = node;
+    }
+
+    private void unlinkAccessOrder(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+    }
+
+    private void linkInsertionOrder(Node node) {
+        Node last = insertionOrder.before;
+        node.before = last;
+        node.after = insertionOrder;
+        last.after = node;
+        insertionOrder.before = node;
+    }
+
+    private void unlink(Node node) {
+        unlinkAccessOrder(node);
+        node.before.after = node.after;
+        node.after.before = node.before;
+        node.prev = null;
+        node.next = null;
+        node.before = null;
+        node.after = null;
+    }
+
+    /**
+     * Cache entry. The links are guarded by the lock of the cache.
+     */
+    private static class Node {
+
+        private final String key;
+        private volatile Object value;
+        private volatile long lastAccessedTime;
+        private volatile boolean reorderPending;
+        private Node prev;
+        private Node next;
+        private Node before;
+        private Node after;
+
+        private Node(String key, Object value, long lastAccessedTime) {
+            this.key = key;
+            this.value = value;
+            this.lastAccessedTime = lastAccessedTime;
+        }
+
+        private boolean isLinked() {
+            return next != null;
+        }
+    }
+}
@@ -14,29 +14,71 @@
 // specific language governing permissions and limitations
 // under the License.
 
-# Implementation of round robin load balancing strategy.
+# Implementation of round robin load balancing strategy. The clients are chosen without locking, hence requests which
+# are sent concurrently by many strands are distributed evenly.
 #
 # + index - Keep tracks the current point of the Client[]
 public type LoadBalancerRoundRobinRule object {
 
     public int index = 0;
 
+    public function __init() {
+        initLoadBalancerRuleState(self);
+    }
+
     # Provides an HTTP client which is chosen according to the round robin algorithm.
     #
     # + loadBalanceCallerActionsArray - Array of HTTP clients which needs to be load balanced
     # + return - Chosen `Client` from the algorithm or an `http:ClientError` for a failure in
     #            the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-        lock {
-            if (self.index == ((loadBalanceCallerActionsArray.length()) - 1)) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
+        int size = loadBalanceCallerActionsArray.length();
+        int nextIndex = nextRoundRobinIndex(self, size);
+        self.index = (nextIndex + 1) % size;
+        return <Client>loadBalanceCallerActionsArray[nextIndex];
+    }
+};
+
+# Implementation of least outstanding requests load balancing strategy. The client with the least number of requests
+# in flight is chosen, and clients with the same number of requests in flight are chosen in round robin order. The
+# load balance client marks a request as completed once it gets the response, hence this rule should not be shared
+# with other clients.
+public type LoadBalancerLeastOutstandingRequestsRule object {
+
+    public function __init() {
+        initLoadBalancerRuleState(self);
+    }
+
+    # Provides an HTTP client which is chosen according to the least outstanding requests algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients which needs to be load balanced
+    # + return - Chosen `Client` from the algorithm or an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        return <Client>loadBalanceCallerActionsArray[nextLeastOutstandingIndex(self,
+                                                                               loadBalanceCallerActionsArray.length())];
+    }
+
+    # Marks a request sent with a client chosen by this rule as completed.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients which are load balanced
+    # + httpClient - The client of the request
+    public function completeRequest(Client?[] loadBalanceCallerActionsArray, Client httpClient) {
+        int index = 0;
+        foreach var lbClient in loadBalanceCallerActionsArray {
+            if (lbClient === httpClient) {
+                completeOutstandingRequest(self, index);
+                return;
             }
+            index += 1;
         }
-        return httpClient;
     }
 };
+
+function initLoadBalancerRuleState(LoadBalancerRule lbRule) = external;
+
+function nextRoundRobinIndex(LoadBalancerRule lbRule, int size) returns int = external;
+
+function nextLeastOutstandingIndex(LoadBalancerRule lbRule, int size) returns int = external;
+
+function completeOutstandingRequest(LoadBalancerRule lbRule, int index) = external;
@@ -260,6 +260,10 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
         var loadBalanceClient = lb.lbRule.getNextClient(lb.loadBalanceClientsArray);
         if (loadBalanceClient is Client) {
             var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient);
+            LoadBalancerRule lbRule = lb.lbRule;
+            if (lbRule is LoadBalancerLeastOutstandingRequestsRule) {
+                lbRule.completeRequest(lb.loadBalanceClientsArray, loadBalanceClient);
+            }
             if (serviceResponse is Response) {
                 return serviceResponse;
             } else if (serviceResponse is HttpFuture) {
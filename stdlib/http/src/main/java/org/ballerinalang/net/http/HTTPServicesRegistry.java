@@ -26,6 +26,7 @@ import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.net.http.websocket.WebSocketConstants;
 import org.ballerinalang.net.http.websocket.server.WebSocketServerService;
 import org.ballerinalang.net.http.websocket.server.WebSocketServicesRegistry;
+import org.ballerinalang.net.uri.BasePathTrie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -129,7 +130,7 @@ public class HTTPServicesRegistry {
 
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            updateBasePaths(hostName);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -163,23 +164,27 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
+    /**
+     * Sorts the base paths of the given host and rebuilds the trie used to match them. Must be called whenever a base
+     * path of the host is added or removed.
+     *
+     * @param hostName host name of the services
+     */
+    protected void updateBasePaths(String hostName) {
+        ServicesMapHolder servicesMapHolder = servicesMapByHost.get(hostName);
+        servicesMapHolder.sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapHolder.basePathTrie = new BasePathTrie(servicesMapHolder.sortedServiceURIs);
+    }
+
+    /**
+     * Find the most specific base path of the given services for the request path.
+     *
+     * @param requestURIPath    path of the request
+     * @param servicesMapHolder services of the host
+     * @return the most specific base path if exists else null
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        return servicesMapHolder.basePathTrie.match(requestURIPath);
     }
 
     public void setScheduler(Scheduler scheduler) {
@@ -196,10 +201,16 @@ public class HTTPServicesRegistry {
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            this.basePathTrie = new BasePathTrie(sortedServiceURIs);
+        }
+
+        Map<String, HttpService> getServicesByBasePath() {
+            return servicesByBasePath;
         }
     }
 
@@ -229,7 +240,7 @@ public class HTTPServicesRegistry {
                 logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(),
                                            basePath));
             }
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            updateBasePaths(hostName);
         }
     }
 }
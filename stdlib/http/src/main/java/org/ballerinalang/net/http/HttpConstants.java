@@ -161,6 +161,9 @@ public class HttpConstants {
     public static final String PACKAGE_BALLERINA_BUILTIN = BALLERINA_BUILTIN_PKG;
 
     public static final String CLIENT = "Client";
+    public static final String CLIENT_SERVICE_URI = "ServiceUri";
+    public static final String CIRCUIT_BREAKER_HEALTH = "CircuitBreakerHealth";
+    public static final String LOAD_BALANCER_RULE_STATE = "LoadBalancerRuleState";
     public static final String HTTP_CLIENT = "HttpClient";
 
     public static final String SRC_HANDLER = "SRC_HANDLER";
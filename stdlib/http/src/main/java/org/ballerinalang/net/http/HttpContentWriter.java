@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A writer which encodes characters to UTF-8 straight into pooled direct buffers, and adds the buffers to a message
+ * as HTTP contents once they are full. Hence a payload serialized with this writer is not encoded to an intermediate
+ * byte array before it is copied to the transport, and large payloads are sent while they are being serialized.
+ * <p>
+ * The last HTTP content of the message is not added by this writer. It is added when the output stream of the
+ * message is closed.
+ *
+ * @since 1.2.0
+ */
+public class HttpContentWriter extends Writer {
+
+    static final int CHUNK_SIZE = 8192;
+    // a UTF-8 encoded character takes at most three bytes, or four bytes for a surrogate pair
+    private static final int MAX_CHARS_PER_WRITE = CHUNK_SIZE / 3;
+
+    private final HttpCarbonMessage message;
+    private final ByteBufAllocator allocator;
+    private ByteBuf buffer;
+    private boolean closed;
+
+    public HttpContentWriter(HttpCarbonMessage message) {
+        this(message, PooledByteBufAllocator.DEFAULT);
+    }
+
+    HttpContentWriter(HttpCarbonMessage message, ByteBufAllocator allocator) {
+        this.message = message;
+        this.allocator = allocator;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (c < 0x80) {
+            ensureWritable(1);
+            buffer.writeByte(c);
+        } else {
+            writeUtf8(String.valueOf((char) c));
+        }
+    }
+
+    @Override
+    public void write(String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        if (off == 0 && len == str.length() && len <= MAX_CHARS_PER_WRITE) {
+            writeUtf8(str);
+            return;
+        }
+        write(CharBuffer.wrap(str, off, off + len));
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        write(CharBuffer.wrap(cbuf, off, len));
+    }
+
+    private void write(CharBuffer chars) throws IOException {
+        // long strings are written in slices, so that a chunk does not grow beyond the chunk size
+        while (chars.remaining() > MAX_CHARS_PER_WRITE) {
+            int sliceLength = MAX_CHARS_PER_WRITE;
+            if (Character.isHighSurrogate(chars.charAt(sliceLength - 1))) {
+                // a surrogate pair is encoded together
+                sliceLength--;
+            }
+            writeUtf8(chars.subSequence(0, sliceLength));
+            chars.position(chars.position() + sliceLength);
+        }
+        writeUtf8(chars);
+    }
+
+    private void writeUtf8(CharSequence chars) throws IOException {
+        ensureWritable(ByteBufUtil.utf8MaxBytes(chars));
+        ByteBufUtil.writeUtf8(buffer, chars);
+    }
+
+    private void ensureWritable(int length) throws IOException {
+        if (closed) {
+            throw new IOException("writer is closed");
+        }
+        if (buffer != null && buffer.writableBytes() < length) {
+            addContent();
+        }
+        if (buffer == null) {
+            buffer = allocator.directBuffer(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Adds the characters written so far to the message as an HTTP content.
+     */
+    @Override
+    public void flush() {
+        if (buffer != null && buffer.isReadable()) {
+            addContent();
+        }
+    }
+
+    private void addContent() {
+        // the transport releases the buffer once it is written
+        message.addHttpContent(new DefaultHttpContent(buffer));
+        buffer = null;
+    }
+
+    /**
+     * Releases the characters which have not been flushed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+}
@@ -37,7 +37,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -52,15 +51,13 @@ public class HttpDispatcher {
 
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
-            Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            HTTPServicesRegistry.ServicesMapHolder servicesMapHolder = null;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+            if (hostName != null) {
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(hostName);
+            }
+            if (servicesMapHolder == null) {
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(DEFAULT_HOST);
             }
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
@@ -74,7 +71,7 @@ public class HttpDispatcher {
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
             String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+                    servicesMapHolder);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
@@ -82,7 +79,7 @@ public class HttpDispatcher {
                         validatedUri.getRawPath());
             }
 
-            HttpService service = servicesOnInterface.get(basePath);
+            HttpService service = servicesMapHolder.getServicesByBasePath().get(basePath);
             setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
             return service;
         } catch (Exception e) {
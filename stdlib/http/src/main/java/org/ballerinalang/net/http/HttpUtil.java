@@ -19,6 +19,7 @@
 package org.ballerinalang.net.http;
 
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
@@ -58,6 +59,9 @@ import org.ballerinalang.mime.util.MultipartDecoder;
 import org.ballerinalang.net.http.caching.RequestCacheControlObj;
 import org.ballerinalang.net.http.caching.ResponseCacheControlObj;
 import org.ballerinalang.net.http.websocket.WebSocketConstants;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.TempFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,13 +92,17 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CACHE_CONTROL;
@@ -196,6 +204,8 @@ public class HttpUtil {
     private static final String METHOD_ACCESSED = "isMethodAccessed";
     private static final String IO_EXCEPTION_OCCURED = "I/O exception occurred";
     private static final String CHUNKING_CONFIG = "chunking_config";
+    private static final int MAX_UNWRITTEN_MAPPED_REGIONS = 2;
+    private static final long MAPPED_REGION_WRITE_TIMEOUT_SECONDS = 300;
 
     /**
      * Set new entity to in/out request/response struct.
@@ -1394,6 +1404,84 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Serialize outbound message. JSON payloads are encoded straight into the HTTP contents of the message, instead
+     * of being written through the output stream.
+     *
+     * @param outboundMessageSource Represent the outbound message datasource
+     * @param entity                Represent the entity of the outbound message
+     * @param outboundMessage       Represent the outbound message, or null to write JSON to the output stream
+     * @param messageOutputStream   Represent the output stream of the outbound message
+     * @throws IOException In case an error occurs while writing to output stream
+     */
+    public static void serializeDataSource(Object outboundMessageSource, ObjectValue entity,
+                                           HttpCarbonMessage outboundMessage, OutputStream messageOutputStream)
+            throws IOException {
+        // JSON is written with the default charset, which is UTF-8 unless it is overridden
+        if (outboundMessage == null || !MimeUtil.generateAsJSON(outboundMessageSource, entity) ||
+                !StandardCharsets.UTF_8.equals(Charset.defaultCharset())) {
+            serializeDataSource(outboundMessageSource, entity, messageOutputStream);
+            return;
+        }
+        HttpContentWriter writer = new HttpContentWriter(outboundMessage);
+        try {
+            JSONGenerator gen = new JSONGenerator(writer);
+            gen.serialize(outboundMessageSource);
+            gen.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Serialize the byte channel of an entity. The content of a large file is mapped into memory region by region, and
+     * the mapped regions are added to the message as HTTP contents, so that the file is written to the socket without
+     * being copied through the heap. A region is mapped once one of the previous regions has been written, hence only
+     * a few regions of the file are mapped at a time.
+     *
+     * @param entity              Represent the entity of the outbound message
+     * @param outboundMessage     Represent the outbound message, or null to write the content to the output stream
+     * @param messageOutputStream Represent the output stream of the outbound message
+     * @throws IOException In case an error occurs while reading the byte channel or writing to output stream
+     */
+    public static void serializeByteChannel(ObjectValue entity, HttpCarbonMessage outboundMessage,
+                                            OutputStream messageOutputStream) throws IOException {
+        Channel byteChannel = EntityBodyHandler.getByteChannel(entity);
+        // temp files are deleted once their channels are closed, hence they are not mapped
+        if (outboundMessage == null || !(byteChannel instanceof FileIOChannel) ||
+                byteChannel instanceof TempFileIOChannel ||
+                ((FileIOChannel) byteChannel).getRemainingSize() < IOConstants.MAPPED_FILE_SIZE_THRESHOLD) {
+            EntityBodyHandler.writeByteChannelToOutputStream(entity, messageOutputStream);
+            return;
+        }
+        Semaphore unwrittenRegions = new Semaphore(MAX_UNWRITTEN_MAPPED_REGIONS);
+        try {
+            while (true) {
+                awaitWrittenRegion(unwrittenRegions);
+                ByteBuffer region = ((FileIOChannel) byteChannel).mapNextRegion(IOConstants.MAPPED_REGION_SIZE);
+                if (region == null) {
+                    break;
+                }
+                outboundMessage.addHttpContent(new DefaultHttpContent(new MappedRegionBuf(region,
+                        unwrittenRegions::release)));
+            }
+        } finally {
+            byteChannel.close();
+            entity.addNativeData(ENTITY_BYTE_CHANNEL, null);
+        }
+    }
+
+    private static void awaitWrittenRegion(Semaphore unwrittenRegions) throws IOException {
+        try {
+            // the contents of a message which is never sent are not released, hence the wait is bounded, after which
+            // the next region is mapped anyway
+            unwrittenRegions.tryAcquire(MAPPED_REGION_WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while writing the content of the file", e);
+        }
+    }
+
     public static void serialize(Object value, OutputStream outputStream) throws IOException {
         //TODO check the possibility of value being null
         if (value == null) {
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Buffer of a memory mapped region of a file, which notifies once the transport has released it, that is once the
+ * region has been written to the socket. The region itself is unmapped once it is garbage collected.
+ *
+ * @since 1.2.0
+ */
+class MappedRegionBuf extends CompositeByteBuf {
+
+    private final Runnable releaseListener;
+
+    MappedRegionBuf(ByteBuffer region, Runnable releaseListener) {
+        super(ByteBufAllocator.DEFAULT, true, 1, Unpooled.wrappedBuffer(region));
+        this.releaseListener = releaseListener;
+    }
+
+    @Override
+    protected void deallocate() {
+        super.deallocate();
+        releaseListener.run();
+    }
+}
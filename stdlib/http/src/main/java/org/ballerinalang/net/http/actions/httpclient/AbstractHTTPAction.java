@@ -43,6 +43,7 @@ import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
 import org.ballerinalang.net.http.ValueCreatorUtils;
+import org.ballerinalang.net.http.clientendpoint.ServiceUri;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.Constants;
@@ -64,6 +65,7 @@ import java.util.Optional;
 import static io.netty.handler.codec.http.HttpHeaderNames.ACCEPT_ENCODING;
 import static org.ballerinalang.jvm.runtime.RuntimeConstants.BALLERINA_VERSION;
 import static org.ballerinalang.net.http.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION;
+import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static org.ballerinalang.net.http.HttpUtil.extractEntity;
 import static org.ballerinalang.net.http.HttpUtil.getCompressionState;
 import static org.wso2.transport.http.netty.contract.Constants.ENCODING_DEFLATE;
@@ -82,7 +84,23 @@ public abstract class AbstractHTTPAction {
         CACHE_BALLERINA_VERSION = System.getProperty(BALLERINA_VERSION);
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, String serviceUri, MapValue config, 
+    /**
+     * Returns the service URI of the given client, which is parsed when the client is created.
+     *
+     * @param httpClient HTTP client object
+     * @return service URI of the client
+     */
+    protected static ServiceUri getServiceUri(ObjectValue httpClient) {
+        String url = httpClient.getStringValue(CLIENT_ENDPOINT_SERVICE_URI);
+        ServiceUri serviceUri = (ServiceUri) httpClient.getNativeData(HttpConstants.CLIENT_SERVICE_URI);
+        if (serviceUri == null || !serviceUri.getUri().equals(url)) {
+            // the URL of the client has been changed after it was created
+            return ServiceUri.parse(url);
+        }
+        return serviceUri;
+    }
+
+    protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, ServiceUri serviceUri, MapValue config,
                                                                 String path, ObjectValue request) {
         if (request == null) {
             request = ValueCreatorUtils.createRequestObject();
@@ -112,22 +130,29 @@ public abstract class AbstractHTTPAction {
         }
     }
 
-    static void prepareOutboundRequest(Strand strand, String serviceUri, String path, HttpCarbonMessage outboundRequest,
-                                       Boolean nonEntityBodyReq) {
+    static void prepareOutboundRequest(Strand strand, ServiceUri serviceUri, String path,
+                                       HttpCarbonMessage outboundRequest, Boolean nonEntityBodyReq) {
         if (strand.isInTransaction()) {
             TransactionLocalContext transactionLocalContext = strand.transactionLocalContext;
             outboundRequest.setHeader(HttpConstants.HEADER_X_XID, transactionLocalContext.getGlobalTransactionId());
             outboundRequest.setHeader(HttpConstants.HEADER_X_REGISTER_AT_URL, transactionLocalContext.getURL());
         }
+        if (serviceUri.isAppendable(path)) {
+            setOutboundReqProperties(outboundRequest, serviceUri.getProtocol(), serviceUri.getHost(),
+                                     serviceUri.getPort(), serviceUri.getRequestPath(path), nonEntityBodyReq);
+            setOutboundReqHeaders(outboundRequest, serviceUri.getHostHeader());
+            return;
+        }
         try {
-            String uri = getServiceUri(serviceUri) + path;
+            String uri = getServiceUri(serviceUri.getUri()) + path;
             URL url = new URL(encodeWhitespacesInUri(uri));
 
             int port = getOutboundReqPort(url);
             String host = url.getHost();
 
-            setOutboundReqProperties(outboundRequest, url, port, host, nonEntityBodyReq);
-            setOutboundReqHeaders(outboundRequest, port, host);
+            setOutboundReqProperties(outboundRequest, url.getProtocol(), host, port, getOutboundReqPath(url),
+                                     nonEntityBodyReq);
+            setOutboundReqHeaders(outboundRequest, getHostHeader(host, port));
 
         } catch (MalformedURLException e) {
             throw HttpUtil.createHttpError("malformed URL specified. " + e.getMessage(),
@@ -153,31 +178,27 @@ public abstract class AbstractHTTPAction {
         return uri.trim().replaceAll(WHITESPACE, "%20");
     }
 
-    private static void setOutboundReqHeaders(HttpCarbonMessage outboundRequest, int port, String host) {
+    private static void setOutboundReqHeaders(HttpCarbonMessage outboundRequest, String hostHeader) {
         HttpHeaders headers = outboundRequest.getHeaders();
-        setHostHeader(host, port, headers);
+        headers.set(HttpHeaderNames.HOST, hostHeader);
         setOutboundUserAgent(headers);
         removeConnectionHeader(headers);
     }
 
-    private static void setOutboundReqProperties(HttpCarbonMessage outboundRequest, URL url, int port, String host,
-                                                 Boolean nonEntityBodyReq) {
+    private static void setOutboundReqProperties(HttpCarbonMessage outboundRequest, String protocol, String host,
+                                                 int port, String outboundReqPath, Boolean nonEntityBodyReq) {
         outboundRequest.setProperty(Constants.HTTP_HOST, host);
         outboundRequest.setProperty(Constants.HTTP_PORT, port);
-
-        String outboundReqPath = getOutboundReqPath(url);
         outboundRequest.setProperty(HttpConstants.TO, outboundReqPath);
-
-        outboundRequest.setProperty(HttpConstants.PROTOCOL, url.getProtocol());
+        outboundRequest.setProperty(HttpConstants.PROTOCOL, protocol);
         outboundRequest.setProperty(HttpConstants.NO_ENTITY_BODY, nonEntityBodyReq);
     }
 
-    private static void setHostHeader(String host, int port, HttpHeaders headers) {
+    private static String getHostHeader(String host, int port) {
         if (port == 80 || port == 443) {
-            headers.set(HttpHeaderNames.HOST, host);
-        } else {
-            headers.set(HttpHeaderNames.HOST, host + ":" + port);
+            return host;
         }
+        return host + ":" + port;
     }
 
     private static void removeConnectionHeader(HttpHeaders headers) {
@@ -345,9 +366,9 @@ public abstract class AbstractHTTPAction {
         try {
             if (entityObj != null) {
                 if (boundaryString != null) {
-                    serializeMultiparts(entityObj, messageOutputStream, boundaryString);
+                    serializeMultiparts(entityObj, outboundRequestMsg, messageOutputStream, boundaryString);
                 } else {
-                    serializeDataSource(entityObj, messageOutputStream);
+                    serializeDataSource(entityObj, outboundRequestMsg, messageOutputStream);
                 }
             }
         } catch (IOException | EncoderException serializerException) {
@@ -380,16 +401,18 @@ public abstract class AbstractHTTPAction {
      * if it exist as a byte channel.
      *
      * @param entityObj           Represents the entity that holds the actual body
-     * @param boundaryString      Boundary string that should be used in encoding body parts
+     * @param outboundRequestMsg  Outbound request to which the payload is written
      * @param messageOutputStream Output stream to which the payload is written
+     * @param boundaryString      Boundary string that should be used in encoding body parts
      */
-    private static void serializeMultiparts(ObjectValue entityObj, OutputStream messageOutputStream,
-                                            String boundaryString) throws IOException {
+    private static void serializeMultiparts(ObjectValue entityObj, HttpCarbonMessage outboundRequestMsg,
+                                            OutputStream messageOutputStream, String boundaryString)
+            throws IOException {
         ArrayValue bodyParts = EntityBodyHandler.getBodyPartArray(entityObj);
         if (bodyParts != null && bodyParts.size() > 0) {
             serializeMultipartDataSource(messageOutputStream, boundaryString, entityObj);
         } else { //If the content is in a byte channel
-            serializeDataSource(entityObj, messageOutputStream);
+            serializeDataSource(entityObj, outboundRequestMsg, messageOutputStream);
         }
     }
 
@@ -407,15 +430,15 @@ public abstract class AbstractHTTPAction {
         HttpUtil.closeMessageOutputStream(messageOutputStream);
     }
 
-    private static void serializeDataSource(ObjectValue entityObj, OutputStream messageOutputStream)
-            throws IOException {
+    private static void serializeDataSource(ObjectValue entityObj, HttpCarbonMessage outboundRequestMsg,
+                                            OutputStream messageOutputStream) throws IOException {
         Object messageDataSource = EntityBodyHandler.getMessageDataSource(entityObj);
         if (messageDataSource != null) {
-            HttpUtil.serializeDataSource(messageDataSource, entityObj, messageOutputStream);
+            HttpUtil.serializeDataSource(messageDataSource, entityObj, outboundRequestMsg, messageOutputStream);
             HttpUtil.closeMessageOutputStream(messageOutputStream);
         } else if (EntityBodyHandler.getByteChannel(entityObj) != null) {
             //When the entity body is a byte channel and when it is not null
-            EntityBodyHandler.writeByteChannelToOutputStream(entityObj, messageOutputStream);
+            HttpUtil.serializeByteChannel(entityObj, outboundRequestMsg, messageOutputStream);
             HttpUtil.closeMessageOutputStream(messageOutputStream);
         }
     }
@@ -24,13 +24,13 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.clientendpoint.ServiceUri;
 import org.wso2.transport.http.netty.contract.HttpClientConnector;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
 import java.util.Locale;
 
 import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_CONFIG;
-import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 
 /**
  * {@code Execute} action can be used to invoke execute a http call with any httpVerb.
@@ -43,7 +43,7 @@ public class Execute extends AbstractHTTPAction {
     @SuppressWarnings("unchecked")
     public static Object nativeExecute(Strand strand, ObjectValue httpClient, String verb, String path,
                                        ObjectValue requestObj) {
-        String url = httpClient.getStringValue(CLIENT_ENDPOINT_SERVICE_URI);
+        ServiceUri url = getServiceUri(httpClient);
         MapValue<String, Object> config = (MapValue<String, Object>) httpClient.get(CLIENT_ENDPOINT_CONFIG);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
         HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(strand, config, url, verb, path, requestObj);
@@ -53,7 +53,7 @@ public class Execute extends AbstractHTTPAction {
         return null;
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, MapValue config, String serviceUri,
+    protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, MapValue config, ServiceUri serviceUri,
                                                                 String httpVerb, String path, ObjectValue requestObj) {
         HttpCarbonMessage outboundRequestMsg = HttpUtil
                 .getCarbonMsg(requestObj, HttpUtil.createHttpCarbonMessage(true));
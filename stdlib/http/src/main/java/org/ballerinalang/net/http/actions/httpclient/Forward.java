@@ -26,12 +26,12 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.clientendpoint.ServiceUri;
 import org.wso2.transport.http.netty.contract.HttpClientConnector;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
 import java.util.Locale;
 
-import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static org.ballerinalang.net.http.HttpUtil.checkRequestBodySizeHeadersAvailability;
 
 /**
@@ -44,7 +44,7 @@ import static org.ballerinalang.net.http.HttpUtil.checkRequestBodySizeHeadersAva
 public class Forward extends AbstractHTTPAction {
     @SuppressWarnings("unchecked")
     public static Object nativeForward(Strand strand, ObjectValue httpClient, String path, ObjectValue requestObj) {
-        String url = httpClient.getStringValue(CLIENT_ENDPOINT_SERVICE_URI);
+        ServiceUri url = getServiceUri(httpClient);
         HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(strand, url, path, requestObj);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
         DataContext dataContext = new DataContext(strand, clientConnector, new NonBlockingCallback(strand), requestObj,
@@ -53,7 +53,7 @@ public class Forward extends AbstractHTTPAction {
         return null;
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, String serviceUri, String path,
+    protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, ServiceUri serviceUri, String path,
                                                                 ObjectValue requestObj) {
         if (requestObj.getNativeData(HttpConstants.REQUEST) == null &&
                 !HttpUtil.isEntityDataSourceAvailable(requestObj)) {
@@ -115,5 +115,6 @@ public class CreateSimpleHttpClient {
         HttpClientConnector httpClientConnector = HttpUtil.createHttpWsConnectionFactory()
                 .createHttpClientConnector(properties, senderConfiguration, poolManager);
         httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
+        httpClient.addNativeData(HttpConstants.CLIENT_SERVICE_URI, ServiceUri.parse(urlString));
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.clientendpoint;
+
+import org.ballerinalang.net.http.HttpConstants;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * The service URI of a client endpoint, with the parts of it which are the same for every request of the client. The
+ * URI is parsed once when the client is created, instead of parsing the service URI joined with the path of each
+ * request.
+ * <p>
+ * A request path which the URL parser would change, such as a path with dot segments, whitespaces or a fragment, is
+ * joined with the service URI and parsed as before.
+ *
+ * @since 1.2.0
+ */
+public class ServiceUri {
+
+    private static final int HTTP_PORT = 80;
+    private static final int HTTPS_PORT = 443;
+
+    private final String uri;
+    private final boolean parsed;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String hostHeader;
+    private final String basePath;
+
+    private ServiceUri(String uri) {
+        this.uri = uri;
+        this.parsed = false;
+        this.protocol = null;
+        this.host = null;
+        this.port = -1;
+        this.hostHeader = null;
+        this.basePath = null;
+    }
+
+    private ServiceUri(String uri, URL url) {
+        this.uri = uri;
+        this.parsed = true;
+        this.protocol = url.getProtocol();
+        this.host = url.getHost();
+        this.port = getPort(url);
+        this.hostHeader = getHostHeader(host, port);
+        this.basePath = url.getPath();
+    }
+
+    /**
+     * Parses the given service URI.
+     *
+     * @param uri service URI of a client endpoint
+     * @return the service URI, which is not parsed if the requests of the client have to parse their URIs
+     */
+    public static ServiceUri parse(String uri) {
+        if (uri.isEmpty() || !isPlainUri(uri)) {
+            return new ServiceUri(uri);
+        }
+        try {
+            URL url = new URL(uri);
+            if (url.getQuery() != null || url.getRef() != null || url.getUserInfo() != null ||
+                    url.getHost().isEmpty()) {
+                return new ServiceUri(uri);
+            }
+            return new ServiceUri(uri, url);
+        } catch (MalformedURLException e) {
+            // the error is reported by the requests, which parse the URI
+            return new ServiceUri(uri);
+        }
+    }
+
+    /**
+     * Checks whether the path of a request can be appended to the parsed base path, without parsing the URI of the
+     * request.
+     *
+     * @param path path of a request
+     * @return true if the URI of the request does not have to be parsed
+     */
+    public boolean isAppendable(String path) {
+        if (!parsed) {
+            return false;
+        }
+        if (path.isEmpty()) {
+            return true;
+        }
+        char first = path.charAt(0);
+        return (first == '/' || first == '?') && isPlainUri(path);
+    }
+
+    private static boolean isPlainUri(String uri) {
+        // the URL parser removes dot segments, and whitespaces are encoded
+        return uri.indexOf(' ') < 0 && uri.indexOf('#') < 0 && !uri.contains("/.") && uri.trim().length() ==
+                uri.length();
+    }
+
+    private static int getPort(URL url) {
+        if (url.getPort() != -1) {
+            return url.getPort();
+        }
+        return url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS) ? HTTPS_PORT : HTTP_PORT;
+    }
+
+    private static String getHostHeader(String host, int port) {
+        if (port == HTTP_PORT || port == HTTPS_PORT) {
+            return host;
+        }
+        return host + ":" + port;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getHostHeader() {
+        return hostHeader;
+    }
+
+    /**
+     * Returns the request path of the given path of a request, which is appendable.
+     *
+     * @param path path of a request
+     * @return the path and the query of the request URI
+     */
+    public String getRequestPath(String path) {
+        return basePath + path;
+    }
+}
@@ -50,8 +50,8 @@ public abstract class ConnectionAction {
     }
 
     static void serializeMsgDataSource(Object outboundMessageSource, ObjectValue entityStruct,
-                                OutputStream messageOutputStream) {
-        serializeDataSource(outboundMessageSource, entityStruct, messageOutputStream);
+                                       HttpCarbonMessage outboundMessage, OutputStream messageOutputStream) {
+        serializeDataSource(outboundMessageSource, entityStruct, outboundMessage, messageOutputStream);
     }
 
     static HttpMessageDataStreamer getMessageDataStreamer(HttpCarbonMessage outboundResponse) {
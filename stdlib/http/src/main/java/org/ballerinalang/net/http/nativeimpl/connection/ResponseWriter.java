@@ -78,7 +78,7 @@ public class ResponseWriter {
                 serializeMultiparts(boundaryString, entityObj, messageOutputStream);
             } else {
                 Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
-                serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
+                serializeDataSource(outboundMessageSource, entityObj, responseMessage, messageOutputStream);
             }
         }
     }
@@ -118,12 +118,26 @@ public class ResponseWriter {
      */
     static void serializeDataSource(Object outboundMessageSource, ObjectValue entity,
                                     OutputStream messageOutputStream) {
+        serializeDataSource(outboundMessageSource, entity, null, messageOutputStream);
+    }
+
+    /**
+     * Serialize message datasource. JSON and large files are written straight into the HTTP contents of the given
+     * message.
+     *
+     * @param outboundMessageSource Outbound message datasource that needs to be serialized
+     * @param entity                Represents the entity that holds headers and body content
+     * @param outboundMessage       Represents the native message of the output stream, or null
+     * @param messageOutputStream   Represents the output stream
+     */
+    static void serializeDataSource(Object outboundMessageSource, ObjectValue entity,
+                                    HttpCarbonMessage outboundMessage, OutputStream messageOutputStream) {
         try {
             if (outboundMessageSource != null) {
-                HttpUtil.serializeDataSource(outboundMessageSource, entity, messageOutputStream);
+                HttpUtil.serializeDataSource(outboundMessageSource, entity, outboundMessage, messageOutputStream);
                 HttpUtil.closeMessageOutputStream(messageOutputStream);
             } else { //When the entity body is a byte channel
-                EntityBodyHandler.writeByteChannelToOutputStream(entity, messageOutputStream);
+                HttpUtil.serializeByteChannel(entity, outboundMessage, messageOutputStream);
                 HttpUtil.closeMessageOutputStream(messageOutputStream);
             }
         } catch (IOException ex) {
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Health of a circuit breaker, in a rolling window which is divided into buckets. The health is updated by every
+ * request of the circuit breaker client without a lock. A bucket counts the requests of one sub window, and is replaced
+ * by the first request of a later sub window which maps to the same bucket, hence buckets of sub windows which have
+ * slid out of the rolling window are ignored instead of being reset.
+ * <p>
+ * A count which races with the replacement of its bucket may be lost, which is negligible for a failure ratio.
+ *
+ * @since 1.2.0
+ */
+public class CircuitBreakerHealth {
+
+    static final String OPEN_STATE = "OPEN";
+    static final String HALF_OPEN_STATE = "HALF_OPEN";
+    static final String CLOSED_STATE = "CLOSED";
+
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final long requestVolumeThreshold;
+    private final double failureThreshold;
+    private final long resetTimeInMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    CircuitBreakerHealth(long startTime, long timeWindowInMillis, long bucketSizeInMillis,
+                         long requestVolumeThreshold, double failureThreshold, long resetTimeInMillis) {
+        this.startTime = startTime;
+        this.bucketSizeInMillis = Math.max(1, bucketSizeInMillis);
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeInMillis = resetTimeInMillis;
+        this.buckets = new AtomicReferenceArray<>((int) Math.max(1, timeWindowInMillis / this.bucketSizeInMillis));
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+    }
+
+    /**
+     * Computes the state of the circuit for a new request, and counts the request.
+     *
+     * @param currentState current state of the circuit
+     * @return state of the circuit for the request
+     */
+    String updateState(String currentState) {
+        long now = System.currentTimeMillis();
+        long window = getWindow(now);
+        String state = currentState;
+        if (getTotalCount(window) >= requestVolumeThreshold) {
+            if (OPEN_STATE.equals(currentState)) {
+                state = switchToHalfOpenOnResetTime(now, currentState);
+            } else if (HALF_OPEN_STATE.equals(currentState)) {
+                // the trial request decides whether the circuit is closed or tripped again
+                state = lastRequestSuccess ? CLOSED_STATE : OPEN_STATE;
+            } else if (getFailureRatio(window) > failureThreshold) {
+                state = OPEN_STATE;
+            }
+        } else {
+            state = switchToHalfOpenOnResetTime(now, currentState);
+        }
+        getBucket(window).totalCount.increment();
+        return state;
+    }
+
+    /**
+     * Records the result of a request.
+     *
+     * @param success whether the request succeeded
+     */
+    void updateHealth(boolean success) {
+        lastRequestSuccess = success;
+        if (success) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastErrorTime = now;
+        getBucket(getWindow(now)).failureCount.increment();
+    }
+
+    /**
+     * Records a request which is rejected as the circuit is open.
+     *
+     * @return the time in milliseconds until the circuit is half opened
+     */
+    long rejectRequest() {
+        long now = System.currentTimeMillis();
+        getBucket(getWindow(now)).rejectedCount.increment();
+        return resetTimeInMillis - (now - getEffectiveErrorTime());
+    }
+
+    void forceOpen() {
+        lastForcedOpenTime = System.currentTimeMillis();
+    }
+
+    private String switchToHalfOpenOnResetTime(long now, String currentState) {
+        if (OPEN_STATE.equals(currentState) && now - getEffectiveErrorTime() > resetTimeInMillis) {
+            return HALF_OPEN_STATE;
+        }
+        return currentState;
+    }
+
+    private long getEffectiveErrorTime() {
+        return Math.max(lastErrorTime, lastForcedOpenTime);
+    }
+
+    private long getWindow(long time) {
+        return (time - startTime) / bucketSizeInMillis;
+    }
+
+    private Bucket getBucket(long window) {
+        int index = (int) Math.floorMod(window, (long) buckets.length());
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.window < window) {
+            Bucket newBucket = new Bucket(window);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    private boolean isInRollingWindow(Bucket bucket, long window) {
+        return bucket != null && bucket.window > window - buckets.length() && bucket.window <= window;
+    }
+
+    private long getTotalCount(long window) {
+        long totalCount = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInRollingWindow(bucket, window)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    private double getFailureRatio(long window) {
+        long totalCount = 0;
+        long failureCount = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInRollingWindow(bucket, window)) {
+                // rejected requests are not sent to the upstream service, hence are not counted
+                totalCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                failureCount += bucket.failureCount.sum();
+            }
+        }
+        return totalCount > 0 ? (double) failureCount / totalCount : 0.0;
+    }
+
+    /**
+     * Counts of the requests of a sub window.
+     */
+    private static class Bucket {
+        private final long window;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        private Bucket(long window) {
+            this.window = window;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+import static org.ballerinalang.net.http.HttpConstants.CIRCUIT_BREAKER_HEALTH;
+
+/**
+ * Extern function to create the health of a circuit breaker client.
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "initCircuitBreakerHealth",
+        args = {@Argument(name = "circuitBreakerClient", type = TypeKind.OBJECT),
+                @Argument(name = "circuitBreakerInferredConfig", type = TypeKind.RECORD,
+                        structType = "CircuitBreakerInferredConfig"),
+                @Argument(name = "startTime", type = TypeKind.INT)},
+        isPublic = true
+)
+public class InitCircuitBreakerHealth {
+
+    private static final String ROLLING_WINDOW = "rollingWindow";
+    private static final String TIME_WINDOW = "timeWindowInMillis";
+    private static final String BUCKET_SIZE = "bucketSizeInMillis";
+    private static final String REQUEST_VOLUME_THRESHOLD = "requestVolumeThreshold";
+    private static final String FAILURE_THRESHOLD = "failureThreshold";
+    private static final String RESET_TIME = "resetTimeInMillis";
+
+    public static void initCircuitBreakerHealth(Strand strand, ObjectValue circuitBreakerClient,
+                                                MapValue<String, Object> circuitBreakerInferredConfig,
+                                                long startTime) {
+        MapValue rollingWindow = circuitBreakerInferredConfig.getMapValue(ROLLING_WINDOW);
+        CircuitBreakerHealth health = new CircuitBreakerHealth(startTime, rollingWindow.getIntValue(TIME_WINDOW),
+                rollingWindow.getIntValue(BUCKET_SIZE), rollingWindow.getIntValue(REQUEST_VOLUME_THRESHOLD),
+                circuitBreakerInferredConfig.getFloatValue(FAILURE_THRESHOLD),
+                circuitBreakerInferredConfig.getIntValue(RESET_TIME));
+        circuitBreakerClient.addNativeData(CIRCUIT_BREAKER_HEALTH, health);
+    }
+
+    static CircuitBreakerHealth getHealth(ObjectValue circuitBreakerClient) {
+        return (CircuitBreakerHealth) circuitBreakerClient.getNativeData(CIRCUIT_BREAKER_HEALTH);
+    }
+}
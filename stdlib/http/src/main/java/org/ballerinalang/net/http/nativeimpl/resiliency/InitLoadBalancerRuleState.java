@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+import static org.ballerinalang.net.http.HttpConstants.LOAD_BALANCER_RULE_STATE;
+
+/**
+ * Extern function to create the state of a load balancer rule.
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "initLoadBalancerRuleState",
+        args = {@Argument(name = "lbRule", type = TypeKind.OBJECT)},
+        isPublic = true
+)
+public class InitLoadBalancerRuleState {
+
+    public static void initLoadBalancerRuleState(Strand strand, ObjectValue lbRule) {
+        lbRule.addNativeData(LOAD_BALANCER_RULE_STATE, new LoadBalancerRuleState());
+    }
+
+    static LoadBalancerRuleState getState(ObjectValue lbRule) {
+        return (LoadBalancerRuleState) lbRule.getNativeData(LOAD_BALANCER_RULE_STATE);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of a load balancer rule, which is shared by the concurrent requests of the load balance clients using the
+ * rule. Clients are chosen without a lock: the round robin rule increments a counter, and the least outstanding
+ * requests rule also keeps a counter of the requests in flight for each client.
+ *
+ * @since 1.2.0
+ */
+public class LoadBalancerRuleState {
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private volatile AtomicIntegerArray outstandingRequests = new AtomicIntegerArray(0);
+
+    /**
+     * Chooses the next client in round robin order.
+     *
+     * @param size number of clients
+     * @return index of the chosen client
+     */
+    int nextRoundRobinIndex(int size) {
+        return (int) Math.floorMod(requestCount.getAndIncrement(), (long) size);
+    }
+
+    /**
+     * Chooses the client with the least number of outstanding requests, and counts the request. Clients with the
+     * same number of outstanding requests are chosen in round robin order.
+     *
+     * @param size number of clients
+     * @return index of the chosen client
+     */
+    int nextLeastOutstandingIndex(int size) {
+        AtomicIntegerArray outstandingRequests = getOutstandingRequests(size);
+        int start = nextRoundRobinIndex(size);
+        int chosenIndex = start;
+        int leastRequests = outstandingRequests.get(start);
+        for (int i = 1; i < size && leastRequests > 0; i++) {
+            int index = (start + i) % size;
+            int requests = outstandingRequests.get(index);
+            if (requests < leastRequests) {
+                chosenIndex = index;
+                leastRequests = requests;
+            }
+        }
+        outstandingRequests.incrementAndGet(chosenIndex);
+        return chosenIndex;
+    }
+
+    /**
+     * Marks a request chosen by the least outstanding requests rule as completed.
+     *
+     * @param index index of the client of the request
+     */
+    void completeRequest(int index) {
+        AtomicIntegerArray outstandingRequests = this.outstandingRequests;
+        if (index < outstandingRequests.length()) {
+            outstandingRequests.decrementAndGet(index);
+        }
+    }
+
+    private AtomicIntegerArray getOutstandingRequests(int size) {
+        AtomicIntegerArray outstandingRequests = this.outstandingRequests;
+        if (outstandingRequests.length() >= size) {
+            return outstandingRequests;
+        }
+        synchronized (this) {
+            // the counters are created by the first request, and grow only if the rule is shared by another client
+            if (this.outstandingRequests.length() < size) {
+                AtomicIntegerArray grownRequests = new AtomicIntegerArray(size);
+                for (int i = 0; i < this.outstandingRequests.length(); i++) {
+                    grownRequests.set(i, this.outstandingRequests.get(i));
+                }
+                this.outstandingRequests = grownRequests;
+            }
+            return this.outstandingRequests;
+        }
+    }
+}
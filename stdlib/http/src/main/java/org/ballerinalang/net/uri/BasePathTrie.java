@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable segment trie of service base paths, used to find the most specific base path of a request path.
+ * <p>
+ * A base path matches a request path if both are equal ignoring case, or if the request path starts with the base
+ * path followed by a '/'. When more than one base path matches, the longest one is selected, and the default base
+ * path ("/") is selected if none of the others match. Matching does not create any objects.
+ *
+ * @since 1.2.0
+ */
+public final class BasePathTrie {
+
+    private static final String DEFAULT_BASE_PATH = "/";
+    private static final char PATH_DELIMITER = '/';
+
+    private final Node root;
+    private final Map<String, String> basePathsIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final String defaultBasePath;
+
+    /**
+     * Creates a trie of the given base paths. If two base paths are equal ignoring case, the one which comes first is
+     * selected when a request path matches both of them.
+     *
+     * @param basePaths base paths of the services
+     */
+    public BasePathTrie(Collection<String> basePaths) {
+        NodeBuilder rootBuilder = new NodeBuilder();
+        String defaultPath = null;
+        for (String basePath : basePaths) {
+            basePathsIgnoreCase.putIfAbsent(basePath, basePath);
+            if (DEFAULT_BASE_PATH.equals(basePath)) {
+                defaultPath = basePath;
+            }
+            NodeBuilder node = rootBuilder;
+            int start = 0;
+            while (true) {
+                int end = basePath.indexOf(PATH_DELIMITER, start);
+                if (end < 0) {
+                    node = node.child(basePath.substring(start));
+                    break;
+                }
+                node = node.child(basePath.substring(start, end));
+                start = end + 1;
+            }
+            if (node.basePath == null) {
+                node.basePath = basePath;
+            }
+        }
+        this.root = rootBuilder.build("");
+        this.defaultBasePath = defaultPath;
+    }
+
+    /**
+     * Finds the most specific base path for the given request path.
+     *
+     * @param requestPath path of the request, without the query
+     * @return matching base path, or null if there is no match
+     */
+    public String match(String requestPath) {
+        String basePath = basePathsIgnoreCase.get(requestPath);
+        if (basePath != null) {
+            return basePath;
+        }
+
+        Node node = root;
+        int start = 0;
+        while (true) {
+            int end = requestPath.indexOf(PATH_DELIMITER, start);
+            if (end < 0) {
+                // the last segment cannot be followed by a '/', hence it can only be an exact match
+                break;
+            }
+            node = node.find(requestPath, start, end);
+            if (node == null) {
+                break;
+            }
+            if (node.basePath != null) {
+                basePath = node.basePath;
+            }
+            start = end + 1;
+        }
+        return basePath != null ? basePath : defaultBasePath;
+    }
+
+    /**
+     * A node of the trie, which represents a path segment. Children are sorted by their segment.
+     */
+    private static class Node {
+
+        private final String segment;
+        private final String basePath;
+        private final Node[] children;
+
+        private Node(String segment, String basePath, Node[] children) {
+            this.segment = segment;
+            this.basePath = basePath;
+            this.children = children;
+        }
+
+        private Node find(String path, int start, int end) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(children[mid].segment, path, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Compares the segment with the given region of the path, in the same order as {@link String#compareTo}.
+         */
+        private static int compare(String segment, String path, int start, int end) {
+            int segmentLength = segment.length();
+            int regionLength = end - start;
+            int limit = Math.min(segmentLength, regionLength);
+            for (int i = 0; i < limit; i++) {
+                char c1 = segment.charAt(i);
+                char c2 = path.charAt(start + i);
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
+            }
+            return segmentLength - regionLength;
+        }
+    }
+
+    /**
+     * Mutable node used while the trie is being built.
+     */
+    private static class NodeBuilder {
+
+        private final Map<String, NodeBuilder> children = new TreeMap<>();
+        private String basePath;
+
+        private NodeBuilder child(String segment) {
+            return children.computeIfAbsent(segment, key -> new NodeBuilder());
+        }
+
+        private Node build(String segment) {
+            Node[] childNodes = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<String, NodeBuilder> child : children.entrySet()) {
+                childNodes[index++] = child.getValue().build(child.getKey());
+            }
+            return new Node(segment, basePath, childNodes);
+        }
+    }
+}
@@ -97,6 +97,10 @@ public class URIUtil {
 
 
     public static String extractMatrixParams(String path, Map<String, Map<String, String>> matrixParams) {
+        if (isWithoutMatrixParams(path)) {
+            // nothing to extract or normalize, segments without matrix params need not be added to the map
+            return path;
+        }
         if (path.startsWith("/")) {
             path = path.substring(1);
         }
@@ -124,4 +128,17 @@ public class URIUtil {
         }
         return pathToMatrixParam;
     }
+
+    /**
+     * Checks whether the path has no matrix params and is already in the form returned by
+     * {@link #extractMatrixParams}, i.e. starts with a '/' and has no trailing '/' before the query or trailing '?'.
+     */
+    private static boolean isWithoutMatrixParams(String path) {
+        if (!path.startsWith(URI_PATH_DELIMITER) || path.indexOf(';') >= 0 || path.endsWith("?")) {
+            return false;
+        }
+        int queryIndex = path.indexOf('?');
+        int pathEnd = queryIndex < 0 ? path.length() : queryIndex;
+        return pathEnd == 1 || path.charAt(pathEnd - 1) != '/';
+    }
 }
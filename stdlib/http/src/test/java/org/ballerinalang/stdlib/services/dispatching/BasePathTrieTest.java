@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.uri.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test class for matching request paths against service base paths.
+ */
+public class BasePathTrieTest {
+
+    @DataProvider(name = "serviceCounts")
+    public Object[][] serviceCounts() {
+        return new Object[][]{{10}, {100}, {1000}};
+    }
+
+    @Test(dataProvider = "serviceCounts")
+    public void testMostSpecificBasePath(int serviceCount) {
+        List<String> basePaths = new ArrayList<>();
+        for (int i = 0; i < serviceCount; i++) {
+            basePaths.add("/service" + i);
+            basePaths.add("/api/v1/service" + i);
+        }
+        basePaths.add("/api");
+        BasePathTrie trie = new BasePathTrie(basePaths);
+
+        for (int i = 0; i < serviceCount; i++) {
+            Assert.assertEquals(trie.match("/service" + i), "/service" + i);
+            Assert.assertEquals(trie.match("/service" + i + "/resource"), "/service" + i);
+            Assert.assertEquals(trie.match("/api/v1/service" + i + "/resource/1"), "/api/v1/service" + i);
+        }
+        Assert.assertEquals(trie.match("/api/v1/unknown"), "/api");
+        Assert.assertEquals(trie.match("/service" + serviceCount), null);
+    }
+
+    @Test
+    public void testBasePathMatchIgnoringCase() {
+        BasePathTrie trie = new BasePathTrie(Arrays.asList("/hello/world", "/hello"));
+
+        Assert.assertEquals(trie.match("/HELLO/World"), "/hello/world");
+        Assert.assertEquals(trie.match("/Hello"), "/hello");
+        // only an exact match ignores case
+        Assert.assertEquals(trie.match("/Hello/world/resource"), null);
+    }
+
+    @Test
+    public void testBasePathMatchOnSegmentBoundary() {
+        BasePathTrie trie = new BasePathTrie(Arrays.asList("/hello/world", "/hello", "/"));
+
+        Assert.assertEquals(trie.match("/hello/worldwide"), "/hello");
+        Assert.assertEquals(trie.match("/helloworld"), "/");
+        Assert.assertEquals(trie.match("/hello/"), "/hello");
+        Assert.assertEquals(trie.match("/"), "/");
+    }
+
+    @Test
+    public void testNoBasePaths() {
+        BasePathTrie trie = new BasePathTrie(Collections.emptyList());
+
+        Assert.assertEquals(trie.match("/hello"), null);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.nativeimpl.endpoint;
+
+import org.ballerinalang.net.http.clientendpoint.ServiceUri;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Test cases for {@link ServiceUri}.
+ */
+public class ServiceUriTest {
+
+    @Test(dataProvider = "appendableUris")
+    public void testAppendedPathIsSameAsParsedPath(String uri, String path) throws MalformedURLException {
+        ServiceUri serviceUri = ServiceUri.parse(uri);
+        Assert.assertTrue(serviceUri.isAppendable(path));
+
+        URL url = new URL(uri + path);
+        String expectedPath = url.getQuery() == null ? url.getPath() : url.getPath() + "?" + url.getQuery();
+        Assert.assertEquals(serviceUri.getRequestPath(path), expectedPath);
+        Assert.assertEquals(serviceUri.getProtocol(), url.getProtocol());
+        Assert.assertEquals(serviceUri.getHost(), url.getHost());
+    }
+
+    @Test(dataProvider = "nonAppendableUris")
+    public void testPathIsNotAppended(String uri, String path) {
+        Assert.assertFalse(ServiceUri.parse(uri).isAppendable(path));
+    }
+
+    @Test
+    public void testDefaultPorts() {
+        ServiceUri httpUri = ServiceUri.parse("http://localhost/base");
+        Assert.assertEquals(httpUri.getPort(), 80);
+        Assert.assertEquals(httpUri.getHostHeader(), "localhost");
+
+        ServiceUri httpsUri = ServiceUri.parse("https://localhost");
+        Assert.assertEquals(httpsUri.getPort(), 443);
+        Assert.assertEquals(httpsUri.getHostHeader(), "localhost");
+
+        ServiceUri uriWithPort = ServiceUri.parse("http://localhost:9090");
+        Assert.assertEquals(uriWithPort.getPort(), 9090);
+        Assert.assertEquals(uriWithPort.getHostHeader(), "localhost:9090");
+    }
+
+    @DataProvider(name = "appendableUris")
+    public Object[][] appendableUris() {
+        return new Object[][]{
+                {"http://localhost:9090", ""},
+                {"http://localhost:9090", "/hello"},
+                {"http://localhost:9090/base", "/hello/world?a=1&b=/x"},
+                {"http://localhost:9090/base/", "/hello"},
+                {"https://localhost", "?a=1"},
+                {"http://localhost:9090/base", "/a%20b;c=d/e@f"}
+        };
+    }
+
+    @DataProvider(name = "nonAppendableUris")
+    public Object[][] nonAppendableUris() {
+        return new Object[][]{
+                {"", "/hello"},
+                {"localhost:9090", "/hello"},
+                {"http://localhost:9090?a=1", "/hello"},
+                {"http://user@localhost:9090", "/hello"},
+                {"http://localhost:9090", "hello"},
+                {"http://localhost:9090", "/hello world"},
+                {"http://localhost:9090", "/hello#world"},
+                {"http://localhost:9090/base", "/../hello"},
+                {"http://localhost:9090", "/hello "}
+        };
+    }
+}
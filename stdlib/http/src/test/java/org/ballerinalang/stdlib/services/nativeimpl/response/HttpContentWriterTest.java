@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.nativeimpl.response;
+
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.net.http.HttpContentWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link HttpContentWriter}.
+ */
+public class HttpContentWriterTest {
+
+    @Test
+    public void testJsonIsWrittenInChunks() throws IOException {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longValue.append("ab\u00e9\ud83d\ude00");
+        }
+        String json = "{\"name\":\"n\\u00e9\", \"values\":[1, 2.5, true, null], \"long\":\"" + longValue + "\"}";
+        Object value = JSONParser.parse(json);
+
+        HttpCarbonMessage message = new HttpCarbonMessage(new DefaultHttpResponse(HttpVersion.HTTP_1_1,
+                HttpResponseStatus.OK));
+        HttpContentWriter writer = new HttpContentWriter(message);
+        JSONGenerator gen = new JSONGenerator(writer);
+        gen.serialize(value);
+        gen.flush();
+        writer.close();
+        message.addHttpContent(new DefaultLastHttpContent());
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        int contents = 0;
+        HttpContent content;
+        do {
+            content = message.getHttpContent();
+            byte[] bytes = new byte[content.content().readableBytes()];
+            content.content().readBytes(bytes);
+            content.release();
+            payload.write(bytes);
+            contents++;
+        } while (!(content instanceof LastHttpContent));
+
+        Assert.assertTrue(contents > 2);
+        Assert.assertEquals(new String(payload.toByteArray(), StandardCharsets.UTF_8),
+                "{\"name\":\"n\u00e9\", \"values\":[1, 2.5, true, null], \"long\":\"" + longValue + "\"}");
+    }
+}
@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -36,11 +37,70 @@ public class FileIOChannel extends Channel {
      */
     private FileChannel channel;
 
+    /**
+     * Reads the file through memory mapped regions, or null if the file is read through the file channel.
+     */
+    private MappedFileByteChannel mappedChannel;
+
     public FileIOChannel(FileChannel channel) {
         super(channel);
         this.channel = channel;
     }
 
+    /**
+     * Creates a channel which reads the given file through memory mapped regions.
+     *
+     * @param channel       file channel which is opened for reading
+     * @param mappedChannel channel which reads the same file through memory mapped regions
+     */
+    public FileIOChannel(FileChannel channel, MappedFileByteChannel mappedChannel) {
+        super(mappedChannel);
+        this.channel = channel;
+        this.mappedChannel = mappedChannel;
+    }
+
+    /**
+     * Returns the number of bytes of the file which have not been read yet.
+     *
+     * @return the number of remaining bytes
+     * @throws IOException during I/O error
+     */
+    public long getRemainingSize() throws IOException {
+        return channel.size() - getPosition();
+    }
+
+    /**
+     * Maps the next region of the file which has not been read yet into memory, so that it can be written to a socket
+     * without being copied into the heap. The mapped region is marked as read.
+     *
+     * @param regionSize the maximum size of the mapped region
+     * @return the mapped region, or null if the whole file has been read
+     * @throws IOException during I/O error
+     */
+    public ByteBuffer mapNextRegion(int regionSize) throws IOException {
+        long position = getPosition();
+        long size = channel.size();
+        if (position >= size) {
+            return null;
+        }
+        long length = Math.min(regionSize, size - position);
+        ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        setPosition(position + length);
+        return region;
+    }
+
+    private long getPosition() throws IOException {
+        return mappedChannel != null ? mappedChannel.position() : channel.position();
+    }
+
+    private void setPosition(long position) throws IOException {
+        if (mappedChannel != null) {
+            mappedChannel.position(position);
+        } else {
+            channel.position(position);
+        }
+    }
+
     /**
      * Transfer file content to the specified destination.
      * <p>
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+
+/**
+ * Reads a file through memory mapped regions. A read copies the content of the file from the page cache straight
+ * into the given buffer, whereas a read of a {@link FileChannel} into a heap buffer copies the content through a
+ * temporary direct buffer.
+ * <p>
+ * Only one region of the file is referred to at a time. A region is unmapped once it is garbage collected.
+ *
+ * @since 1.2.0
+ */
+public class MappedFileByteChannel implements ByteChannel {
+
+    private final FileChannel channel;
+    private final int regionSize;
+    private long position;
+    private MappedByteBuffer region;
+
+    public MappedFileByteChannel(FileChannel channel, int regionSize) throws IOException {
+        this.channel = channel;
+        this.regionSize = regionSize;
+        this.position = channel.position();
+    }
+
+    /**
+     * Reads bytes until the given buffer is full, across the regions of the file.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int count = 0;
+        while (dst.hasRemaining()) {
+            if (region == null || !region.hasRemaining()) {
+                region = mapNextRegion();
+                if (region == null) {
+                    return count == 0 ? -1 : count;
+                }
+            }
+            int length = Math.min(dst.remaining(), region.remaining());
+            ByteBuffer src = region.duplicate();
+            src.limit(src.position() + length);
+            dst.put(src);
+            region.position(src.position());
+            position += length;
+            count += length;
+        }
+        return count;
+    }
+
+    private MappedByteBuffer mapNextRegion() throws IOException {
+        long size = channel.size();
+        if (position >= size) {
+            return null;
+        }
+        long length = Math.min(regionSize, size - position);
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * Returns the position of the next byte which will be read.
+     *
+     * @return position in the file
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Moves the position of the next byte which will be read.
+     *
+     * @param newPosition position in the file
+     */
+    public void position(long newPosition) {
+        position = newPosition;
+        region = null;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+}
@@ -93,6 +93,10 @@ public class Buffer {
      * If the size < minimumSizeOfBuffer the size of the new buffer = minimumSizeOfBuffer.
      * If the size > minimumSizeOfBuffer the size of the new buffer = size.
      * </p>
+     * <p>
+     * Buffers which fit in a pooled direct buffer are acquired from the {@link DirectBufferPool}, larger buffers are
+     * allocated in the heap.
+     * </p>
      *
      * @param size the size of the buffer.
      * @return the newly allocated buffer for the specified size.
@@ -101,6 +105,9 @@ public class Buffer {
         if (size < minimumSizeOfBuffer) {
             size = minimumSizeOfBuffer;
         }
+        if (size <= DirectBufferPool.BUFFER_SIZE) {
+            return DirectBufferPool.acquire();
+        }
         return ByteBuffer.allocate(size);
     }
 
@@ -196,8 +203,7 @@ public class Buffer {
         content.limit(numberOfBytesRequested);
         ByteBuffer slicedBuffer = content.slice();
         capacity = slicedBuffer.capacity();
-        int offset = slicedBuffer.arrayOffset();
-        byteBuffer.position(offset + capacity);
+        byteBuffer.position(byteBuffer.position() + capacity);
         return deepCopy(slicedBuffer);
     }
 
@@ -230,22 +236,36 @@ public class Buffer {
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
             return copyRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
+                //The remaining bytes are moved to the beginning of the buffer, instead of being copied to a new buffer
+                byteBuffer.compact();
             } else {
                 //In this case we re-allocate
-                byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+                ByteBuffer allocatedBuffer = allocate(numberOfBytesRequested);
+                if (byteBuffer != null) {
+                    allocatedBuffer.put(byteBuffer);
+                    DirectBufferPool.release(byteBuffer);
+                }
+                byteBuffer = allocatedBuffer;
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
         }
     }
 
+    /**
+     * <p>
+     * Releases the buffer, once bytes are no longer read through it.
+     * </p>
+     * <p>
+     * The buffers returned by this instance should not be used once it is released.
+     * </p>
+     */
+    public void release() {
+        if (null != byteBuffer) {
+            DirectBufferPool.release(byteBuffer);
+            byteBuffer = null;
+        }
+    }
+
 }
@@ -395,6 +395,7 @@ public class CharacterChannel implements IOChannel {
      */
     @Override
     public void close() throws IOException {
+        contentBuffer.release();
         channel.close();
     }
 
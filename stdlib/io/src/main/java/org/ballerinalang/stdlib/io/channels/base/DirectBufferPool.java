@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of the direct buffers which are used by {@link Buffer}s to read from channels. A read of a file channel into a
+ * direct buffer does not copy the bytes through a temporary direct buffer, and a pooled buffer is not allocated per
+ * channel.
+ * <p>
+ * The pool holds a bounded number of buffers, so that the direct memory held by the pool is limited. Buffers which
+ * are released when the pool is full are left to be garbage collected.
+ *
+ * @since 1.2.0
+ */
+class DirectBufferPool {
+
+    static final int BUFFER_SIZE = IOConstants.CHANNEL_BUFFER_SIZE;
+    private static final int MAX_POOLED_BUFFERS = 64;
+    private static final Queue<ByteBuffer> buffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    private DirectBufferPool() {
+    }
+
+    /**
+     * Gets a cleared direct buffer of {@link #BUFFER_SIZE} from the pool, or allocates one if the pool is empty.
+     *
+     * @return a direct buffer
+     */
+    static ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers which were not acquired from the pool are ignored.
+     *
+     * @param buffer the buffer which is no longer used
+     */
+    static void release(ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() == BUFFER_SIZE) {
+            buffers.offer(buffer);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -158,11 +159,24 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private static Channel inFlow(String pathUrl) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        Channel channel = createReadableFileChannel(fileChannel);
         channel.setReadable(true);
         return channel;
     }
 
+    private static Channel createReadableFileChannel(FileChannel fileChannel) throws BallerinaIOException {
+        try {
+            if (fileChannel.size() < IOConstants.MAPPED_FILE_SIZE_THRESHOLD) {
+                return new FileIOChannel(fileChannel);
+            }
+            // large files are read through memory mapped regions, which avoids a copy per read
+            return new FileIOChannel(fileChannel, new MappedFileByteChannel(fileChannel,
+                    IOConstants.MAPPED_REGION_SIZE));
+        } catch (IOException e) {
+            throw new BallerinaIOException("fail to open file: " + e.getMessage(), e);
+        }
+    }
+
     private static Channel inFlow(String pathUrl, boolean accessMode) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel;
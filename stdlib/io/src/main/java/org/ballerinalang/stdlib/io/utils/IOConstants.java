@@ -53,6 +53,16 @@ public class IOConstants {
      */
     public static final int CHANNEL_BUFFER_SIZE = 16384;
 
+    /**
+     * The minimum size of a file which is read through memory mapped regions (16 MB).
+     */
+    public static final long MAPPED_FILE_SIZE_THRESHOLD = 16L * 1024 * 1024;
+
+    /**
+     * The size of a memory mapped region of a file (64 MB).
+     */
+    public static final int MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
     public static final BPackage IO_PACKAGE_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "io");
 
     /**
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.bytes;
+
+import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileByteChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test cases for {@link MappedFileByteChannel}.
+ */
+public class MappedFileByteChannelTest {
+
+    @Test(description = "Reads a file across multiple mapped regions")
+    public void readAcrossRegions() throws IOException, URISyntaxException {
+        Path path = Paths.get(getClass().getClassLoader().getResource("datafiles/io/text/fileThatExceeds2MB.txt")
+                .toURI());
+        byte[] expected = Files.readAllBytes(path);
+        FileChannel fileChannel = FileChannel.open(path);
+        Channel channel = new MockByteChannel(new MappedFileByteChannel(fileChannel, 4099));
+
+        byte[] content = new byte[expected.length];
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        int numberOfBytesRead;
+        int totalNumberOfBytesRead = 0;
+        do {
+            // reads end in the middle of the regions
+            buffer.limit(Math.min(buffer.position() + 10000, content.length));
+            numberOfBytesRead = channel.read(buffer);
+            totalNumberOfBytesRead = totalNumberOfBytesRead + numberOfBytesRead;
+        } while (numberOfBytesRead > 0);
+        numberOfBytesRead = channel.read(ByteBuffer.allocate(1));
+        channel.close();
+
+        Assert.assertEquals(totalNumberOfBytesRead, expected.length);
+        Assert.assertEquals(content, expected);
+        Assert.assertEquals(numberOfBytesRead, 0);
+        Assert.assertTrue(channel.hasReachedEnd());
+        Assert.assertFalse(fileChannel.isOpen());
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinax.jdbc.actions;
 
+import org.ballerinalang.jvm.scheduling.BlockingExternExecutor;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -41,7 +42,7 @@ public class Call {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement callStatement = new CallStatement(client, datasource, sqlQuery, (ArrayValue) recordType,
                 parameters, strand);
-        return callStatement.execute();
+        return BlockingExternExecutor.execute(strand, callStatement::execute);
     }
 
     private Call() {
@@ -17,6 +17,7 @@
  */
 package org.ballerinax.jdbc.actions;
 
+import org.ballerinalang.jvm.scheduling.BlockingExternExecutor;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -42,7 +43,7 @@ public class Select {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement selectStatement = new SelectStatement(client, sqlDatasource, query, parameters,
                 (TypedescValue) recordType, strand);
-        return selectStatement.execute();
+        return BlockingExternExecutor.execute(strand, selectStatement::execute);
     }
 
     private Select() {
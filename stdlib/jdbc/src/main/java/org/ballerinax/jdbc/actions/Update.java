@@ -17,6 +17,7 @@
  */
 package org.ballerinax.jdbc.actions;
 
+import org.ballerinalang.jvm.scheduling.BlockingExternExecutor;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -39,7 +40,7 @@ public class Update {
     public static Object nativeUpdate(Strand strand, ObjectValue client, String query, ArrayValue parameters) {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement updateStatement = new UpdateStatement(client, sqlDatasource, query, parameters, strand);
-        return updateStatement.execute();
+        return BlockingExternExecutor.execute(strand, updateStatement::execute);
     }
 
     private Update() {
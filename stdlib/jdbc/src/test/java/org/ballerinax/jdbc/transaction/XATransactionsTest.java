@@ -17,6 +17,7 @@
  */
 package org.ballerinax.jdbc.transaction;
 
+import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
@@ -101,6 +102,13 @@ public class XATransactionsTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
     }
 
+    @Test
+    public void testXATransactionSingleResource() {
+        BValue[] returns = BRunUtil.invoke(result, "testXATransactionSingleResource", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertTrue(((BBoolean) returns[1]).booleanValue(), "'committed' block did not get executed");
+    }
+
     @AfterSuite
     public void cleanup() {
         if (testDatabase1 != null) {
@@ -243,6 +243,30 @@ function testXATransactionRetryHelper(jdbc:Client testDB1, jdbc:Client testDB2)
     }
 }
 
+function testXATransactionSingleResource(string jdbcURL1, string jdbcURL2) returns @tainted [int, boolean] {
+    jdbc:Client testDB1 = new ({
+        url: jdbcURL1,
+        username: "SA",
+        password: "",
+        poolOptions: {maximumPoolSize: 1, isXA: true}
+    });
+
+    // the transaction has only one resource, hence it is committed without being prepared
+    boolean committed = false;
+    transaction {
+        _ = checkpanic testDB1->update("insert into Customers (customerId, name, creditLimit, country) " +
+                                "values (12, 'Anne', 1000, 'UK')");
+    } committed {
+        committed = true;
+    }
+
+    var dt1 = testDB1->select("Select COUNT(*) as countval from Customers where customerId = 12", ResultCount);
+    int count1 = getTableCountValColumn(dt1);
+
+    checkpanic testDB1.stop();
+    return [count1, committed];
+}
+
 function getTableCountValColumn(table<ResultCount> | error result) returns int {
     int count = -1;
     if (result is table<ResultCount>) {
@@ -40,3 +40,16 @@ public function printTrace(string | (function() returns (string)) msg) = externa
 #
 # + msg - The message to be logged
 public function printWarn(string | (function() returns (string)) msg) = external;
+
+// Calls to the above functions are rewritten by the compiler to call the following functions with the name of the
+// calling module, so that the module does not have to be resolved at runtime.
+
+function printDebugInModule(string moduleName, string | (function() returns (string)) msg) = external;
+
+function printErrorInModule(string moduleName, string | (function() returns (string)) msg, error? err = ()) = external;
+
+function printInfoInModule(string moduleName, string | (function() returns (string)) msg) = external;
+
+function printTraceInModule(string moduleName, string | (function() returns (string)) msg) = external;
+
+function printWarnInModule(string moduleName, string | (function() returns (string)) msg) = external;
@@ -23,15 +23,20 @@ import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.logging.util.BLogLevel;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.Logger;
 
 /**
  * Base class for the other log functions, containing a getter to retrieve the correct logger, given a package name.
+ * <p>
+ * Calls to the log functions are rewritten by the compiler to pass the name of the calling module. The module name is
+ * resolved from the stack only when a log function is called through a function pointer.
  *
  * @since 0.95.0
  */
@@ -39,15 +44,31 @@ public abstract class AbstractLogFunction {
 
     protected static final BLogManager LOG_MANAGER = (BLogManager) LogManager.getLogManager();
 
-    private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    private static final Logger ballerinaRootLogger = Logger.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    // loggers are cached since java.util.logging only keeps weak references to them
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final CallerResolver callerResolver = new CallerResolver();
+    private static final ClassValue<String> packagePaths = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String className = type.getName();
+            int lastIndex = className.lastIndexOf(".");
+            if (lastIndex != -1) {
+                return className.substring(0, lastIndex).replace(".", "/");
+            }
+            return ".";
+        }
+    };
 
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
-        } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
         }
+        Logger logger = loggers.get(pkg);
+        if (logger == null) {
+            logger = loggers.computeIfAbsent(pkg, key -> Logger.getLogger(ballerinaRootLogger.getName() + "." + key));
+        }
+        return logger;
     }
 
     /**
@@ -61,6 +82,9 @@ public abstract class AbstractLogFunction {
      */
     static void logMessage(Strand strand, Object message, BLogLevel logLevel, String pckg,
             BiConsumer<String, String> consumer) {
+        if (LOG_MANAGER.getPackageLogLevel(pckg).value() > logLevel.value()) {
+            return;
+        }
         // Create a new log message supplier
         Supplier<String> logMessage = new Supplier<String>() {
             private String msg = null;
@@ -77,18 +101,26 @@ public abstract class AbstractLogFunction {
                 return msg;
             }
         };
-        if (LOG_MANAGER.getPackageLogLevel(pckg).value() <= logLevel.value()) {
-            consumer.accept(pckg, logMessage.get());
-            ObserveUtils.logMessageToActiveSpan(strand, logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
-        }
+        consumer.accept(pckg, logMessage.get());
+        ObserveUtils.logMessageToActiveSpan(strand, logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
+    }
+
+    static void log(String pkg, Level level, String message) {
+        getLogger(pkg).log(level, message);
     }
 
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
-        int lastIndex = className.lastIndexOf(".");
-        if (lastIndex != -1) {
-            return className.substring(0, lastIndex).replace(".", "/");
+        // 0: CallerResolver, 1: this method, 2: log function, 3: log module, 4: caller
+        return packagePaths.get(callerResolver.getCallerClass(4));
+    }
+
+    /**
+     * Resolves the classes on the stack without creating the stack trace elements.
+     */
+    private static class CallerResolver extends SecurityManager {
+
+        private Class<?> getCallerClass(int depth) {
+            return getClassContext()[depth];
         }
-        return ".";
     }
 }
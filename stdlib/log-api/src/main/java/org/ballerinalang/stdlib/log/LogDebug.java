@@ -24,6 +24,8 @@ import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 
+import java.util.logging.Level;
+
 /**
  * Extern function ballerina.log:printDebug.
  *
@@ -40,7 +42,7 @@ public class LogDebug extends AbstractLogFunction {
     public static void printDebug(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.DEBUG, packagePath, (pkg, message) -> {
-            getLogger(pkg).debug(message);
+            log(pkg, Level.FINE, message);
         });
     }
 }
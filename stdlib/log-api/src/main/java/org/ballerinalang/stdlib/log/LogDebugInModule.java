@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.log;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.logging.util.BLogLevel;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+import java.util.logging.Level;
+
+/**
+ * Extern function ballerina.log:printDebugInModule. Calls to ballerina.log:printDebug are rewritten by the compiler to
+ * call this function with the name of the calling module.
+ *
+ * @since 1.2.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "log",
+        functionName = "printDebugInModule",
+        args = {@Argument(name = "moduleName", type = TypeKind.STRING),
+                @Argument(name = "msg", type = TypeKind.ANY)
+        }
+)
+public class LogDebugInModule extends AbstractLogFunction {
+
+    public static void printDebugInModule(Strand strand, String moduleName, Object msg) {
+        logMessage(strand, msg, BLogLevel.DEBUG, moduleName, (pkg, message) -> {
+            log(pkg, Level.FINE, message);
+        });
+    }
+}
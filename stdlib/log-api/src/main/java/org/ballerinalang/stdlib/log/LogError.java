@@ -24,6 +24,8 @@ import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 
+import java.util.logging.Level;
+
 /**
  * Extern function ballerina.log:printError.
  *
@@ -43,7 +45,7 @@ public class LogError extends AbstractLogFunction {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.ERROR, packagePath, (pkg, message) -> {
             String errorMsg = (err == null) ? "" : " : " + err.toString();
-            getLogger(pkg).error(message + errorMsg);
+            log(pkg, Level.SEVERE, message + errorMsg);
         });
     }
 }
@@ -24,6 +24,8 @@ import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 
+import java.util.logging.Level;
+
 /**
  * Extern function ballerina.log:printInfo.
  *
@@ -40,7 +42,7 @@ public class LogInfo extends AbstractLogFunction {
     public static void printInfo(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.INFO, packagePath, (pkg, message) -> {
-            getLogger(pkg).info(message);
+            log(pkg, Level.INFO, message);
         });
     }
 }
@@ -24,6 +24,8 @@ import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 
+import java.util.logging.Level;
+
 /**
  * Extern function ballerina.log:printTrace.
  *
@@ -40,7 +42,7 @@ public class LogTrace extends AbstractLogFunction {
     public static void printTrace(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.TRACE, packagePath, (pkg, message) -> {
-            getLogger(pkg).trace(message);
+            log(pkg, Level.FINEST, message);
         });
     }
 }
@@ -24,6 +24,8 @@ import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 
+import java.util.logging.Level;
+
 /**
  * Extern function ballerina.log:printWarn.
  *
@@ -40,7 +42,7 @@ public class LogWarn extends AbstractLogFunction {
     public static void printWarn(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.WARN, packagePath, (pkg, message) -> {
-            getLogger(pkg).warn(message);
+            log(pkg, Level.WARNING, message);
         });
     }
 }
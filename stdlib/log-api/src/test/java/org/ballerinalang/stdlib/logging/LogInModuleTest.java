@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.logging;
+
+import org.ballerinalang.logging.BLogManager;
+import org.ballerinalang.stdlib.log.LogErrorInModule;
+import org.ballerinalang.stdlib.log.LogInfoInModule;
+import org.ballerinalang.stdlib.log.LogWarnInModule;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Test cases for the log functions which are called with the name of the calling module.
+ */
+public class LogInModuleTest {
+
+    @Test(description = "Tests logging under the logger of the given module")
+    public void testLogInModule() {
+        List<LogRecord> records = recordLogs("logtest/log_module",
+                () -> LogInfoInModule.printInfoInModule(null, "logtest/log_module", "info message"));
+        Assert.assertEquals(records.size(), 1);
+        Assert.assertEquals(records.get(0).getLoggerName(), BLogManager.BALLERINA_ROOT_LOGGER_NAME +
+                ".logtest/log_module");
+        Assert.assertEquals(records.get(0).getLevel(), Level.INFO);
+        Assert.assertEquals(records.get(0).getMessage(), "info message");
+    }
+
+    @Test(description = "Tests that a log in a module is not logged under the logger of another module")
+    public void testLogInOtherModule() {
+        List<LogRecord> records = recordLogs("logtest/log_module",
+                () -> LogWarnInModule.printWarnInModule(null, "logtest/other_module", "warn message"));
+        Assert.assertEquals(records.size(), 0);
+    }
+
+    @Test(description = "Tests logging an error under the logger of the given module")
+    public void testLogErrorInModule() {
+        List<LogRecord> records = recordLogs("logtest",
+                () -> LogErrorInModule.printErrorInModule(null, "logtest", "error message", null));
+        Assert.assertEquals(records.size(), 1);
+        Assert.assertEquals(records.get(0).getLoggerName(), BLogManager.BALLERINA_ROOT_LOGGER_NAME + ".logtest");
+        Assert.assertEquals(records.get(0).getLevel(), Level.SEVERE);
+        Assert.assertEquals(records.get(0).getMessage(), "error message");
+    }
+
+    @Test(description = "Tests logging under the root logger for the default module")
+    public void testLogInDefaultModule() {
+        List<LogRecord> records = recordLogs(null,
+                () -> LogInfoInModule.printInfoInModule(null, ".", "info message"));
+        Assert.assertEquals(records.size(), 1);
+        Assert.assertEquals(records.get(0).getLoggerName(), BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    }
+
+    private static List<LogRecord> recordLogs(String moduleName, Runnable log) {
+        String loggerName = moduleName == null ? BLogManager.BALLERINA_ROOT_LOGGER_NAME :
+                BLogManager.BALLERINA_ROOT_LOGGER_NAME + "." + moduleName;
+        Logger logger = Logger.getLogger(loggerName);
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.addHandler(handler);
+        try {
+            log.run();
+        } finally {
+            logger.removeHandler(handler);
+        }
+        return records;
+    }
+}
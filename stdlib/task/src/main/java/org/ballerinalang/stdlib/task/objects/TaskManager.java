@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.task.objects;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
@@ -25,10 +26,14 @@ import org.quartz.impl.StdSchedulerFactory;
 
 import java.util.Properties;
 
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.CONFIG_TIMER_SCHEDULER;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_SCHEDULER_WHEEL;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_SIZE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_TICK_DURATION_IN_MILLIS;
 
 
 /**
@@ -36,6 +41,8 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_CO
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private volatile TimerWheel timerWheel;
+    private volatile boolean timerSchedulerSelected;
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +68,26 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    /**
+     * Returns the timing wheel which schedules the timers, if the timing wheel is selected by the configuration.
+     *
+     * @return the timing wheel, or null if the timers are scheduled by Quartz
+     */
+    TimerWheel getTimerWheel() {
+        if (!timerSchedulerSelected) {
+            synchronized (this) {
+                if (!timerSchedulerSelected) {
+                    String timerScheduler = ConfigRegistry.getInstance().getAsString(CONFIG_TIMER_SCHEDULER);
+                    if (TIMER_SCHEDULER_WHEEL.equals(timerScheduler)) {
+                        timerWheel = new TimerWheel(TIMER_WHEEL_TICK_DURATION_IN_MILLIS, TIMER_WHEEL_SIZE);
+                    }
+                    timerSchedulerSelected = true;
+                }
+            }
+        }
+        return timerWheel;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
 import org.ballerinalang.stdlib.task.utils.TaskJob;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
@@ -33,12 +34,26 @@ import static org.quartz.TriggerBuilder.newTrigger;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * A timer is scheduled by Quartz, or by the timing wheel of the {@link TaskManager} if the timing wheel is selected by
+ * the configuration. A timer in the timing wheel does not have a Quartz job or trigger, and only one run of it is
+ * scheduled at a time.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
     private long interval, delay;
+    private final TimerWheel timerWheel;
+
+    // state of a timer in the timing wheel, guarded by the timer
+    private TimerWheel.Timeout timeout;
+    // incremented for each scheduled run, so that a run whose timeout expired before it was cancelled is ignored
+    private long generation;
+    private long nextRunTime;
+    private long runs;
+    private boolean paused;
+    private boolean stopped;
 
     /**
      * Creates a Timer object.
@@ -48,10 +63,15 @@ public class Timer extends AbstractTask {
      * @throws SchedulingException When provided configuration values are invalid.
      */
     public Timer(long delay, long interval) throws SchedulingException {
+        this(delay, interval, TaskManager.getInstance().getTimerWheel());
+    }
+
+    Timer(long delay, long interval, TimerWheel timerWheel) throws SchedulingException {
         super();
         validateTimerConfigurations(delay, interval);
         this.interval = interval;
         this.delay = delay;
+        this.timerWheel = timerWheel;
     }
 
     /**
@@ -63,10 +83,15 @@ public class Timer extends AbstractTask {
      * @throws SchedulingException When provided configuration values are invalid.
      */
     public Timer(long delay, long interval, long maxRuns) throws SchedulingException {
+        this(delay, interval, maxRuns, TaskManager.getInstance().getTimerWheel());
+    }
+
+    Timer(long delay, long interval, long maxRuns, TimerWheel timerWheel) throws SchedulingException {
         super(maxRuns);
         validateTimerConfigurations(delay, interval);
         this.interval = interval;
         this.delay = delay;
+        this.timerWheel = timerWheel;
     }
 
     /**
@@ -74,6 +99,16 @@ public class Timer extends AbstractTask {
      */
     @Override
     public void start() throws SchedulingException {
+        if (timerWheel != null) {
+            synchronized (this) {
+                nextRunTime = System.currentTimeMillis() + this.getDelay();
+                runs = 0;
+                paused = false;
+                stopped = false;
+                scheduleRun(this.getDelay());
+            }
+            return;
+        }
         JobDataMap jobDataMap = getJobDataMapFromTask();
         try {
             scheduleTimer(jobDataMap);
@@ -82,6 +117,106 @@ public class Timer extends AbstractTask {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() throws SchedulingException {
+        if (timerWheel == null) {
+            super.stop();
+            return;
+        }
+        synchronized (this) {
+            stopped = true;
+            cancelTimeout();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() throws SchedulingException {
+        if (timerWheel == null) {
+            super.pause();
+            return;
+        }
+        synchronized (this) {
+            paused = true;
+            cancelTimeout();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() throws SchedulingException {
+        if (timerWheel == null) {
+            super.resume();
+            return;
+        }
+        synchronized (this) {
+            if (!paused) {
+                return;
+            }
+            paused = false;
+            if (!stopped && timeout == null) {
+                // like Quartz, the runs missed while the timer was paused are skipped, and are not counted as runs
+                long now = System.currentTimeMillis();
+                if (now > nextRunTime) {
+                    nextRunTime += ((now - nextRunTime) / interval + 1) * interval;
+                }
+                scheduleRun(nextRunTime - now);
+            }
+        }
+    }
+
+    // called while holding the lock of the timer
+    private void scheduleRun(long delay) {
+        long scheduledGeneration = ++generation;
+        timeout = timerWheel.schedule(() -> run(scheduledGeneration), delay);
+    }
+
+    /**
+     * Runs the services of a timer in the timing wheel, and schedules the next run.
+     *
+     * @param scheduledGeneration generation of the timer when the run was scheduled
+     */
+    private void run(long scheduledGeneration) {
+        synchronized (this) {
+            // the timer was stopped, paused or rescheduled after the timeout of this run expired
+            if (scheduledGeneration != generation || stopped || paused) {
+                return;
+            }
+            runs++;
+            timeout = null;
+            if (maxRuns < 0 || runs < maxRuns) {
+                // the runs are scheduled at a fixed rate
+                nextRunTime += interval;
+                scheduleRun(nextRunTime - System.currentTimeMillis());
+            }
+        }
+        runServices();
+    }
+
+    /**
+     * Runs the services attached to this Timer.
+     */
+    void runServices() {
+        for (ServiceInformation serviceInformation : getServicesMap().values()) {
+            TaskExecutor.executeFunction(serviceInformation);
+        }
+    }
+
+    private void cancelTimeout() {
+        generation++;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
     /**
      * Gets the interval of this Timer.
      *
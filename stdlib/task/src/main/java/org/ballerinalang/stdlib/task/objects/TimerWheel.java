@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.objects;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hashed timing wheel, which schedules timeouts in O(1) with the precision of a tick.
+ * <p>
+ * The wheel is a ring of buckets, and a timeout is added to the bucket of the tick in which it expires. A timeout
+ * which expires after more than one turn of the wheel counts the remaining turns down. Timeouts are scheduled and
+ * cancelled by adding them to a queue, and the worker thread of the wheel moves them to their buckets, or removes
+ * them from their buckets, at the next tick. The timeouts which expire in a tick are collected before any of them is
+ * run, so that they are dispatched together.
+ *
+ * @since 1.2.0
+ */
+public class TimerWheel {
+
+    // the maximum number of timeouts moved to their buckets in a tick, so that expiring timeouts are not delayed
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final long startTime;
+    private final Thread worker;
+    private volatile boolean shutdown;
+    private long tick;
+
+    /**
+     * Creates a timing wheel and starts its worker thread.
+     *
+     * @param tickDurationInMillis the duration of a tick
+     * @param wheelSize            the number of buckets, which is rounded up to a power of two
+     */
+    TimerWheel(long tickDurationInMillis, int wheelSize) {
+        this.tickDuration = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickDurationInMillis));
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::runWorker, "ballerina-task-timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task          the task, which is run on the worker thread and should not block
+     * @param delayInMillis the delay after which the task is run
+     * @return the timeout of the task, which can be cancelled
+     */
+    Timeout schedule(Runnable task, long delayInMillis) {
+        long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayInMillis));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread of the wheel. The timeouts which have not expired yet are not run.
+     */
+    void shutdown() {
+        shutdown = true;
+        worker.interrupt();
+    }
+
+    private void runWorker() {
+        while (!shutdown) {
+            long deadline = waitForNextTick();
+            if (shutdown) {
+                return;
+            }
+            processCancelledTimeouts();
+            transferTimeoutsToBuckets();
+            List<Timeout> expiredTimeouts = wheel[(int) (tick & mask)].expireTimeouts(deadline);
+            tick++;
+            for (Timeout timeout : expiredTimeouts) {
+                try {
+                    timeout.run();
+                } catch (RuntimeException e) {
+                    // like a failed Quartz job, a failed task does not affect the other tasks
+                }
+            }
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickDuration * (tick + 1);
+        while (true) {
+            long sleepTimeInMillis = TimeUnit.NANOSECONDS.toMillis(deadline - (System.nanoTime() - startTime) +
+                                                                       999999);
+            if (sleepTimeInMillis <= 0) {
+                return deadline;
+            }
+            try {
+                Thread.sleep(sleepTimeInMillis);
+            } catch (InterruptedException e) {
+                if (shutdown) {
+                    return deadline;
+                }
+            }
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferTimeoutsToBuckets() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // a timeout which should have expired already expires in the current tick
+            wheel[(int) (Math.max(expiryTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A task scheduled in the timing wheel.
+     */
+    static class Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(TimerWheel timerWheel, Runnable task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, if it has not expired yet.
+         *
+         * @return true if the timeout was cancelled
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            timerWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private boolean expire() {
+            return state.compareAndSet(INIT, EXPIRED);
+        }
+
+        private void run() {
+            task.run();
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts which expire in the same tick of a turn of the wheel.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private List<Timeout> expireTimeouts(long deadline) {
+            List<Timeout> expiredTimeouts = new ArrayList<>();
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        expiredTimeouts.add(timeout);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return expiredTimeouts;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -90,4 +90,12 @@ public class TaskConstants {
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
     public static final String QUARTZ_THREAD_POOL_CLASS_VALUE = "org.quartz.simpl.SimpleThreadPool";
     public static final String QUARTZ_JOB_STORE_CLASS_VALUE = "org.quartz.simpl.RAMJobStore";
+
+    // Configuration which selects the scheduler of the timers, which is either Quartz (default) or a timing wheel
+    public static final String CONFIG_TIMER_SCHEDULER = "b7a.task.timer.scheduler";
+    public static final String TIMER_SCHEDULER_WHEEL = "wheel";
+
+    // Timing wheel properties
+    public static final long TIMER_WHEEL_TICK_DURATION_IN_MILLIS = 10;
+    public static final int TIMER_WHEEL_SIZE = 512;
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.objects;
+
+import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for the timing wheel of the timers, and for the timers which are scheduled in it.
+ */
+public class TimerWheelTest {
+
+    private TimerWheel timerWheel;
+
+    @AfterMethod
+    public void shutdownTimerWheel() {
+        if (timerWheel != null) {
+            timerWheel.shutdown();
+            timerWheel = null;
+        }
+    }
+
+    @Test(description = "Tests running a timeout after its delay")
+    public void testTimeoutExpires() {
+        timerWheel = new TimerWheel(10, 8);
+        AtomicInteger count = new AtomicInteger();
+        long startTime = System.currentTimeMillis();
+        timerWheel.schedule(count::incrementAndGet, 200);
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> count.get() == 1);
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= 200);
+    }
+
+    @Test(description = "Tests running a timeout which expires after more than one turn of the wheel")
+    public void testTimeoutExpiresAfterRounds() {
+        timerWheel = new TimerWheel(10, 4);
+        AtomicInteger count = new AtomicInteger();
+        long startTime = System.currentTimeMillis();
+        timerWheel.schedule(count::incrementAndGet, 150);
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> count.get() == 1);
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= 150);
+    }
+
+    @Test(description = "Tests that a cancelled timeout does not run")
+    public void testCancelledTimeoutDoesNotRun() {
+        timerWheel = new TimerWheel(10, 8);
+        AtomicInteger cancelledCount = new AtomicInteger();
+        AtomicInteger count = new AtomicInteger();
+        TimerWheel.Timeout timeout = timerWheel.schedule(cancelledCount::incrementAndGet, 100);
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+        timerWheel.schedule(count::incrementAndGet, 300);
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> count.get() == 1);
+        Assert.assertEquals(cancelledCount.get(), 0);
+    }
+
+    @Test(description = "Tests running many timeouts, while half of them are cancelled")
+    public void testManyTimeouts() {
+        timerWheel = new TimerWheel(10, 64);
+        AtomicInteger count = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+        for (int i = 0; i < 10000; i++) {
+            TimerWheel.Timeout timeout = timerWheel.schedule(count::incrementAndGet, i % 1000);
+            if (i % 2 == 0) {
+                timeout.cancel();
+            }
+        }
+        timerWheel.schedule(() -> {
+            failedCount.incrementAndGet();
+            throw new IllegalStateException("failed timeout");
+        }, 0);
+        await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> count.get() == 5000);
+        Assert.assertEquals(failedCount.get(), 1);
+    }
+
+    @Test(description = "Tests that a timeout does not run after the wheel is shut down")
+    public void testShutdown() throws InterruptedException {
+        timerWheel = new TimerWheel(10, 8);
+        AtomicInteger count = new AtomicInteger();
+        timerWheel.schedule(count::incrementAndGet, 100);
+        timerWheel.shutdown();
+        Thread.sleep(300);
+        Assert.assertEquals(count.get(), 0);
+    }
+
+    @Test(description = "Tests a timer in the timing wheel which runs a limited number of times")
+    public void testTimerMaxRuns() throws SchedulingException, InterruptedException {
+        timerWheel = new TimerWheel(10, 8);
+        TestTimer timer = new TestTimer(0, 50, 3, timerWheel);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRunCount() == 3);
+        Thread.sleep(300);
+        Assert.assertEquals(timer.getRunCount(), 3);
+    }
+
+    @Test(description = "Tests that a stopped timer in the timing wheel does not run again")
+    public void testTimerStop() throws SchedulingException, InterruptedException {
+        timerWheel = new TimerWheel(10, 8);
+        TestTimer timer = new TestTimer(0, 50, timerWheel);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRunCount() >= 2);
+        timer.stop();
+        int runCount = timer.getRunCount();
+        Thread.sleep(300);
+        Assert.assertEquals(timer.getRunCount(), runCount);
+    }
+
+    @Test(description = "Tests that the runs of a timer in the timing wheel which are missed while it is paused are " +
+            "skipped on resume")
+    public void testTimerPauseAndResume() throws SchedulingException, InterruptedException {
+        timerWheel = new TimerWheel(10, 8);
+        TestTimer timer = new TestTimer(0, 100, 4, timerWheel);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRunCount() == 1);
+        timer.pause();
+        Thread.sleep(550);
+        Assert.assertEquals(timer.getRunCount(), 1);
+
+        long resumeTime = System.currentTimeMillis();
+        timer.resume();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRunCount() == 4);
+        List<Long> runTimes = timer.getRunTimes();
+        // the missed runs are not run together on resume, and are not counted for the maximum number of runs
+        Assert.assertTrue(runTimes.get(1) >= resumeTime);
+        Assert.assertTrue(runTimes.get(2) - runTimes.get(1) >= 50, "run times: " + runTimes);
+        Assert.assertTrue(runTimes.get(3) - runTimes.get(2) >= 50, "run times: " + runTimes);
+        Thread.sleep(300);
+        Assert.assertEquals(timer.getRunCount(), 4);
+    }
+
+    @Test(description = "Tests that a run which expires while the timer is restarted does not start a second " +
+            "chain of runs")
+    public void testTimerRestartedWhileRunExpires() throws SchedulingException, InterruptedException {
+        timerWheel = new TimerWheel(10, 8);
+        TestTimer timer = new TestTimer(100, 1000, timerWheel);
+        timer.start();
+        synchronized (timer) {
+            // the first run expires, and waits for the timer while it is restarted
+            Thread.sleep(250);
+            timer.stop();
+            timer.start();
+        }
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRunCount() == 1);
+        Thread.sleep(400);
+        Assert.assertEquals(timer.getRunCount(), 1);
+    }
+
+    @Test(description = "Tests that a run which expires while the timer is paused and resumed is skipped")
+    public void testTimerResumedWhileRunExpires() throws SchedulingException, InterruptedException {
+        timerWheel = new TimerWheel(10, 8);
+        TestTimer timer = new TestTimer(100, 1000, timerWheel);
+        timer.start();
+        synchronized (timer) {
+            Thread.sleep(250);
+            timer.pause();
+            timer.resume();
+        }
+        Thread.sleep(400);
+        Assert.assertEquals(timer.getRunCount(), 0);
+    }
+
+    /**
+     * A timer which records the times it runs, instead of running services.
+     */
+    private static class TestTimer extends Timer {
+
+        private final List<Long> runTimes = new ArrayList<>();
+
+        TestTimer(long delay, long interval, TimerWheel timerWheel) throws SchedulingException {
+            super(delay, interval, timerWheel);
+        }
+
+        TestTimer(long delay, long interval, long maxRuns, TimerWheel timerWheel) throws SchedulingException {
+            super(delay, interval, maxRuns, timerWheel);
+        }
+
+        @Override
+        void runServices() {
+            synchronized (runTimes) {
+                runTimes.add(System.currentTimeMillis());
+            }
+        }
+
+        int getRunCount() {
+            synchronized (runTimes) {
+                return runTimes.size();
+            }
+        }
+
+        List<Long> getRunTimes() {
+            synchronized (runTimes) {
+                return new ArrayList<>(runTimes);
+            }
+        }
+    }
+}
@@ -38,6 +38,20 @@ type TwoPhaseCommitTransaction object {
 
     // This function will be called by the initiator
     function twoPhaseCommit() returns string|error {
+        if (self.participants.length() == 0) {
+            // The local resource managers are the only participants of the transaction, hence a transaction with a
+            // single resource is committed by the resource without the prepare phase.
+            boolean? committed = onePhaseCommitResourceManagers(self.transactionId, self.transactionBlockId);
+            if (committed is boolean) {
+                log:printDebug(io:sprintf("Ran 1-phase commit for transaction: %s:%s", self.transactionId,
+                        self.transactionBlockId));
+                if (committed) {
+                    return OUTCOME_COMMITTED;
+                }
+                error err = error(OUTCOME_HAZARD);
+                return err;
+            }
+        }
         log:printInfo(io:sprintf("Running 2-phase commit for transaction: %s:%s", self.transactionId,
                 self.transactionBlockId));
         string|error ret = "";
@@ -64,7 +78,9 @@ type TwoPhaseCommitTransaction object {
         if (localPrepareSuccessful && prepareVolatilesDecision == PREPARE_DECISION_COMMIT) {
             // if all volatile participants voted YES, Next call prepare on all durable participants
             PrepareDecision prepareDurablesDecision = self.prepareParticipants(PROTOCOL_DURABLE);
-            if (prepareDurablesDecision == PREPARE_DECISION_COMMIT) {
+            // The commit decision is logged before any participant is notified, so that it survives a restart of
+            // this instance. The transaction is aborted if the decision cannot be logged.
+            if (prepareDurablesDecision == PREPARE_DECISION_COMMIT && logCommitDecision(self.transactionId)) {
                 // If all durable participants voted YES (PREPARED or READONLY), next call notify(commit) on all
                 // (durable & volatile) participants and return committed to the initiator
                 var result = self.notifyParticipants(COMMAND_COMMIT, ());
@@ -79,6 +95,7 @@ type TwoPhaseCommitTransaction object {
                         // "Local commit failed"
                         ret = err;
                     } else {
+                        logTransactionCompletion(self.transactionId);
                         ret = OUTCOME_COMMITTED;
                     }
                 }
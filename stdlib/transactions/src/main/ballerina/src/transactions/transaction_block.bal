@@ -324,6 +324,25 @@ function prepareResourceManagers(string transactionId, string transactionBlockId
 # + return - true or false representing whether the commit is successful or not.
 function commitResourceManagers(string transactionId, string transactionBlockId) returns boolean = external;
 
+# Commit the local resource managers in one phase, if the transaction has a single resource.
+#
+# + transactionId - Globally unique transaction ID.
+# + transactionBlockId - ID of the transaction block. Each transaction block in a process has a unique ID.
+# + return - true or false representing whether the commit is successful or not, or nil if the transaction has more
+#            than one resource, hence has to be prepared.
+function onePhaseCommitResourceManagers(string transactionId, string transactionBlockId) returns boolean? = external;
+
+# Log the decision to commit a transaction, before its participants are notified to commit.
+#
+# + transactionId - Globally unique transaction ID.
+# + return - true or false representing whether the decision is logged or not.
+function logCommitDecision(string transactionId) returns boolean = external;
+
+# Log that all the participants of a transaction are notified to commit.
+#
+# + transactionId - Globally unique transaction ID.
+function logTransactionCompletion(string transactionId) = external;
+
 # Abort local resource managers.
 #
 # + transactionId - Globally unique transaction ID.
@@ -440,6 +440,7 @@ public type SubscriptionChangeResponse record {|
 #                               to the topic
 # + clientConfig - The configuration for the hub to communicate with remote HTTP endpoints
 # + hubPersistenceStore - The `HubPersistenceStore` to use to persist hub data
+# + deliveryConfig - The configuration for delivering content to the subscribers
 public type HubConfiguration record {|
     int leaseSeconds = 86400;
     SignatureMethod signatureMethod = SHA256;
@@ -447,6 +448,7 @@ public type HubConfiguration record {|
     boolean topicRegistrationRequired = true;
     http:ClientConfiguration clientConfig?;
     HubPersistenceStore hubPersistenceStore?;
+    DeliveryConfig deliveryConfig = {};
 |};
 
 # Record representing remote publishing allowance.
@@ -460,6 +462,23 @@ public type RemotePublishConfig record {|
     RemotePublishMode mode = PUBLISH_MODE_DIRECT;
 |};
 
+# Record representing the configuration for delivering content to the subscribers. Content is delivered to many
+# subscribers concurrently, while the content of a topic is delivered to a subscriber in the order it was published.
+#
+# + maxConcurrentDeliveries - The maximum number of subscribers to which content is delivered concurrently
+# + retryCount - The number of times a delivery which failed is retried, before the content is dropped for the
+#                subscriber
+# + retryIntervalInMillis - The interval before the first retry of a delivery which failed
+# + backOffFactor - The multiplier of the retry interval for each subsequent retry
+# + maxRetryIntervalInMillis - The maximum interval between two retries
+public type DeliveryConfig record {|
+    int maxConcurrentDeliveries = 100;
+    int retryCount = 3;
+    int retryIntervalInMillis = 1000;
+    float backOffFactor = 2.0;
+    int maxRetryIntervalInMillis = 60000;
+|};
+
 # Starts up the Ballerina Hub.
 #
 # + hubServiceListener - The `http:Listener` to which the hub service is attached
@@ -520,7 +539,8 @@ public function startHub(http:Listener hubServiceListener,
     Hub|HubStartedUpError|HubStartupError res = startUpHubService(hubBasePath, hubSubscriptionResourcePath,
                                                                         hubPublishResourcePath,
                                                                         hubTopicRegistrationRequired, hubPublicUrl,
-                                                                        hubServiceListener);
+                                                                        hubServiceListener, hubSignatureMethod,
+                                                                        hubConfiguration.deliveryConfig);
     if (res is Hub) {
         startHubService(hubServiceListener);
     }
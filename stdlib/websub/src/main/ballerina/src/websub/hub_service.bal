@@ -15,7 +15,6 @@
 // under the License.
 
 import ballerina/cache;
-import ballerina/crypto;
 import ballerina/encoding;
 import ballerina/http;
 import ballerina/lang.'int as langint;
@@ -477,7 +476,11 @@ function fetchTopicUpdate(string topic) returns http:Response|error {
 # + callback - The callback URL registered for the subscriber
 # + subscriptionDetails - The subscription details for the particular subscriber
 # + webSubContent - The content to be sent to subscribers
-function distributeContent(string callback, SubscriptionDetails subscriptionDetails, WebSubContent webSubContent) {
+# + signature - The `X-Hub-Signature` header value for the content, which is computed once for the subscribers with
+#               the same secret, or an empty string if the subscription does not have a secret
+# + return - `false` if the delivery failed and should be retried, `true` if not
+function distributeContent(string callback, SubscriptionDetails subscriptionDetails, WebSubContent webSubContent,
+                           string signature) returns boolean {
     http:Client callbackEp = getSubcriberCallbackClient(callback);
     http:Request request = new;
     request.setPayload(webSubContent.payload);
@@ -497,21 +500,8 @@ function distributeContent(string callback, SubscriptionDetails subscriptionDeta
             }
         }
     } else {
-        var result = request.getTextPayload();
-        string stringPayload = result is error ? "" : result;
-
-        if (subscriptionDetails.secret != "") {
-            string xHubSignature = hubSignatureMethod + "=";
-            string generatedSignature = "";
-            if (stringutils:equalsIgnoreCase(SHA1, hubSignatureMethod)) { //not recommended
-                generatedSignature = crypto:hmacSha1(stringPayload.toBytes(),
-                    subscriptionDetails.secret.toBytes()).toBase16();
-            } else if (stringutils:equalsIgnoreCase(SHA256, hubSignatureMethod)) {
-                generatedSignature = crypto:hmacSha256(stringPayload.toBytes(),
-                    subscriptionDetails.secret.toBytes()).toBase16();
-            }
-            xHubSignature = xHubSignature + generatedSignature;
-            request.setHeader(X_HUB_SIGNATURE, xHubSignature);
+        if (signature != "") {
+            request.setHeader(X_HUB_SIGNATURE, signature);
         }
 
         request.setHeader(X_HUB_UUID, system:uuid());
@@ -536,15 +526,17 @@ function distributeContent(string callback, SubscriptionDetails subscriptionDeta
             } else {
                 log:printError("Error delivering content to callback[" + callback + "] for topic["
                             + subscriptionDetails.topic + "]: received response code " + respStatusCode.toString());
+                return false;
             }
         } else {
             error err = contentDistributionResponse;
             string errCause = <string> err.detail()?.message;
             log:printError("Error delivering content to callback[" + callback + "] for topic["
                             + subscriptionDetails.topic + "]: " + errCause);
+            return false;
         }
     }
-    return;
+    return true;
 }
 
 # Function to retrieve cached subscriberCallbackClient for a given callback.
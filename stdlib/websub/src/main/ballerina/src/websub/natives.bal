@@ -30,11 +30,14 @@ import ballerina/io;
 # + publicUrl - The URL for the hub to be included in content delivery requests, defaults to
 #               `http(s)://localhost:{port}/websub/hub` if unspecified
 # + hubListener - The `http:Listener` to which the hub service is attached
+# + signatureMethod - The signature method to use for authenticated content delivery (`SHA1`|`SHA256`)
+# + deliveryConfig - The configuration for delivering content to the subscribers
 # + return - `Hub` The WebSub Hub object representing the newly started up hub, or `HubStartedUpError` indicating
 #            that the hub is already started, and including the WebSub Hub object representing the
 #            already started up hub
 function startUpHubService(string basePath, string subscriptionResourcePath, string publishResourcePath,
-                           boolean topicRegistrationRequired, string publicUrl, http:Listener hubListener)
+                           boolean topicRegistrationRequired, string publicUrl, http:Listener hubListener,
+                           string signatureMethod, DeliveryConfig deliveryConfig)
                                     returns Hub|HubStartedUpError|HubStartupError = external;
 
 # Stop the Ballerina Hub, if started.
@@ -92,6 +92,21 @@ public class WebSubSubscriberConstants {
     public static final String SUBSCRIPTION_DETAILS_CREATED_AT = "createdAt";
     public static final String SUBSCRIPTION_DETAILS = "SubscriberDetails";
 
+    // DeliveryConfig struct field names
+    public static final String DELIVERY_CONFIG_MAX_CONCURRENT_DELIVERIES = "maxConcurrentDeliveries";
+    public static final String DELIVERY_CONFIG_RETRY_COUNT = "retryCount";
+    public static final String DELIVERY_CONFIG_RETRY_INTERVAL = "retryIntervalInMillis";
+    public static final String DELIVERY_CONFIG_BACK_OFF_FACTOR = "backOffFactor";
+    public static final String DELIVERY_CONFIG_MAX_RETRY_INTERVAL = "maxRetryIntervalInMillis";
+
+    // WebSubContent struct field names
+    public static final String CONTENT_PAYLOAD = "payload";
+    public static final String CONTENT_TYPE = "contentType";
+    public static final String WEBSUB_CONTENT = "WebSubContent";
+
+    // Configuration key of the path of the delivery retry log of the hub
+    public static final String HUB_RETRY_LOG_PATH_CONFIG = "b7a.websub.hub.retry.log.path";
+
     // IntentVerificationRequest
     public static final String VERIFICATION_REQUEST_MODE = "mode";
     public static final String VERIFICATION_REQUEST_TOPIC = "topic";
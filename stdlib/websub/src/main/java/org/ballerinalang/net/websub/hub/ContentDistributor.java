@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.websub.hub;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.net.websub.hub.DeliveryRetryLog.LoggedDelivery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.CONTENT_PAYLOAD;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.CONTENT_TYPE;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_BACK_OFF_FACTOR;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_MAX_CONCURRENT_DELIVERIES;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_MAX_RETRY_INTERVAL;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_RETRY_COUNT;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_RETRY_INTERVAL;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.WEBSUB_CONTENT;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.WEBSUB_PACKAGE_ID;
+
+/**
+ * Distributes the content published to the hub among the subscribers, with a bounded number of concurrent
+ * deliveries.
+ * <p>
+ * Every subscriber delivers its content in order, one at a time. A subscriber which has content to deliver waits for
+ * a free delivery slot, and releases the slot after each delivery so that the subscribers take turns. A delivery
+ * which failed is retried with an exponential back off, without holding a slot, while the later content of the
+ * subscriber waits behind it.
+ * <p>
+ * If the hub has a {@link DeliveryRetryLog}, a delivery which is retried is logged, so that it is retried after a
+ * restart of the hub. The log is flushed by the retry timer, hence a delivery does not wait for the log.
+ *
+ * @since 1.2.0
+ */
+public class ContentDistributor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentDistributor.class);
+
+    private final String signatureMethod;
+    private final int maxConcurrentDeliveries;
+    private final long retryCount;
+    private final long retryIntervalInMillis;
+    private final double backOffFactor;
+    private final long maxRetryIntervalInMillis;
+    private final ScheduledExecutorService retryTimer;
+    private final DeliveryRetryLog retryLog;
+    private final AtomicBoolean retryLogFlushScheduled = new AtomicBoolean();
+
+    private final ArrayDeque<HubSubscriber> waitingSubscribers = new ArrayDeque<>();
+    private int activeDeliveries;
+
+    ContentDistributor(String signatureMethod, MapValue<String, Object> deliveryConfig, DeliveryRetryLog retryLog) {
+        this.signatureMethod = signatureMethod;
+        this.retryLog = retryLog;
+        this.maxConcurrentDeliveries = (int) Math.max(1, deliveryConfig.getIntValue(
+                DELIVERY_CONFIG_MAX_CONCURRENT_DELIVERIES));
+        this.retryCount = Math.max(0, deliveryConfig.getIntValue(DELIVERY_CONFIG_RETRY_COUNT));
+        this.retryIntervalInMillis = Math.max(0, deliveryConfig.getIntValue(DELIVERY_CONFIG_RETRY_INTERVAL));
+        this.backOffFactor = Math.max(1.0, deliveryConfig.getFloatValue(DELIVERY_CONFIG_BACK_OFF_FACTOR));
+        this.maxRetryIntervalInMillis = Math.max(retryIntervalInMillis,
+                                                 deliveryConfig.getIntValue(DELIVERY_CONFIG_MAX_RETRY_INTERVAL));
+        this.retryTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "websub-hub-delivery-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    String getSignatureMethod() {
+        return signatureMethod;
+    }
+
+    long getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * Starts the next delivery of a subscriber, once a delivery slot is free.
+     *
+     * @param subscriber a subscriber with content to deliver
+     */
+    void schedule(HubSubscriber subscriber) {
+        synchronized (this) {
+            if (activeDeliveries >= maxConcurrentDeliveries) {
+                waitingSubscribers.offerLast(subscriber);
+                return;
+            }
+            activeDeliveries++;
+        }
+        if (!subscriber.deliverNext()) {
+            release();
+        }
+    }
+
+    /**
+     * Releases the delivery slot of a completed delivery, and starts the delivery of a waiting subscriber.
+     */
+    void release() {
+        HubSubscriber next;
+        do {
+            synchronized (this) {
+                next = waitingSubscribers.pollFirst();
+                if (next == null) {
+                    activeDeliveries--;
+                    return;
+                }
+            }
+            // the slot is passed on to the waiting subscriber, or to the one after it if it has nothing to deliver
+        } while (!next.deliverNext());
+    }
+
+    /**
+     * Schedules the subscriber again after the back off of a failed delivery.
+     *
+     * @param subscriber a subscriber whose delivery failed
+     * @param attempt    the number of failed attempts of the delivery
+     */
+    void scheduleRetry(HubSubscriber subscriber, long attempt) {
+        double interval = retryIntervalInMillis * Math.pow(backOffFactor, attempt - 1);
+        long delay = (long) Math.min(interval, maxRetryIntervalInMillis);
+        try {
+            retryTimer.schedule(() -> schedule(subscriber), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the hub is stopped, hence the delivery is not retried
+        }
+    }
+
+    /**
+     * Logs a delivery which is retried, if the hub has a retry log.
+     *
+     * @param subscriber the subscriber whose delivery failed
+     * @param content    the content of the delivery
+     * @return the id of the logged delivery, or null if the delivery is not logged
+     */
+    String logRetry(HubSubscriber subscriber, HubContent content) {
+        if (retryLog == null) {
+            return null;
+        }
+        byte[] payload = content.getPayloadBytes();
+        if (payload == null) {
+            return null;
+        }
+        String id = retryLog.logRetry(subscriber.getTopic(), subscriber.getCallback(), content.getContentType(),
+                                      payload);
+        scheduleRetryLogFlush();
+        return id;
+    }
+
+    void logRetryEnd(String retryLogId) {
+        retryLog.logEnd(retryLogId);
+        scheduleRetryLogFlush();
+    }
+
+    /**
+     * Queues the deliveries of a registered subscriber which were logged to be retried before the hub was restarted.
+     *
+     * @param subscriber a subscriber which is registered
+     */
+    void addRecoveredContent(HubSubscriber subscriber) {
+        if (retryLog == null) {
+            return;
+        }
+        for (LoggedDelivery delivery : retryLog.takeRecoveredDeliveries(subscriber.getTopic(),
+                                                                        subscriber.getCallback())) {
+            MapValue<String, Object> content = BallerinaValues.createRecordValue(WEBSUB_PACKAGE_ID, WEBSUB_CONTENT);
+            content.put(CONTENT_PAYLOAD, new ArrayValueImpl(delivery.payload));
+            content.put(CONTENT_TYPE, delivery.contentType);
+            subscriber.addRecoveredContent(new HubContent(content), delivery.id);
+        }
+    }
+
+    private void scheduleRetryLogFlush() {
+        // the records logged until a scheduled flush starts are forced together
+        if (!retryLogFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            retryTimer.execute(this::flushRetryLog);
+        } catch (RejectedExecutionException e) {
+            // the hub is stopped, and the log is flushed when it is closed
+            retryLogFlushScheduled.set(false);
+        }
+    }
+
+    private void flushRetryLog() {
+        retryLogFlushScheduled.set(false);
+        try {
+            retryLog.flush();
+        } catch (IOException e) {
+            logger.error("Error writing the delivery retry log: " + e.getMessage());
+        }
+    }
+
+    void shutdown() {
+        retryTimer.shutdownNow();
+        synchronized (this) {
+            waitingSubscribers.clear();
+        }
+        if (retryLog != null) {
+            try {
+                retryLog.close();
+            } catch (IOException e) {
+                logger.error("Error closing the delivery retry log: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.websub.hub;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An append only log of the deliveries of the hub which failed and are being retried, so that the retries survive a
+ * restart of the hub.
+ * <p>
+ * A delivery is logged when it fails for the first time, and its end is logged once it succeeds or is dropped. The
+ * records are appended to a buffer, and the buffered records are forced to the disk together by {@link #flush()}, so
+ * that a burst of failed deliveries does not force the log once per delivery.
+ * <p>
+ * The log is compacted when it is opened, and only keeps the deliveries which did not end before the hub stopped.
+ * These deliveries are retried once their subscription is registered again.
+ *
+ * @since 1.2.0
+ */
+public class DeliveryRetryLog {
+
+    private static final String RETRY_RECORD = "retry";
+    private static final String END_RECORD = "end";
+    private static final char SEPARATOR = ' ';
+
+    private final FileChannel channel;
+    private final Map<String, LoggedDelivery> recoveredDeliveries;
+    private final Object flushLock = new Object();
+
+    private StringBuilder pendingRecords = new StringBuilder();
+
+    DeliveryRetryLog(Path path) throws IOException {
+        this.recoveredDeliveries = recover(path);
+        Path compactedPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel compacted = FileChannel.open(compactedPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringBuilder records = new StringBuilder();
+            for (LoggedDelivery delivery : recoveredDeliveries.values()) {
+                appendRetryRecord(records, delivery);
+            }
+            writeFully(compacted, records);
+            compacted.force(true);
+        }
+        Files.move(compactedPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    synchronized int getRecoveredCount() {
+        return recoveredDeliveries.size();
+    }
+
+    /**
+     * Removes the deliveries of a subscription which did not end before the log was opened.
+     *
+     * @param topic    the topic of the subscription
+     * @param callback the callback of the subscription
+     * @return the deliveries of the subscription, in the order they were logged
+     */
+    synchronized List<LoggedDelivery> takeRecoveredDeliveries(String topic, String callback) {
+        List<LoggedDelivery> deliveries = new ArrayList<>();
+        Iterator<LoggedDelivery> iterator = recoveredDeliveries.values().iterator();
+        while (iterator.hasNext()) {
+            LoggedDelivery delivery = iterator.next();
+            if (delivery.topic.equals(topic) && delivery.callback.equals(callback)) {
+                deliveries.add(delivery);
+                iterator.remove();
+            }
+        }
+        return deliveries;
+    }
+
+    /**
+     * Logs a delivery which failed and is retried. The record is durable once the log is flushed.
+     *
+     * @param topic       the topic of the subscription
+     * @param callback    the callback of the subscription
+     * @param contentType the content type of the content
+     * @param payload     the payload of the content
+     * @return the id of the logged delivery
+     */
+    synchronized String logRetry(String topic, String callback, String contentType, byte[] payload) {
+        LoggedDelivery delivery = new LoggedDelivery(UUID.randomUUID().toString(), topic, callback, contentType,
+                                                     payload);
+        appendRetryRecord(pendingRecords, delivery);
+        return delivery.id;
+    }
+
+    /**
+     * Logs that a logged delivery succeeded or is dropped. A lost end record only delivers the content again after a
+     * restart.
+     *
+     * @param id the id of the logged delivery
+     */
+    synchronized void logEnd(String id) {
+        pendingRecords.append(END_RECORD).append(SEPARATOR).append(id).append('\n');
+    }
+
+    /**
+     * Forces the records logged so far to the disk. Records can be logged while the log is being forced, and are forced
+     * by the next flush.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    void flush() throws IOException {
+        synchronized (flushLock) {
+            StringBuilder batch;
+            synchronized (this) {
+                if (pendingRecords.length() == 0) {
+                    return;
+                }
+                batch = pendingRecords;
+                pendingRecords = new StringBuilder();
+            }
+            writeFully(channel, batch);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Flushes the records logged so far and closes the log.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static Map<String, LoggedDelivery> recover(Path path) throws IOException {
+        Map<String, LoggedDelivery> deliveries = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return deliveries;
+        }
+        String records = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        // a record which was partially written when the hub stopped is not terminated, and is ignored
+        int end = records.lastIndexOf('\n');
+        for (String line : records.substring(0, end + 1).split("\n")) {
+            // empty fields, such as an empty content type, are kept
+            String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+            if (RETRY_RECORD.equals(fields[0]) && fields.length == 6) {
+                deliveries.put(fields[1], new LoggedDelivery(fields[1], decodeString(fields[2]),
+                                                             decodeString(fields[3]), decodeString(fields[4]),
+                                                             Base64.getDecoder().decode(fields[5])));
+            } else if (END_RECORD.equals(fields[0]) && fields.length == 2) {
+                deliveries.remove(fields[1]);
+            }
+        }
+        return deliveries;
+    }
+
+    private static void appendRetryRecord(StringBuilder records, LoggedDelivery delivery) {
+        records.append(RETRY_RECORD).append(SEPARATOR).append(delivery.id)
+                .append(SEPARATOR).append(encodeString(delivery.topic))
+                .append(SEPARATOR).append(encodeString(delivery.callback))
+                .append(SEPARATOR).append(encodeString(delivery.contentType))
+                .append(SEPARATOR).append(Base64.getEncoder().encodeToString(delivery.payload)).append('\n');
+    }
+
+    private static String encodeString(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeString(String value) {
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, StringBuilder records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * A delivery which is logged to be retried.
+     */
+    static class LoggedDelivery {
+        final String id;
+        final String topic;
+        final String callback;
+        final String contentType;
+        final byte[] payload;
+
+        LoggedDelivery(String id, String topic, String callback, String contentType, byte[] payload) {
+            this.id = id;
+            this.topic = topic;
+            this.callback = callback;
+            this.contentType = contentType;
+            this.payload = payload;
+        }
+    }
+}
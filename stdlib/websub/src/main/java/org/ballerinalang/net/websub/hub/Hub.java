@@ -18,6 +18,7 @@
 
 package org.ballerinalang.net.websub.hub;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.scheduling.Strand;
@@ -31,13 +32,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.ballerinalang.jvm.values.connector.Executor.executeFunction;
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.BALLERINA;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.HUB_RETRY_LOG_PATH_CONFIG;
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.STRUCT_WEBSUB_BALLERINA_HUB;
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.WEBSUB;
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.WEBSUB_PACKAGE_ID;
@@ -52,6 +56,7 @@ public class Hub {
 
     private static Hub instance = new Hub();
     private BallerinaBroker brokerInstance = null;
+    private ContentDistributor contentDistributor = null;
     private ObjectValue hubObject = null;
     private String publishUrl;
     private String subscribeUrl;
@@ -121,12 +126,15 @@ public class Hub {
         } else if (!topics.contains(topic) && hubTopicRegistrationRequired) {
             logger.warn("Subscription request ignored for unregistered topic[" + topic + "]");
         } else {
-            if (getSubscribers().contains(new HubSubscriber(strand, "", topic, callback, null))) {
+            if (getSubscribers().contains(new HubSubscriber(strand, "", topic, callback, null, null))) {
                 unregisterSubscription(strand, topic, callback);
             }
             String queue = UUID.randomUUID().toString();
 
-            HubSubscriber subscriberToAdd = new HubSubscriber(strand, queue, topic, callback, subscriptionDetails);
+            HubSubscriber subscriberToAdd = new HubSubscriber(strand, queue, topic, callback, subscriptionDetails,
+                                                              contentDistributor);
+            // the retries logged before a restart are delivered before the content published after it
+            contentDistributor.addRecoveredContent(subscriberToAdd);
             brokerInstance.addSubscription(topic, subscriberToAdd);
             getSubscribers().add(subscriberToAdd);
         }
@@ -144,22 +152,24 @@ public class Hub {
             logger.error("Hub Service not started: unsubscription failed.");
             return;
         }
-        HubSubscriber subscriberToUnregister = new HubSubscriber(strand, "", topic, callback, null);
-        if (!getSubscribers().contains(subscriberToUnregister)) {
+        HubSubscriber subscriberToMatch = new HubSubscriber(strand, "", topic, callback, null, null);
+        // the registered subscriber holds the pending content and the retries of the subscription
+        HubSubscriber subscriberToUnregister = null;
+        for (HubSubscriber subscriber : getSubscribers()) {
+            if (subscriber.equals(subscriberToMatch)) {
+                subscriberToUnregister = subscriber;
+                break;
+            }
+        }
+        if (subscriberToUnregister == null) {
             if (callback.endsWith("/")) {
                 unregisterSubscription(strand, topic, callback.substring(0, callback.length() - 1));
             }
             return;
-        } else {
-            List<HubSubscriber> currentSubscriberList = getSubscribers();
-            for (HubSubscriber subscriber: currentSubscriberList) {
-                if (subscriber.equals(subscriberToUnregister)) {
-                    subscriberToUnregister = subscriber;
-                    break;
-                }
-            }
         }
         brokerInstance.removeSubscription(subscriberToUnregister);
+        subscriberToUnregister.stopDelivery();
+        subscriberToUnregister.discardLoggedRetries();
         getSubscribers().remove(subscriberToUnregister);
     }
 
@@ -177,7 +187,7 @@ public class Hub {
         } else if (!topics.contains(topic) && hubTopicRegistrationRequired) {
             throw new BallerinaWebSubException("Publish call ignored for unregistered topic[" + topic + "]");
         } else {
-            brokerInstance.publish(topic, new BallerinaBrokerByteBuf(content));
+            brokerInstance.publish(topic, new BallerinaBrokerByteBuf(new HubContent(content)));
         }
     }
 
@@ -196,12 +206,15 @@ public class Hub {
      *                                  publishing/subscribing to the topic
      * @param publicUrl                 the URL for the hub to be included in content delivery requests
      * @param hubListener               the http:Listener to which the hub service is attached
+     * @param signatureMethod           the signature method to use for authenticated content delivery
+     * @param deliveryConfig            the configuration for delivering content to the subscribers
      * @return the hub object if the hub was started up successfully, error if not
      */
     @SuppressWarnings("unchecked")
     public Object startUpHubService(Strand strand, String basePath, String subscriptionResourcePath,
                                   String publishResourcePath, boolean topicRegistrationRequired, String publicUrl,
-                                  ObjectValue hubListener) {
+                                  ObjectValue hubListener, String signatureMethod,
+                                  MapValue<String, Object> deliveryConfig) {
         synchronized (this) {
             if (!isStarted()) {
                 try {
@@ -217,12 +230,16 @@ public class Hub {
                 hubTopicRegistrationRequired = topicRegistrationRequired;
                 String publishUrl = populatePublishUrl(publicUrl, hubListener);
                 String subscribeUrl = populateSubscribeUrl(publicUrl, hubListener);
+                contentDistributor = new ContentDistributor(signatureMethod, deliveryConfig,
+                                                            openDeliveryRetryLog());
 
                 started = true;
                 Object setupResult = executeFunction(strand.scheduler, classLoader, BALLERINA, WEBSUB, HUB_SERVICE,
                         "setupOnStartup");
                 if (TypeChecker.getType(setupResult).getTag() == TypeTags.ERROR) {
                     started = false;
+                    contentDistributor.shutdown();
+                    contentDistributor = null;
                     return setupResult;
                 }
 
@@ -284,15 +301,36 @@ public class Hub {
                 topics = new ArrayList<>();
                 for (HubSubscriber subscriber : getSubscribers()) {
                     brokerInstance.removeSubscription(subscriber);
+                    subscriber.stopDelivery();
                 }
                 subscribers = new ArrayList<>();
                 brokerInstance = null;
+                contentDistributor.shutdown();
+                contentDistributor = null;
             } else {
                 throw new BallerinaWebSubException("error stopping the hub service: already stopped");
             }
         }
     }
 
+    private static DeliveryRetryLog openDeliveryRetryLog() {
+        String logPath = ConfigRegistry.getInstance().getAsString(HUB_RETRY_LOG_PATH_CONFIG);
+        if (logPath == null || logPath.isEmpty()) {
+            return null;
+        }
+        try {
+            DeliveryRetryLog retryLog = new DeliveryRetryLog(Paths.get(logPath));
+            if (retryLog.getRecoveredCount() > 0) {
+                logger.info(retryLog.getRecoveredCount() + " deliveries recovered from the delivery retry log, " +
+                                    "which are retried once their subscriptions are registered");
+            }
+            return retryLog;
+        } catch (IOException e) {
+            throw new BallerinaException("error opening the delivery retry log: " + logPath + " error:" +
+                                                 e.getMessage());
+        }
+    }
+
     private void setSubscribeUrl(String subscribeUrl) {
         this.subscribeUrl = subscribeUrl;
     }
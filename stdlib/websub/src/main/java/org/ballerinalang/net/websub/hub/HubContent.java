@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.websub.hub;
+
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.mime.util.MimeUtil;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.CONTENT_PAYLOAD;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.CONTENT_TYPE;
+
+/**
+ * Content published to a topic of the hub, which is delivered to every subscriber of the topic. The signature of the
+ * content is computed once for all the subscribers which share the same secret.
+ *
+ * @since 1.2.0
+ */
+public class HubContent {
+
+    private static final String SHA1 = "SHA1";
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final MapValue<String, Object> content;
+    private final Map<String, String> signatures = new ConcurrentHashMap<>();
+    private volatile byte[] payload;
+
+    HubContent(MapValue<String, Object> content) {
+        this.content = content;
+    }
+
+    MapValue<String, Object> getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the value of the signature header for the subscribers with the given secret.
+     *
+     * @param secret          the secret of a subscriber
+     * @param signatureMethod the signature method of the hub (`SHA1`|`SHA256`)
+     * @return the signature header value, or an empty string if the secret is empty
+     */
+    String getSignature(String secret, String signatureMethod) {
+        if (secret.isEmpty()) {
+            return "";
+        }
+        return signatures.computeIfAbsent(secret, key -> signatureMethod + "=" + toHex(
+                CryptoUtils.hmac(SHA1.equalsIgnoreCase(signatureMethod) ? "HmacSHA1" : "HmacSHA256",
+                                 key.getBytes(StandardCharsets.UTF_8), getPayload())));
+    }
+
+    String getContentType() {
+        Object contentType = content.get(CONTENT_TYPE);
+        return contentType == null ? "" : (String) contentType;
+    }
+
+    /**
+     * Returns the bytes of the payload as it is delivered.
+     *
+     * @return the payload bytes, or null if the payload is a byte channel, which cannot be read again
+     */
+    byte[] getPayloadBytes() {
+        Object payload = content.get(CONTENT_PAYLOAD);
+        if (payload instanceof ObjectValue) {
+            return null;
+        }
+        if (payload instanceof ArrayValue && ((ArrayValue) payload).getElementType().getTag() == TypeTags.BYTE_TAG) {
+            return ((ArrayValue) payload).getBytes();
+        }
+        return getPayload();
+    }
+
+    private byte[] getPayload() {
+        if (payload == null) {
+            // the same text the delivery request would return for its payload
+            payload = MimeUtil.getMessageAsString(content.get(CONTENT_PAYLOAD)).getBytes(StandardCharsets.UTF_8);
+        }
+        return payload;
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hexChars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            hexChars[i * 2] = HEX_CHARS[value >>> 4];
+            hexChars[i * 2 + 1] = HEX_CHARS[value & 0xF];
+        }
+        return new String(hexChars);
+    }
+}
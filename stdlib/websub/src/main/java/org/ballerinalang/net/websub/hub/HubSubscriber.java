@@ -24,50 +24,225 @@ import io.ballerina.messaging.broker.core.Message;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 import org.ballerinalang.jvm.values.connector.Executor;
 import org.ballerinalang.net.websub.broker.BallerinaBrokerByteBuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.BALLERINA;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.SUBSCRIPTION_DETAILS_SECRET;
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.WEBSUB;
 
 /**
  * WebSub Subscriber representation for the Broker.
+ * <p>
+ * The content sent to the subscriber by the broker is queued, and delivered to the callback in order by the
+ * {@link ContentDistributor} of the hub.
  *
  * @since 0.965.0
  */
 public class HubSubscriber extends Consumer {
 
+    private static final Logger logger = LoggerFactory.getLogger(HubSubscriber.class);
+
     private final String queue;
     private final String topic;
     private final String callback;
     private final MapValue<String, Object> subscriptionDetails;
     private final Scheduler scheduler;
+    private final ContentDistributor distributor;
+
+    private final ArrayDeque<HubContent> pendingContent = new ArrayDeque<>();
+    // the ids of the pending content which is logged to the retry log of the distributor
+    private final Map<HubContent, String> retryLogIds = new IdentityHashMap<>();
+    // whether the subscriber is waiting for a delivery slot or a retry, or is delivering
+    private boolean scheduled;
+    private long failedAttempts;
+    private boolean stopped;
+    private boolean retriesDiscarded;
 
     HubSubscriber(Strand strand, String queue, String topic, String callback,
-                  MapValue<String, Object> subscriptionDetails) {
+                  MapValue<String, Object> subscriptionDetails, ContentDistributor distributor) {
         this.scheduler = strand.scheduler;
         this.queue = queue;
         this.topic = topic;
         this.callback = callback;
         this.subscriptionDetails = subscriptionDetails;
+        this.distributor = distributor;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void send(Message message) throws BrokerException {
-        MapValue<String, Object> content =
-                (MapValue<String, Object>) ((BallerinaBrokerByteBuf) (message.getContentChunks().get(0).getByteBuf())
+        HubContent content =
+                (HubContent) ((BallerinaBrokerByteBuf) (message.getContentChunks().get(0).getByteBuf())
                         .unwrap()).getValue();
-        Object[] args = {getCallback(), getSubscriptionDetails(), content};
+        addContent(content);
+    }
+
+    /**
+     * Queues content to be delivered to the subscriber, after the content which is already pending.
+     *
+     * @param content the content published to the topic of the subscriber
+     */
+    void addContent(HubContent content) {
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            pendingContent.offerLast(content);
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        distributor.schedule(this);
+    }
+
+    /**
+     * Queues content which was logged to be retried before the hub was restarted, to be delivered to the subscriber.
+     *
+     * @param content    the content recovered from the retry log
+     * @param retryLogId the id of the content in the retry log
+     */
+    void addRecoveredContent(HubContent content, String retryLogId) {
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            retryLogIds.put(content, retryLogId);
+        }
+        addContent(content);
+    }
+
+    /**
+     * Starts the delivery of the oldest pending content, with a delivery slot of the distributor.
+     *
+     * @return false if there is no content to deliver, hence the slot is not used
+     */
+    boolean deliverNext() {
+        HubContent content;
+        synchronized (this) {
+            content = pendingContent.peekFirst();
+            if (stopped || content == null) {
+                scheduled = false;
+                return false;
+            }
+        }
         try {
-            Executor.executeFunction(scheduler, this.getClass().getClassLoader(), BALLERINA, WEBSUB, "hub_service",
-                                     "distributeContent", args);
-        } catch (BallerinaException e) {
-            throw new BallerinaException("send failed: " + e.getMessage());
+            String signature = content.getSignature(subscriptionDetails.getStringValue(SUBSCRIPTION_DETAILS_SECRET),
+                                                    distributor.getSignatureMethod());
+            startDelivery(content, signature);
+        } catch (BallerinaException | ErrorValue e) {
+            logger.error("Error delivering content to callback[" + callback + "] for topic[" + topic + "]: " +
+                                 e.getMessage());
+            completeDelivery(false);
+        }
+        return true;
+    }
+
+    /**
+     * Starts the function which delivers the content to the callback, and completes the delivery with
+     * {@link #completeDelivery(boolean)} once the function has completed.
+     *
+     * @param content   the content to deliver
+     * @param signature the value of the signature header of the delivery
+     */
+    void startDelivery(HubContent content, String signature) {
+        DeliveryCallback deliveryCallback = new DeliveryCallback();
+        deliveryCallback.setFuture(Executor.submitFunction(
+                scheduler, this.getClass().getClassLoader(), BALLERINA, WEBSUB, "hub_service",
+                "distributeContent", deliveryCallback, getCallback(), getSubscriptionDetails(),
+                content.getContent(), signature));
+    }
+
+    /**
+     * Completes the delivery of the oldest pending content, and releases its delivery slot.
+     *
+     * @param retry whether the delivery failed and should be retried
+     */
+    void completeDelivery(boolean retry) {
+        long attempt = 0;
+        boolean hasPendingContent = false;
+        HubContent contentToLog = null;
+        String endedRetryLogId = null;
+        synchronized (this) {
+            if (retry && !stopped && failedAttempts < distributor.getRetryCount()) {
+                attempt = ++failedAttempts;
+                HubContent content = pendingContent.peekFirst();
+                if (!retryLogIds.containsKey(content)) {
+                    contentToLog = content;
+                }
+            } else {
+                endedRetryLogId = retryLogIds.remove(pendingContent.pollFirst());
+                failedAttempts = 0;
+                hasPendingContent = !stopped && !pendingContent.isEmpty();
+                scheduled = hasPendingContent;
+                if (retry && !stopped) {
+                    logger.warn("Content dropped for callback[" + callback + "] of topic[" + topic +
+                                        "] after " + (distributor.getRetryCount() + 1) + " failed deliveries");
+                }
+            }
+        }
+        if (contentToLog != null) {
+            // the content is logged before its retry is scheduled, hence it is still the oldest pending content
+            String retryLogId = distributor.logRetry(this, contentToLog);
+            if (retryLogId != null) {
+                boolean discarded;
+                synchronized (this) {
+                    discarded = retriesDiscarded;
+                    if (!discarded) {
+                        retryLogIds.put(contentToLog, retryLogId);
+                    }
+                }
+                if (discarded) {
+                    distributor.logRetryEnd(retryLogId);
+                }
+            }
+        } else if (endedRetryLogId != null) {
+            distributor.logRetryEnd(endedRetryLogId);
+        }
+        distributor.release();
+        if (attempt > 0) {
+            distributor.scheduleRetry(this, attempt);
+        } else if (hasPendingContent) {
+            distributor.schedule(this);
+        }
+    }
+
+    /**
+     * Stops delivering content to the subscriber, and drops its pending content. The content which is logged to be
+     * retried is kept in the retry log, to be delivered once the hub is restarted.
+     */
+    synchronized void stopDelivery() {
+        stopped = true;
+        pendingContent.clear();
+    }
+
+    /**
+     * Ends the logged retries of a subscriber which is unsubscribed, so that they are not delivered after a restart.
+     */
+    void discardLoggedRetries() {
+        List<String> ids;
+        synchronized (this) {
+            retriesDiscarded = true;
+            ids = new ArrayList<>(retryLogIds.values());
+            retryLogIds.clear();
+        }
+        for (String id : ids) {
+            distributor.logRetryEnd(id);
         }
     }
 
@@ -78,7 +253,7 @@ public class HubSubscriber extends Consumer {
 
     @Override
     protected void close() throws BrokerException {
-
+        stopDelivery();
     }
 
     @Override
@@ -121,4 +296,39 @@ public class HubSubscriber extends Consumer {
     public MapValue<String, Object> getSubscriptionDetails() {
         return subscriptionDetails;
     }
+
+    /**
+     * Completes a delivery once the function which delivers the content has completed, and its future is available.
+     */
+    private class DeliveryCallback implements CallableUnitCallback {
+
+        private final AtomicInteger pendingSignals = new AtomicInteger(2);
+        private volatile FutureValue future;
+        private volatile boolean panicked;
+
+        void setFuture(FutureValue future) {
+            this.future = future;
+            signal();
+        }
+
+        @Override
+        public void notifySuccess() {
+            signal();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            // a panic would recur on a retry, hence the content is not delivered again
+            logger.error("Error delivering content to callback[" + callback + "] for topic[" + topic + "]: " +
+                                 error.getMessage());
+            panicked = true;
+            signal();
+        }
+
+        private void signal() {
+            if (pendingSignals.decrementAndGet() == 0) {
+                completeDelivery(!panicked && Boolean.FALSE.equals(future.result));
+            }
+        }
+    }
 }
@@ -41,7 +41,9 @@ import static org.ballerinalang.net.websub.WebSubSubscriberConstants.WEBSUB_PACK
         functionName = "startUpHubService",
         args = {@Argument(name = "topicRegistrationRequired", type = TypeKind.BOOLEAN),
                 @Argument(name = "publicUrl", type = TypeKind.STRING),
-                @Argument(name = "hubListener", type = TypeKind.OBJECT)},
+                @Argument(name = "hubListener", type = TypeKind.OBJECT),
+                @Argument(name = "signatureMethod", type = TypeKind.STRING),
+                @Argument(name = "deliveryConfig", type = TypeKind.RECORD)},
         returnType = {@ReturnType(type = TypeKind.OBJECT), @ReturnType(type = TypeKind.ERROR)},
         isPublic = true
 )
@@ -49,13 +51,15 @@ public class StartUpHubService {
 
     public static Object startUpHubService(Strand strand, String basePath, String subscriptionResourcePath,
                                            String publishResourcePath, boolean topicRegistrationRequired,
-                                           String publicUrl, ObjectValue hubListener) {
+                                           String publicUrl, ObjectValue hubListener, String signatureMethod,
+                                           MapValue<String, Object> deliveryConfig) {
         Hub hubInstance = Hub.getInstance();
         if (hubInstance.isStarted()) {
             return getHubStartedUpError(hubInstance);
         }
         return hubInstance.startUpHubService(strand, basePath, subscriptionResourcePath, publishResourcePath,
-                                             topicRegistrationRequired, publicUrl, hubListener);
+                                             topicRegistrationRequired, publicUrl, hubListener, signatureMethod,
+                                             deliveryConfig);
     }
 
     private static MapValue<String, Object> getHubStartedUpError(Hub hubInstance) {
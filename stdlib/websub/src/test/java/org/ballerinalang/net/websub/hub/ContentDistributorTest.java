@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.websub.hub;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.CONTENT_PAYLOAD;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_BACK_OFF_FACTOR;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_MAX_CONCURRENT_DELIVERIES;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_MAX_RETRY_INTERVAL;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_RETRY_COUNT;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.DELIVERY_CONFIG_RETRY_INTERVAL;
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.SUBSCRIPTION_DETAILS_SECRET;
+
+/**
+ * Tests for the delivery of the content published to the hub, by the {@link ContentDistributor}.
+ */
+public class ContentDistributorTest {
+
+    private static final long TIMEOUT_IN_MILLIS = 10000;
+
+    private final Strand strand = new Strand(new Scheduler(1, false));
+    private ExecutorService deliveryExecutor;
+    private ContentDistributor distributor;
+    private Path tmpDir;
+
+    @BeforeMethod
+    public void setup() {
+        // completes the deliveries of the test subscribers asynchronously, as the delivery functions do
+        deliveryExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        deliveryExecutor.shutdownNow();
+        if (distributor != null) {
+            distributor.shutdown();
+        }
+        if (tmpDir != null) {
+            Files.deleteIfExists(tmpDir.resolve("retry.log"));
+            Files.deleteIfExists(tmpDir);
+            tmpDir = null;
+        }
+    }
+
+    @Test(description = "Tests that the content is delivered to a subscriber in the order it was published")
+    public void testInOrderDelivery() throws InterruptedException {
+        distributor = createDistributor(4, 0, 1);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", inFlight, maxInFlight, 0);
+        List<String> expectedDeliveries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            subscriber.addContent(createContent("content" + i));
+            expectedDeliveries.add("content" + i);
+        }
+
+        waitUntil(() -> subscriber.getDeliveries().size() == 20);
+        Assert.assertEquals(subscriber.getDeliveries(), expectedDeliveries);
+        // a subscriber delivers its content one at a time, although more delivery slots are free
+        Assert.assertEquals(maxInFlight.get(), 1);
+    }
+
+    @Test(description = "Tests that no more than the maximum number of concurrent deliveries are in flight")
+    public void testBoundedConcurrentDeliveries() throws InterruptedException {
+        distributor = createDistributor(3, 0, 1);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<TestSubscriber> subscribers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            subscribers.add(new TestSubscriber("http://localhost/callback" + i, inFlight, maxInFlight, 0));
+        }
+        for (int i = 0; i < 5; i++) {
+            for (TestSubscriber subscriber : subscribers) {
+                subscriber.addContent(createContent("content" + i));
+            }
+        }
+
+        waitUntil(() -> subscribers.stream().allMatch(subscriber -> subscriber.getDeliveries().size() == 5) &&
+                inFlight.get() == 0);
+        for (TestSubscriber subscriber : subscribers) {
+            Assert.assertEquals(subscriber.getDeliveries(),
+                                Arrays.asList("content0", "content1", "content2", "content3", "content4"));
+        }
+        Assert.assertTrue(maxInFlight.get() <= 3, "deliveries in flight: " + maxInFlight.get());
+    }
+
+    @Test(description = "Tests that a failed delivery is retried up to the retry count, and then dropped")
+    public void testRetriesStopAfterRetryCount() throws InterruptedException {
+        distributor = createDistributor(2, 2, 1);
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), Integer.MAX_VALUE);
+        subscriber.addContent(createContent("content0"));
+        subscriber.addContent(createContent("content1"));
+
+        waitUntil(() -> subscriber.getDeliveries().size() == 6);
+        Thread.sleep(200);
+        Assert.assertEquals(subscriber.getDeliveries(), Arrays.asList("content0", "content0", "content0",
+                                                                      "content1", "content1", "content1"));
+    }
+
+    @Test(description = "Tests that a delivery which succeeds on a retry is not retried again")
+    public void testRetryUntilSuccess() throws InterruptedException {
+        distributor = createDistributor(2, 3, 1);
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), 1);
+        subscriber.addContent(createContent("content0"));
+        subscriber.addContent(createContent("content1"));
+
+        waitUntil(() -> subscriber.getDeliveries().size() == 4);
+        Thread.sleep(200);
+        Assert.assertEquals(subscriber.getDeliveries(), Arrays.asList("content0", "content0", "content1",
+                                                                      "content1"));
+    }
+
+    @Test(description = "Tests that the content is not delivered after the subscriber unsubscribes")
+    public void testNoDeliveryAfterUnsubscribe() throws InterruptedException {
+        distributor = createDistributor(1, 0, 1);
+        CountDownLatch deliveryLatch = new CountDownLatch(1);
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), 0, deliveryLatch);
+        subscriber.addContent(createContent("content0"));
+        subscriber.addContent(createContent("content1"));
+        subscriber.addContent(createContent("content2"));
+        waitUntil(() -> subscriber.getDeliveries().size() == 1);
+
+        subscriber.stopDelivery();
+        deliveryLatch.countDown();
+        subscriber.addContent(createContent("content3"));
+        Thread.sleep(200);
+        Assert.assertEquals(subscriber.getDeliveries(), Collections.singletonList("content0"));
+
+        // the delivery slot of the stopped subscriber is released
+        TestSubscriber otherSubscriber = new TestSubscriber("http://localhost/other", new AtomicInteger(),
+                                                            new AtomicInteger(), 0);
+        otherSubscriber.addContent(createContent("content4"));
+        waitUntil(() -> otherSubscriber.getDeliveries().size() == 1);
+    }
+
+    @Test(description = "Tests that a scheduled retry is not delivered after the subscriber unsubscribes")
+    public void testNoRetryAfterUnsubscribe() throws InterruptedException {
+        distributor = createDistributor(1, 3, 300);
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), Integer.MAX_VALUE);
+        subscriber.addContent(createContent("content0"));
+        waitUntil(() -> subscriber.getCompletedCount() == 1);
+
+        subscriber.stopDelivery();
+        Thread.sleep(600);
+        Assert.assertEquals(subscriber.getDeliveries(), Collections.singletonList("content0"));
+    }
+
+    @Test(description = "Tests that a retried delivery is logged until it succeeds")
+    public void testRetryLogOfSucceededDelivery() throws IOException, InterruptedException {
+        tmpDir = Files.createTempDirectory("b7a-websub-retry-log-test");
+        Path logPath = tmpDir.resolve("retry.log");
+        distributor = createDistributor(1, 3, 1, new DeliveryRetryLog(logPath));
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), 1);
+        subscriber.addContent(createContent("content0"));
+        waitUntil(() -> subscriber.getCompletedCount() == 2);
+        Thread.sleep(200);
+
+        distributor.shutdown();
+        distributor = null;
+        DeliveryRetryLog retryLog = new DeliveryRetryLog(logPath);
+        Assert.assertEquals(retryLog.getRecoveredCount(), 0);
+        retryLog.close();
+    }
+
+    @Test(description = "Tests that a delivery which is retried when the hub stops is kept in the retry log")
+    public void testRetryLogOfPendingDelivery() throws IOException, InterruptedException {
+        tmpDir = Files.createTempDirectory("b7a-websub-retry-log-test");
+        Path logPath = tmpDir.resolve("retry.log");
+        distributor = createDistributor(1, 100, 50, new DeliveryRetryLog(logPath));
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), Integer.MAX_VALUE);
+        subscriber.addContent(createContent("content0"));
+        subscriber.addContent(createContent("content1"));
+        waitUntil(() -> subscriber.getCompletedCount() >= 2);
+
+        subscriber.stopDelivery();
+        distributor.shutdown();
+        distributor = null;
+        DeliveryRetryLog retryLog = new DeliveryRetryLog(logPath);
+        List<DeliveryRetryLog.LoggedDelivery> deliveries =
+                retryLog.takeRecoveredDeliveries("topic", "http://localhost/callback");
+        // the later content is not logged, as only a delivery which failed is logged
+        Assert.assertEquals(deliveries.size(), 1);
+        Assert.assertEquals(new String(deliveries.get(0).payload, StandardCharsets.UTF_8), "content0");
+        retryLog.close();
+    }
+
+    @Test(description = "Tests that the logged retries of an unsubscribed subscriber are ended")
+    public void testRetryLogOfUnsubscribedSubscriber() throws IOException, InterruptedException {
+        tmpDir = Files.createTempDirectory("b7a-websub-retry-log-test");
+        Path logPath = tmpDir.resolve("retry.log");
+        distributor = createDistributor(1, 100, 50, new DeliveryRetryLog(logPath));
+        TestSubscriber subscriber = new TestSubscriber("http://localhost/callback", new AtomicInteger(),
+                                                       new AtomicInteger(), Integer.MAX_VALUE);
+        subscriber.addContent(createContent("content0"));
+        waitUntil(() -> subscriber.getCompletedCount() >= 2);
+
+        subscriber.stopDelivery();
+        subscriber.discardLoggedRetries();
+        distributor.shutdown();
+        distributor = null;
+        DeliveryRetryLog retryLog = new DeliveryRetryLog(logPath);
+        Assert.assertEquals(retryLog.getRecoveredCount(), 0);
+        retryLog.close();
+    }
+
+    private ContentDistributor createDistributor(long maxConcurrentDeliveries, long retryCount,
+                                                 long retryIntervalInMillis) {
+        return createDistributor(maxConcurrentDeliveries, retryCount, retryIntervalInMillis, null);
+    }
+
+    private ContentDistributor createDistributor(long maxConcurrentDeliveries, long retryCount,
+                                                 long retryIntervalInMillis, DeliveryRetryLog retryLog) {
+        MapValue<String, Object> deliveryConfig = new MapValueImpl<>();
+        deliveryConfig.put(DELIVERY_CONFIG_MAX_CONCURRENT_DELIVERIES, maxConcurrentDeliveries);
+        deliveryConfig.put(DELIVERY_CONFIG_RETRY_COUNT, retryCount);
+        deliveryConfig.put(DELIVERY_CONFIG_RETRY_INTERVAL, retryIntervalInMillis);
+        deliveryConfig.put(DELIVERY_CONFIG_BACK_OFF_FACTOR, 1.0);
+        deliveryConfig.put(DELIVERY_CONFIG_MAX_RETRY_INTERVAL, retryIntervalInMillis);
+        return new ContentDistributor("SHA256", deliveryConfig, retryLog);
+    }
+
+    private static HubContent createContent(String payload) {
+        MapValue<String, Object> content = new MapValueImpl<>();
+        content.put(CONTENT_PAYLOAD, payload);
+        return new HubContent(content);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_IN_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("condition not met within " + TIMEOUT_IN_MILLIS + "ms");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A subscriber which records its deliveries instead of calling the callback, and fails a given number of
+     * attempts of every delivery.
+     */
+    private class TestSubscriber extends HubSubscriber {
+
+        private final List<String> deliveries = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger completedCount = new AtomicInteger();
+        private final AtomicInteger inFlight;
+        private final AtomicInteger maxInFlight;
+        private final int failedAttemptsPerContent;
+        private final CountDownLatch deliveryLatch;
+        private int failedAttempts;
+
+        TestSubscriber(String callback, AtomicInteger inFlight, AtomicInteger maxInFlight,
+                       int failedAttemptsPerContent) {
+            this(callback, inFlight, maxInFlight, failedAttemptsPerContent, new CountDownLatch(0));
+        }
+
+        TestSubscriber(String callback, AtomicInteger inFlight, AtomicInteger maxInFlight,
+                       int failedAttemptsPerContent, CountDownLatch deliveryLatch) {
+            super(strand, "", "topic", callback, createSubscriptionDetails(), distributor);
+            this.inFlight = inFlight;
+            this.maxInFlight = maxInFlight;
+            this.failedAttemptsPerContent = failedAttemptsPerContent;
+            this.deliveryLatch = deliveryLatch;
+        }
+
+        @Override
+        void startDelivery(HubContent content, String signature) {
+            deliveries.add((String) content.getContent().get(CONTENT_PAYLOAD));
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            boolean failed = failedAttempts < failedAttemptsPerContent;
+            failedAttempts = failed ? failedAttempts + 1 : 0;
+            deliveryExecutor.execute(() -> {
+                try {
+                    deliveryLatch.await();
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                inFlight.decrementAndGet();
+                completedCount.incrementAndGet();
+                completeDelivery(failed);
+            });
+        }
+
+        List<String> getDeliveries() {
+            synchronized (deliveries) {
+                return new ArrayList<>(deliveries);
+            }
+        }
+
+        int getCompletedCount() {
+            return completedCount.get();
+        }
+    }
+
+    private static MapValue<String, Object> createSubscriptionDetails() {
+        MapValue<String, Object> subscriptionDetails = new MapValueImpl<>();
+        subscriptionDetails.put(SUBSCRIPTION_DETAILS_SECRET, "");
+        return subscriptionDetails;
+    }
+}
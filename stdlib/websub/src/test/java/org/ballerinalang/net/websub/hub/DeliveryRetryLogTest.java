@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.websub.hub;
+
+import org.ballerinalang.net.websub.hub.DeliveryRetryLog.LoggedDelivery;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Tests for the {@link DeliveryRetryLog} of the hub.
+ */
+public class DeliveryRetryLogTest {
+
+    private static final String TOPIC = "http://localhost/topic";
+    private static final String CALLBACK = "http://localhost/callback";
+    private static final String OTHER_CALLBACK = "http://localhost/other callback";
+
+    private Path tmpDir;
+    private Path logPath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        tmpDir = Files.createTempDirectory("b7a-websub-retry-log-test");
+        logPath = tmpDir.resolve("retry.log");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(tmpDir);
+    }
+
+    @Test(description = "Tests that the deliveries which did not end are recovered when the log is opened")
+    public void testRecoverDeliveries() throws IOException {
+        DeliveryRetryLog retryLog = new DeliveryRetryLog(logPath);
+        Assert.assertEquals(retryLog.getRecoveredCount(), 0);
+        String endedId = retryLog.logRetry(TOPIC, CALLBACK, "text/plain", bytes("ended"));
+        String otherId = retryLog.logRetry(TOPIC, OTHER_CALLBACK, "application/json", bytes("{\"a\":1}"));
+        String emptyId = retryLog.logRetry(TOPIC, CALLBACK, "", new byte[0]);
+        retryLog.logEnd(endedId);
+        retryLog.flush();
+        String binaryId = retryLog.logRetry(TOPIC, CALLBACK, "application/octet-stream", new byte[]{0, -1, '\n'});
+        retryLog.close();
+
+        retryLog = new DeliveryRetryLog(logPath);
+        Assert.assertEquals(retryLog.getRecoveredCount(), 3);
+        List<LoggedDelivery> deliveries = retryLog.takeRecoveredDeliveries(TOPIC, CALLBACK);
+        Assert.assertEquals(deliveries.size(), 2);
+        assertDelivery(deliveries.get(0), emptyId, CALLBACK, "", new byte[0]);
+        assertDelivery(deliveries.get(1), binaryId, CALLBACK, "application/octet-stream", new byte[]{0, -1, '\n'});
+        Assert.assertTrue(retryLog.takeRecoveredDeliveries(TOPIC, CALLBACK).isEmpty());
+        Assert.assertEquals(retryLog.getRecoveredCount(), 1);
+
+        deliveries = retryLog.takeRecoveredDeliveries(TOPIC, OTHER_CALLBACK);
+        Assert.assertEquals(deliveries.size(), 1);
+        assertDelivery(deliveries.get(0), otherId, OTHER_CALLBACK, "application/json", bytes("{\"a\":1}"));
+        retryLog.close();
+    }
+
+    @Test(description = "Tests that the log is compacted to the deliveries which did not end when it is opened")
+    public void testCompaction() throws IOException {
+        DeliveryRetryLog retryLog = new DeliveryRetryLog(logPath);
+        for (int i = 0; i < 10; i++) {
+            String id = retryLog.logRetry(TOPIC, CALLBACK, "text/plain", bytes("content" + i));
+            if (i != 5) {
+                retryLog.logEnd(id);
+            }
+        }
+        retryLog.close();
+        Assert.assertEquals(Files.readAllLines(logPath).size(), 19);
+
+        retryLog = new DeliveryRetryLog(logPath);
+        Assert.assertEquals(Files.readAllLines(logPath).size(), 1);
+        // the recovered deliveries which are not taken are kept when the log is compacted again
+        retryLog.close();
+        retryLog = new DeliveryRetryLog(logPath);
+        List<LoggedDelivery> deliveries = retryLog.takeRecoveredDeliveries(TOPIC, CALLBACK);
+        Assert.assertEquals(deliveries.size(), 1);
+        Assert.assertEquals(deliveries.get(0).payload, bytes("content5"));
+        retryLog.close();
+    }
+
+    @Test(description = "Tests that a record which was partially written when the hub stopped is ignored")
+    public void testPartialRecord() throws IOException {
+        DeliveryRetryLog retryLog = new DeliveryRetryLog(logPath);
+        String id = retryLog.logRetry(TOPIC, CALLBACK, "text/plain", bytes("content"));
+        retryLog.close();
+        Files.write(logPath, ("end " + id).getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        retryLog = new DeliveryRetryLog(logPath);
+        Assert.assertEquals(retryLog.getRecoveredCount(), 1);
+        retryLog.close();
+    }
+
+    private static void assertDelivery(LoggedDelivery delivery, String id, String callback, String contentType,
+                                       byte[] payload) {
+        Assert.assertEquals(delivery.id, id);
+        Assert.assertEquals(delivery.topic, TOPIC);
+        Assert.assertEquals(delivery.callback, callback);
+        Assert.assertEquals(delivery.contentType, contentType);
+        Assert.assertEquals(delivery.payload, payload);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.websub.hub;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.ballerinalang.net.websub.WebSubSubscriberConstants.CONTENT_PAYLOAD;
+
+/**
+ * Tests for the signatures of the content published to the hub.
+ */
+public class HubContentTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/hub/test_hub_signature.bal");
+    }
+
+    @Test(description = "Tests that the signature matches the signature generated by the crypto module",
+            dataProvider = "signatureInputs")
+    public void testSignatureMatchesCryptoSignature(String payload, String secret, String signatureMethod) {
+        BValue[] returns = BRunUtil.invoke(result, "generateSignature",
+                                           new BValue[]{new BString(payload), new BString(secret),
+                                                   new BString(signatureMethod)});
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BString);
+
+        Assert.assertEquals(createContent(payload).getSignature(secret, signatureMethod), returns[0].stringValue());
+    }
+
+    @Test(description = "Tests that the signature is computed once for the subscribers which share a secret")
+    public void testSignatureIsSharedBySecret() {
+        HubContent content = createContent("{\"action\":\"publish\"}");
+        String signature = content.getSignature("secret1", "SHA256");
+        Assert.assertSame(content.getSignature("secret1", "SHA256"), signature);
+        Assert.assertNotEquals(content.getSignature("secret2", "SHA256"), signature);
+        Assert.assertEquals(content.getSignature("", "SHA256"), "");
+    }
+
+    @DataProvider(name = "signatureInputs")
+    public Object[][] signatureInputs() {
+        return new Object[][]{
+                {"{\"action\":\"publish\",\"mode\":\"remote-hub\"}", "xdf2ldlk", "SHA256"},
+                {"Hello World!", "a secret with spaces", "SHA256"},
+                {"සිංහල été", "sécret", "SHA256"},
+                {"<content>text</content>", "xdf2ldlk", "SHA1"}
+        };
+    }
+
+    static HubContent createContent(String payload) {
+        MapValue<String, Object> content = new MapValueImpl<>();
+        content.put(CONTENT_PAYLOAD, payload);
+        return new HubContent(content);
+    }
+}
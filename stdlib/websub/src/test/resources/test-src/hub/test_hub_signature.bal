@@ -0,0 +1,32 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/crypto;
+import ballerina/http;
+
+// Generates the X-Hub-Signature header value as the hub service did before the signature was computed in Java.
+function generateSignature(string payload, string secret, string signatureMethod) returns string|error {
+    http:Request request = new;
+    request.setPayload(payload);
+    string stringPayload = check request.getTextPayload();
+    string generatedSignature = "";
+    if (signatureMethod == "SHA1") {
+        generatedSignature = crypto:hmacSha1(stringPayload.toBytes(), secret.toBytes()).toBase16();
+    } else {
+        generatedSignature = crypto:hmacSha256(stringPayload.toBytes(), secret.toBytes()).toBase16();
+    }
+    return signatureMethod + "=" + generatedSignature;
+}
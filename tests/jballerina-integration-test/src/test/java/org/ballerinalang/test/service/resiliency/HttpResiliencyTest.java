@@ -67,6 +67,7 @@ public class HttpResiliencyTest extends BaseTest {
     private static final String LB_ROUND_ROBIN_WITH_FO_SERVICE_PATH = "lb" + File.separator + "failover";
     private static final String ALL_LB_EP_FAILURE_SERVICE_PATH = "lb" + File.separator + "delay";
     private static final String LB_CUSTOM_ALGO_SERVICE_PATH = "lb" + File.separator + "custom";
+    private static final String LB_LEAST_OUTSTANDING_SERVICE_PATH = "lb" + File.separator + "leastOutstanding";
 
     @BeforeTest(alwaysRun = true)
     public void start() throws BallerinaTestException {
@@ -288,6 +289,13 @@ public class HttpResiliencyTest extends BaseTest {
         Assert.assertTrue(response.getData().contains(expectedMessage), "Message content mismatched");
     }
 
+    @Test(description = "Test for least outstanding requests algorithm of load balancer, which chooses the " +
+            "endpoints in round robin order when there are no requests in flight",
+            dataProvider = "roundRobinResponseDataProvider")
+    public void leastOutstandingRequestsLoadBalanceTest(int responseCode, String message) throws Exception {
+        verifyResponses(9313, LB_LEAST_OUTSTANDING_SERVICE_PATH, responseCode, message);
+    }
+
     @Test(description = "Test for custom algorithm implementation of load balancer",
             dataProvider = "customLbResponseDataProvider")
     public void customLbResponseDataProvider(int responseCode, String message) throws Exception {
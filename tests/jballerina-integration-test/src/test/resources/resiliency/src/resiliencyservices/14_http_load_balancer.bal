@@ -49,6 +49,16 @@ http:LoadBalanceClient delayedBackendEP = new({
     timeoutInMillis: 2000
 });
 
+http:LoadBalanceClient leastOutstandingLbBackendEP = new({
+    targets: [
+        { url: "http://localhost:8093/mock1" },
+        { url: "http://localhost:8093/mock2" },
+        { url: "http://localhost:8093/mock3" }
+    ],
+    lbRule: new http:LoadBalancerLeastOutstandingRequestsRule(),
+    timeoutInMillis: 5000
+});
+
 CustomLoadBalancerRule customLbRule = new CustomLoadBalancerRule(2);
 
 http:LoadBalanceClient customLbBackendEP = new ({
@@ -134,6 +144,29 @@ service loadBalancerDemoService on new http:Listener(9313) {
         }
     }
 
+    @http:ResourceConfig {
+        path: "/leastOutstanding"
+    }
+    resource function leastOutstandingResource(http:Caller caller, http:Request req) {
+        json requestPayload = { "name": "Ballerina" };
+        var response = leastOutstandingLbBackendEP->post("/", requestPayload);
+        if (response is http:Response) {
+            var responseToCaller = caller->respond(response);
+            if (responseToCaller is error) {
+                log:printError("Error sending response", responseToCaller);
+            }
+        } else {
+            error err = response;
+            http:Response outResponse = new;
+            outResponse.statusCode = 500;
+            outResponse.setPayload(<string> err.detail()?.message);
+            var responseToCaller = caller->respond(outResponse);
+            if (responseToCaller is error) {
+                log:printError("Error sending response", responseToCaller);
+            }
+        }
+    }
+
     @http:ResourceConfig {
         path: "/custom"
     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases to cover the reuse of a compiler backend process across modules. The modules define the same variable,
+ * function and type names with different types, hence a module would be generated with the definitions of the
+ * other if the backend did not reset its state after each module.
+ *
+ * @since 1.2.0
+ */
+public class BackendStateTest {
+
+    @Test(description = "Test modules generated one after the other by the same backend process")
+    public void testModuleStateIsReset() {
+        CompileResult first = BCompileUtil.compile("test-src/jvm/backend-reuse/first/module.bal");
+        CompileResult second = BCompileUtil.compile("test-src/jvm/backend-reuse/second/module.bal");
+        CompileResult firstAgain = BCompileUtil.compile("test-src/jvm/backend-reuse/first/module.bal");
+
+        BValue[] result = BRunUtil.invoke(first, "testValue");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 1);
+        result = BRunUtil.invoke(second, "testValue");
+        Assert.assertEquals(((BString) result[0]).stringValue(), "second");
+        result = BRunUtil.invoke(firstAgain, "testValue");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 1);
+    }
+}
@@ -238,6 +238,31 @@ public class LocksInMainTest {
 
     }
 
+    @Test(description = "Tests lock statements which only read the locked variables")
+    public void testReadOnlyLocks() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions.bal");
+
+        BValue[] returns = BRunUtil.invoke(compileResult, "readOnlyLocksWithWriter");
+        assertEquals(returns.length, 2);
+        assertSame(returns[0].getClass(), BInteger.class);
+        assertSame(returns[1].getClass(), BInteger.class);
+
+        assertEquals(((BInteger) returns[0]).intValue(), 0);
+        assertEquals(((BInteger) returns[1]).intValue(), 502);
+    }
+
+    @Test(description = "Tests compiling and running read only lock statements on the JVM backend")
+    public void testReadOnlyLocksOnJvmBackend() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions.bal");
+        assertEquals(compileResult.getErrorCount(), 0);
+
+        BValue[] returns = BRunUtil.invoke(compileResult, "readOnlyLocksOnly");
+        assertEquals(returns.length, 3);
+        assertEquals(((BInteger) returns[0]).intValue(), 84);
+        assertEquals(returns[1].stringValue(), "shared:40");
+        assertTrue(((BBoolean) returns[2]).booleanValue());
+    }
+
     @Test(description = "Test lock negative cases")
     public void testLockNegativeCases() {
         CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions-negative.bal");
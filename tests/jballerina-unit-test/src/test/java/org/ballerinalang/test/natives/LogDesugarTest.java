@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.natives;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangIgnoreExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangExpressionStmt;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangStatement;
+
+/**
+ * Tests the rewriting of the calls to the ballerina/log print functions, which pass the name of the calling module.
+ */
+public class LogDesugarTest {
+
+    private BLangPackage singleFilePackage;
+    private BLangPackage projectPackage;
+
+    @BeforeClass
+    public void setup() {
+        singleFilePackage = BCompileUtil.compileAndGetPackage("test-src/natives/utils/logger/log_desugar.bal",
+                CompilerPhase.BIR_GEN);
+        projectPackage = BCompileUtil.compileAndGetPackage("test-src/natives/utils/logger/log_project/log.module",
+                CompilerPhase.BIR_GEN);
+    }
+
+    @Test(description = "Tests passing the name of a module in a project, through an aliased log module import")
+    public void testModuleNameInProject() {
+        BLangInvocation invocation = getLogInvocation(projectPackage, "testInfo");
+        assertLogInvocation(invocation, "printInfoInModule", "logtest/log_module", 2);
+    }
+
+    @Test(description = "Tests passing the name of the default module of a single file")
+    public void testModuleNameInSingleFile() {
+        BLangInvocation invocation = getLogInvocation(singleFilePackage, "testInfo");
+        assertLogInvocation(invocation, "printInfoInModule", ".", 2);
+    }
+
+    @Test(description = "Tests rewriting a printError call in which the defaultable error is not passed")
+    public void testPrintErrorWithoutError() {
+        BLangInvocation invocation = getLogInvocation(singleFilePackage, "testError");
+        assertLogInvocation(invocation, "printErrorInModule", ".", 3);
+        Assert.assertTrue(invocation.requiredArgs.get(2) instanceof BLangIgnoreExpr);
+
+        invocation = getLogInvocation(projectPackage, "testError");
+        assertLogInvocation(invocation, "printErrorInModule", "logtest/log_module", 3);
+        Assert.assertTrue(invocation.requiredArgs.get(2) instanceof BLangIgnoreExpr);
+    }
+
+    @Test(description = "Tests rewriting a printError call in which the error is passed as a named argument")
+    public void testPrintErrorWithError() {
+        BLangInvocation invocation = getLogInvocation(singleFilePackage, "testErrorWithError");
+        assertLogInvocation(invocation, "printErrorInModule", ".", 3);
+        Assert.assertFalse(invocation.requiredArgs.get(2) instanceof BLangIgnoreExpr);
+
+        invocation = getLogInvocation(projectPackage, "testErrorWithError");
+        assertLogInvocation(invocation, "printErrorInModule", "logtest/log_module", 3);
+        Assert.assertFalse(invocation.requiredArgs.get(2) instanceof BLangIgnoreExpr);
+    }
+
+    @Test(description = "Tests that a call to a log function through a function pointer is not rewritten")
+    public void testFunctionPointerIsNotRewritten() {
+        for (BLangPackage pkg : new BLangPackage[]{singleFilePackage, projectPackage}) {
+            BLangInvocation invocation = getLogInvocation(pkg, "testFunctionPointer");
+            Assert.assertTrue(invocation.functionPointerInvocation);
+            Assert.assertNotEquals(invocation.symbol.name.value, "printDebugInModule");
+            Assert.assertEquals(invocation.requiredArgs.size(), 1);
+        }
+    }
+
+    private static void assertLogInvocation(BLangInvocation invocation, String functionName, String moduleName,
+                                            int argCount) {
+        Assert.assertEquals(invocation.symbol.name.value, functionName);
+        Assert.assertEquals(invocation.requiredArgs.size(), argCount);
+        BLangExpression moduleNameArg = invocation.requiredArgs.get(0);
+        Assert.assertTrue(moduleNameArg instanceof BLangLiteral);
+        Assert.assertEquals(((BLangLiteral) moduleNameArg).value, moduleName);
+    }
+
+    private static BLangInvocation getLogInvocation(BLangPackage pkg, String functionName) {
+        BLangFunction function = pkg.functions.stream()
+                .filter(func -> func.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("function not found: " + functionName));
+        for (BLangStatement stmt : function.body.stmts) {
+            if (stmt instanceof BLangExpressionStmt && ((BLangExpressionStmt) stmt).expr instanceof BLangInvocation) {
+                return (BLangInvocation) ((BLangExpressionStmt) stmt).expr;
+            }
+        }
+        throw new AssertionError("log function call not found in: " + functionName);
+    }
+}
@@ -0,0 +1,13 @@
+type Value record {|
+    int count;
+|};
+
+int counter = 1;
+
+function getValue() returns Value {
+    return { count: counter };
+}
+
+function testValue() returns int {
+    return getValue().count;
+}
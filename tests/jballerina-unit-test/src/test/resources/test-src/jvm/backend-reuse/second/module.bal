@@ -0,0 +1,13 @@
+type Value record {|
+    string name;
+|};
+
+string counter = "second";
+
+function getValue() returns Value {
+    return { name: counter };
+}
+
+function testValue() returns string {
+    return getValue().name;
+}
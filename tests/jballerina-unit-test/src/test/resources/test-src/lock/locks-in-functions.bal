@@ -344,3 +344,88 @@ function nextInsideLock() returns [int, string] {
     return [lockWithinLockInt1, lockWithinLockString1];
 }
 
+map<int> sharedCounts = {first: 0, second: 0};
+
+function readOnlyLocksWithWriter() returns [int, int] {
+    worker w1 returns int {
+        return countInconsistentReads();
+    }
+    worker w2 returns int {
+        return countInconsistentReads();
+    }
+    worker w3 returns int {
+        int i = 1;
+        while (i <= 500) {
+            lock {
+                sharedCounts["first"] = i;
+                sharedCounts["second"] = i;
+            }
+            i += 1;
+        }
+        return i;
+    }
+    map<int> results = wait {w1, w2, w3};
+    return [<int>results["w1"] + <int>results["w2"], sumCountsInsideLock()];
+}
+
+function countInconsistentReads() returns int {
+    int inconsistentReads = 0;
+    int i = 0;
+    while (i < 500) {
+        int first = 0;
+        int second = 0;
+        lock {
+            first = <int>sharedCounts["first"];
+            second = <int>sharedCounts["second"];
+        }
+        if (first != second) {
+            inconsistentReads += 1;
+        }
+        i += 1;
+    }
+    return inconsistentReads;
+}
+
+function sumCountsInsideLock() returns int {
+    lock {
+        sharedCounts["first"] = 2;
+        return sumCounts();
+    }
+}
+
+function sumCounts() returns int {
+    lock {
+        return <int>sharedCounts["first"] + <int>sharedCounts["second"];
+    }
+}
+
+int readOnlyLockedInt = 0;
+string readOnlyLockedString = "";
+
+function readOnlyLocksOnly() returns [int, string, boolean] {
+    lock {
+        readOnlyLockedInt = 40;
+        readOnlyLockedString = "shared";
+    }
+    int sum = 0;
+    int i = 0;
+    while (i < 2) {
+        lock {
+            sum += readOnlyLockedInt + sharedCounts.length();
+        }
+        i += 1;
+    }
+    return [sum, readLockedStringInsideLock(), hasCountInsideLock("first")];
+}
+
+function readLockedStringInsideLock() returns string {
+    lock {
+        return readOnlyLockedString + ":" + readOnlyLockedInt.toString();
+    }
+}
+
+function hasCountInsideLock(string key) returns boolean {
+    lock {
+        return sharedCounts.hasKey(key);
+    }
+}